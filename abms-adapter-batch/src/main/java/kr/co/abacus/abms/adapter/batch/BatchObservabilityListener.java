@@ -18,6 +18,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
 
 @Component
 public class BatchObservabilityListener implements JobExecutionListener, StepExecutionListener {
@@ -25,11 +26,14 @@ public class BatchObservabilityListener implements JobExecutionListener, StepExe
     private static final Logger log = LoggerFactory.getLogger("batch-event");
 
     private final MeterRegistry meterRegistry;
+    private final SqlStatementRecorder sqlStatementRecorder;
     private final ConcurrentHashMap<String, AtomicLong> lastSuccessEpochMs = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicLong> lastFailureEpochMs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SqlStatementRecorder.Scope> sqlScopes = new ConcurrentHashMap<>();
 
-    public BatchObservabilityListener(MeterRegistry meterRegistry) {
+    public BatchObservabilityListener(MeterRegistry meterRegistry, SqlStatementRecorder sqlStatementRecorder) {
         this.meterRegistry = meterRegistry;
+        this.sqlStatementRecorder = sqlStatementRecorder;
     }
 
     @Override
@@ -80,10 +84,12 @@ public class BatchObservabilityListener implements JobExecutionListener, StepExe
 
     @Override
     public void beforeStep(StepExecution stepExecution) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        sqlScopes.put(stepExecution.getId(), sqlStatementRecorder.open("batch", jobName + "." + stepExecution.getStepName()));
         log.atInfo()
                 .addKeyValue("event.category", "batch")
                 .addKeyValue("event.action", "step_start")
-                .addKeyValue("jobName", stepExecution.getJobExecution().getJobInstance().getJobName())
+                .addKeyValue("jobName", jobName)
                 .addKeyValue("stepName", stepExecution.getStepName())
                 .addKeyValue("jobExecutionId", stepExecution.getJobExecutionId())
                 .log("batch_step_start");
@@ -95,6 +101,10 @@ public class BatchObservabilityListener implements JobExecutionListener, StepExe
         String stepName = stepExecution.getStepName();
         String status = stepExecution.getStatus().name();
         long durationMs = durationMillis(stepExecution.getStartTime(), stepExecution.getEndTime());
+        SqlStatementRecorder.Scope sqlScope = sqlScopes.remove(stepExecution.getId());
+        if (sqlScope != null) {
+            sqlScope.close();
+        }
 
         meterRegistry.counter("abms.batch.step.executions.total", "job", jobName, "step", stepName, "status", status)
                 .increment();
@@ -120,6 +130,8 @@ public class BatchObservabilityListener implements JobExecutionListener, StepExe
                 .addKeyValue("writeCount", stepExecution.getWriteCount())
                 .addKeyValue("skipCount", stepExecution.getSkipCount())
                 .addKeyValue("durationMs", durationMs)
+                .addKeyValue("sqlStatementCount", sqlScope != null ? sqlScope.statementCount() : 0)
+                .addKeyValue("sqlDurationMs", sqlScope != null ? sqlScope.elapsedMillis() : 0L)
                 .log("batch_step_finish");
         return stepExecution.getExitStatus();
     }
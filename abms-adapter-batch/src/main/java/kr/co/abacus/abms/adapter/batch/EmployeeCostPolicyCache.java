@@ -0,0 +1,52 @@
+package kr.co.abacus.abms.adapter.batch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.employee.outbound.EmployeeCostPolicyRepository;
+import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 월별 비용 계산 배치용 비용 정책 캐시
+ * - (적용년도, 직원유형) 단위로 Job 실행 동안만 보관하고, Job 시작/종료 시 비운다.
+ * - 적용년도가 처음 조회될 때 해당 년도의 정책을 한 번에 적재하므로 파티션 워커가 동시에 접근해도 년도당 한 번만 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeCostPolicyCache implements JobExecutionListener {
+
+    private final EmployeeCostPolicyRepository policyRepository;
+
+    private final ConcurrentHashMap<Integer, Map<EmployeeType, EmployeeCostPolicy>> policiesByYear = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        policiesByYear.clear();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        policiesByYear.clear();
+    }
+
+    public EmployeeCostPolicy get(int applyYear, EmployeeType type) {
+        EmployeeCostPolicy policy = policiesByYear.computeIfAbsent(applyYear, this::load).get(type);
+        if (policy == null) {
+            throw new IllegalArgumentException("비용 정책 누락: " + applyYear + ", " + type);
+        }
+        return policy;
+    }
+
+    private Map<EmployeeType, EmployeeCostPolicy> load(Integer applyYear) {
+        return policyRepository.findAllByApplyYear(applyYear).stream()
+            .collect(Collectors.toUnmodifiableMap(EmployeeCostPolicy::getType, Function.identity(), (left, right) -> left));
+    }
+}
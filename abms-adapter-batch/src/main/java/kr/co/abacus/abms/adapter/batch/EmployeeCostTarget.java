@@ -0,0 +1,10 @@
+package kr.co.abacus.abms.adapter.batch;
+
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+
+/**
+ * 직원 월별 비용 계산 대상
+ * - 비용 계산에 필요한 직원 id와 직원유형만 읽는다.
+ */
+public record EmployeeCostTarget(Long employeeId, EmployeeType type) {
+}
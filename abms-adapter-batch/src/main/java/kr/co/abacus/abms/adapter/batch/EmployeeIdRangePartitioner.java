@@ -0,0 +1,63 @@
+package kr.co.abacus.abms.adapter.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.co.abacus.abms.domain.employee.EmployeeStatus;
+
+/**
+ * 활성 직원 id 범위 파티셔너
+ * - 활성 직원의 최소/최대 id를 gridSize 개의 연속 구간으로 나누어 minId, maxId를 파티션 컨텍스트에 담는다.
+ * - 대상 직원이 없으면 빈 구간 하나만 만든다.
+ */
+public class EmployeeIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeIdRangePartitioner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        IdRange range = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM tb_employee WHERE status = ?",
+            (rs, rowNum) -> new IdRange(rs.getObject("min_id", Long.class), rs.getObject("max_id", Long.class)),
+            EmployeeStatus.ACTIVE.name()
+        );
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (range == null || range.minId() == null || range.maxId() == null) {
+            partitions.put("partition0", rangeContext(1L, 0L));
+            return partitions;
+        }
+
+        long minId = range.minId();
+        long maxId = range.maxId();
+        long rangeSize = (maxId - minId) / Math.max(gridSize, 1) + 1;
+
+        int index = 0;
+        for (long start = minId; start <= maxId; start += rangeSize) {
+            long end = Math.min(start + rangeSize - 1, maxId);
+            partitions.put("partition" + index++, rangeContext(start, end));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID_KEY, minId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+
+    private record IdRange(Long minId, Long maxId) {
+    }
+}
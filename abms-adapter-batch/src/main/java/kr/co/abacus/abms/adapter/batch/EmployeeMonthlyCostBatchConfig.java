@@ -1,41 +1,38 @@
 package kr.co.abacus.abms.adapter.batch;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.util.Map;
+
+import javax.sql.DataSource;
 
-import jakarta.persistence.EntityManagerFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.infrastructure.item.ItemProcessor;
-import org.springframework.batch.infrastructure.item.ItemWriter;
-import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
-import org.springframework.batch.infrastructure.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcPagingItemReader;
+import org.springframework.batch.infrastructure.item.database.Order;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import kr.co.abacus.abms.application.employee.outbound.EmployeeCostPolicyRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
 import kr.co.abacus.abms.application.payroll.outbound.PayrollRepository;
-import kr.co.abacus.abms.domain.employee.Employee;
-import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
-import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
 import kr.co.abacus.abms.domain.employee.EmployeeStatus;
-import kr.co.abacus.abms.domain.payroll.Payroll;
-import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
 import lombok.RequiredArgsConstructor;
 
 /**
  * 직원 월별 비용 계산 배치
  * - 매월 직원 한 명당 회사에 청구되는 총비용(기본급 + 제경비 + 판관비)을 미리 계산해서 담아두는 것
  * - 근무일자는 고려하지 않음 (중간에 퇴사, 입사하여도 기본 월을 기준으로 계산)
+ * - 활성 직원을 id 구간으로 파티셔닝해 가상 스레드에서 병렬 처리하고, 각 구간은 id 기준 키셋 페이징으로 읽는다.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -43,17 +40,25 @@ public class EmployeeMonthlyCostBatchConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
 
     private final PayrollRepository payrollRepository;
-    private final EmployeeCostPolicyRepository policyRepository;
     private final EmployeeMonthlyCostRepository monthlyCostRepository;
+    private final EmployeeCostPolicyCache employeeCostPolicyCache;
     private final BatchObservabilityListener batchObservabilityListener;
 
+    @Value("${app.batch.employee-cost.grid-size:4}")
+    private int gridSize;
+
+    @Value("${app.batch.employee-cost.chunk-size:100}")
+    private int chunkSize;
+
     @Bean
     public Job employeeCostJob() {
         return new JobBuilder("employeeCostJob", jobRepository)
             .listener(batchObservabilityListener)
+            .listener(employeeCostPolicyCache)
             .start(employeeCostStep())
             .build();
     }
@@ -61,78 +66,65 @@ public class EmployeeMonthlyCostBatchConfig {
     @Bean
     public Step employeeCostStep() {
         return new StepBuilder("employeeCostStep", jobRepository)
-            .<Employee, EmployeeMonthlyCost>chunk(100)
-            .transactionManager(transactionManager)
             .listener(batchObservabilityListener)
-            .reader(employeeReader())
-            .processor(employeeCostProcessor(null))
-            .writer(employeeCostWriter())
+            .partitioner("employeeCostWorkerStep", new EmployeeIdRangePartitioner(jdbcTemplate))
+            .step(employeeCostWorkerStep())
+            .gridSize(gridSize)
+            .taskExecutor(employeeCostTaskExecutor())
+            .build();
+    }
+
+    @Bean
+    public Step employeeCostWorkerStep() {
+        return new StepBuilder("employeeCostWorkerStep", jobRepository)
+            .<EmployeeCostTarget, EmployeeCostTarget>chunk(chunkSize)
+            .transactionManager(transactionManager)
+            .reader(employeeReader(null, null))
+            .writer(employeeCostWriter(null))
             .build();
     }
 
+    @Bean
+    public TaskExecutor employeeCostTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("employee-cost-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(gridSize);
+        return taskExecutor;
+    }
 
+    /**
+     * 파티션 구간의 활성 직원을 id 오름차순 키셋 페이징(id > 마지막 id)으로 읽는다.
+     */
     @Bean
     @StepScope
-    public JpaPagingItemReader<Employee> employeeReader() {
-        return new JpaPagingItemReaderBuilder<Employee>()
+    public JdbcPagingItemReader<EmployeeCostTarget> employeeReader(
+        @Value("#{stepExecutionContext['minId']}") Long minId,
+        @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        return new JdbcPagingItemReaderBuilder<EmployeeCostTarget>()
             .name("employeeReader")
-            .entityManagerFactory(entityManagerFactory)
-            .queryString("SELECT e FROM Employee e WHERE e.status = :status ORDER BY e.id ASC")
-            .parameterValues(Collections.singletonMap("status", EmployeeStatus.ACTIVE))
-            .pageSize(100)
+            .dataSource(dataSource)
+            .selectClause("SELECT id, type")
+            .fromClause("FROM tb_employee")
+            .whereClause("WHERE status = :status AND id BETWEEN :minId AND :maxId")
+            .parameterValues(Map.of(
+                "status", EmployeeStatus.ACTIVE.name(),
+                "minId", minId,
+                "maxId", maxId
+            ))
+            .sortKeys(Map.of("id", Order.ASCENDING))
+            .rowMapper((rs, rowNum) -> new EmployeeCostTarget(rs.getLong("id"), EmployeeType.valueOf(rs.getString("type"))))
+            .pageSize(chunkSize)
             .build();
     }
+
     @Bean
     @StepScope
-    public ItemProcessor<Employee, EmployeeMonthlyCost> employeeCostProcessor(
+    public EmployeeMonthlyCostChunkWriter employeeCostWriter(
         @Value("#{jobParameters['targetDate']}") String targetDateStr
     ) {
-        return employee -> {
-            LocalDate targetDate = (targetDateStr != null) ?
-                LocalDate.parse(targetDateStr) : LocalDate.now().minusDays(1);
-
-            String costMonth = targetDate.format(DateTimeFormatter.ofPattern("yyyyMM"));
-            int applyYear = targetDate.getYear();
-
-            Payroll payroll = payrollRepository.findByEmployeeIdAndTargetDate(employee.getId(), targetDate)
-                .orElseThrow(() -> new IllegalArgumentException("급여 정보 누락 - 직원(id=" + employee.getId() + "), 날짜(" + targetDate + ")"));
-
-            EmployeeCostPolicy policy = policyRepository.findByApplyYearAndType(applyYear, employee.getType())
-                .orElseThrow(() -> new IllegalArgumentException("비용 정책 누락: " + applyYear + ", " + employee.getType()));
-
-            BigDecimal twelve = BigDecimal.valueOf(12);
-            BigDecimal overheadRate = BigDecimal.valueOf(policy.getOverheadRate());
-            BigDecimal sgaRate = BigDecimal.valueOf(policy.getSgaRate());
-
-            // 비용 계산
-            Money monthlySalaryCost = payroll.getAnnualSalary().divide(twelve);
-            Money overheadCost = monthlySalaryCost.multiply(overheadRate);
-            Money sgaCost = monthlySalaryCost.multiply(sgaRate);
-            Money totalCost = monthlySalaryCost.add(overheadCost).add(sgaCost);
-
-            // 멱등성 보장을 위한 기존 데이터 조회
-            EmployeeMonthlyCost existingCost = monthlyCostRepository.findByEmployeeIdAndCostMonth(employee.getId(), costMonth).orElse(null);
-
-            if (existingCost != null) {
-                // 기존 데이터가 있다면, 값만 최신화 (Update)
-                existingCost.update(monthlySalaryCost, overheadCost, sgaCost, totalCost);
-                return existingCost;
-            } else {
-                // 기존 데이터가 있다면, 신규 생성 (Create)
-                return EmployeeMonthlyCost.create(
-                     employee.getId(),
-                     costMonth,
-                     monthlySalaryCost,
-                     overheadCost,
-                     sgaCost,
-                     totalCost
-                );
-            }
-        };
-    }
-
-    @Bean
-    public ItemWriter<EmployeeMonthlyCost> employeeCostWriter() {
-        return chunk -> monthlyCostRepository.saveAll(chunk.getItems());
+        LocalDate targetDate = (targetDateStr != null) ?
+            LocalDate.parse(targetDateStr) : LocalDate.now().minusDays(1);
+        return new EmployeeMonthlyCostChunkWriter(payrollRepository, monthlyCostRepository, employeeCostPolicyCache, targetDate);
     }
 }
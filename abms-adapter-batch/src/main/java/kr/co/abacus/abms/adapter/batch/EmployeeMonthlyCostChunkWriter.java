@@ -0,0 +1,106 @@
+package kr.co.abacus.abms.adapter.batch;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+
+import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
+import kr.co.abacus.abms.application.payroll.outbound.PayrollRepository;
+import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
+import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
+import kr.co.abacus.abms.domain.payroll.Payroll;
+import kr.co.abacus.abms.domain.shared.Money;
+
+/**
+ * 직원 월별 비용 청크 계산/저장
+ * - 청크의 직원 id로 급여와 기존 월 비용을 IN 조회 한 번씩으로 적재한다.
+ * - 비용 정책은 Job 단위 캐시({@link EmployeeCostPolicyCache})에서 가져온다.
+ */
+public class EmployeeMonthlyCostChunkWriter implements ItemWriter<EmployeeCostTarget> {
+
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+
+    private final PayrollRepository payrollRepository;
+    private final EmployeeMonthlyCostRepository monthlyCostRepository;
+    private final EmployeeCostPolicyCache policyCache;
+    private final LocalDate targetDate;
+    private final String costMonth;
+
+    public EmployeeMonthlyCostChunkWriter(
+        PayrollRepository payrollRepository,
+        EmployeeMonthlyCostRepository monthlyCostRepository,
+        EmployeeCostPolicyCache policyCache,
+        LocalDate targetDate
+    ) {
+        this.payrollRepository = payrollRepository;
+        this.monthlyCostRepository = monthlyCostRepository;
+        this.policyCache = policyCache;
+        this.targetDate = targetDate;
+        this.costMonth = targetDate.format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+
+    @Override
+    public void write(Chunk<? extends EmployeeCostTarget> chunk) {
+        List<Long> employeeIds = chunk.getItems().stream()
+            .map(EmployeeCostTarget::employeeId)
+            .toList();
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Payroll> payrollsByEmployeeId = payrollRepository.findAllByEmployeeIdInAndTargetDate(employeeIds, targetDate).stream()
+            .collect(Collectors.toMap(Payroll::getEmployeeId, Function.identity(), (left, right) -> left));
+        Map<Long, EmployeeMonthlyCost> existingCostsByEmployeeId = monthlyCostRepository.findAllByEmployeeIdInAndCostMonth(employeeIds, costMonth).stream()
+            .collect(Collectors.toMap(EmployeeMonthlyCost::getEmployeeId, Function.identity(), (left, right) -> left));
+
+        List<EmployeeMonthlyCost> monthlyCosts = new ArrayList<>(employeeIds.size());
+        for (EmployeeCostTarget target : chunk.getItems()) {
+            Payroll payroll = payrollsByEmployeeId.get(target.employeeId());
+            if (payroll == null) {
+                throw new IllegalArgumentException("급여 정보 누락 - 직원(id=" + target.employeeId() + "), 날짜(" + targetDate + ")");
+            }
+            EmployeeCostPolicy policy = policyCache.get(targetDate.getYear(), target.type());
+            monthlyCosts.add(calculate(target, payroll, policy, existingCostsByEmployeeId.get(target.employeeId())));
+        }
+        monthlyCostRepository.saveAll(monthlyCosts);
+    }
+
+    private EmployeeMonthlyCost calculate(
+        EmployeeCostTarget target,
+        Payroll payroll,
+        EmployeeCostPolicy policy,
+        EmployeeMonthlyCost existingCost
+    ) {
+        BigDecimal overheadRate = BigDecimal.valueOf(policy.getOverheadRate());
+        BigDecimal sgaRate = BigDecimal.valueOf(policy.getSgaRate());
+
+        // 비용 계산
+        Money monthlySalaryCost = payroll.getAnnualSalary().divide(TWELVE);
+        Money overheadCost = monthlySalaryCost.multiply(overheadRate);
+        Money sgaCost = monthlySalaryCost.multiply(sgaRate);
+        Money totalCost = monthlySalaryCost.add(overheadCost).add(sgaCost);
+
+        if (existingCost != null) {
+            // 기존 데이터가 있다면, 값만 최신화 (Update)
+            existingCost.update(monthlySalaryCost, overheadCost, sgaCost, totalCost);
+            return existingCost;
+        }
+        // 기존 데이터가 없다면, 신규 생성 (Create)
+        return EmployeeMonthlyCost.create(
+            target.employeeId(),
+            costMonth,
+            monthlySalaryCost,
+            overheadCost,
+            sgaCost,
+            totalCost
+        );
+    }
+}
@@ -4,7 +4,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,32 +24,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
-import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
-import kr.co.abacus.abms.application.project.outbound.ProjectRevenuePlanRepository;
 import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.summary.MonthlyRevenueSummaryReconciler;
+import kr.co.abacus.abms.application.summary.dto.MonthlyRevenueSummaryReconcileResult;
 import kr.co.abacus.abms.application.summary.outbound.CompanyMonthlyCostSummaryRepository;
-import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
 import kr.co.abacus.abms.application.summary.outbound.RevenueMonthClosingRepository;
-import kr.co.abacus.abms.domain.department.Department;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
 import kr.co.abacus.abms.domain.employee.EmployeeType;
-import kr.co.abacus.abms.domain.project.Project;
-import kr.co.abacus.abms.domain.project.ProjectRevenuePlan;
 import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
 import kr.co.abacus.abms.domain.shared.Money;
 import kr.co.abacus.abms.domain.summary.CompanyMonthlyCostSummary;
-import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
-import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
 import kr.co.abacus.abms.domain.summary.RevenueMonthClosingStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 프로젝트별 월별 재무 집계
+ * - 프로젝트 손익은 {@link MonthlyRevenueSummaryReconciler}가 월 범위 조회로 일괄 계산한다.
  */
 @Slf4j
 @Configuration
@@ -60,13 +53,10 @@ public class RevenueMonthlySummaryBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
-    private final ProjectRepository projectRepository;
+    private final MonthlyRevenueSummaryReconciler monthlyRevenueSummaryReconciler;
     private final EmployeeRepository employeeRepository;
-    private final DepartmentRepository departmentRepository;
-    private final ProjectRevenuePlanRepository revenuePlanRepository;
     private final ProjectAssignmentRepository assignmentRepository;
     private final EmployeeMonthlyCostRepository employeeMonthlyCostRepository;
-    private final MonthlyRevenueSummaryRepository summaryRepository;
     private final CompanyMonthlyCostSummaryRepository companyMonthlyCostSummaryRepository;
     private final RevenueMonthClosingRepository revenueMonthClosingRepository;
     private final BatchObservabilityListener batchObservabilityListener;
@@ -107,10 +97,8 @@ public class RevenueMonthlySummaryBatchConfig {
                 return RepeatStatus.FINISHED;
             }
 
-            List<Project> projects = findAffectedProjects(monthStart, monthEnd);
-            for (Project project : projects) {
-                reconcileProjectSummary(project, monthStart, monthEnd, costMonth);
-            }
+            MonthlyRevenueSummaryReconcileResult result = monthlyRevenueSummaryReconciler.reconcile(targetMonth);
+            contribution.incrementWriteCount(result.writeCount());
             reconcileCompanyMonthlyCostSummary(monthStart, monthEnd, costMonth);
 
             return RepeatStatus.FINISHED;
@@ -127,92 +115,6 @@ public class RevenueMonthlySummaryBatchConfig {
         return YearMonth.from(targetDate);
     }
 
-    private List<Project> findAffectedProjects(LocalDate monthStart, LocalDate monthEnd) {
-        Set<Long> projectIds = new LinkedHashSet<>();
-
-        projectRepository.findActiveProjects(monthStart, monthEnd).stream()
-                .map(Project::getIdOrThrow)
-                .forEach(projectIds::add);
-        revenuePlanRepository.findByRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(monthStart, monthEnd).stream()
-                .map(ProjectRevenuePlan::getProjectId)
-                .forEach(projectIds::add);
-        assignmentRepository.findActiveAssignments(monthStart, monthEnd).stream()
-                .map(ProjectAssignment::getProjectId)
-                .forEach(projectIds::add);
-        summaryRepository.findAllByTargetMonthAndDeletedFalseOrderByProjectIdAsc(monthStart).stream()
-                .map(MonthlyRevenueSummary::getProjectId)
-                .forEach(projectIds::add);
-
-        Map<Long, Project> projectsById = projectRepository.findAllByIdIn(projectIds).stream()
-                .collect(Collectors.toMap(Project::getIdOrThrow, Function.identity(), (left, right) -> left, LinkedHashMap::new));
-
-        return projectIds.stream()
-                .map(projectsById::get)
-                .filter(java.util.Objects::nonNull)
-                .toList();
-    }
-
-    private void reconcileProjectSummary(Project project, LocalDate monthStart, LocalDate monthEnd, String costMonth) {
-        Long projectId = project.getIdOrThrow();
-        java.util.Optional<MonthlyRevenueSummary> existingSummary = summaryRepository
-                .findByProjectIdAndTargetMonthAndDeletedFalse(projectId, monthStart);
-        if (project.isDeleted()) {
-            existingSummary.ifPresent(summaryRepository::delete);
-            return;
-        }
-
-        List<ProjectRevenuePlan> issuedPlans = revenuePlanRepository
-                .findByProjectIdAndRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(projectId, monthStart, monthEnd);
-        List<ProjectAssignment> assignments = assignmentRepository.findOverlappingAssignments(projectId, monthStart, monthEnd);
-        boolean overlapsProjectPeriod = overlaps(project.getPeriod().startDate(), project.getPeriod().endDate(), monthStart, monthEnd);
-
-        if (!overlapsProjectPeriod && issuedPlans.isEmpty() && assignments.isEmpty()) {
-            existingSummary.ifPresent(summaryRepository::delete);
-            return;
-        }
-
-        Department leadDepartment = departmentRepository.findByIdAndDeletedFalse(project.getLeadDepartmentId())
-                .orElseThrow(() -> new IllegalArgumentException("주관 부서 누락: " + project.getLeadDepartmentId()));
-
-        Money totalRevenue = issuedPlans.stream()
-                .map(ProjectRevenuePlan::getAmount)
-                .reduce(Money.zero(), Money::add);
-        Money totalCost = calculateCost(assignments, monthStart, costMonth);
-        Money totalProfit = totalRevenue.subtract(totalCost);
-
-        MonthlyRevenueSummaryCreateRequest request = new MonthlyRevenueSummaryCreateRequest(
-                projectId,
-                project.getCode(),
-                project.getName(),
-                leadDepartment.getIdOrThrow(),
-                leadDepartment.getCode(),
-                leadDepartment.getName(),
-                monthStart,
-                totalRevenue,
-                totalCost,
-                totalProfit
-        );
-
-        MonthlyRevenueSummary summary = existingSummary.orElseGet(() -> MonthlyRevenueSummary.create(request));
-        if (existingSummary.isPresent()) {
-            summary.update(request);
-        }
-        summaryRepository.saveAll(List.of(summary));
-    }
-
-    private Money calculateCost(List<ProjectAssignment> assignments, LocalDate targetMonth, String costMonth) {
-        Money totalCost = Money.zero();
-        for (ProjectAssignment assignment : assignments) {
-            BigDecimal mm = assignment.calculateManMonth(targetMonth);
-            EmployeeMonthlyCost empCost = employeeMonthlyCostRepository
-                    .findByEmployeeIdAndCostMonth(assignment.getEmployeeId(), costMonth)
-                    .orElseThrow(() -> new IllegalArgumentException("직원 비용 누락 - 직원(id=" + assignment.getEmployeeId() + "), 월(costMonth=" + costMonth + "): "));
-
-            totalCost = totalCost.add(empCost.getTotalCost().multiply(mm));
-        }
-        return totalCost;
-    }
-
     private void reconcileCompanyMonthlyCostSummary(LocalDate monthStart, LocalDate monthEnd, String costMonth) {
         List<EmployeeMonthlyCost> monthlyCosts = employeeMonthlyCostRepository.findAllByCostMonthAndDeletedFalse(costMonth);
         List<ProjectAssignment> assignments = assignmentRepository.findActiveAssignmentsForNonDeletedProjects(monthStart, monthEnd);
@@ -279,9 +181,4 @@ public class RevenueMonthlySummaryBatchConfig {
         return allocatedCost;
     }
 
-    private boolean overlaps(LocalDate startDate, LocalDate endDate, LocalDate monthStart, LocalDate monthEnd) {
-        LocalDate normalizedEndDate = endDate != null ? endDate : LocalDate.MAX;
-        return !startDate.isAfter(monthEnd) && !normalizedEndDate.isBefore(monthStart);
-    }
-
 }
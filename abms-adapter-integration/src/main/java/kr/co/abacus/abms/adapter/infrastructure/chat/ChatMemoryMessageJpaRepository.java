@@ -2,15 +2,38 @@ package kr.co.abacus.abms.adapter.infrastructure.chat;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
 import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
 
-public interface ChatMemoryMessageJpaRepository extends JpaRepository<ChatMemoryMessage, Long> {
-
-    List<ChatMemoryMessage> findByConversationIdOrderByIdAsc(String conversationId);
+public interface ChatMemoryMessageJpaRepository
+        extends JpaRepository<ChatMemoryMessage, Long>, ChatMemoryMessageRepository {
+
+    @Override
+    List<ChatMemoryMessage> findByConversationIdOrderBySequenceNoDesc(String conversationId, Limit limit);
+
+    /**
+     * 요약(tb_chat_memory_summary)에 반영된 순번 뒤의 메시지만 최근 순으로 읽는다.
+     */
+    @Override
+    @Query("SELECT c FROM ChatMemoryMessage c " +
+            "WHERE c.conversationId = :conversationId " +
+            "AND c.sequenceNo > COALESCE((" +
+            "SELECT s.summarizedUntilSequenceNo FROM ChatMemorySummary s WHERE s.conversationId = :conversationId" +
+            "), 0L) " +
+            "ORDER BY c.sequenceNo DESC")
+    List<ChatMemoryMessage> findUnsummarizedByConversationIdOrderBySequenceNoDesc(
+            @Param("conversationId") String conversationId,
+            Limit limit
+    );
+
+    @Override
+    List<ChatMemoryMessage> findByConversationIdOrderBySequenceNoAsc(String conversationId);
 
     @Query("SELECT DISTINCT c.conversationId FROM ChatMemoryMessage c WHERE c.deleted = false ORDER BY c.conversationId")
     List<String> findDistinctConversationIds();
@@ -1,6 +1,8 @@
 package kr.co.abacus.abms.adapter.infrastructure.chat;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,19 +12,46 @@ import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.MessageType;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
-
 import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
 
+/**
+ * 대화별 순번(sequence_no)으로 쌓는 append-only 채팅 메모리 저장소
+ * - 조회는 요약에 반영된 순번(summarizedUntilSequenceNo) 뒤의 메시지 중 최근 maxMessages개만 가져온다.
+ * - 저장은 저장된 최근 메시지 끝과 새 목록 앞이 겹치는 구간을 찾아, 그 뒤의 새 메시지만 JDBC batch로 추가한다.
+ * - 윈도우에서 밀려나거나 요약된 메시지도 지우지 않는다. 행은 대화 이력으로 남고 대화를 삭제할 때만 지운다.
+ */
 @Repository
-@RequiredArgsConstructor
 @Transactional
 public class JpaChatMemoryRepository implements ChatMemoryRepository {
 
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+            insert into tb_chat_memory_message (
+                conversation_id, sequence_no, message_type, content, timestamp,
+                created_at, updated_at, deleted
+            ) values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final ChatMemoryMessageJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxMessages;
+
+    public JpaChatMemoryRepository(
+            ChatMemoryMessageJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.chat.memory.max-messages:50}") int maxMessages
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxMessages = maxMessages;
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -33,12 +62,15 @@ public class JpaChatMemoryRepository implements ChatMemoryRepository {
     @Override
     @Transactional(readOnly = true)
     public List<Message> findByConversationId(String conversationId) {
-        List<ChatMemoryMessage> entities = jpaRepository.findByConversationIdOrderByIdAsc(conversationId);
-        List<Message> messages = new ArrayList<>();
+        List<ChatMemoryMessage> entities = new ArrayList<>(jpaRepository.findUnsummarizedByConversationIdOrderBySequenceNoDesc(
+                conversationId,
+                Limit.of(maxMessages)
+        ));
+        Collections.reverse(entities);
+        List<Message> messages = new ArrayList<>(entities.size());
 
         for (ChatMemoryMessage entity : entities) {
-            Message message = toMessage(entity);
-            messages.add(message);
+            messages.add(toMessage(entity));
         }
 
         return messages;
@@ -46,33 +78,79 @@ public class JpaChatMemoryRepository implements ChatMemoryRepository {
 
     @Override
     public void saveAll(String conversationId, List<Message> messages) {
-        List<ChatMemoryMessage> existingMessages = jpaRepository.findByConversationIdOrderByIdAsc(conversationId);
-        int existingCount = existingMessages.size();
+        List<ChatMemoryMessage> stored = findLatest(conversationId, messages.size());
+        int overlap = findOverlap(stored, messages);
+        long lastSequenceNo = stored.isEmpty() ? 0L : stored.getLast().getSequenceNo();
+        append(conversationId, lastSequenceNo, messages.subList(overlap, messages.size()));
+    }
 
-        // If messages were removed (e.g. window size limit), re-sync completely
-        if (existingCount > messages.size()) {
-            jpaRepository.deleteByConversationId(conversationId);
-            existingCount = 0;
-        }
+    @Override
+    public void deleteByConversationId(String conversationId) {
+        jpaRepository.deleteByConversationId(conversationId);
+    }
 
-        // Only save new messages
-        if (messages.size() > existingCount) {
-            List<Message> newMessages = messages.subList(existingCount, messages.size());
-            List<ChatMemoryMessage> entitiesToSave = new ArrayList<>();
+    /**
+     * @return 순번 오름차순의 최근 메시지
+     */
+    private List<ChatMemoryMessage> findLatest(String conversationId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<ChatMemoryMessage> latest = new ArrayList<>(
+                jpaRepository.findByConversationIdOrderBySequenceNoDesc(conversationId, Limit.of(limit)));
+        Collections.reverse(latest);
+        return latest;
+    }
 
-            for (Message message : newMessages) {
-                entitiesToSave.add(new ChatMemoryMessage(
-                        conversationId,
-                        message.getMessageType(),
-                        Objects.requireNonNull(message.getText())));
+    /**
+     * 저장된 메시지의 끝과 새 목록의 앞이 겹치는 가장 긴 길이를 찾는다.
+     * - 중간의 시스템 메시지가 빠져 정렬이 맞지 않으면 0을 반환하고 새 목록 전체를 이어서 추가한다.
+     */
+    private int findOverlap(List<ChatMemoryMessage> stored, List<Message> messages) {
+        for (int overlap = Math.min(stored.size(), messages.size()); overlap > 0; overlap--) {
+            int offset = stored.size() - overlap;
+            boolean matched = true;
+            for (int i = 0; i < overlap && matched; i++) {
+                matched = isSameMessage(stored.get(offset + i), messages.get(i));
+            }
+            if (matched) {
+                return overlap;
             }
-            jpaRepository.saveAll(entitiesToSave);
         }
+        return 0;
     }
 
-    @Override
-    public void deleteByConversationId(String conversationId) {
-        jpaRepository.deleteByConversationId(conversationId);
+    private boolean isSameMessage(ChatMemoryMessage stored, Message message) {
+        return stored.getMessageType() == toStoredType(message.getMessageType())
+                && stored.getContent().equals(message.getText());
+    }
+
+    private void append(String conversationId, long lastSequenceNo, List<Message> newMessages) {
+        if (newMessages.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<IndexedMessage> rows = new ArrayList<>(newMessages.size());
+        for (int i = 0; i < newMessages.size(); i++) {
+            rows.add(new IndexedMessage(lastSequenceNo + i + 1, newMessages.get(i)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, conversationId);
+            ps.setLong(2, row.sequenceNo());
+            ps.setString(3, toStoredType(row.message().getMessageType()).name());
+            ps.setString(4, Objects.requireNonNull(row.message().getText()));
+            ps.setObject(5, now);
+            ps.setObject(6, now);
+            ps.setObject(7, now);
+            ps.setBoolean(8, false);
+        });
+    }
+
+    private MessageType toStoredType(MessageType type) {
+        return switch (type) {
+            case USER, ASSISTANT, SYSTEM -> type;
+            default -> MessageType.USER;
+        };
     }
 
     private Message toMessage(ChatMemoryMessage entity) {
@@ -87,4 +165,7 @@ public class JpaChatMemoryRepository implements ChatMemoryRepository {
         };
     }
 
+    private record IndexedMessage(long sequenceNo, Message message) {
+    }
+
 }
@@ -0,0 +1,68 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+
+/**
+ * 마지막 커밋을 primary에서 읽는 {@link ConsistentReader}
+ * - replica 라우팅이 꺼져 있으면 모든 조회가 primary로 가므로 호출한 트랜잭션에서 그대로 실행한다.
+ * - 켜져 있으면 새 readOnly 트랜잭션을 열어 실행하고, 그 동안 얻는 연결은 {@link ReadReplicaRoutingDataSource}가 primary로 보낸다.
+ *   바깥 readOnly 트랜잭션이 이미 replica 연결을 잡았더라도 그 연결을 이어 쓰지 않게 하기 위함이다.
+ * - 중첩 호출은 이미 primary 트랜잭션 안이므로 새 트랜잭션을 열지 않는다.
+ */
+@Component
+class PrimaryConsistentReader implements ConsistentReader {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private final @Nullable TransactionTemplate primaryReadTemplate;
+
+    @Autowired
+    PrimaryConsistentReader(
+            ObjectProvider<ReadReplicaRoutingDataSource> readReplicaRoutingDataSource,
+            PlatformTransactionManager transactionManager
+    ) {
+        this(readReplicaRoutingDataSource.getIfAvailable() != null, transactionManager);
+    }
+
+    PrimaryConsistentReader(boolean replicaRoutingEnabled, PlatformTransactionManager transactionManager) {
+        if (!replicaRoutingEnabled) {
+            this.primaryReadTemplate = null;
+            return;
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        this.primaryReadTemplate = template;
+    }
+
+    @Override
+    public <T extends @Nullable Object> T read(Supplier<T> reader) {
+        if (primaryReadTemplate == null || isActive()) {
+            return reader.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return primaryReadTemplate.execute(status -> reader.get());
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    /**
+     * @return 현재 스레드가 primary에서 읽어야 하는 구간 안인지 여부
+     */
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+}
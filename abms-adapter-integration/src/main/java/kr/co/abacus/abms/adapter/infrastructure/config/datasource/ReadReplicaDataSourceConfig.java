@@ -0,0 +1,121 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 DataSource 구성
+ * - app.datasource.read-replica.enabled=true일 때만 등록되며, 꺼져 있으면 Boot 기본 DataSource를 그대로 쓴다.
+ * - primary 풀은 spring.datasource.url/username/password와 spring.datasource.hikari.*로,
+ *   replica 풀은 app.datasource.read-replica.urls와 app.datasource.read-replica.hikari.*로 만든다.
+ * - 각 풀은 MeterRegistry에 연결해 hikaricp.* 지표를 풀 이름별로 남긴다.
+ * - read-your-writes 구간은 노드별로 관리하므로 여러 노드로 운영할 때는 sticky session이 필요하다({@link ReadYourWritesWindow}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${spring.datasource.username:}") String primaryUsername,
+            @Value("${spring.datasource.password:}") String primaryPassword,
+            @Value("${app.datasource.read-replica.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.read-replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.read-replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${app.datasource.read-replica.max-lag:2s}") Duration maxLag,
+            @Value("${app.datasource.read-replica.lag-check-interval:1s}") Duration lagCheckInterval,
+            @Value("${app.datasource.read-replica.read-your-writes-window:5s}") Duration readYourWritesWindow
+    ) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = createPool(
+                binder, "spring.datasource.hikari", ReadReplicaRoutingDataSource.PRIMARY,
+                primaryUrl, primaryUsername, primaryPassword, false, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, createPool(
+                    binder, "app.datasource.read-replica.hikari", name,
+                    replicaUrls.get(i), replicaUsername, replicaPassword, true, meterRegistry));
+        }
+
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(primary, replicas, maxLag, lagCheckInterval, meterRegistry);
+        replicaLagMonitor.start();
+        return new ReadReplicaRoutingDataSource(
+                primary,
+                replicas,
+                replicaLagMonitor,
+                new ReadYourWritesWindow(readYourWritesWindow, ReadReplicaDataSourceConfig::currentPrincipal),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 연결을 얻도록 감싼다.
+     * 트랜잭션 매니저가 readOnly 표시를 남긴 뒤에 라우팅 키를 정하기 위함이다.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    private static HikariDataSource createPool(
+            Binder binder,
+            String hikariPrefix,
+            String poolName,
+            String url,
+            String username,
+            String password,
+            boolean readOnly,
+            MeterRegistry meterRegistry
+    ) {
+        HikariConfig config = new HikariConfig();
+        binder.bind(hikariPrefix, Bindable.ofInstance(config));
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setReadOnly(readOnly);
+        config.setMetricRegistry(meterRegistry);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * 인증된 사용자 이름. DB를 조회하는 AuditorAware는 연결을 고르는 중에 다시 연결을 요구하므로 쓰지 않는다.
+     */
+    private static Optional<String> currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+
+}
@@ -0,0 +1,94 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 트랜잭션 속성에 따라 primary와 replica 풀을 고르는 DataSource
+ * - readOnly 트랜잭션은 복제 지연이 허용 범위 안인 replica로 보내고, 나머지는 모두 primary로 보낸다.
+ * - 같은 사용자가 방금 쓴 직후의 readOnly 트랜잭션은 read-your-writes 구간 동안 primary로 보낸다.
+ * - 캐시 적재와 인덱스 재생성({@link PrimaryConsistentReader})이 여는 readOnly 트랜잭션도 primary로 보낸다.
+ * - 연결을 얻는 시점의 트랜잭션 속성을 봐야 하므로 {@code LazyConnectionDataSourceProxy}로 감싸서 써야 한다.
+ * - 선택 결과는 abms.datasource.routing.total(pool, reason)으로 남긴다.
+ */
+class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final MeterRegistry meterRegistry;
+
+    ReadReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesWindow readYourWritesWindow,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesWindow.registerWriteInCurrentTransaction();
+            return route(PRIMARY, "read_write");
+        }
+        if (PrimaryConsistentReader.isActive()) {
+            return route(PRIMARY, "consistent_read");
+        }
+        if (readYourWritesWindow.isPinnedToPrimary()) {
+            return route(PRIMARY, "read_your_writes");
+        }
+        String replica = replicaLagMonitor.nextAvailableReplica();
+        if (replica == null) {
+            return route(PRIMARY, "replica_unavailable");
+        }
+        return route(replica, "read_only");
+    }
+
+    private String route(String pool, String reason) {
+        Counter.builder("abms.datasource.routing.total")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return pool;
+    }
+
+    @Override
+    public void close() throws Exception {
+        replicaLagMonitor.close();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+}
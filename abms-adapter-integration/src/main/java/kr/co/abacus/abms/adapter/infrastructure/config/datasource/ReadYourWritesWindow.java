@@ -0,0 +1,73 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 read-your-writes 구간
+ * - 사용자의 쓰기 트랜잭션이 커밋되면 window 동안 그 사용자의 읽기 전용 트랜잭션을 primary로 보낸다.
+ *   복제가 따라오기 전에 방금 저장한 내용을 다시 조회해도 이전 값이 보이지 않게 하기 위함이다.
+ * - 사용자를 알 수 없는 쓰기(배치, 스케줄러)는 기록하지 않는다.
+ * - 쓰기 시각은 이 노드의 메모리에만 남는다. 여러 노드로 운영하면 로드 밸런서가 같은 사용자의 요청을 같은 노드로 보내야(sticky session)
+ *   보장되며, 다른 노드로 간 읽기는 max-lag 이내로 뒤처진 replica 값을 볼 수 있다. HTTP 세션과 권한 epoch도 노드 메모리에 있으므로 같은 전제다.
+ */
+class ReadYourWritesWindow {
+
+    private final Duration window;
+    private final Supplier<Optional<String>> principalResolver;
+    private final Map<String, Long> lastWriteNanosByPrincipal = new ConcurrentHashMap<>();
+
+    ReadYourWritesWindow(Duration window, Supplier<Optional<String>> principalResolver) {
+        this.window = window;
+        this.principalResolver = principalResolver;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 사용자의 쓰기 시각을 기록하도록 한 번만 등록한다.
+     */
+    void registerWriteInCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Optional<String> principal = principalResolver.get();
+        if (principal.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, principal.get());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesWindow.this);
+                if (status == STATUS_COMMITTED) {
+                    lastWriteNanosByPrincipal.put(principal.get(), System.nanoTime());
+                }
+            }
+        });
+    }
+
+    boolean isPinnedToPrimary() {
+        if (lastWriteNanosByPrincipal.isEmpty()) {
+            return false;
+        }
+        Optional<String> principal = principalResolver.get();
+        if (principal.isEmpty()) {
+            return false;
+        }
+        Long lastWriteNanos = lastWriteNanosByPrincipal.get(principal.get());
+        if (lastWriteNanos == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWriteNanos <= window.toNanos()) {
+            return true;
+        }
+        lastWriteNanosByPrincipal.remove(principal.get(), lastWriteNanos);
+        return false;
+    }
+
+}
@@ -0,0 +1,158 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 복제 지연 감시
+ * - check-interval마다 primary의 tb_replica_heartbeat에 현재 시각을 쓰고, 각 replica에서 같은 행을 읽어
+ *   primary에 이미 기록된 시각과의 차이를 복제 지연으로 본다. DB 종류나 복제 상태 조회 권한과 무관하게 동작한다.
+ * - 새 heartbeat는 비교가 끝난 뒤에 쓴다. 방금 쓴 값과 비교하면 replica가 아직 받을 수 없는 값이어서 지연이 check-interval만큼 부풀기 때문이다.
+ * - 지연이 max-lag 이하이고 조회에 성공한 replica만 읽기 대상으로 둔다. 첫 확인 전에는 모든 읽기를 primary로 보낸다.
+ * - primary의 heartbeat를 읽거나 쓰지 못하면 지연을 잴 수 없으므로 다음 확인까지 모든 replica를 읽기 대상에서 뺀다.
+ * - replica별 지연(abms.datasource.replica.lag)과 사용 가능 여부(abms.datasource.replica.available)를 남긴다.
+ */
+@Slf4j
+class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final String UPDATE_HEARTBEAT_SQL = "update tb_replica_heartbeat set beat_at = ? where id = 1";
+    private static final String INSERT_HEARTBEAT_SQL = "insert into tb_replica_heartbeat (id, beat_at) values (1, ?)";
+    private static final String SELECT_HEARTBEAT_SQL = "select beat_at from tb_replica_heartbeat where id = 1";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("replica-lag-monitor").factory());
+
+    private volatile List<String> availableReplicas = List.of();
+
+    ReplicaLagMonitor(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            Duration checkInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        replicas.forEach((name, dataSource) -> {
+            AtomicLong lagMillis = new AtomicLong(-1);
+            this.replicas.add(new Replica(name, new JdbcTemplate(dataSource), lagMillis));
+            Gauge.builder("abms.datasource.replica.lag", lagMillis, value -> value.get() / 1000.0)
+                    .tag("pool", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("abms.datasource.replica.available", this, monitor -> monitor.availableReplicas.contains(name) ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    void start() {
+        executor.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 돌아가며 고른 사용 가능한 replica 이름. 없으면 null
+     */
+    @Nullable
+    String nextAvailableReplica() {
+        List<String> current = availableReplicas;
+        if (current.isEmpty()) {
+            return null;
+        }
+        return current.get(Math.floorMod(nextReplica.getAndIncrement(), current.size()));
+    }
+
+    void check() {
+        LocalDateTime primaryBeat;
+        try {
+            primaryBeat = readHeartbeat(primary);
+        } catch (RuntimeException exception) {
+            log.warn("Failed to read primary heartbeat: {}", exception.getMessage());
+            markAllUnavailable();
+            return;
+        }
+
+        List<String> available = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            try {
+                LocalDateTime replicaBeat = readHeartbeat(replica.jdbcTemplate());
+                if (primaryBeat == null || replicaBeat == null) {
+                    replica.lagMillis().set(-1);
+                    continue;
+                }
+                Duration lag = Duration.between(replicaBeat, primaryBeat);
+                replica.lagMillis().set(Math.max(0, lag.toMillis()));
+                if (lag.compareTo(maxLag) <= 0) {
+                    available.add(replica.name());
+                }
+            } catch (RuntimeException exception) {
+                replica.lagMillis().set(-1);
+                log.warn("Failed to read heartbeat from replica {}: {}", replica.name(), exception.getMessage());
+            }
+        }
+
+        try {
+            writeHeartbeat();
+        } catch (RuntimeException exception) {
+            log.warn("Failed to write replica heartbeat: {}", exception.getMessage());
+            markAllUnavailable();
+            return;
+        }
+        available.sort(null);
+        availableReplicas = List.copyOf(available);
+    }
+
+    private void markAllUnavailable() {
+        replicas.forEach(replica -> replica.lagMillis().set(-1));
+        availableReplicas = List.of();
+    }
+
+    private static @Nullable LocalDateTime readHeartbeat(JdbcTemplate jdbcTemplate) {
+        List<Timestamp> beats = jdbcTemplate.queryForList(SELECT_HEARTBEAT_SQL, Timestamp.class);
+        if (beats.isEmpty() || beats.getFirst() == null) {
+            return null;
+        }
+        return beats.getFirst().toLocalDateTime();
+    }
+
+    private void writeHeartbeat() {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        if (primary.update(UPDATE_HEARTBEAT_SQL, timestamp) == 0) {
+            primary.update(INSERT_HEARTBEAT_SQL, timestamp);
+        }
+    }
+
+    private record Replica(String name, JdbcTemplate jdbcTemplate, AtomicLong lagMillis) {
+    }
+
+}
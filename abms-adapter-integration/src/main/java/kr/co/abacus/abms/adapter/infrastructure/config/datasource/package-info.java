@@ -0,0 +1,4 @@
+@NullMarked
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,31 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.log;
+
+import java.sql.SQLException;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
+
+/**
+ * 모든 JDBC 실행(배치 실행 포함)을 현재 스레드의 SQL 집계 범위에 보고한다.
+ * - 로그 포맷 설정(P6SpyConfig)과 달리 운영 프로필에서도 등록한다.
+ */
+@Component
+public class SqlStatementAccountingListener extends JdbcEventListener {
+
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    public SqlStatementAccountingListener(SqlStatementRecorder sqlStatementRecorder) {
+        this.sqlStatementRecorder = sqlStatementRecorder;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, @Nullable SQLException e) {
+        sqlStatementRecorder.record(statementInformation.getSql(), timeElapsedNanos);
+    }
+
+}
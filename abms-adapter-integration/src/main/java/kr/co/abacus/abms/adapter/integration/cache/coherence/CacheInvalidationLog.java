@@ -0,0 +1,105 @@
+package kr.co.abacus.abms.adapter.integration.cache.coherence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * tb_cache_invalidation 접근
+ * - 폴링 스레드에서 트랜잭션 없이 호출하므로 JDBC로 짧은 문장만 실행한다.
+ * - 조회는 PK(id) 범위나 created_at 인덱스만 사용한다.
+ * - 테이블은 JPA 엔티티 없이 마이그레이션(V11)으로만 만든다. Flyway 대신 create-drop을 쓰는 테스트는 db/test-schema.sql로 만든다.
+ */
+@Repository
+public class CacheInvalidationLog {
+
+    private static final String INSERT_SQL = """
+            insert into tb_cache_invalidation (
+                node_id, cache_name, cache_key, created_at, updated_at, deleted
+            ) values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_COLUMNS = "select id, node_id, cache_name, cache_key, created_at from tb_cache_invalidation ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CacheInvalidationLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void appendAll(String nodeId, List<PendingInvalidation> invalidations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, invalidations, invalidations.size(), (statement, invalidation) -> {
+            statement.setString(1, nodeId);
+            statement.setString(2, invalidation.cacheName());
+            statement.setString(3, invalidation.cacheKey());
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            statement.setBoolean(6, false);
+        });
+    }
+
+    public long findLatestId() {
+        Long latestId = jdbcTemplate.queryForObject("select max(id) from tb_cache_invalidation", Long.class);
+        return latestId != null ? latestId : 0L;
+    }
+
+    /**
+     * @return afterId보다 큰 id의 기록 (id 오름차순)
+     */
+    public List<CacheInvalidationRecord> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where id > ? order by id limit ?",
+                this::toRecord,
+                afterId,
+                limit
+        );
+    }
+
+    /**
+     * 먼저 발급된 id가 늦게 커밋되어 {@link #findAfter(long, int)}에서 놓친 기록을 다시 확인할 때 사용한다.
+     *
+     * @return since 이후 만들어진 기록 중 id가 upToId 이하인 기록
+     */
+    public List<CacheInvalidationRecord> findRecentUpTo(long upToId, LocalDateTime since) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where created_at >= ? and id <= ? order by id",
+                this::toRecord,
+                Timestamp.valueOf(since),
+                upToId
+        );
+    }
+
+    public int deleteCreatedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("delete from tb_cache_invalidation where created_at < ?", Timestamp.valueOf(threshold));
+    }
+
+    private CacheInvalidationRecord toRecord(ResultSet resultSet, int rowNum) throws SQLException {
+        return new CacheInvalidationRecord(
+                resultSet.getLong("id"),
+                resultSet.getString("node_id"),
+                resultSet.getString("cache_name"),
+                resultSet.getString("cache_key"),
+                resultSet.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    public record PendingInvalidation(String cacheName, @Nullable String cacheKey) {
+    }
+
+    public record CacheInvalidationRecord(
+            long id,
+            String nodeId,
+            String cacheName,
+            @Nullable String cacheKey,
+            LocalDateTime createdAt
+    ) {
+    }
+
+}
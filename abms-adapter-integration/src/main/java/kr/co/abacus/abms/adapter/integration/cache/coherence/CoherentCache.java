@@ -0,0 +1,113 @@
+package kr.co.abacus.abms.adapter.integration.cache.coherence;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+
+/**
+ * 노드 로컬 캐시를 감싸 비우기(evict, clear)를 다른 노드에 알리는 캐시
+ * - 조회와 저장은 그대로 위임한다.
+ * - 값을 적재하는 조회(@Cacheable(sync = true))는 {@link ConsistentReader}로 실행해, 비운 직후 뒤처진 replica의 값으로 다시 채우지 않는다.
+ */
+class CoherentCache implements Cache {
+
+    private final Cache delegate;
+    private final CoherentCacheManager cacheManager;
+    private final ConsistentReader consistentReader;
+
+    CoherentCache(Cache delegate, CoherentCacheManager cacheManager, ConsistentReader consistentReader) {
+        this.delegate = delegate;
+        this.cacheManager = cacheManager;
+        this.consistentReader = consistentReader;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> consistentReader.read(() -> load(key, valueLoader)));
+    }
+
+    /**
+     * 적재 중 예외는 위임 캐시가 ValueRetrievalException으로 한 번만 감싸도록 unchecked 예외를 그대로 던진다.
+     */
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (RuntimeException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        cacheManager.publish(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        cacheManager.publish(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        cacheManager.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        cacheManager.publish(getName(), null);
+        return invalidated;
+    }
+
+}
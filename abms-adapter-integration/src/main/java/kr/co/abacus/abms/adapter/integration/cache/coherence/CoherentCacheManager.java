@@ -0,0 +1,237 @@
+package kr.co.abacus.abms.adapter.integration.cache.coherence;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CacheInvalidationLog.CacheInvalidationRecord;
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CacheInvalidationLog.PendingInvalidation;
+import kr.co.abacus.abms.application.shared.event.RemoteCacheInvalidatedEvent;
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+
+/**
+ * 노드 간 캐시 일관성을 맞추는 CacheManager
+ * - 노드 로컬 캐시(Caffeine)를 감싸, 이 노드에서 캐시를 비우면 tb_cache_invalidation에 기록한다.
+ *   기록은 호출한 트랜잭션과 무관하게 전용 스레드에서 바로 추가한다 (AFTER_COMMIT 리스너에서 비워도 유실되지 않는다).
+ * - 같은 스레드가 poll-interval마다 마지막으로 본 id 이후의 기록을 읽어, 다른 노드가 비운 캐시를 이 노드에서도 비우고
+ *   {@link RemoteCacheInvalidatedEvent}를 발행한다. 모든 노드가 1초 안팎으로 같은 캐시를 비우므로 TTL을 길게 둘 수 있다.
+ * - id는 발급 순서와 커밋 순서가 다를 수 있으므로 최근 overlap 동안의 기록은 다시 읽고, 이미 처리한 id는 건너뛴다.
+ * - 키는 Long, Integer, String만 그대로 전달하고, 그 밖의 키는 다른 노드에서 캐시 전체를 비운다.
+ */
+@Slf4j
+public class CoherentCacheManager implements CacheManager, SmartLifecycle {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(10);
+
+    private final CacheManager delegate;
+    private final CacheInvalidationLog cacheInvalidationLog;
+    private final ConsistentReader consistentReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CoherentCache> caches = new ConcurrentHashMap<>();
+    private final Queue<PendingInvalidation> outbox = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("cache-invalidation").factory());
+
+    // 아래 상태는 executor 스레드에서만 읽고 쓴다
+    private final Map<Long, LocalDateTime> appliedIds = new HashMap<>();
+    private long lastSeenId = -1;
+    private LocalDateTime lastCleanupAt = LocalDateTime.MIN;
+
+    private volatile boolean running;
+
+    public CoherentCacheManager(
+            CacheManager delegate,
+            CacheInvalidationLog cacheInvalidationLog,
+            ConsistentReader consistentReader,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            Duration pollInterval,
+            Duration retention
+    ) {
+        this.delegate = delegate;
+        this.cacheInvalidationLog = cacheInvalidationLog;
+        this.consistentReader = consistentReader;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @Override
+    public @Nullable Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, ignored -> new CoherentCache(cache, this, consistentReader));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executor.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(pollInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        flushOutbox();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void publish(String cacheName, @Nullable Object key) {
+        outbox.add(new PendingInvalidation(cacheName, encodeKey(key)));
+        try {
+            executor.execute(this::flushOutbox);
+        } catch (RejectedExecutionException ignored) {
+            // 종료 중에는 stop()이 남은 기록을 추가한다
+        }
+    }
+
+    private void flushOutbox() {
+        List<PendingInvalidation> pending = new ArrayList<>();
+        PendingInvalidation next;
+        while ((next = outbox.poll()) != null) {
+            pending.add(next);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            cacheInvalidationLog.appendAll(nodeId, pending);
+            meterRegistry.counter("abms.cache.invalidations.total", "direction", "published").increment(pending.size());
+        } catch (RuntimeException exception) {
+            // 다음 폴링에서 다시 시도한다
+            outbox.addAll(pending);
+            meterRegistry.counter("abms.cache.invalidations.total", "direction", "publish_failure").increment();
+            log.warn("Failed to publish {} cache invalidations: {}", pending.size(), exception.getMessage());
+        }
+    }
+
+    private void poll() {
+        try {
+            flushOutbox();
+            if (lastSeenId < 0) {
+                lastSeenId = cacheInvalidationLog.findLatestId();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (CacheInvalidationRecord record : cacheInvalidationLog.findRecentUpTo(lastSeenId, now.minus(OVERLAP))) {
+                apply(record, now);
+            }
+            for (CacheInvalidationRecord record : cacheInvalidationLog.findAfter(lastSeenId, POLL_BATCH_SIZE)) {
+                apply(record, now);
+                lastSeenId = Math.max(lastSeenId, record.id());
+            }
+            appliedIds.values().removeIf(createdAt -> createdAt.isBefore(now.minus(OVERLAP.multipliedBy(2))));
+            cleanUpIfDue(now);
+        } catch (RuntimeException exception) {
+            log.warn("Failed to poll cache invalidations: {}", exception.getMessage());
+        }
+    }
+
+    private void apply(CacheInvalidationRecord record, LocalDateTime now) {
+        if (appliedIds.putIfAbsent(record.id(), record.createdAt()) != null || nodeId.equals(record.nodeId())) {
+            return;
+        }
+        Cache cache = delegate.getCache(record.cacheName());
+        if (cache == null) {
+            return;
+        }
+        Object key = decodeKey(record.cacheKey());
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+        meterRegistry.counter("abms.cache.invalidations.total", "direction", "received").increment();
+        Timer.builder("abms.cache.invalidation.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(record.createdAt(), now).abs());
+        eventPublisher.publishEvent(new RemoteCacheInvalidatedEvent(record.cacheName(), key));
+    }
+
+    private void cleanUpIfDue(LocalDateTime now) {
+        if (lastCleanupAt.plus(CLEANUP_INTERVAL).isAfter(now)) {
+            return;
+        }
+        lastCleanupAt = now;
+        int deleted = cacheInvalidationLog.deleteCreatedBefore(now.minus(retention));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired cache invalidation records", deleted);
+        }
+    }
+
+    static @Nullable String encodeKey(@Nullable Object key) {
+        if (key instanceof Long longKey) {
+            return "L:" + longKey;
+        }
+        if (key instanceof Integer integerKey) {
+            return "I:" + integerKey;
+        }
+        if (key instanceof String stringKey && stringKey.length() <= MAX_KEY_LENGTH - 2) {
+            return "S:" + stringKey;
+        }
+        return null;
+    }
+
+    static @Nullable Object decodeKey(@Nullable String encoded) {
+        if (encoded == null || encoded.length() < 2) {
+            return null;
+        }
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'S' -> value;
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package kr.co.abacus.abms.adapter.integration.cache.coherence;
+
+import org.jspecify.annotations.NullMarked;
@@ -2,35 +2,79 @@ package kr.co.abacus.abms.adapter.integration.cache.config;
 
 import static java.util.concurrent.TimeUnit.*;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CacheInvalidationLog;
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CoherentCacheManager;
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+
+/**
+ * 노드 로컬 Caffeine 캐시 구성
+ * - 캐시 비우기는 {@link CoherentCacheManager}가 다른 노드에 전파하므로, TTL은 애플리케이션 밖(스크립트 등)의 변경을 따라잡는 용도로만 둔다.
+ * - @Cacheable은 sync = true로 선언해 적재 조회가 {@link ConsistentReader}를 거치게 한다.
+ */
 @EnableCaching
 @Configuration
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(
+            CacheInvalidationLog cacheInvalidationLog,
+            ConsistentReader consistentReader,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.cache.invalidation.retention:1h}") Duration retention
+    ) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
 
         cacheManager.registerCustomCache("organizationChart",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(10, MINUTES)
+                        .expireAfterWrite(6, HOURS)
                         .maximumSize(100)
                         .build());
 
-        cacheManager.registerCustomCache("commonCache",
+        cacheManager.registerCustomCache("dashboardYearlyAggregate",
+                Caffeine.newBuilder()
+                        .expireAfterWrite(6, HOURS)
+                        .maximumSize(20)
+                        .build());
+
+        cacheManager.registerCustomCache("accountPermissions",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(1, HOURS)
+                        .expireAfterWrite(6, HOURS)
                         .maximumSize(1000)
                         .build());
 
-        return cacheManager;
+        for (String commonCodeCache : new String[]{"commonCache", "commonCode"}) {
+            cacheManager.registerCustomCache(commonCodeCache,
+                    Caffeine.newBuilder()
+                            .expireAfterWrite(12, HOURS)
+                            .maximumSize(1000)
+                            .build());
+        }
+
+        for (String referenceNameCache : new String[]{"partyNames", "departmentNames", "employeeNames"}) {
+            cacheManager.registerCustomCache(referenceNameCache,
+                    Caffeine.newBuilder()
+                            .expireAfterWrite(6, HOURS)
+                            .maximumSize(10_000)
+                            .build());
+        }
+
+        return new CoherentCacheManager(cacheManager, cacheInvalidationLog, consistentReader, eventPublisher, meterRegistry, pollInterval, retention);
     }
 
 }
@@ -3,18 +3,27 @@ package kr.co.abacus.abms.adapter.integration.chat;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.memory.ChatMemoryRepository;
 import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import kr.co.abacus.abms.application.chat.SummarizingChatMemory;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+
 @Configuration
 public class ChatMemoryConfig {
 
     @Bean
-    public ChatMemory chatMemory(ChatMemoryRepository chatMemoryRepository) {
-        return MessageWindowChatMemory.builder()
+    public ChatMemory chatMemory(
+            ChatMemoryRepository chatMemoryRepository,
+            ChatMemorySummaryRepository chatMemorySummaryRepository,
+            @Value("${app.chat.memory.max-messages:50}") int maxMessages
+    ) {
+        ChatMemory windowChatMemory = MessageWindowChatMemory.builder()
                 .chatMemoryRepository(chatMemoryRepository)
-                .maxMessages(50)
+                .maxMessages(maxMessages)
                 .build();
+        return new SummarizingChatMemory(windowChatMemory, chatMemorySummaryRepository);
     }
 
 }
@@ -30,6 +30,7 @@ public class CustomUserDetails implements UserDetails, CurrentActorPrincipal, Se
     private final @Nullable Long departmentId;
     private final Map<String, Set<PermissionScope>> permissionsByCode;
     private final Collection<? extends GrantedAuthority> authorities;
+    private final long permissionEpoch;
 
     public CustomUserDetails(Account account) {
         this(account, null, null, Map.of());
@@ -40,6 +41,16 @@ public class CustomUserDetails implements UserDetails, CurrentActorPrincipal, Se
             @Nullable Long employeeId,
             @Nullable Long departmentId,
             Map<String, Set<PermissionScope>> permissionsByCode
+    ) {
+        this(account, employeeId, departmentId, permissionsByCode, 0L);
+    }
+
+    public CustomUserDetails(
+            Account account,
+            @Nullable Long employeeId,
+            @Nullable Long departmentId,
+            Map<String, Set<PermissionScope>> permissionsByCode,
+            long permissionEpoch
     ) {
         this.accountId = account.getIdOrThrow();
         this.username = account.getUsername().address();
@@ -50,6 +61,7 @@ public class CustomUserDetails implements UserDetails, CurrentActorPrincipal, Se
         this.authorities = this.permissionsByCode.keySet().stream()
                 .map(SimpleGrantedAuthority::new)
                 .toList();
+        this.permissionEpoch = permissionEpoch;
     }
 
     public Long getAccountId() {
@@ -72,6 +84,11 @@ public class CustomUserDetails implements UserDetails, CurrentActorPrincipal, Se
         return new CurrentActor(accountId, username, employeeId, departmentId, permissionsByCode);
     }
 
+    @Override
+    public long permissionEpoch() {
+        return permissionEpoch;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
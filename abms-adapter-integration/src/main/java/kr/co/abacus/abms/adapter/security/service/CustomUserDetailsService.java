@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import kr.co.abacus.abms.adapter.security.CustomUserDetails;
 import kr.co.abacus.abms.application.auth.outbound.AccountRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.permission.PermissionEpoch;
+import kr.co.abacus.abms.application.permission.dto.PermissionDetail;
 import kr.co.abacus.abms.application.permission.inbound.PermissionFinder;
 import kr.co.abacus.abms.domain.account.Account;
 import kr.co.abacus.abms.domain.shared.Email;
@@ -21,6 +23,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     private final AccountRepository accountRepository;
     private final EmployeeRepository employeeRepository;
     private final PermissionFinder permissionFinder;
+    private final PermissionEpoch permissionEpoch;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -30,14 +33,23 @@ public class CustomUserDetailsService implements UserDetailsService {
         var employee = employeeRepository.findByIdAndDeletedFalse(account.getEmployeeId()).orElse(null);
         java.util.Map<String, java.util.Set<kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope>> permissionsByCode =
                 new java.util.LinkedHashMap<>();
-        permissionFinder.findPermissions(account.getIdOrThrow()).permissions()
+        long resolvedEpoch = permissionEpoch.current();
+        PermissionDetail permissions = permissionFinder.findPermissions(account.getIdOrThrow());
+        if (permissionEpoch.isStale(account.getIdOrThrow(), resolvedEpoch)) {
+            // 해석 도중 권한이 바뀌었으면 변경 전 값이 캐시에 남았을 수 있으므로 비우고 다시 해석한다.
+            permissionFinder.evictPermissions(account.getIdOrThrow());
+            resolvedEpoch = permissionEpoch.current();
+            permissions = permissionFinder.findPermissions(account.getIdOrThrow());
+        }
+        permissions.permissions()
                 .forEach(permission -> permissionsByCode.put(permission.code(), permission.scopes()));
 
         return new CustomUserDetails(
                 account,
                 employee != null ? employee.getIdOrThrow() : null,
                 employee != null ? employee.getDepartmentId() : null,
-                permissionsByCode
+                permissionsByCode,
+                resolvedEpoch
         );
     }
 
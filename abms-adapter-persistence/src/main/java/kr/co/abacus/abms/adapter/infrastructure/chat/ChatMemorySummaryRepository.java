@@ -0,0 +1,20 @@
+package kr.co.abacus.abms.adapter.infrastructure.chat;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+
+public interface ChatMemorySummaryRepository
+        extends Repository<ChatMemorySummary, Long>,
+        kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository {
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChatMemorySummary s WHERE s.conversationId = :conversationId")
+    void deleteByConversationId(String conversationId);
+
+}
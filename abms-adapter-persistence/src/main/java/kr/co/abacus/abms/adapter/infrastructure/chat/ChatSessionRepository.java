@@ -1,5 +1,7 @@
 package kr.co.abacus.abms.adapter.infrastructure.chat;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 
 import kr.co.abacus.abms.domain.chat.ChatSession;
@@ -7,4 +9,16 @@ import kr.co.abacus.abms.domain.chat.ChatSession;
 public interface ChatSessionRepository
         extends Repository<ChatSession, Long>,
         kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository {
+
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatSession s SET s.userMessageCount = s.userMessageCount + 1 " +
+            "WHERE s.sessionId = :sessionId AND s.accountId = :accountId AND s.deleted = false")
+    int incrementUserMessageCount(String sessionId, Long accountId);
+
+    @Override
+    @Query("SELECT s.userMessageCount FROM ChatSession s " +
+            "WHERE s.sessionId = :sessionId AND s.accountId = :accountId AND s.deleted = false")
+    int findUserMessageCount(String sessionId, Long accountId);
+
 }
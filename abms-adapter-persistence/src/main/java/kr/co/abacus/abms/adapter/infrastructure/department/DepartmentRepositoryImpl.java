@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 
 import kr.co.abacus.abms.application.department.dto.DepartmentDetail;
 import kr.co.abacus.abms.application.department.dto.DepartmentProjection;
+import kr.co.abacus.abms.application.department.dto.DepartmentTreeLink;
 import kr.co.abacus.abms.application.department.outbound.CustomDepartmentRepository;
 import kr.co.abacus.abms.domain.department.Department;
 import kr.co.abacus.abms.domain.employee.QEmployee;
@@ -93,4 +94,15 @@ public class DepartmentRepositoryImpl implements CustomDepartmentRepository {
         return Optional.ofNullable(detail);
     }
 
+    @Override
+    public List<DepartmentTreeLink> findAllTreeLinks() {
+        return queryFactory
+                .select(Projections.constructor(DepartmentTreeLink.class,
+                        department.id,
+                        department.parent.id))
+                .from(department)
+                .where(department.deleted.isFalse())
+                .fetch();
+    }
+
 }
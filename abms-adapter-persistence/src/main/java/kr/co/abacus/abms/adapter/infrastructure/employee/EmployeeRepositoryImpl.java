@@ -4,13 +4,13 @@ import static kr.co.abacus.abms.domain.department.QDepartment.*;
 import static kr.co.abacus.abms.domain.employee.QEmployee.*;
 import static org.springframework.util.StringUtils.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
-import java.util.ArrayDeque;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
@@ -21,6 +21,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.ObjectUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -32,12 +33,20 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
 
+import kr.co.abacus.abms.adapter.infrastructure.support.KeysetConditions;
 import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.department.DepartmentClosureIndex;
 import kr.co.abacus.abms.application.employee.dto.EmployeeDetail;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
 import kr.co.abacus.abms.application.employee.dto.EmployeeOverviewSummary;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSnapshotRow;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
 import kr.co.abacus.abms.application.employee.outbound.CustomEmployeeRepository;
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
+import kr.co.abacus.abms.application.shared.dto.SearchCursor;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeGrade;
 import kr.co.abacus.abms.domain.employee.EmployeePosition;
@@ -50,6 +59,7 @@ import kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope;
 public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final DepartmentClosureIndex departmentClosureIndex;
 
     @Override
     public Page<EmployeeSummary> search(EmployeeSearchCondition condition, Pageable pageable) {
@@ -99,6 +109,61 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<EmployeeSummary> searchByCursor(EmployeeSearchCondition condition, CursorPageRequest pageRequest) {
+        Sort.Order order = pageRequest.orderOr(Sort.Order.desc("id"));
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+        OrderSpecifier<?> keyOrder = cursorOrder(order.getProperty(), direction);
+        SearchCursor cursor = pageRequest.decodeCursor(order);
+
+        List<EmployeeSummary> rows = queryFactory
+                .select(Projections.constructor(EmployeeSummary.class,
+                        department.id,
+                        department.name,
+                        employee.id,
+                        employee.name,
+                        employee.email,
+                        employee.joinDate,
+                        employee.position,
+                        employee.status,
+                        employee.grade,
+                        employee.type,
+                        employee.avatar))
+                .from(employee)
+                .join(department).on(employee.departmentId.eq(department.id))
+                .where(
+                        containsName(condition.name()),
+                        inPositions(condition.positions()),
+                        inTypes(condition.types()),
+                        inGrades(condition.grades()),
+                        inDepartments(condition.departmentIds()),
+                        inStatuses(condition.statuses()),
+                        afterCursor(cursor, direction),
+                        employee.deleted.isFalse())
+                .orderBy(keyOrder, new OrderSpecifier<>(direction, employee.id))
+                .limit(pageRequest.size() + 1L)
+                .fetch();
+
+        Long totalElements = pageRequest.includeTotal()
+                ? queryFactory
+                        .select(employee.count())
+                        .from(employee)
+                        .join(department).on(employee.departmentId.eq(department.id))
+                        .where(
+                                containsName(condition.name()),
+                                inPositions(condition.positions()),
+                                inTypes(condition.types()),
+                                inGrades(condition.grades()),
+                                inDepartments(condition.departmentIds()),
+                                inStatuses(condition.statuses()),
+                                employee.deleted.isFalse())
+                        .fetchOne()
+                : null;
+
+        return CursorPage.of(rows, pageRequest.size(), last -> new SearchCursor(
+                order.getProperty(), order.getDirection(), last.employeeId(), cursorValue(order.getProperty(), last)), totalElements);
+    }
+
     @Override
     public EmployeeOverviewSummary summarize(EmployeeSearchCondition condition) {
         return summarize(condition, null);
@@ -106,14 +171,38 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
 
     @Override
     public EmployeeOverviewSummary summarize(EmployeeSearchCondition condition, @Nullable CurrentActor actor) {
+        NumberExpression<Long> totalCount = employee.count();
+        NumberExpression<Long> activeCount = countWhen(employee.status.eq(EmployeeStatus.ACTIVE));
+        NumberExpression<Long> onLeaveCount = countWhen(employee.status.eq(EmployeeStatus.ON_LEAVE));
+        NumberExpression<Long> fullTimeCount = countWhen(employee.type.eq(EmployeeType.FULL_TIME));
+        NumberExpression<Long> freelancerCount = countWhen(employee.type.eq(EmployeeType.FREELANCER));
+        NumberExpression<Long> outsourcingCount = countWhen(employee.type.eq(EmployeeType.OUTSOURCING));
+        NumberExpression<Long> partTimeCount = countWhen(employee.type.eq(EmployeeType.PART_TIME));
+
+        Tuple tuple = queryFactory
+                .select(totalCount, activeCount, onLeaveCount, fullTimeCount, freelancerCount, outsourcingCount, partTimeCount)
+                .from(employee)
+                .where(
+                        containsName(condition.name()),
+                        inPositions(condition.positions()),
+                        inTypes(condition.types()),
+                        inGrades(condition.grades()),
+                        inDepartments(condition.departmentIds()),
+                        inStatuses(condition.statuses()),
+                        accessCondition(actor, EMPLOYEE_READ_PERMISSION_CODE),
+                        employee.deleted.isFalse())
+                .fetchOne();
+        if (tuple == null) {
+            return EmployeeOverviewSummary.empty();
+        }
         return new EmployeeOverviewSummary(
-                countEmployees(condition, actor, null),
-                countEmployees(condition, actor, employee.status.eq(EmployeeStatus.ACTIVE)),
-                countEmployees(condition, actor, employee.status.eq(EmployeeStatus.ON_LEAVE)),
-                countEmployees(condition, actor, employee.type.eq(EmployeeType.FULL_TIME)),
-                countEmployees(condition, actor, employee.type.eq(EmployeeType.FREELANCER)),
-                countEmployees(condition, actor, employee.type.eq(EmployeeType.OUTSOURCING)),
-                countEmployees(condition, actor, employee.type.eq(EmployeeType.PART_TIME)));
+                valueOf(tuple.get(totalCount)),
+                valueOf(tuple.get(activeCount)),
+                valueOf(tuple.get(onLeaveCount)),
+                valueOf(tuple.get(fullTimeCount)),
+                valueOf(tuple.get(freelancerCount)),
+                valueOf(tuple.get(outsourcingCount)),
+                valueOf(tuple.get(partTimeCount)));
     }
 
     @Override
@@ -133,9 +222,41 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
     }
 
     @Override
-    public List<Employee> search(EmployeeSearchCondition request, CurrentActor actor) {
-        return queryFactory.select(employee)
+    public List<EmployeeSnapshotRow> findSnapshotRows() {
+        return queryFactory
+                .select(Projections.constructor(EmployeeSnapshotRow.class,
+                        employee.departmentId,
+                        employee.status,
+                        employee.joinDate,
+                        employee.resignationDate))
+                .from(employee)
+                .where(employee.deleted.isFalse())
+                .fetch();
+    }
+
+    @Override
+    public List<EmployeeExcelRow> findExcelRows(
+            EmployeeSearchCondition request,
+            CurrentActor actor,
+            @Nullable EmployeeExcelRow after,
+            int limit
+    ) {
+        return queryFactory
+                .select(Projections.constructor(EmployeeExcelRow.class,
+                        employee.id,
+                        employee.createdAt,
+                        employee.departmentId,
+                        department.name,
+                        employee.email,
+                        employee.name,
+                        employee.joinDate,
+                        employee.birthDate,
+                        employee.position,
+                        employee.type,
+                        employee.grade,
+                        employee.memo))
                 .from(employee)
+                .leftJoin(department).on(department.id.eq(employee.departmentId), department.deleted.isFalse())
                 .where(
                         containsName(request.name()),
                         inPositions(request.positions()),
@@ -144,11 +265,28 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
                         inDepartments(request.departmentIds()),
                         inStatuses(request.statuses()),
                         accessCondition(actor, EMPLOYEE_EXCEL_DOWNLOAD_PERMISSION_CODE),
+                        afterExcelRow(after),
                         employee.deleted.isFalse())
-                .orderBy(defaultSort())
+                .orderBy(employee.createdAt.desc(), employee.id.desc())
+                .limit(limit)
                 .fetch();
     }
 
+    @Override
+    public Set<String> findExistingEmailAddresses(Collection<String> emailAddresses) {
+        List<String> candidates = List.copyOf(emailAddresses);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            existing.addAll(queryFactory
+                    .select(employee.email.address)
+                    .from(employee)
+                    .where(employee.email.address.in(
+                            candidates.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, candidates.size()))))
+                    .fetch());
+        }
+        return existing;
+    }
+
     @Override
     public @Nullable EmployeeDetail findEmployeeDetail(Long id) {
         return queryFactory
@@ -202,6 +340,8 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
 
     private static final String EMPLOYEE_READ_PERMISSION_CODE = "employee.read";
     private static final String EMPLOYEE_EXCEL_DOWNLOAD_PERMISSION_CODE = "employee.excel.download";
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
     private @Nullable BooleanExpression containsName(@Nullable String name) {
         return hasText(name) ? employee.name.containsIgnoreCase(name) : null;
     }
@@ -254,7 +394,7 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
             departmentIds.add(actor.departmentId());
         }
         if (actor.departmentId() != null && scopes.contains(PermissionScope.OWN_DEPARTMENT_TREE)) {
-            departmentIds.addAll(resolveDepartmentTree(actor.departmentId()));
+            departmentIds.addAll(departmentClosureIndex.descendantsOf(actor.departmentId()));
         }
         BooleanExpression departmentCondition = departmentIds.isEmpty()
                 ? null
@@ -274,29 +414,53 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
         return employee.id.isNull();
     }
 
-    private LinkedHashSet<Long> resolveDepartmentTree(Long rootDepartmentId) {
-        Map<Long, List<Long>> childrenByParentId = queryFactory.select(department.id, department.parent.id)
-                .from(department)
-                .where(department.deleted.isFalse(), department.parent.id.isNotNull())
-                .fetch()
-                .stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        tuple -> tuple.get(department.parent.id),
-                        LinkedHashMap::new,
-                        java.util.stream.Collectors.mapping(tuple -> tuple.get(department.id),
-                                java.util.stream.Collectors.toList())
-                ));
-        LinkedHashSet<Long> departmentIds = new LinkedHashSet<>();
-        Queue<Long> queue = new ArrayDeque<>();
-        queue.add(rootDepartmentId);
-        while (!queue.isEmpty()) {
-            Long departmentId = queue.poll();
-            if (!departmentIds.add(departmentId)) {
-                continue;
-            }
-            queue.addAll(childrenByParentId.getOrDefault(departmentId, List.of()));
+    private @Nullable BooleanExpression afterExcelRow(@Nullable EmployeeExcelRow after) {
+        if (after == null) {
+            return null;
+        }
+        return employee.createdAt.lt(after.createdAt())
+                .or(employee.createdAt.eq(after.createdAt()).and(employee.id.lt(after.employeeId())));
+    }
+
+    /**
+     * 커서 페이지 정렬 키. 커서 값으로 다시 비교할 수 있는 키만 받는다 (createdAt은 id로 대신한다).
+     */
+    private OrderSpecifier<?> cursorOrder(String sortKey, Order direction) {
+        return switch (sortKey) {
+            case "grade" -> gradeOrder(direction);
+            case "position" -> positionOrder(direction);
+            case "name" -> new OrderSpecifier<>(direction, employee.name);
+            case "joinDate" -> new OrderSpecifier<>(direction, employee.joinDate);
+            case "id" -> new OrderSpecifier<>(direction, employee.id);
+            default -> throw new InvalidCursorException("커서 페이지에서 지원하지 않는 정렬입니다: " + sortKey);
+        };
+    }
+
+    private @Nullable BooleanExpression afterCursor(@Nullable SearchCursor cursor, Order direction) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return switch (cursor.sortKey()) {
+                case "grade" -> KeysetConditions.after(gradeLevel(), Integer.valueOf(cursor.sortValue()), employee.id, cursor.id(), direction);
+                case "position" -> KeysetConditions.after(positionRank(), Integer.valueOf(cursor.sortValue()), employee.id, cursor.id(), direction);
+                case "name" -> KeysetConditions.after(employee.name, cursor.sortValue(), employee.id, cursor.id(), direction);
+                case "joinDate" -> KeysetConditions.after(employee.joinDate, LocalDate.parse(cursor.sortValue()), employee.id, cursor.id(), direction);
+                default -> KeysetConditions.after(employee.id, cursor.id(), direction);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
         }
-        return departmentIds;
+    }
+
+    private String cursorValue(String sortKey, EmployeeSummary row) {
+        return switch (sortKey) {
+            case "grade" -> String.valueOf(row.grade().getLevel());
+            case "position" -> String.valueOf(row.position().getLevel());
+            case "name" -> row.name();
+            case "joinDate" -> row.joinDate().toString();
+            default -> "";
+        };
     }
 
     private OrderSpecifier<?>[] resolveSort(Pageable pageable) {
@@ -326,18 +490,24 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
     }
 
     private OrderSpecifier<Integer> gradeOrder(Order direction) {
-        NumberExpression<Integer> gradeLevel = new CaseBuilder()
+        return new OrderSpecifier<>(direction, gradeLevel());
+    }
+
+    private NumberExpression<Integer> gradeLevel() {
+        return new CaseBuilder()
                 .when(employee.grade.eq(EmployeeGrade.JUNIOR)).then(EmployeeGrade.JUNIOR.getLevel())
                 .when(employee.grade.eq(EmployeeGrade.MID_LEVEL)).then(EmployeeGrade.MID_LEVEL.getLevel())
                 .when(employee.grade.eq(EmployeeGrade.SENIOR)).then(EmployeeGrade.SENIOR.getLevel())
                 .when(employee.grade.eq(EmployeeGrade.EXPERT)).then(EmployeeGrade.EXPERT.getLevel())
                 .otherwise(0);
-
-        return new OrderSpecifier<>(direction, gradeLevel);
     }
 
     private OrderSpecifier<?> positionOrder(Order direction) {
-        NumberExpression<Integer> positionRank = new CaseBuilder()
+        return new OrderSpecifier<>(direction, positionRank());
+    }
+
+    private NumberExpression<Integer> positionRank() {
+        return new CaseBuilder()
                 .when(employee.position.eq(EmployeePosition.ASSOCIATE)).then(EmployeePosition.ASSOCIATE.getLevel())
                 .when(employee.position.eq(EmployeePosition.SENIOR_ASSOCIATE)).then(EmployeePosition.SENIOR_ASSOCIATE.getLevel())
                 .when(employee.position.eq(EmployeePosition.PRINCIPAL)).then(EmployeePosition.PRINCIPAL.getLevel())
@@ -350,33 +520,20 @@ public class EmployeeRepositoryImpl implements CustomEmployeeRepository {
                 .when(employee.position.eq(EmployeePosition.PRESIDENT)).then(EmployeePosition.PRESIDENT.getLevel())
                 .when(employee.position.eq(EmployeePosition.CHAIRMAN)).then(EmployeePosition.CHAIRMAN.getLevel())
                 .otherwise(0);
-
-        return new OrderSpecifier<>(direction, positionRank);
     }
 
     private OrderSpecifier<?> defaultSort() {
         return employee.createdAt.desc();
     }
 
-    private long countEmployees(
-            EmployeeSearchCondition condition,
-            @Nullable CurrentActor actor,
-            @Nullable BooleanExpression extraCondition
-    ) {
-        Long value = queryFactory
-                .select(employee.count())
-                .from(employee)
-                .where(
-                        containsName(condition.name()),
-                        inPositions(condition.positions()),
-                        inTypes(condition.types()),
-                        inGrades(condition.grades()),
-                        inDepartments(condition.departmentIds()),
-                        inStatuses(condition.statuses()),
-                        accessCondition(actor, EMPLOYEE_READ_PERMISSION_CODE),
-                        extraCondition,
-                        employee.deleted.isFalse())
-                .fetchOne();
+    private NumberExpression<Long> countWhen(BooleanExpression condition) {
+        return new CaseBuilder()
+                .when(condition).then(1L)
+                .otherwise(0L)
+                .sum();
+    }
+
+    private long valueOf(@Nullable Long value) {
         return value != null ? value : 0L;
     }
 
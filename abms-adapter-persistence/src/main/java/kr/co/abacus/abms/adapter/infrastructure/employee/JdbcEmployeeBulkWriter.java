@@ -0,0 +1,125 @@
+package kr.co.abacus.abms.adapter.infrastructure.employee;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeBulkWriter;
+import kr.co.abacus.abms.domain.employee.EmployeeStatus;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원과 최초 직급 이력 JDBC 배치 등록
+ * - 직원을 배치로 넣은 뒤 이메일(유니크)로 생성된 id를 한 번에 읽고, 직급 이력을 배치로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcEmployeeBulkWriter implements EmployeeBulkWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_EMPLOYEE_SQL = """
+            insert into tb_employee (
+                department_id, name, email_address, join_date, birth_date,
+                position, type, status, grade, avatar, memo,
+                created_at, updated_at, created_by, updated_by, deleted
+            ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_POSITION_HISTORY_SQL = """
+            insert into tb_position_history (
+                employee_id, start_date, end_date, position,
+                created_at, updated_at, created_by, updated_by, deleted
+            ) values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_IDS_BY_EMAIL_SQL = "select id, email_address from tb_employee where email_address in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<EmployeeCreateCommand> commands, @Nullable Long createdBy) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SQL, commands, BATCH_SIZE, (ps, command) -> {
+            ps.setLong(1, command.departmentId());
+            ps.setString(2, command.name());
+            ps.setString(3, command.email());
+            ps.setObject(4, command.joinDate());
+            ps.setObject(5, command.birthDate());
+            ps.setString(6, command.position().name());
+            ps.setString(7, command.type().name());
+            ps.setString(8, EmployeeStatus.ACTIVE.name());
+            ps.setString(9, command.grade().name());
+            ps.setString(10, command.avatar().name());
+            ps.setString(11, command.memo());
+            ps.setObject(12, now);
+            ps.setObject(13, now);
+            setNullableLong(ps, 14, createdBy);
+            setNullableLong(ps, 15, createdBy);
+            ps.setBoolean(16, false);
+        });
+
+        Map<String, Long> employeeIdsByEmail = findIdsByEmail(commands.stream().map(EmployeeCreateCommand::email).toList());
+        List<Long> employeeIds = commands.stream()
+                .map(command -> Objects.requireNonNull(employeeIdsByEmail.get(command.email()), "등록한 직원 id를 찾을 수 없습니다."))
+                .toList();
+
+        List<Integer> indexes = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            indexes.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_POSITION_HISTORY_SQL, indexes, BATCH_SIZE, (ps, index) -> {
+            EmployeeCreateCommand command = commands.get(index);
+            ps.setLong(1, employeeIds.get(index));
+            ps.setObject(2, command.joinDate());
+            ps.setNull(3, Types.DATE);
+            ps.setString(4, command.position().name());
+            ps.setObject(5, now);
+            ps.setObject(6, now);
+            setNullableLong(ps, 7, createdBy);
+            setNullableLong(ps, 8, createdBy);
+            ps.setBoolean(9, false);
+        });
+        return employeeIds;
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, @Nullable Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private Map<String, Long> findIdsByEmail(List<String> emails) {
+        Map<String, Long> idsByEmail = new HashMap<>(emails.size() * 2);
+        for (int from = 0; from < emails.size(); from += BATCH_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + BATCH_SIZE, emails.size()));
+            String sql = SELECT_IDS_BY_EMAIL_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(
+                    sql,
+                    rs -> {
+                        idsByEmail.put(rs.getString("email_address"), rs.getLong("id"));
+                    },
+                    chunk.toArray()
+            );
+        }
+        return idsByEmail;
+    }
+
+}
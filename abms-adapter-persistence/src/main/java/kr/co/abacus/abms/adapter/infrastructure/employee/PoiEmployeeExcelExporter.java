@@ -2,10 +2,10 @@ package kr.co.abacus.abms.adapter.infrastructure.employee;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.time.LocalDate;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -15,11 +15,12 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeExcelExporter;
-import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeGrade;
 import kr.co.abacus.abms.domain.employee.EmployeePosition;
 import kr.co.abacus.abms.domain.employee.EmployeeType;
@@ -27,6 +28,9 @@ import kr.co.abacus.abms.domain.employee.EmployeeType;
 @Component
 public class PoiEmployeeExcelExporter implements EmployeeExcelExporter {
 
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int MAX_COLUMN_WIDTH = 10000;
+
     private static final List<String> DOWNLOAD_HEADERS = List.of(
             "부서 이름",
             "이메일",
@@ -51,25 +55,34 @@ public class PoiEmployeeExcelExporter implements EmployeeExcelExporter {
             "메모"
     );
 
+    /**
+     * SXSSF로 최근 ROW_ACCESS_WINDOW_SIZE개 행만 메모리에 두고 나머지는 임시 파일로 내보낸 뒤 outputStream에 쓴다.
+     * - autoSizeColumn은 창 밖 행을 볼 수 없으므로 행을 쓰면서 열별 최대 너비를 미리 계산한다.
+     */
     @Override
-    public byte[] export(List<Employee> employees, Map<Long, String> departmentNames) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-
+    public void export(Stream<EmployeeExcelRow> rows, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
             Sheet sheet = workbook.createSheet("Employees");
+            int[] columnWidths = new int[DOWNLOAD_HEADERS.size()];
             createHeaderRow(workbook, sheet, DOWNLOAD_HEADERS);
+            trackWidths(columnWidths, DOWNLOAD_HEADERS);
 
-            int rowIndex = 1;
-            for (Employee employee : employees) {
-                Row row = sheet.createRow(rowIndex++);
-                writeEmployeeRow(row, employee, departmentNames);
-            }
+            int[] rowIndex = {1};
+            rows.forEach(employee -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                trackWidths(columnWidths, writeEmployeeRow(row, employee));
+            });
 
-            autosizeColumns(sheet, DOWNLOAD_HEADERS);
-            workbook.write(bos);
-            return bos.toByteArray();
+            for (int i = 0; i < columnWidths.length; i++) {
+                sheet.setColumnWidth(i, columnWidths[i]);
+            }
+            workbook.write(outputStream);
         } catch (IOException ex) {
             throw new IllegalStateException("엑셀 파일 생성 중 오류가 발생했습니다.", ex);
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -114,28 +127,43 @@ public class PoiEmployeeExcelExporter implements EmployeeExcelExporter {
         }
     }
 
-    private void writeEmployeeRow(Row row, Employee employee, Map<Long, String> departmentNames) {
-        int col = 0;
-        String departmentName = Optional.ofNullable(employee.getDepartmentId())
-                .map(id -> departmentNames.getOrDefault(id, id.toString()))
-                .orElse("");
-
-        row.createCell(col++).setCellValue(departmentName);
-        row.createCell(col++).setCellValue(employee.getEmail().address());
-        row.createCell(col++).setCellValue(employee.getName());
-        row.createCell(col++).setCellValue(Optional.ofNullable(employee.getJoinDate()).map(LocalDate::toString).orElse(""));
-        row.createCell(col++).setCellValue(Optional.ofNullable(employee.getBirthDate()).map(LocalDate::toString).orElse(""));
-        row.createCell(col++).setCellValue(employee.getPosition().getDescription());
-        row.createCell(col++).setCellValue(employee.getType().getDescription());
-        row.createCell(col++).setCellValue(employee.getGrade().getDescription());
-        row.createCell(col).setCellValue(Optional.ofNullable(employee.getMemo()).orElse(""));
+    private List<String> writeEmployeeRow(Row row, EmployeeExcelRow employee) {
+        List<String> values = List.of(
+                Optional.ofNullable(employee.departmentName()).orElse(employee.departmentId().toString()),
+                employee.email().address(),
+                employee.name(),
+                employee.joinDate().toString(),
+                employee.birthDate().toString(),
+                employee.position().getDescription(),
+                employee.type().getDescription(),
+                employee.grade().getDescription(),
+                Optional.ofNullable(employee.memo()).orElse("")
+        );
+        for (int col = 0; col < values.size(); col++) {
+            row.createCell(col).setCellValue(values.get(col));
+        }
+        return values;
+    }
+
+    /**
+     * 열 너비 단위(1/256 글자)로 ASCII는 한 칸, 그 외(한글 등)는 두 칸으로 계산하고 여백을 더한다.
+     */
+    private void trackWidths(int[] columnWidths, List<String> values) {
+        for (int col = 0; col < values.size(); col++) {
+            String value = values.get(col);
+            int width = 1024;
+            for (int i = 0; i < value.length(); i++) {
+                width += value.charAt(i) < 128 ? 256 : 512;
+            }
+            columnWidths[col] = Math.max(columnWidths[col], Math.min(width, MAX_COLUMN_WIDTH));
+        }
     }
 
     private void autosizeColumns(Sheet sheet, List<String> headers) {
         for (int i = 0; i < headers.size(); i++) {
             sheet.autoSizeColumn(i);
             int width = sheet.getColumnWidth(i);
-            sheet.setColumnWidth(i, Math.min(width + 1024, 10000));
+            sheet.setColumnWidth(i, Math.min(width + 1024, MAX_COLUMN_WIDTH));
         }
     }
 
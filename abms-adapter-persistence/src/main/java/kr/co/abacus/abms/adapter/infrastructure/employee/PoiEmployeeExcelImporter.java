@@ -4,18 +4,31 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelImportResult;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelUploadResult;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeExcelImporter;
 import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
 import kr.co.abacus.abms.domain.employee.EmployeeExcelException;
@@ -23,6 +36,11 @@ import kr.co.abacus.abms.domain.employee.EmployeeGrade;
 import kr.co.abacus.abms.domain.employee.EmployeePosition;
 import kr.co.abacus.abms.domain.employee.EmployeeType;
 
+/**
+ * 직원 엑셀 업로드 해석기
+ * - 첫 번째 시트를 SAX 이벤트로 한 행씩 읽어 워크북 DOM을 만들지 않는다.
+ * - 행 단위로 해석하고, 실패한 행은 원본 행 번호와 사유를 모아 한 번에 돌려준다.
+ */
 @Component
 public class PoiEmployeeExcelImporter implements EmployeeExcelImporter {
 
@@ -39,41 +57,49 @@ public class PoiEmployeeExcelImporter implements EmployeeExcelImporter {
     );
 
     @Override
-    public List<EmployeeCreateCommand> importEmployees(InputStream inputStream, Map<String, Long> departmentCodeMap) {
-        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            if (sheet == null || sheet.getPhysicalNumberOfRows() < 2) {
+    public EmployeeExcelImportResult importEmployees(InputStream inputStream, Map<String, Long> departmentCodeMap) {
+        OPCPackage excelPackage = openPackage(inputStream);
+        try {
+            XSSFReader reader = new XSSFReader(excelPackage);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
                 throw new EmployeeExcelException("유효한 데이터가 포함된 시트를 찾을 수 없습니다.");
             }
 
-            List<EmployeeCreateCommand> commands = new ArrayList<>();
-
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null || isRowEmpty(row)) {
-                    continue;
-                }
-
-                commands.add(toCreateCommand(row, departmentCodeMap));
+            RowCollector collector = new RowCollector(departmentCodeMap);
+            XMLReader sheetParser = XMLHelper.newXMLReader();
+            sheetParser.setContentHandler(new XSSFSheetXMLHandler(
+                    reader.getStylesTable(),
+                    new ReadOnlySharedStringsTable(excelPackage),
+                    collector,
+                    new DataFormatter(),
+                    false
+            ));
+            try (InputStream sheet = sheets.next()) {
+                sheetParser.parse(new InputSource(sheet));
             }
 
-            return commands;
-        } catch (IOException ex) {
+            if (collector.rowCount < 2) {
+                throw new EmployeeExcelException("유효한 데이터가 포함된 시트를 찾을 수 없습니다.");
+            }
+            return new EmployeeExcelImportResult(collector.rows, collector.failures);
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException ex) {
             throw new EmployeeExcelException("엑셀 파일을 읽는 도중 오류가 발생했습니다.", ex);
+        } finally {
+            excelPackage.revert();
         }
     }
 
-    private EmployeeCreateCommand toCreateCommand(Row row, Map<String, Long> departmentCodeMap) {
-        String departmentCode = getCellValue(row, 0);
-        String email = getCellValue(row, 1);
-        String name = getCellValue(row, 2);
-        String joinedDate = getCellValue(row, 3);
-        String birthDate = getCellValue(row, 4);
-        String positionDesc = getCellValue(row, 5);
-        String typeDesc = getCellValue(row, 6);
-        String gradeDesc = getCellValue(row, 7);
-        String memo = getCellValue(row, 8);
+    private OPCPackage openPackage(InputStream inputStream) {
+        try {
+            return OPCPackage.open(inputStream);
+        } catch (IOException | OpenXML4JException ex) {
+            throw new EmployeeExcelException("엑셀 파일을 읽는 도중 오류가 발생했습니다.", ex);
+        }
+    }
 
+    private static EmployeeCreateCommand toCreateCommand(String[] values, Map<String, Long> departmentCodeMap) {
+        String departmentCode = values[0];
         Long departmentId = departmentCodeMap.get(departmentCode);
         if (departmentId == null) {
             throw new IllegalArgumentException("존재하지 않는 부서 코드입니다: " + departmentCode);
@@ -81,53 +107,72 @@ public class PoiEmployeeExcelImporter implements EmployeeExcelImporter {
 
         return EmployeeCreateCommand.builder()
                 .departmentId(departmentId)
-                .email(email)
-                .name(name)
-                .joinDate(LocalDate.parse(joinedDate))
-                .birthDate(LocalDate.parse(birthDate))
-                .position(EmployeePosition.fromDescription(positionDesc))
-                .type(EmployeeType.fromDescription(typeDesc))
-                .grade(EmployeeGrade.fromDescription(gradeDesc))
+                .email(values[1])
+                .name(values[2])
+                .joinDate(LocalDate.parse(values[3]))
+                .birthDate(LocalDate.parse(values[4]))
+                .position(EmployeePosition.fromDescription(values[5]))
+                .type(EmployeeType.fromDescription(values[6]))
+                .grade(EmployeeGrade.fromDescription(values[7]))
                 .avatar(EmployeeAvatar.AQUA_SPLASH)
-                .memo(memo)
+                .memo(values[8])
                 .build();
     }
 
-    private boolean isRowEmpty(Row row) {
-        for (int i = 0; i < UPLOAD_HEADERS.size(); i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null && cell.getCellType() != CellType.BLANK && !getCellValue(row, i).isEmpty()) {
-                return false;
-            }
+    private static String resolveMessage(RuntimeException ex) {
+        String message = ex.getMessage();
+        if (message == null || message.isBlank()) {
+            return ex.getClass().getSimpleName();
         }
-        return true;
+        return message;
     }
 
-    private String getCellValue(Row row, int index) {
-        Cell cell = row.getCell(index);
-        if (cell == null) {
-            return "";
+    /**
+     * 시트 이벤트를 받아 현재 행의 셀 값을 모으고, 행이 끝나면 생성 명령으로 바꾼다.
+     * - 0번 행(헤더)과 빈 행은 건너뛴다.
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Map<String, Long> departmentCodeMap;
+        private final List<EmployeeExcelImportResult.ImportedRow> rows = new ArrayList<>();
+        private final List<EmployeeExcelUploadResult.ExcelFailure> failures = new ArrayList<>();
+        private final String[] values = new String[UPLOAD_HEADERS.size()];
+        private int nextColumn;
+        private int rowCount;
+
+        private RowCollector(Map<String, Long> departmentCodeMap) {
+            this.departmentCodeMap = departmentCodeMap;
         }
-        CellType cellType = cell.getCellType();
-        return switch (cellType) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> {
-                String raw = Double.toString(cell.getNumericCellValue());
-                if (raw.endsWith(".0")) {
-                    yield raw.substring(0, raw.length() - 2);
-                }
-                yield raw;
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, "");
+            nextColumn = 0;
+            rowCount++;
+        }
+
+        @Override
+        public void cell(@Nullable String cellReference, @Nullable String formattedValue, @Nullable XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            if (column < values.length && formattedValue != null) {
+                values[column] = formattedValue.trim();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0 || Arrays.stream(values).allMatch(String::isEmpty)) {
+                return;
             }
-            case BOOLEAN -> Boolean.toString(cell.getBooleanCellValue());
-            case FORMULA -> {
-                try {
-                    yield cell.getStringCellValue().trim();
-                } catch (Exception e) {
-                    yield "";
-                }
+            int rowNumber = rowNum + 1;
+            try {
+                rows.add(new EmployeeExcelImportResult.ImportedRow(rowNumber, toCreateCommand(values, departmentCodeMap)));
+            } catch (RuntimeException ex) {
+                failures.add(new EmployeeExcelUploadResult.ExcelFailure(rowNumber, resolveMessage(ex)));
             }
-            case BLANK, _NONE, ERROR -> "";
-        };
+        }
+
     }
 
 }
@@ -15,6 +15,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.ObjectUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -70,15 +71,35 @@ public class PartyRepositoryImpl implements CustomPartyRepository {
 
     @Override
     public PartyOverviewSummary summarize(PartySearchCondition condition) {
-        long normalizedTotalCount = countParties(condition);
-        long normalizedWithProjectsCount = countPartiesWithProjects(condition, null);
+        NumberExpression<Long> totalCount = party.id.countDistinct();
+        NumberExpression<Long> withProjectsCount = project.partyId.countDistinct();
+        NumberExpression<Long> withInProgressProjectsCount = Expressions.numberTemplate(
+                Long.class,
+                "count(distinct case when {0} then {1} end)",
+                project.status.eq(ProjectStatus.IN_PROGRESS),
+                project.partyId);
+        NumberExpression<Long> totalContractAmount = Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", project.contractAmount.amount);
+
+        Tuple tuple = queryFactory
+                .select(totalCount, withProjectsCount, withInProgressProjectsCount, totalContractAmount)
+                .from(party)
+                .leftJoin(project).on(project.partyId.eq(party.id), project.deleted.isFalse())
+                .where(
+                        party.deleted.isFalse(),
+                        containsName(condition.name()))
+                .fetchOne();
+        if (tuple == null) {
+            return PartyOverviewSummary.empty();
+        }
 
+        long normalizedTotalCount = valueOf(tuple.get(totalCount));
+        long normalizedWithProjectsCount = valueOf(tuple.get(withProjectsCount));
         return new PartyOverviewSummary(
                 normalizedTotalCount,
                 normalizedWithProjectsCount,
-                countPartiesWithProjects(condition, project.status.eq(ProjectStatus.IN_PROGRESS)),
+                valueOf(tuple.get(withInProgressProjectsCount)),
                 Math.max(normalizedTotalCount - normalizedWithProjectsCount, 0L),
-                sumContractAmount(condition));
+                valueOf(tuple.get(totalContractAmount)));
     }
 
     private @Nullable BooleanExpression containsName(@Nullable String name) {
@@ -120,41 +141,7 @@ public class PartyRepositoryImpl implements CustomPartyRepository {
         return party.createdAt.desc();
     }
 
-    private long countParties(PartySearchCondition condition) {
-        Long value = queryFactory
-                .select(party.count())
-                .from(party)
-                .where(
-                        party.deleted.isFalse(),
-                        containsName(condition.name()))
-                .fetchOne();
-        return value != null ? value : 0L;
-    }
-
-    private long countPartiesWithProjects(PartySearchCondition condition, @Nullable BooleanExpression projectCondition) {
-        Long value = queryFactory
-                .select(party.id.countDistinct())
-                .from(party)
-                .join(project).on(project.partyId.eq(party.id))
-                .where(
-                        party.deleted.isFalse(),
-                        containsName(condition.name()),
-                        project.deleted.isFalse(),
-                        projectCondition)
-                .fetchOne();
-        return value != null ? value : 0L;
-    }
-
-    private long sumContractAmount(PartySearchCondition condition) {
-        Long value = queryFactory
-                .select(Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", project.contractAmount.amount))
-                .from(project)
-                .join(party).on(project.partyId.eq(party.id))
-                .where(
-                        project.deleted.isFalse(),
-                        party.deleted.isFalse(),
-                        containsName(condition.name()))
-                .fetchOne();
+    private long valueOf(@Nullable Long value) {
         return value != null ? value : 0L;
     }
 
@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.adapter.infrastructure.payroll;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,4 +73,14 @@ public interface PayrollRepository
             "AND p.deleted = false " +
             "ORDER BY p.period.startDate DESC")
     List<Payroll> findAllByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Override
+    @Query("SELECT p " +
+            "FROM Payroll p " +
+            "WHERE p.employeeId IN :employeeIds " +
+            "AND p.deleted = false " +
+            "AND p.period.startDate <= :targetDate " +
+            "AND (p.period.endDate IS NULL OR :targetDate <= p.period.endDate)")
+    List<Payroll> findAllByEmployeeIdInAndTargetDate(@Param("employeeIds") Collection<Long> employeeIds,
+                                                     @Param("targetDate") LocalDate targetDate);
 }
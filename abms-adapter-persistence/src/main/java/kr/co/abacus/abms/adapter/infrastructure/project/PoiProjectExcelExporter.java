@@ -2,10 +2,11 @@ package kr.co.abacus.abms.adapter.infrastructure.project;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -15,16 +16,20 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 
+import kr.co.abacus.abms.application.project.dto.ProjectExcelRow;
 import kr.co.abacus.abms.application.project.outbound.ProjectExcelExporter;
-import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
 
 @Component
 public class PoiProjectExcelExporter implements ProjectExcelExporter {
 
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int MAX_COLUMN_WIDTH = 10000;
+
     private static final List<String> HEADERS = List.of(
             "협력사 이름",
             "프로젝트 코드",
@@ -36,25 +41,34 @@ public class PoiProjectExcelExporter implements ProjectExcelExporter {
             "설명"
     );
 
+    /**
+     * SXSSF로 최근 ROW_ACCESS_WINDOW_SIZE개 행만 메모리에 두고 나머지는 임시 파일로 내보낸 뒤 outputStream에 쓴다.
+     * - autoSizeColumn은 창 밖 행을 볼 수 없으므로 행을 쓰면서 열별 최대 너비를 미리 계산한다.
+     */
     @Override
-    public byte[] export(List<Project> projects, Map<Long, String> partyNames) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-
+    public void export(Stream<ProjectExcelRow> rows, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
             Sheet sheet = workbook.createSheet("Projects");
+            int[] columnWidths = new int[HEADERS.size()];
             createHeaderRow(workbook, sheet, HEADERS);
+            trackWidths(columnWidths, HEADERS);
 
-            int rowIndex = 1;
-            for (Project project : projects) {
-                Row row = sheet.createRow(rowIndex++);
-                writeProjectRow(row, project, partyNames);
-            }
+            int[] rowIndex = {1};
+            rows.forEach(project -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                trackWidths(columnWidths, writeProjectRow(row, project));
+            });
 
-            autosizeColumns(sheet, HEADERS);
-            workbook.write(bos);
-            return bos.toByteArray();
+            for (int i = 0; i < columnWidths.length; i++) {
+                sheet.setColumnWidth(i, columnWidths[i]);
+            }
+            workbook.write(outputStream);
         } catch (IOException ex) {
             throw new IllegalStateException("엑셀 파일 생성 중 오류가 발생했습니다.", ex);
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -98,29 +112,50 @@ public class PoiProjectExcelExporter implements ProjectExcelExporter {
         }
     }
 
-    private void writeProjectRow(Row row, Project project, Map<Long, String> partyNames) {
-        int col = 0;
-        String partyName = Optional.ofNullable(project.getPartyId())
-                .map(id -> partyNames.getOrDefault(id, id.toString()))
-                .orElse("");
-
-        row.createCell(col++).setCellValue(partyName);
-        row.createCell(col++).setCellValue(project.getCode());
-        row.createCell(col++).setCellValue(project.getName());
-        row.createCell(col++).setCellValue(project.getStatus().getDescription());
-        row.createCell(col++).setCellValue(project.getContractAmount().amount().longValue());
-        row.createCell(col++).setCellValue(
-                Optional.ofNullable(project.getPeriod().startDate()).map(LocalDate::toString).orElse(""));
-        row.createCell(col++).setCellValue(
-                Optional.ofNullable(project.getPeriod().endDate()).map(LocalDate::toString).orElse(""));
-        row.createCell(col).setCellValue(Optional.ofNullable(project.getDescription()).orElse(""));
+    /**
+     * @return 열 너비 계산용 셀 표시 값 (계약금액은 숫자 셀로 쓴다)
+     */
+    private List<String> writeProjectRow(Row row, ProjectExcelRow project) {
+        long contractAmount = project.contractAmount().amount().longValue();
+        List<String> values = List.of(
+                project.partyName(),
+                project.code(),
+                project.name(),
+                project.status().getDescription(),
+                Long.toString(contractAmount),
+                project.startDate().toString(),
+                Optional.ofNullable(project.endDate()).map(LocalDate::toString).orElse(""),
+                Optional.ofNullable(project.description()).orElse("")
+        );
+        for (int col = 0; col < values.size(); col++) {
+            if (col == 4) {
+                row.createCell(col).setCellValue(contractAmount);
+            } else {
+                row.createCell(col).setCellValue(values.get(col));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 열 너비 단위(1/256 글자)로 ASCII는 한 칸, 그 외(한글 등)는 두 칸으로 계산하고 여백을 더한다.
+     */
+    private void trackWidths(int[] columnWidths, List<String> values) {
+        for (int col = 0; col < values.size(); col++) {
+            String value = values.get(col);
+            int width = 1024;
+            for (int i = 0; i < value.length(); i++) {
+                width += value.charAt(i) < 128 ? 256 : 512;
+            }
+            columnWidths[col] = Math.max(columnWidths[col], Math.min(width, MAX_COLUMN_WIDTH));
+        }
     }
 
     private void autosizeColumns(Sheet sheet, List<String> headers) {
         for (int i = 0; i < headers.size(); i++) {
             sheet.autoSizeColumn(i);
             int width = sheet.getColumnWidth(i);
-            sheet.setColumnWidth(i, Math.min(width + 1024, 10000));
+            sheet.setColumnWidth(i, Math.min(width + 1024, MAX_COLUMN_WIDTH));
         }
     }
 
@@ -5,7 +5,9 @@ import static kr.co.abacus.abms.domain.party.QParty.*;
 import static kr.co.abacus.abms.domain.project.QProject.*;
 import static org.springframework.util.StringUtils.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,21 +19,33 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.ObjectUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
 
+import kr.co.abacus.abms.adapter.infrastructure.support.KeysetConditions;
 import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.department.DepartmentClosureIndex;
+import kr.co.abacus.abms.application.project.dto.ProjectDeadlineItem;
+import kr.co.abacus.abms.application.project.dto.ProjectExcelRow;
 import kr.co.abacus.abms.application.project.dto.ProjectOverviewSummary;
 import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
+import kr.co.abacus.abms.application.project.dto.ProjectSnapshotRow;
 import kr.co.abacus.abms.application.project.dto.ProjectSummary;
 import kr.co.abacus.abms.application.project.outbound.CustomProjectRepository;
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
+import kr.co.abacus.abms.application.shared.dto.SearchCursor;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
 
@@ -43,6 +57,7 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
     private static final String PROJECT_EXCEL_DOWNLOAD_PERMISSION_CODE = "project.excel.download";
 
     private final JPAQueryFactory queryFactory;
+    private final DepartmentClosureIndex departmentClosureIndex;
 
     @Override
     public Page<ProjectSummary> search(ProjectSearchCondition condition, Pageable pageable) {
@@ -121,6 +136,67 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<ProjectSummary> searchByCursor(
+            ProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    ) {
+        Sort.Order order = pageRequest.orderOr(Sort.Order.desc("id"));
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+        OrderSpecifier<?> keyOrder = cursorOrder(order.getProperty(), direction);
+        SearchCursor cursor = pageRequest.decodeCursor(order);
+
+        List<ProjectSummary> rows = queryFactory
+                .select(Projections.constructor(ProjectSummary.class,
+                        project.id,
+                        project.partyId,
+                        party.name,
+                        project.leadDepartmentId,
+                        department.name,
+                        project.code,
+                        project.name,
+                        project.description,
+                        project.status,
+                        project.contractAmount,
+                        project.period.startDate,
+                        project.period.endDate))
+                .from(project)
+                .join(party).on(project.partyId.eq(party.id))
+                .leftJoin(department).on(project.leadDepartmentId.eq(department.id))
+                .where(
+                        containsNameOrCode(condition.name()),
+                        inStatuses(condition.statuses()),
+                        inPartyIds(condition.partyIds()),
+                        inAccessibleScope(actor, PROJECT_READ_PERMISSION_CODE),
+                        overlapsPeriod(condition.periodStart(), condition.periodEnd()),
+                        afterCursor(cursor, direction),
+                        party.deleted.isFalse(),
+                        project.deleted.isFalse())
+                .orderBy(keyOrder, new OrderSpecifier<>(direction, project.id))
+                .limit(pageRequest.size() + 1L)
+                .fetch();
+
+        Long totalElements = pageRequest.includeTotal()
+                ? queryFactory
+                        .select(project.count())
+                        .from(project)
+                        .join(party).on(project.partyId.eq(party.id))
+                        .where(
+                                containsNameOrCode(condition.name()),
+                                inStatuses(condition.statuses()),
+                                inPartyIds(condition.partyIds()),
+                                inAccessibleScope(actor, PROJECT_READ_PERMISSION_CODE),
+                                overlapsPeriod(condition.periodStart(), condition.periodEnd()),
+                                party.deleted.isFalse(),
+                                project.deleted.isFalse())
+                        .fetchOne()
+                : null;
+
+        return CursorPage.of(rows, pageRequest.size(), last -> new SearchCursor(
+                order.getProperty(), order.getDirection(), last.projectId(), cursorValue(order.getProperty(), last)), totalElements);
+    }
+
     @Override
     public ProjectOverviewSummary summarize(ProjectSearchCondition condition) {
         return summarize(condition, null);
@@ -128,14 +204,38 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
 
     @Override
     public ProjectOverviewSummary summarize(ProjectSearchCondition condition, @Nullable CurrentActor actor) {
+        NumberExpression<Long> totalCount = project.count();
+        NumberExpression<Long> scheduledCount = countWhen(project.status.eq(ProjectStatus.SCHEDULED));
+        NumberExpression<Long> inProgressCount = countWhen(project.status.eq(ProjectStatus.IN_PROGRESS));
+        NumberExpression<Long> completedCount = countWhen(project.status.eq(ProjectStatus.COMPLETED));
+        NumberExpression<Long> onHoldCount = countWhen(project.status.eq(ProjectStatus.ON_HOLD));
+        NumberExpression<Long> cancelledCount = countWhen(project.status.eq(ProjectStatus.CANCELLED));
+        NumberExpression<Long> totalContractAmount = Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", project.contractAmount.amount);
+
+        Tuple tuple = queryFactory
+                .select(totalCount, scheduledCount, inProgressCount, completedCount, onHoldCount, cancelledCount, totalContractAmount)
+                .from(project)
+                .join(party).on(project.partyId.eq(party.id))
+                .where(
+                        containsNameOrCode(condition.name()),
+                        inStatuses(condition.statuses()),
+                        inPartyIds(condition.partyIds()),
+                        inAccessibleScope(actor, PROJECT_READ_PERMISSION_CODE),
+                        overlapsPeriod(condition.periodStart(), condition.periodEnd()),
+                        party.deleted.isFalse(),
+                        project.deleted.isFalse())
+                .fetchOne();
+        if (tuple == null) {
+            return ProjectOverviewSummary.empty();
+        }
         return new ProjectOverviewSummary(
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, null),
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, project.status.eq(ProjectStatus.SCHEDULED)),
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, project.status.eq(ProjectStatus.IN_PROGRESS)),
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, project.status.eq(ProjectStatus.COMPLETED)),
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, project.status.eq(ProjectStatus.ON_HOLD)),
-                countProjects(condition, actor, PROJECT_READ_PERMISSION_CODE, project.status.eq(ProjectStatus.CANCELLED)),
-                sumContractAmount(condition, actor, PROJECT_READ_PERMISSION_CODE));
+                valueOf(tuple.get(totalCount)),
+                valueOf(tuple.get(scheduledCount)),
+                valueOf(tuple.get(inProgressCount)),
+                valueOf(tuple.get(completedCount)),
+                valueOf(tuple.get(onHoldCount)),
+                valueOf(tuple.get(cancelledCount)),
+                valueOf(tuple.get(totalContractAmount)));
     }
 
     @Override
@@ -144,8 +244,78 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
     }
 
     @Override
-    public List<Project> search(ProjectSearchCondition condition, @Nullable CurrentActor actor) {
-        return searchInternal(condition, actor);
+    public List<ProjectSnapshotRow> findSnapshotRows() {
+        return queryFactory
+                .select(Projections.constructor(ProjectSnapshotRow.class,
+                        project.id,
+                        project.name,
+                        project.status,
+                        project.contractAmount.amount,
+                        project.period.startDate,
+                        project.period.endDate))
+                .from(project)
+                .where(project.deleted.isFalse())
+                .orderBy(project.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectExcelRow> findExcelRows(
+            ProjectSearchCondition condition,
+            CurrentActor actor,
+            @Nullable ProjectExcelRow after,
+            int limit
+    ) {
+        return queryFactory
+                .select(Projections.constructor(ProjectExcelRow.class,
+                        project.id,
+                        project.createdAt,
+                        party.name,
+                        project.code,
+                        project.name,
+                        project.status,
+                        project.contractAmount,
+                        project.period.startDate,
+                        project.period.endDate,
+                        project.description))
+                .from(project)
+                .join(party).on(project.partyId.eq(party.id))
+                .where(
+                        containsNameOrCode(condition.name()),
+                        inStatuses(condition.statuses()),
+                        inPartyIds(condition.partyIds()),
+                        inAccessibleScope(actor, PROJECT_EXCEL_DOWNLOAD_PERMISSION_CODE),
+                        overlapsPeriod(condition.periodStart(), condition.periodEnd()),
+                        afterExcelRow(after),
+                        party.deleted.isFalse(),
+                        project.deleted.isFalse())
+                .orderBy(project.createdAt.desc(), project.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectDeadlineItem> findUpcomingDeadlines(
+            List<ProjectStatus> statuses,
+            LocalDate deadlineBoundary,
+            int limit
+    ) {
+        return queryFactory
+                .select(Projections.constructor(ProjectDeadlineItem.class,
+                        project.id,
+                        project.name,
+                        party.name,
+                        project.status,
+                        project.period.endDate))
+                .from(project)
+                .leftJoin(party).on(project.partyId.eq(party.id), party.deleted.isFalse())
+                .where(
+                        project.status.in(statuses),
+                        project.period.endDate.loe(deadlineBoundary),
+                        project.deleted.isFalse())
+                .orderBy(project.period.endDate.asc(), project.id.asc())
+                .limit(limit)
+                .fetch();
     }
 
     private List<Project> searchInternal(ProjectSearchCondition condition, @Nullable CurrentActor actor) {
@@ -164,6 +334,14 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
                 .fetch();
     }
 
+    private @Nullable BooleanExpression afterExcelRow(@Nullable ProjectExcelRow after) {
+        if (after == null) {
+            return null;
+        }
+        return project.createdAt.lt(after.createdAt())
+                .or(project.createdAt.eq(after.createdAt()).and(project.id.lt(after.projectId())));
+    }
+
     private @Nullable BooleanExpression containsNameOrCode(@Nullable String name) {
         if (!hasText(name)) {
             return null;
@@ -200,6 +378,49 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
         return project.period.startDate.loe(periodEnd);
     }
 
+    /**
+     * 커서 페이지 정렬 키. 값이 항상 있는 키만 받는다 (periodEnd는 null이 있어 제외, createdAt은 id로 대신한다).
+     */
+    private OrderSpecifier<?> cursorOrder(String sortKey, Order direction) {
+        return switch (sortKey) {
+            case "code" -> new OrderSpecifier<>(direction, project.code);
+            case "name" -> new OrderSpecifier<>(direction, project.name);
+            case "contractAmount" -> new OrderSpecifier<>(direction, project.contractAmount.amount);
+            case "periodStart" -> new OrderSpecifier<>(direction, project.period.startDate);
+            case "id" -> new OrderSpecifier<>(direction, project.id);
+            default -> throw new InvalidCursorException("커서 페이지에서 지원하지 않는 정렬입니다: " + sortKey);
+        };
+    }
+
+    private @Nullable BooleanExpression afterCursor(@Nullable SearchCursor cursor, Order direction) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return switch (cursor.sortKey()) {
+                case "code" -> KeysetConditions.after(project.code, cursor.sortValue(), project.id, cursor.id(), direction);
+                case "name" -> KeysetConditions.after(project.name, cursor.sortValue(), project.id, cursor.id(), direction);
+                case "contractAmount" -> KeysetConditions.after(
+                        project.contractAmount.amount, new BigDecimal(cursor.sortValue()), project.id, cursor.id(), direction);
+                case "periodStart" -> KeysetConditions.after(
+                        project.period.startDate, LocalDate.parse(cursor.sortValue()), project.id, cursor.id(), direction);
+                default -> KeysetConditions.after(project.id, cursor.id(), direction);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private String cursorValue(String sortKey, ProjectSummary row) {
+        return switch (sortKey) {
+            case "code" -> row.code();
+            case "name" -> row.name();
+            case "contractAmount" -> row.contractAmount().amount().toPlainString();
+            case "periodStart" -> row.startDate().toString();
+            default -> "";
+        };
+    }
+
     private OrderSpecifier<?>[] resolveSort(Pageable pageable) {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
@@ -230,47 +451,14 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
         return project.createdAt.desc();
     }
 
-    private long countProjects(
-            ProjectSearchCondition condition,
-            @Nullable CurrentActor actor,
-            String permissionCode,
-            @Nullable BooleanExpression extraCondition
-    ) {
-        Long value = queryFactory
-                .select(project.count())
-                .from(project)
-                .join(party).on(project.partyId.eq(party.id))
-                .where(
-                        containsNameOrCode(condition.name()),
-                        inStatuses(condition.statuses()),
-                        inPartyIds(condition.partyIds()),
-                        inAccessibleScope(actor, permissionCode),
-                        overlapsPeriod(condition.periodStart(), condition.periodEnd()),
-                        extraCondition,
-                        party.deleted.isFalse(),
-                        project.deleted.isFalse())
-                .fetchOne();
-        return value != null ? value : 0L;
+    private NumberExpression<Long> countWhen(BooleanExpression condition) {
+        return new CaseBuilder()
+                .when(condition).then(1L)
+                .otherwise(0L)
+                .sum();
     }
 
-    private long sumContractAmount(
-            ProjectSearchCondition condition,
-            @Nullable CurrentActor actor,
-            String permissionCode
-    ) {
-        Long value = queryFactory
-                .select(Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", project.contractAmount.amount))
-                .from(project)
-                .join(party).on(project.partyId.eq(party.id))
-                .where(
-                        containsNameOrCode(condition.name()),
-                        inStatuses(condition.statuses()),
-                        inPartyIds(condition.partyIds()),
-                        inAccessibleScope(actor, permissionCode),
-                        overlapsPeriod(condition.periodStart(), condition.periodEnd()),
-                        party.deleted.isFalse(),
-                        project.deleted.isFalse())
-                .fetchOne();
+    private long valueOf(@Nullable Long value) {
         return value != null ? value : 0L;
     }
 
@@ -294,7 +482,7 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
         }
         if (actor.departmentId() != null
                 && scopes.contains(kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope.OWN_DEPARTMENT_TREE)) {
-            accessibleLeadDepartmentIds.addAll(resolveDepartmentTree(actor.departmentId()));
+            accessibleLeadDepartmentIds.addAll(departmentClosureIndex.descendantsOf(actor.departmentId()));
         }
         if (actor.employeeId() != null
                 && scopes.contains(kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope.CURRENT_PARTICIPATION)) {
@@ -317,31 +505,6 @@ public class ProjectRepositoryImpl implements CustomProjectRepository {
         return projectScope.or(departmentScope);
     }
 
-    private java.util.LinkedHashSet<Long> resolveDepartmentTree(Long rootDepartmentId) {
-        java.util.Map<Long, java.util.List<Long>> childrenByParentId = queryFactory
-                .select(department.id, department.parent.id)
-                .from(department)
-                .where(department.deleted.isFalse(), department.parent.id.isNotNull())
-                .fetch()
-                .stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        tuple -> tuple.get(department.parent.id),
-                        java.util.LinkedHashMap::new,
-                        java.util.stream.Collectors.mapping(tuple -> tuple.get(department.id), java.util.stream.Collectors.toList())
-                ));
-        java.util.LinkedHashSet<Long> departmentIds = new java.util.LinkedHashSet<>();
-        java.util.ArrayDeque<Long> queue = new java.util.ArrayDeque<>();
-        queue.add(rootDepartmentId);
-        while (!queue.isEmpty()) {
-            Long departmentId = queue.poll();
-            if (!departmentIds.add(departmentId)) {
-                continue;
-            }
-            queue.addAll(childrenByParentId.getOrDefault(departmentId, java.util.List.of()));
-        }
-        return departmentIds;
-    }
-
     private java.util.LinkedHashSet<Long> resolveCurrentParticipationProjectIds(Long employeeId) {
         java.time.LocalDate today = java.time.LocalDate.now();
         return new java.util.LinkedHashSet<>(queryFactory
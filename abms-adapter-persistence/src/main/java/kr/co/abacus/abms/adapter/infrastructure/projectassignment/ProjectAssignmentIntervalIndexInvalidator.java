@@ -0,0 +1,91 @@
+package kr.co.abacus.abms.adapter.infrastructure.projectassignment;
+
+import java.util.Objects;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.co.abacus.abms.application.projectassignment.ProjectAssignmentIntervalIndex;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 투입 엔티티 변경 시 투입 기간 인덱스 무효화
+ * - Hibernate insert/update/delete 이벤트를 받아 서비스, 배치, 테스트 픽스처 등 저장 경로와 관계없이 인덱스를 무효화한다.
+ * - 같은 트랜잭션 안의 다음 조회는 반영된 행으로 다시 만들고, 트랜잭션이 끝나면(커밋/롤백) 한 번 더 무효화해
+ *   커밋되지 않은 행으로 만든 인덱스가 남지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+class ProjectAssignmentIntervalIndexInvalidator
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String SYNCHRONIZATION_KEY = ProjectAssignmentIntervalIndexInvalidator.class.getName();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProjectAssignmentIntervalIndex intervalIndex;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = Objects.requireNonNull(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class));
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChanged(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onChanged(Object entity) {
+        if (!(entity instanceof ProjectAssignment)) {
+            return;
+        }
+        intervalIndex.invalidate();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(SYNCHRONIZATION_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(SYNCHRONIZATION_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SYNCHRONIZATION_KEY);
+                intervalIndex.invalidate();
+            }
+        });
+    }
+
+}
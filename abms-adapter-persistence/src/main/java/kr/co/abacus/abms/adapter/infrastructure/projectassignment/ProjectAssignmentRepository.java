@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.adapter.infrastructure.projectassignment;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -63,4 +64,24 @@ public interface ProjectAssignmentRepository
     List<ProjectAssignment> findOverlappingAssignments(@Param("projectId") Long projectId,
                                                         @Param("startDate") LocalDate startDate,
                                                         @Param("endDate") LocalDate endDate);
+
+    @Override
+    @Query("SELECT pa FROM ProjectAssignment pa " +
+            "WHERE pa.projectId IN :projectIds " +
+            "AND pa.deleted = false " +
+            "AND pa.period.startDate <= :endDate " +
+            "AND (pa.period.endDate IS NULL OR pa.period.endDate >= :startDate)")
+    List<ProjectAssignment> findOverlappingAssignmentsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds,
+                                                                    @Param("startDate") LocalDate startDate,
+                                                                    @Param("endDate") LocalDate endDate);
+
+    @Override
+    @Query("SELECT pa FROM ProjectAssignment pa " +
+            "WHERE pa.employeeId = :employeeId " +
+            "AND pa.deleted = false " +
+            "AND pa.period.startDate <= :endDate " +
+            "AND (pa.period.endDate IS NULL OR pa.period.endDate >= :startDate)")
+    List<ProjectAssignment> findOverlappingAssignmentsByEmployeeId(@Param("employeeId") Long employeeId,
+                                                                    @Param("startDate") LocalDate startDate,
+                                                                    @Param("endDate") LocalDate endDate);
 }
@@ -8,28 +8,39 @@ import static kr.co.abacus.abms.domain.projectassignment.QProjectAssignment.*;
 import static org.springframework.util.StringUtils.*;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.ObjectUtils;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import kr.co.abacus.abms.adapter.infrastructure.support.KeysetConditions;
 import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.department.DepartmentClosureIndex;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectItem;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectSearchCondition;
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentItem;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentSearchCondition;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentStatus;
 import kr.co.abacus.abms.application.projectassignment.outbound.CustomProjectAssignmentRepository;
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
+import kr.co.abacus.abms.application.shared.dto.SearchCursor;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
 import kr.co.abacus.abms.domain.projectassignment.AssignmentRole;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +49,10 @@ import lombok.RequiredArgsConstructor;
 @Repository
 public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentRepository {
 
+    private static final String EMPLOYEE_PROJECT_CURSOR_KEY = "assignmentStartDate";
+
     private final JPAQueryFactory queryFactory;
+    private final DepartmentClosureIndex departmentClosureIndex;
 
     @Override
     public Page<EmployeeProjectItem> searchEmployeeProjects(EmployeeProjectSearchCondition condition, Pageable pageable) {
@@ -54,30 +68,7 @@ public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentR
         LocalDate today = LocalDate.now();
 
         List<EmployeeProjectItem> content = queryFactory
-                .select(Projections.constructor(EmployeeProjectItem.class,
-                        project.id,
-                        project.code,
-                        project.name,
-                        project.partyId,
-                        projectAssignment.role.stringValue(),
-                        projectAssignment.period.startDate,
-                        projectAssignment.period.endDate,
-                        new CaseBuilder()
-                                .when(projectAssignment.period.startDate.gt(today)).then(ProjectAssignmentStatus.SCHEDULED.name())
-                                .when(projectAssignment.period.endDate.isNull()
-                                        .or(projectAssignment.period.endDate.goe(today))).then(ProjectAssignmentStatus.CURRENT.name())
-                                .otherwise(ProjectAssignmentStatus.ENDED.name()),
-                        project.status.stringValue(),
-                        new CaseBuilder()
-                                .when(project.status.eq(ProjectStatus.SCHEDULED)).then(ProjectStatus.SCHEDULED.getDescription())
-                                .when(project.status.eq(ProjectStatus.IN_PROGRESS)).then(ProjectStatus.IN_PROGRESS.getDescription())
-                                .when(project.status.eq(ProjectStatus.COMPLETED)).then(ProjectStatus.COMPLETED.getDescription())
-                                .when(project.status.eq(ProjectStatus.ON_HOLD)).then(ProjectStatus.ON_HOLD.getDescription())
-                                .otherwise(ProjectStatus.CANCELLED.getDescription()),
-                        project.leadDepartmentId,
-                        department.name,
-                        party.name
-                ))
+                .select(employeeProjectItem(today))
                 .from(projectAssignment)
                 .join(project).on(projectAssignment.projectId.eq(project.id))
                 .join(party).on(project.partyId.eq(party.id))
@@ -114,6 +105,62 @@ public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentR
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public CursorPage<EmployeeProjectItem> searchEmployeeProjectsByCursor(
+            EmployeeProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    ) {
+        LocalDate today = LocalDate.now();
+        Sort.Order order = Sort.Order.desc(EMPLOYEE_PROJECT_CURSOR_KEY);
+        SearchCursor cursor = pageRequest.decodeCursor(order);
+
+        List<EmployeeProjectItem> rows = queryFactory
+                .select(employeeProjectItem(today))
+                .from(projectAssignment)
+                .join(project).on(projectAssignment.projectId.eq(project.id))
+                .join(party).on(project.partyId.eq(party.id))
+                .leftJoin(department).on(project.leadDepartmentId.eq(department.id))
+                .where(
+                        projectAssignment.employeeId.eq(condition.employeeId()),
+                        containsProjectNameOrCode(condition.name()),
+                        inAssignmentStatuses(condition.assignmentStatuses(), today),
+                        inProjectStatuses(condition.projectStatuses()),
+                        inAccessibleScope(actor),
+                        afterEmployeeProjectCursor(cursor),
+                        projectAssignment.deleted.isFalse(),
+                        party.deleted.isFalse(),
+                        project.deleted.isFalse())
+                .orderBy(projectAssignment.period.startDate.desc(), projectAssignment.id.desc())
+                .limit(pageRequest.size() + 1L)
+                .fetch();
+
+        Long totalElements = pageRequest.includeTotal()
+                ? queryFactory
+                        .select(projectAssignment.count())
+                        .from(projectAssignment)
+                        .join(project).on(projectAssignment.projectId.eq(project.id))
+                        .join(party).on(project.partyId.eq(party.id))
+                        .where(
+                                projectAssignment.employeeId.eq(condition.employeeId()),
+                                containsProjectNameOrCode(condition.name()),
+                                inAssignmentStatuses(condition.assignmentStatuses(), today),
+                                inProjectStatuses(condition.projectStatuses()),
+                                inAccessibleScope(actor),
+                                projectAssignment.deleted.isFalse(),
+                                party.deleted.isFalse(),
+                                project.deleted.isFalse())
+                        .fetchOne()
+                : null;
+
+        return CursorPage.of(rows, pageRequest.size(), last -> new SearchCursor(
+                EMPLOYEE_PROJECT_CURSOR_KEY,
+                Sort.Direction.DESC,
+                last.assignmentId(),
+                last.assignmentStartDate().toString()
+        ), totalElements);
+    }
+
     @Override
     public List<ProjectAssignmentItem> findProjectAssignments(Long projectId) {
         LocalDate today = LocalDate.now();
@@ -191,6 +238,83 @@ public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentR
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public List<ProjectAssignmentInterval> findAllIntervals() {
+        return queryFactory
+                .select(Projections.constructor(ProjectAssignmentInterval.class,
+                        projectAssignment.id,
+                        projectAssignment.projectId,
+                        projectAssignment.employeeId,
+                        projectAssignment.period.startDate,
+                        projectAssignment.period.endDate))
+                .from(projectAssignment)
+                .where(projectAssignment.deleted.isFalse())
+                .fetch();
+    }
+
+    @Override
+    public boolean existsOverlappingAssignment(
+            Long projectId,
+            Long employeeId,
+            @Nullable Long excludedAssignmentId,
+            LocalDate startDate,
+            @Nullable LocalDate endDate
+    ) {
+        Integer found = queryFactory
+                .selectOne()
+                .from(projectAssignment)
+                .where(
+                        projectAssignment.projectId.eq(projectId),
+                        projectAssignment.employeeId.eq(employeeId),
+                        endDate != null ? projectAssignment.period.startDate.loe(endDate) : null,
+                        projectAssignment.period.endDate.isNull().or(projectAssignment.period.endDate.goe(startDate)),
+                        excludedAssignmentId != null ? projectAssignment.id.ne(excludedAssignmentId) : null,
+                        projectAssignment.deleted.isFalse()
+                )
+                .fetchFirst();
+        return found != null;
+    }
+
+    private ConstructorExpression<EmployeeProjectItem> employeeProjectItem(LocalDate today) {
+        return Projections.constructor(EmployeeProjectItem.class,
+                projectAssignment.id,
+                project.id,
+                project.code,
+                project.name,
+                project.partyId,
+                projectAssignment.role.stringValue(),
+                projectAssignment.period.startDate,
+                projectAssignment.period.endDate,
+                new CaseBuilder()
+                        .when(projectAssignment.period.startDate.gt(today)).then(ProjectAssignmentStatus.SCHEDULED.name())
+                        .when(projectAssignment.period.endDate.isNull()
+                                .or(projectAssignment.period.endDate.goe(today))).then(ProjectAssignmentStatus.CURRENT.name())
+                        .otherwise(ProjectAssignmentStatus.ENDED.name()),
+                project.status.stringValue(),
+                new CaseBuilder()
+                        .when(project.status.eq(ProjectStatus.SCHEDULED)).then(ProjectStatus.SCHEDULED.getDescription())
+                        .when(project.status.eq(ProjectStatus.IN_PROGRESS)).then(ProjectStatus.IN_PROGRESS.getDescription())
+                        .when(project.status.eq(ProjectStatus.COMPLETED)).then(ProjectStatus.COMPLETED.getDescription())
+                        .when(project.status.eq(ProjectStatus.ON_HOLD)).then(ProjectStatus.ON_HOLD.getDescription())
+                        .otherwise(ProjectStatus.CANCELLED.getDescription()),
+                project.leadDepartmentId,
+                department.name,
+                party.name
+        );
+    }
+
+    private @Nullable BooleanExpression afterEmployeeProjectCursor(@Nullable SearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return KeysetConditions.after(projectAssignment.period.startDate, LocalDate.parse(cursor.sortValue()),
+                    projectAssignment.id, cursor.id(), Order.DESC);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+
     private @Nullable BooleanExpression containsProjectNameOrCode(@Nullable String name) {
         if (!hasText(name)) {
             return null;
@@ -273,7 +397,7 @@ public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentR
         }
         if (actor.departmentId() != null
                 && scopes.contains(kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope.OWN_DEPARTMENT_TREE)) {
-            accessibleLeadDepartmentIds.addAll(resolveDepartmentTree(actor.departmentId()));
+            accessibleLeadDepartmentIds.addAll(departmentClosureIndex.descendantsOf(actor.departmentId()));
         }
         if (actor.employeeId() != null
                 && scopes.contains(kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope.CURRENT_PARTICIPATION)) {
@@ -296,31 +420,6 @@ public class ProjectAssignmentRepositoryImpl implements CustomProjectAssignmentR
         return projectScope.or(departmentScope);
     }
 
-    private java.util.LinkedHashSet<Long> resolveDepartmentTree(Long rootDepartmentId) {
-        java.util.Map<Long, java.util.List<Long>> childrenByParentId = queryFactory
-                .select(department.id, department.parent.id)
-                .from(department)
-                .where(department.deleted.isFalse(), department.parent.id.isNotNull())
-                .fetch()
-                .stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        tuple -> tuple.get(department.parent.id),
-                        java.util.LinkedHashMap::new,
-                        java.util.stream.Collectors.mapping(tuple -> tuple.get(department.id), java.util.stream.Collectors.toList())
-                ));
-        java.util.LinkedHashSet<Long> departmentIds = new java.util.LinkedHashSet<>();
-        java.util.ArrayDeque<Long> queue = new java.util.ArrayDeque<>();
-        queue.add(rootDepartmentId);
-        while (!queue.isEmpty()) {
-            Long departmentId = queue.poll();
-            if (!departmentIds.add(departmentId)) {
-                continue;
-            }
-            queue.addAll(childrenByParentId.getOrDefault(departmentId, java.util.List.of()));
-        }
-        return departmentIds;
-    }
-
     private java.util.LinkedHashSet<Long> resolveCurrentParticipationProjectIds(Long employeeId) {
         LocalDate today = LocalDate.now();
         return new java.util.LinkedHashSet<>(queryFactory
@@ -0,0 +1,104 @@
+package kr.co.abacus.abms.adapter.infrastructure.summary;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryBulkWriter;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcMonthlyRevenueSummaryBulkWriter implements MonthlyRevenueSummaryBulkWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            insert into tb_monthly_revenue_summary (
+                project_id, project_code, project_name,
+                lead_department_id, lead_department_code, lead_department_name,
+                target_month, calculated_at,
+                revenue_amount, cost_amount, profit_amount,
+                created_at, updated_at, deleted
+            ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            update tb_monthly_revenue_summary
+               set project_code = ?, project_name = ?,
+                   lead_department_id = ?, lead_department_code = ?, lead_department_name = ?,
+                   target_month = ?, calculated_at = ?,
+                   revenue_amount = ?, cost_amount = ?, profit_amount = ?,
+                   updated_at = ?
+             where id = ?
+            """;
+
+    private static final String DELETE_SQL = "delete from tb_monthly_revenue_summary where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<MonthlyRevenueSummaryCreateRequest> requests) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, requests, BATCH_SIZE, (ps, request) -> {
+            ps.setLong(1, request.projectId());
+            ps.setString(2, request.projectCode());
+            ps.setString(3, request.projectName());
+            ps.setLong(4, request.leadDepartmentId());
+            ps.setString(5, request.leadDepartmentCode());
+            ps.setString(6, request.leadDepartmentName());
+            ps.setObject(7, YearMonth.from(request.targetMonth()).atDay(1));
+            ps.setObject(8, now);
+            ps.setBigDecimal(9, request.revenueAmount().amount());
+            ps.setBigDecimal(10, request.costAmount().amount());
+            ps.setBigDecimal(11, request.profitAmount().amount());
+            ps.setObject(12, now);
+            ps.setObject(13, now);
+            ps.setBoolean(14, false);
+        });
+        return requests.size();
+    }
+
+    @Override
+    public int updateAll(Map<Long, MonthlyRevenueSummaryCreateRequest> requestsBySummaryId) {
+        if (requestsBySummaryId.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPDATE_SQL, requestsBySummaryId.entrySet(), BATCH_SIZE, (ps, entry) -> {
+            MonthlyRevenueSummaryCreateRequest request = entry.getValue();
+            ps.setString(1, request.projectCode());
+            ps.setString(2, request.projectName());
+            ps.setLong(3, request.leadDepartmentId());
+            ps.setString(4, request.leadDepartmentCode());
+            ps.setString(5, request.leadDepartmentName());
+            ps.setObject(6, YearMonth.from(request.targetMonth()).atDay(1));
+            ps.setObject(7, now);
+            ps.setBigDecimal(8, request.revenueAmount().amount());
+            ps.setBigDecimal(9, request.costAmount().amount());
+            ps.setBigDecimal(10, request.profitAmount().amount());
+            ps.setObject(11, now);
+            ps.setLong(12, entry.getKey());
+        });
+        return requestsBySummaryId.size();
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> summaryIds) {
+        if (summaryIds.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, summaryIds, BATCH_SIZE, (ps, summaryId) -> ps.setLong(1, summaryId));
+        return summaryIds.size();
+    }
+
+}
@@ -0,0 +1,45 @@
+package kr.co.abacus.abms.adapter.infrastructure.support;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+/**
+ * 키셋(seek) 페이지네이션의 "커서 다음 행" 조건
+ * - (정렬 키, id) 순서에서 커서 위치보다 뒤에 오는 행만 남긴다. id는 정렬 키와 같은 방향으로 정렬해야 한다.
+ * - ASC: key > v or (key = v and id > lastId), DESC는 부등호를 뒤집는다.
+ */
+public final class KeysetConditions {
+
+    private KeysetConditions() {
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static <T extends Comparable> BooleanExpression after(
+            ComparableExpression<T> key,
+            T value,
+            NumberExpression<Long> id,
+            long lastId,
+            Order direction
+    ) {
+        BooleanExpression beyondKey = direction == Order.ASC ? key.gt(value) : key.lt(value);
+        return beyondKey.or(key.eq(value).and(after(id, lastId, direction)));
+    }
+
+    public static <N extends Number & Comparable<?>> BooleanExpression after(
+            NumberExpression<N> key,
+            N value,
+            NumberExpression<Long> id,
+            long lastId,
+            Order direction
+    ) {
+        BooleanExpression beyondKey = direction == Order.ASC ? key.gt(value) : key.lt(value);
+        return beyondKey.or(key.eq(value).and(after(id, lastId, direction)));
+    }
+
+    public static BooleanExpression after(NumberExpression<Long> id, long lastId, Order direction) {
+        return direction == Order.ASC ? id.gt(lastId) : id.lt(lastId);
+    }
+
+}
@@ -0,0 +1,74 @@
+package kr.co.abacus.abms.adapter.infrastructure.support;
+
+import static kr.co.abacus.abms.domain.department.QDepartment.*;
+import static kr.co.abacus.abms.domain.employee.QEmployee.*;
+import static kr.co.abacus.abms.domain.party.QParty.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+import kr.co.abacus.abms.application.shared.outbound.ReferenceNameReader;
+
+/**
+ * 참조 대상의 id와 이름만 IN 조건으로 읽는다. IN 목록은 1,000개 단위로 나눈다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class QuerydslReferenceNameReader implements ReferenceNameReader {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Map<Long, String> findNames(ReferenceNameType type, Collection<Long> ids) {
+        return switch (type) {
+            case PARTY -> findNames(party, party.id, party.name, party.deleted, ids);
+            case DEPARTMENT -> findNames(department, department.id, department.name, department.deleted, ids);
+            case EMPLOYEE -> findNames(employee, employee.id, employee.name, employee.deleted, ids);
+        };
+    }
+
+    private Map<Long, String> findNames(
+            EntityPathBase<?> entity,
+            NumberPath<Long> id,
+            StringPath name,
+            BooleanPath deleted,
+            Collection<Long> ids
+    ) {
+        Map<Long, String> names = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            List<Tuple> rows = queryFactory
+                    .select(id, name)
+                    .from(entity)
+                    .where(id.in(chunk), deleted.isFalse())
+                    .fetch();
+            for (Tuple row : rows) {
+                Long rowId = row.get(id);
+                String rowName = row.get(name);
+                if (rowId != null && rowName != null) {
+                    names.put(rowId, rowName);
+                }
+            }
+        }
+        return names;
+    }
+
+}
@@ -0,0 +1,13 @@
+ALTER TABLE `tb_chat_session`
+    ADD COLUMN `user_message_count` INT NOT NULL DEFAULT 0 AFTER `favorite`;
+
+UPDATE `tb_chat_session` session
+JOIN (
+    SELECT
+        `conversation_id`,
+        COUNT(*) AS `user_message_count`
+    FROM `tb_chat_memory_message`
+    WHERE `message_type` = 'USER'
+    GROUP BY `conversation_id`
+) counted ON counted.`conversation_id` = session.`session_id`
+SET session.`user_message_count` = counted.`user_message_count`;
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS `tb_cache_invalidation` (
+    `id`         BIGINT       NOT NULL AUTO_INCREMENT,
+    `node_id`    VARCHAR(64)  NOT NULL,
+    `cache_name` VARCHAR(100) NOT NULL,
+    `cache_key`  VARCHAR(255) NULL,
+
+    `created_at` DATETIME(6)  NOT NULL,
+    `updated_at` DATETIME(6)  NOT NULL,
+    `created_by` BIGINT       NULL,
+    `updated_by` BIGINT       NULL,
+    `deleted`    TINYINT(1)   NOT NULL,
+    `deleted_at` DATETIME(6)  NULL,
+    `deleted_by` BIGINT       NULL,
+
+    PRIMARY KEY (`id`),
+    INDEX `IDX_CACHE_INVALIDATION_CREATED_AT` (`created_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS `tb_replica_heartbeat` (
+    `id`      TINYINT     NOT NULL,
+    `beat_at` DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,17 @@
+ALTER TABLE `tb_chat_memory_message`
+    ADD COLUMN `sequence_no` BIGINT NULL AFTER `conversation_id`;
+
+UPDATE `tb_chat_memory_message` message
+JOIN (
+    SELECT
+        `id`,
+        ROW_NUMBER() OVER (PARTITION BY `conversation_id` ORDER BY `id`) AS `sequence_no`
+    FROM `tb_chat_memory_message`
+) numbered ON numbered.`id` = message.`id`
+SET message.`sequence_no` = numbered.`sequence_no`;
+
+ALTER TABLE `tb_chat_memory_message`
+    MODIFY COLUMN `sequence_no` BIGINT NOT NULL;
+
+ALTER TABLE `tb_chat_memory_message`
+    ADD CONSTRAINT `UK_CHAT_MEMORY_MESSAGE_CONVERSATION_SEQUENCE` UNIQUE (`conversation_id`, `sequence_no`);
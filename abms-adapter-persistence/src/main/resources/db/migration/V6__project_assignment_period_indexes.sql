@@ -0,0 +1,7 @@
+ALTER TABLE `tb_project_assignment`
+    ADD INDEX `IDX_PROJECT_ASSIGNMENT_PROJECT_PERIOD` (`project_id`, `start_date`, `end_date`),
+    ADD INDEX `IDX_PROJECT_ASSIGNMENT_EMPLOYEE_PERIOD` (`employee_id`, `start_date`, `end_date`);
+
+ALTER TABLE `tb_project_assignment`
+    DROP INDEX `IDX_PROJECT_ASSIGNMENT_PROJECT_ID`,
+    DROP INDEX `IDX_PROJECT_ASSIGNMENT_EMPLOYEE_ID`;
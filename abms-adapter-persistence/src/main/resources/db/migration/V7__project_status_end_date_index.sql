@@ -0,0 +1,2 @@
+ALTER TABLE `tb_project`
+    ADD INDEX `IDX_PROJECT_STATUS_END_DATE` (`project_status`, `end_date`);
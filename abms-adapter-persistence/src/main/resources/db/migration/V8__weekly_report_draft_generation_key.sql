@@ -0,0 +1,3 @@
+ALTER TABLE `tb_weekly_report_draft`
+    ADD COLUMN `generation_key` VARCHAR(64) NULL AFTER `failure_reason`,
+    ADD INDEX `IDX_WEEKLY_REPORT_DRAFT_GENERATION_KEY` (`generation_key`);
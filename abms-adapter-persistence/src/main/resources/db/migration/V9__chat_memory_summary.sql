@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS `tb_chat_memory_summary` (
+    `id`                           BIGINT       NOT NULL AUTO_INCREMENT,
+    `conversation_id`              VARCHAR(100) NOT NULL,
+    `content`                      TEXT         NOT NULL,
+    `summarized_until_sequence_no` BIGINT       NOT NULL,
+
+    `created_at`                   DATETIME(6)  NOT NULL,
+    `updated_at`                   DATETIME(6)  NOT NULL,
+    `created_by`                   BIGINT       NULL,
+    `updated_by`                   BIGINT       NULL,
+    `deleted`                      TINYINT(1)   NOT NULL,
+    `deleted_at`                   DATETIME(6)  NULL,
+    `deleted_by`                   BIGINT       NULL,
+
+    PRIMARY KEY (`id`),
+    CONSTRAINT `UK_CHAT_MEMORY_SUMMARY_CONVERSATION` UNIQUE (`conversation_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -41,6 +41,7 @@ public class ChatApi {
     private final ChatCommandService chatCommandService;
     private final ChatQueryService chatQueryService;
     private final CurrentActorResolver currentActorResolver;
+    private final ChatStreamFramer chatStreamFramer;
 
     @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<ChatStreamChunk> streamChat(
@@ -48,20 +49,13 @@ public class ChatApi {
             Authentication authentication) {
         Long accountId = currentActorResolver.resolve(authentication).accountId();
         ChatSendCommand command = request.toCommand();
-        return chatCommandService.streamMessage(accountId, command)
-                .flatMapMany(result -> {
-                    // Session info first
-                    Flux<ChatStreamChunk> sessionInfo = Flux.just(ChatStreamChunk.session(result.sessionId()));
+        return chatCommandService.streamMessage(accountId, command, result -> {
+            // Session info first
+            Flux<ChatStreamChunk> sessionInfo = Flux.just(ChatStreamChunk.session(result.sessionId()));
 
-                    // Tool call events
-                    Flux<ChatStreamChunk> toolCalls = result.toolCallEvents().map(ChatStreamChunk::toolCall);
-
-                    // Content chunks
-                    Flux<ChatStreamChunk> contentChunks = result.contentStream().map(ChatStreamChunk::text);
-
-                    // Merge tool calls with content (tool calls come through as they happen)
-                    return sessionInfo.concatWith(toolCalls.mergeWith(contentChunks));
-                });
+            // Content tokens coalesced into frames, tool calls kept in arrival order
+            return sessionInfo.concatWith(chatStreamFramer.frame(result.contentStream(), result.toolCallEvents()));
+        });
     }
 
     @PostMapping("/message")
@@ -0,0 +1,188 @@
+package kr.co.abacus.abms.adapter.api.chat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import kr.co.abacus.abms.adapter.api.chat.dto.ChatStreamChunk;
+
+/**
+ * 채팅 SSE 프레임 구성
+ * - 모델 토큰을 시간 창(기본 30ms) 또는 글자 수(기본 256자) 단위로 묶어 SSE 이벤트 수를 줄인다.
+ * - 창은 토큰 개수가 아니라 모인 글자 수로 닫고, 주기 신호가 오면 글자 수와 무관하게 그때까지 모인 것을 내보낸다.
+ * - 도구 호출 이벤트가 오면 그때까지 모인 텍스트를 먼저 내보내 도착 순서를 유지한다.
+ * - 느린 클라이언트 때문에 보내지 못한 프레임이 상한을 넘으면 스트림을 끊는다 (텍스트를 버리면 답변이 깨지므로 드롭하지 않는다).
+ * - 스트림이 끝나면 프레임 수, 전송 바이트, 초당 프레임 수를 스트림 단위로 남긴다.
+ */
+@Component
+class ChatStreamFramer {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration flushInterval;
+    private final int maxFrameChars;
+    private final int maxBufferedFrames;
+
+    ChatStreamFramer(
+            MeterRegistry meterRegistry,
+            @Value("${app.chat.stream.flush-interval-ms:30}") long flushIntervalMs,
+            @Value("${app.chat.stream.max-frame-chars:256}") int maxFrameChars,
+            @Value("${app.chat.stream.max-buffered-frames:256}") int maxBufferedFrames
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.flushInterval = Duration.ofMillis(flushIntervalMs);
+        this.maxFrameChars = maxFrameChars;
+        this.maxBufferedFrames = maxBufferedFrames;
+    }
+
+    Flux<ChatStreamChunk> frame(Flux<String> contentStream, Flux<String> toolCallEvents) {
+        return Flux.defer(() -> {
+            StreamStats stats = new StreamStats(System.nanoTime());
+            FrameBoundary boundary = new FrameBoundary(maxFrameChars);
+            Flux<StreamEvent> events = Flux.merge(
+                            toolCallEvents.map(StreamEvent::toolCall),
+                            contentStream.map(StreamEvent::text))
+                    .concatWith(Mono.just(StreamEvent.END));
+            Flux<StreamEvent> flushTicks = Flux.interval(flushInterval)
+                    .onBackpressureDrop()
+                    .map(tick -> StreamEvent.FLUSH);
+            return Flux.merge(events, flushTicks)
+                    .takeUntil(event -> event.kind() == EventKind.END)
+                    .bufferUntil(boundary::closes)
+                    .concatMapIterable(this::toFrames)
+                    .onBackpressureBuffer(
+                            maxBufferedFrames,
+                            dropped -> meterRegistry.counter("abms.chat.stream.overflow.total").increment(),
+                            BufferOverflowStrategy.ERROR)
+                    .doOnNext(stats::record)
+                    .doFinally(signalType -> publish(stats, signalType));
+        });
+    }
+
+    private List<ChatStreamChunk> toFrames(List<StreamEvent> events) {
+        List<ChatStreamChunk> frames = new ArrayList<>();
+        StringBuilder pendingText = new StringBuilder();
+        for (StreamEvent event : events) {
+            switch (event.kind()) {
+                case TEXT -> pendingText.append(event.value());
+                case TOOL_CALL -> {
+                    flushText(pendingText, frames);
+                    frames.add(ChatStreamChunk.toolCall(event.value()));
+                }
+                case FLUSH, END -> {
+                }
+            }
+        }
+        flushText(pendingText, frames);
+        return frames;
+    }
+
+    private void flushText(StringBuilder pendingText, List<ChatStreamChunk> frames) {
+        if (pendingText.isEmpty()) {
+            return;
+        }
+        frames.add(ChatStreamChunk.text(pendingText.toString()));
+        pendingText.setLength(0);
+    }
+
+    private void publish(StreamStats stats, SignalType signalType) {
+        String outcome = switch (signalType) {
+            case ON_COMPLETE -> "complete";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+        long elapsedNanos = Math.max(System.nanoTime() - stats.startedAt, 1L);
+        DistributionSummary.builder("abms.chat.stream.frames")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(stats.frames);
+        DistributionSummary.builder("abms.chat.stream.bytes")
+                .baseUnit("bytes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(stats.bytes);
+        DistributionSummary.builder("abms.chat.stream.frames.per.second")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(stats.frames * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private enum EventKind {
+        TEXT, TOOL_CALL, FLUSH, END
+    }
+
+    private record StreamEvent(EventKind kind, String value) {
+
+        private static final StreamEvent FLUSH = new StreamEvent(EventKind.FLUSH, "");
+        private static final StreamEvent END = new StreamEvent(EventKind.END, "");
+
+        private static StreamEvent text(String token) {
+            return new StreamEvent(EventKind.TEXT, token);
+        }
+
+        private static StreamEvent toolCall(String toolName) {
+            return new StreamEvent(EventKind.TOOL_CALL, toolName);
+        }
+    }
+
+    /**
+     * 프레임 경계 판정. 도구 호출 뒤로 모인 글자 수가 상한에 닿거나 주기 신호, 스트림 끝이 오면 창을 닫는다.
+     * 도구 호출은 프레임 구성에서 앞 텍스트를 먼저 내보내므로 글자 수를 다시 센다.
+     * 이벤트는 merge가 직렬화해 한 번에 하나씩 들어오므로 동기화하지 않는다.
+     */
+    private static final class FrameBoundary {
+
+        private final int maxFrameChars;
+        private int pendingChars;
+
+        private FrameBoundary(int maxFrameChars) {
+            this.maxFrameChars = maxFrameChars;
+        }
+
+        private boolean closes(StreamEvent event) {
+            switch (event.kind()) {
+                case TEXT -> pendingChars += event.value().length();
+                case TOOL_CALL -> pendingChars = 0;
+                case FLUSH, END -> pendingChars = maxFrameChars;
+            }
+            if (pendingChars < maxFrameChars) {
+                return false;
+            }
+            pendingChars = 0;
+            return true;
+        }
+    }
+
+    /**
+     * 한 스트림의 전송 집계. 프레임은 순서대로 하나씩 전달되므로 동기화하지 않는다.
+     */
+    private static final class StreamStats {
+
+        private final long startedAt;
+        private long frames;
+        private long bytes;
+
+        private StreamStats(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private void record(ChatStreamChunk chunk) {
+            frames++;
+            String text = chunk.text();
+            if (text != null) {
+                bytes += text.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+    }
+
+}
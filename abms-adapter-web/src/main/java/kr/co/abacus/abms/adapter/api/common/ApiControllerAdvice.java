@@ -14,6 +14,8 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import lombok.extern.slf4j.Slf4j;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.abacus.abms.application.chat.ChatAdmissionRejectedException;
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
 import kr.co.abacus.abms.domain.account.AccountAlreadyExistsException;
 import kr.co.abacus.abms.domain.account.InvalidCurrentPasswordException;
 import kr.co.abacus.abms.domain.account.AccountNotFoundException;
@@ -66,6 +68,7 @@ public class ApiControllerAdvice extends ResponseEntityExceptionHandler {
             PartyDeletionDeniedException.class,
             DuplicatePermissionGroupNameException.class,
             PermissionNotFoundException.class,
+            InvalidCursorException.class,
             IllegalArgumentException.class
     })
     public ProblemDetail handleDuplicateException(Exception exception) {
@@ -109,6 +112,13 @@ public class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return getProblemDetail(HttpStatus.FORBIDDEN, exception);
     }
 
+    @ExceptionHandler(ChatAdmissionRejectedException.class)
+    public ProblemDetail handleChatAdmissionRejectedException(ChatAdmissionRejectedException exception) {
+        ProblemDetail problemDetail = getProblemDetail(HttpStatus.TOO_MANY_REQUESTS, exception);
+        problemDetail.setProperty("reason", exception.getReason());
+        return problemDetail;
+    }
+
     private ProblemDetail getProblemDetail(HttpStatus httpStatus, Exception exception) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(httpStatus, exception.getMessage());
 
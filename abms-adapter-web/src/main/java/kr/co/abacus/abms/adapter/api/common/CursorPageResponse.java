@@ -0,0 +1,27 @@
+package kr.co.abacus.abms.adapter.api.common;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        @Nullable String nextCursor,
+        boolean hasNext,
+        @Nullable Long totalElements
+) {
+
+    public static <T> CursorPageResponse<T> of(CursorPage<T> page) {
+        return new CursorPageResponse<>(
+                page.content(),
+                page.content().size(),
+                page.nextCursor(),
+                page.hasNext(),
+                page.totalElements()
+        );
+    }
+
+}
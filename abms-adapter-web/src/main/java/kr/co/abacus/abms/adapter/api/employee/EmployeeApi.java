@@ -6,8 +6,10 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
@@ -32,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 
+import kr.co.abacus.abms.adapter.api.common.CursorPageResponse;
 import kr.co.abacus.abms.adapter.api.common.EnumResponse;
 import kr.co.abacus.abms.adapter.api.common.FilenameBuilder;
 import kr.co.abacus.abms.adapter.api.common.PageResponse;
@@ -59,6 +62,8 @@ import kr.co.abacus.abms.application.employee.inbound.EmployeeFinder;
 import kr.co.abacus.abms.application.employee.inbound.EmployeeManager;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectSearchCondition;
 import kr.co.abacus.abms.application.projectassignment.inbound.ProjectAssignmentFinder;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
 import kr.co.abacus.abms.domain.employee.EmployeeGrade;
 import kr.co.abacus.abms.domain.employee.EmployeeNotFoundException;
@@ -123,6 +128,32 @@ public class EmployeeApi {
                 .map(EmployeeProjectResponse::from));
     }
 
+    @PreAuthorize("@permissionAuthorizationChecker.hasPermission(authentication, 'employee.read')"
+            + " and @permissionAuthorizationChecker.hasPermission(authentication, 'project.read')")
+    @GetMapping("/api/employees/{id}/projects/cursor")
+    public CursorPageResponse<EmployeeProjectResponse> findEmployeeProjectsByCursor(
+            @PathVariable Long id,
+            EmployeeProjectSearchRequest request,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Pageable pageable,
+            Authentication authentication
+    ) {
+        CurrentActor actor = currentActorResolver.resolve(authentication);
+        EmployeeDetail detail = employeeFinder.findEmployeeDetail(id);
+        if (detail == null) {
+            throw new EmployeeNotFoundException("존재하지 않는 직원입니다: " + id);
+        }
+        if (employeeFinder.findEmployeeDetail(id, actor) == null) {
+            throw new AccessDeniedException("직원 조회 권한 범위를 벗어났습니다.");
+        }
+
+        EmployeeProjectSearchCondition condition = request.toCondition(id);
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, pageable, includeTotal);
+        return CursorPageResponse.of(projectAssignmentFinder.findByEmployeeIdByCursor(condition, actor, pageRequest)
+                .map(EmployeeProjectResponse::from));
+    }
+
     @GetMapping("/api/employees")
     public PageResponse<EmployeeSearchResponse> search(@Valid EmployeeSearchCondition condition, Pageable pageable) {
         Page<EmployeeSummary> employeeSummaries = employeeFinder.search(condition, pageable);
@@ -132,6 +163,24 @@ public class EmployeeApi {
         return PageResponse.of(responses);
     }
 
+    /**
+     * 키셋(seek) 방식 목록 조회
+     * - 직전 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 준다. 정렬은 grade, position, name, joinDate 중 하나.
+     * - 전체 건수는 includeTotal=true일 때만 센다.
+     */
+    @GetMapping("/api/employees/cursor")
+    public CursorPageResponse<EmployeeSearchResponse> searchByCursor(
+            @Valid EmployeeSearchCondition condition,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Pageable pageable
+    ) {
+        CursorPage<EmployeeSummary> employeeSummaries = employeeFinder.searchByCursor(
+                condition, CursorPageRequest.of(cursor, pageable, includeTotal));
+
+        return CursorPageResponse.of(employeeSummaries.map(EmployeeSearchResponse::of));
+    }
+
     @GetMapping("/api/employees/summary")
     public EmployeeOverviewSummary getOverviewSummary(@Valid EmployeeSearchCondition condition) {
         return employeeFinder.getOverviewSummary(condition);
@@ -255,16 +304,13 @@ public class EmployeeApi {
 
     @PreAuthorize("@permissionAuthorizationChecker.hasPermission(authentication, 'employee.excel.download')")
     @GetMapping("/api/employees/excel/download")
-    public ResponseEntity<Resource> downloadExcel(
+    public void downloadExcel(
             @Valid EmployeeSearchCondition request,
-            Authentication authentication
-    ) {
-        byte[] content = employeeExcelService.download(request, currentActorResolver.resolve(authentication));
-        String filename = FilenameBuilder.build("employees");
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
-                .body(new ByteArrayResource(content));
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        writeExcelHeaders(response, FilenameBuilder.build("employees"));
+        employeeExcelService.download(request, currentActorResolver.resolve(authentication), response.getOutputStream());
     }
 
     @GetMapping("/api/employees/excel/sample")
@@ -291,4 +337,9 @@ public class EmployeeApi {
         }
     }
 
+    private void writeExcelHeaders(HttpServletResponse response, String filename) {
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+    }
+
 }
@@ -1,7 +1,9 @@
 package kr.co.abacus.abms.adapter.api.project;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import kr.co.abacus.abms.adapter.api.common.CursorPageResponse;
 import kr.co.abacus.abms.adapter.api.common.FilenameBuilder;
 import kr.co.abacus.abms.adapter.api.common.PageResponse;
 import kr.co.abacus.abms.adapter.security.CurrentActorResolver;
@@ -23,10 +25,13 @@ import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
 import kr.co.abacus.abms.application.project.dto.ProjectSummary;
 import kr.co.abacus.abms.application.project.inbound.ProjectFinder;
 import kr.co.abacus.abms.application.project.inbound.ProjectManager;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
 
 import lombok.RequiredArgsConstructor;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
@@ -74,6 +79,27 @@ public class ProjectApi {
         return PageResponse.of(projects.map(ProjectResponse::from));
     }
 
+    /**
+     * 키셋(seek) 방식 목록 조회
+     * - 직전 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 준다. 정렬은 code, name, contractAmount, periodStart 중 하나.
+     * - 전체 건수는 includeTotal=true일 때만 센다.
+     */
+    @PreAuthorize("@permissionAuthorizationChecker.hasPermission(authentication, 'project.read')")
+    @GetMapping("/api/projects/cursor")
+    public CursorPageResponse<ProjectResponse> searchByCursor(
+            @Valid ProjectSearchCondition condition,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Pageable pageable,
+            Authentication authentication
+    ) {
+        CurrentActor actor = currentActorResolver.resolve(authentication);
+        CursorPage<ProjectSummary> projects = projectFinder.searchByCursor(
+                condition, actor, CursorPageRequest.of(cursor, pageable, includeTotal));
+
+        return CursorPageResponse.of(projects.map(ProjectResponse::from));
+    }
+
     @PreAuthorize("@permissionAuthorizationChecker.hasPermission(authentication, 'project.read')")
     @GetMapping("/api/projects/summary")
     public ProjectOverviewSummary getOverviewSummary(@Valid ProjectSearchCondition condition, Authentication authentication) {
@@ -133,13 +159,13 @@ public class ProjectApi {
 
     @PreAuthorize("@permissionAuthorizationChecker.hasPermission(authentication, 'project.excel.download')")
     @GetMapping("/api/projects/excel/download")
-    public ResponseEntity<Resource> downloadExcel(@Valid ProjectSearchCondition condition, Authentication authentication) {
-        byte[] content = projectExcelService.download(condition, currentActorResolver.resolve(authentication));
-        String filename = FilenameBuilder.build("projects");
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
-                .body(new ByteArrayResource(content));
+    public void downloadExcel(
+            @Valid ProjectSearchCondition condition,
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        writeExcelHeaders(response, FilenameBuilder.build("projects"));
+        projectExcelService.download(condition, currentActorResolver.resolve(authentication), response.getOutputStream());
     }
 
     @GetMapping("/api/projects/excel/sample")
@@ -165,4 +191,10 @@ public class ProjectApi {
             throw new IllegalArgumentException("엑셀 파일을 읽는 중 오류가 발생했습니다.", ex);
         }
     }
+
+    private void writeExcelHeaders(HttpServletResponse response, String filename) {
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+    }
+
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.HttpStatus;
@@ -67,10 +68,11 @@ public class WeeklyReportDraftApi {
     @PostMapping("/{draftId}/regenerate")
     public WeeklyReportDraftDetailResponse regenerateDraft(
             @PathVariable Long draftId,
+            @RequestParam(defaultValue = "false") boolean force,
             Authentication authentication
     ) {
         Long accountId = currentActorResolver.resolve(authentication).accountId();
-        return WeeklyReportDraftDetailResponse.from(weeklyReportDraftManager.regenerateDraft(accountId, draftId));
+        return WeeklyReportDraftDetailResponse.from(weeklyReportDraftManager.regenerateDraft(accountId, draftId, force));
     }
 
     @PostMapping("/{draftId}/cancel")
@@ -19,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import kr.co.abacus.abms.application.auth.CurrentActorPrincipal;
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
 
 @Component
 public class RequestTracingFilter extends OncePerRequestFilter {
@@ -27,14 +28,20 @@ public class RequestTracingFilter extends OncePerRequestFilter {
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
 
     private final MeterRegistry meterRegistry;
+    private final SqlStatementRecorder sqlStatementRecorder;
     private final long slowRequestThresholdMs;
+    private final boolean sqlResponseHeaderEnabled;
 
     public RequestTracingFilter(
             MeterRegistry meterRegistry,
-            @Value("${app.observability.http.slow-request-threshold-ms:1000}") long slowRequestThresholdMs
+            SqlStatementRecorder sqlStatementRecorder,
+            @Value("${app.observability.http.slow-request-threshold-ms:1000}") long slowRequestThresholdMs,
+            @Value("${app.observability.sql.response-header-enabled:false}") boolean sqlResponseHeaderEnabled
     ) {
         this.meterRegistry = meterRegistry;
+        this.sqlStatementRecorder = sqlStatementRecorder;
         this.slowRequestThresholdMs = slowRequestThresholdMs;
+        this.sqlResponseHeaderEnabled = sqlResponseHeaderEnabled;
     }
 
     @Override
@@ -51,9 +58,15 @@ public class RequestTracingFilter extends OncePerRequestFilter {
         MDC.put("traceId", traceId);
         response.setHeader(REQUEST_ID_HEADER, requestId);
 
+        String normalizedPath = PathNormalizer.normalize(request.getRequestURI());
+        SqlStatementRecorder.Scope sqlScope = sqlStatementRecorder.open("http", normalizedPath);
+        SqlStatementHeaderResponse sqlHeaderResponse = sqlResponseHeaderEnabled
+                ? new SqlStatementHeaderResponse(response, sqlScope)
+                : null;
+
         Throwable failure = null;
         try {
-            filterChain.doFilter(request, response);
+            filterChain.doFilter(request, sqlHeaderResponse != null ? sqlHeaderResponse : response);
         } catch (IOException | ServletException exception) {
             failure = exception;
             throw exception;
@@ -65,8 +78,11 @@ public class RequestTracingFilter extends OncePerRequestFilter {
             throw error;
         } finally {
             long durationMs = (System.nanoTime() - startedAt) / 1_000_000L;
-            String normalizedPath = PathNormalizer.normalize(request.getRequestURI());
-            logAccess(request, response, normalizedPath, durationMs, failure);
+            if (sqlHeaderResponse != null) {
+                sqlHeaderResponse.writeSqlHeaders();
+            }
+            sqlScope.close();
+            logAccess(request, response, normalizedPath, durationMs, sqlScope, failure);
             if (durationMs >= slowRequestThresholdMs) {
                 meterRegistry.counter("abms.http.slow.requests.total", "path", normalizedPath).increment();
             }
@@ -80,6 +96,7 @@ public class RequestTracingFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             String normalizedPath,
             long durationMs,
+            SqlStatementRecorder.Scope sqlScope,
             Throwable failure
     ) {
         var builder = accessLog.atInfo()
@@ -89,7 +106,9 @@ public class RequestTracingFilter extends OncePerRequestFilter {
                 .addKeyValue("http.path", normalizedPath)
                 .addKeyValue("http.status", response.getStatus())
                 .addKeyValue("http.client_ip", resolveClientIp(request))
-                .addKeyValue("durationMs", durationMs);
+                .addKeyValue("durationMs", durationMs)
+                .addKeyValue("sql.statement_count", sqlScope.statementCount())
+                .addKeyValue("sql.duration_ms", sqlScope.elapsedMillis());
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof CurrentActorPrincipal actorPrincipal) {
@@ -0,0 +1,75 @@
+package kr.co.abacus.abms.adapter.observability;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
+
+/**
+ * 응답 본문을 쓰기 직전(커밋 전)에 요청의 SQL 실행 수와 JDBC 시간을 헤더로 남긴다.
+ * - 본문을 쓴 뒤에는 헤더를 바꿀 수 없으므로 본문 스트림을 처음 얻는 시점의 값이다.
+ * - 운영 프로필에서는 사용하지 않는다 (app.observability.sql.response-header-enabled).
+ */
+class SqlStatementHeaderResponse extends HttpServletResponseWrapper {
+
+    static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    static final String DURATION_HEADER = "X-Sql-Duration-Ms";
+
+    private final SqlStatementRecorder.Scope sqlScope;
+    private boolean headersWritten;
+
+    SqlStatementHeaderResponse(HttpServletResponse response, SqlStatementRecorder.Scope sqlScope) {
+        super(response);
+        this.sqlScope = sqlScope;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeSqlHeaders();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeSqlHeaders();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeSqlHeaders();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeSqlHeaders();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeSqlHeaders();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeSqlHeaders();
+        super.sendRedirect(location);
+    }
+
+    void writeSqlHeaders() {
+        if (headersWritten || isCommitted()) {
+            return;
+        }
+        headersWritten = true;
+        setHeader(STATEMENT_COUNT_HEADER, String.valueOf(sqlScope.statementCount()));
+        setHeader(DURATION_HEADER, String.valueOf(sqlScope.elapsedMillis()));
+    }
+
+}
@@ -33,6 +33,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import kr.co.abacus.abms.adapter.observability.RequestTracingFilter;
 import kr.co.abacus.abms.adapter.observability.SecurityEventRecorder;
 import kr.co.abacus.abms.adapter.security.filter.CsrfCookieFilter;
+import kr.co.abacus.abms.adapter.security.filter.PermissionEpochFilter;
+import kr.co.abacus.abms.application.permission.PermissionEpoch;
 
 @EnableMethodSecurity
 @Configuration
@@ -41,17 +43,20 @@ public class SecurityConfig {
     private final SessionRegistry sessionRegistry;
     private final RequestTracingFilter requestTracingFilter;
     private final SecurityEventRecorder securityEventRecorder;
+    private final PermissionEpoch permissionEpoch;
     private final List<IpAddressMatcher> actuatorIpMatchers;
 
     public SecurityConfig(
             SessionRegistry sessionRegistry,
             RequestTracingFilter requestTracingFilter,
             SecurityEventRecorder securityEventRecorder,
+            PermissionEpoch permissionEpoch,
             @Value("${app.observability.actuator.allowed-ip-ranges:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}") String actuatorAllowedIpRanges
     ) {
         this.sessionRegistry = sessionRegistry;
         this.requestTracingFilter = requestTracingFilter;
         this.securityEventRecorder = securityEventRecorder;
+        this.permissionEpoch = permissionEpoch;
         this.actuatorIpMatchers = Arrays.stream(actuatorAllowedIpRanges.split(","))
                 .map(String::trim)
                 .filter(value -> !value.isEmpty())
@@ -69,6 +74,7 @@ public class SecurityConfig {
                 )
                 .addFilterBefore(requestTracingFilter, BasicAuthenticationFilter.class)
                 .addFilterAfter(new CsrfCookieFilter(), BasicAuthenticationFilter.class)
+                .addFilterAfter(new PermissionEpochFilter(permissionEpoch, securityEventRecorder), BasicAuthenticationFilter.class)
                 .securityContext(securityContext -> securityContext
                         .requireExplicitSave(false)
                 )
@@ -0,0 +1,52 @@
+package kr.co.abacus.abms.adapter.security.filter;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import kr.co.abacus.abms.adapter.observability.SecurityEventRecorder;
+import kr.co.abacus.abms.application.auth.CurrentActorPrincipal;
+import kr.co.abacus.abms.application.permission.PermissionEpoch;
+
+/**
+ * 세션에 담긴 권한이 발급 후 바뀌었는지 권한 epoch로 확인한다.
+ * - DB를 조회하지 않고, 바뀌었으면 만료된 세션과 같이 세션을 끊고 401로 응답해 다시 로그인하게 한다.
+ */
+public class PermissionEpochFilter extends OncePerRequestFilter {
+
+    private final PermissionEpoch permissionEpoch;
+    private final SecurityEventRecorder securityEventRecorder;
+
+    public PermissionEpochFilter(PermissionEpoch permissionEpoch, SecurityEventRecorder securityEventRecorder) {
+        this.permissionEpoch = permissionEpoch;
+        this.securityEventRecorder = securityEventRecorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CurrentActorPrincipal actorPrincipal
+                && permissionEpoch.isStale(actorPrincipal.toCurrentActor().accountId(), actorPrincipal.permissionEpoch())) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            SecurityContextHolder.clearContext();
+            securityEventRecorder.recordSessionExpired(request);
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Session Expired");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+}
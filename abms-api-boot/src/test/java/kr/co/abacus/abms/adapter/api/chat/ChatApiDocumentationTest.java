@@ -26,10 +26,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
@@ -38,7 +40,6 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MvcResult;
 
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 import kr.co.abacus.abms.application.auth.outbound.AccountRepository;
 import kr.co.abacus.abms.application.chat.ChatCommandService;
@@ -101,12 +102,15 @@ class ChatApiDocumentationTest extends ApiIntegrationTestBase {
     @Test
     @DisplayName("채팅 스트림 엔드포인트를 문서화한다")
     void streamChat() throws Exception {
-        given(chatCommandService.streamMessage(anyLong(), any()))
-                .willReturn(Mono.just(new ChatStreamResult(
-                        "session-001",
-                        Flux.just("안녕하세요."),
-                        Flux.just("searchEmployees")
-                )));
+        given(chatCommandService.streamMessage(anyLong(), any(), any()))
+                .willAnswer(invocation -> {
+                    Function<ChatStreamResult, Publisher<?>> responseFactory = invocation.getArgument(2);
+                    return Flux.from(responseFactory.apply(new ChatStreamResult(
+                            "session-001",
+                            Flux.just("안녕하세요."),
+                            Flux.just("searchEmployees")
+                    )));
+                });
 
         MockHttpSession session = login();
         MvcResult result = mockMvc.perform(post("/api/v1/chat/stream")
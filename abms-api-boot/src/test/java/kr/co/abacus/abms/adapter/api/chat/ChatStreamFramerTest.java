@@ -0,0 +1,125 @@
+package kr.co.abacus.abms.adapter.api.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import kr.co.abacus.abms.adapter.api.chat.dto.ChatStreamChunk;
+
+@DisplayName("채팅 SSE 프레임 구성")
+class ChatStreamFramerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("시간 창 안에 도착한 토큰은 한 프레임으로 묶는다")
+    void coalescesTokensWithinWindow() {
+        ChatStreamFramer framer = new ChatStreamFramer(meterRegistry, 30, 256, 256);
+
+        List<ChatStreamChunk> frames = framer.frame(Flux.just("안", "녕", "하세요."), Flux.empty())
+                .collectList()
+                .block();
+
+        assertThat(frames).extracting(ChatStreamChunk::text).containsExactly("안녕하세요.");
+    }
+
+    @Test
+    @DisplayName("글자 수 상한에 닿으면 프레임을 나눈다")
+    void splitsFramesAtMaxChars() {
+        ChatStreamFramer framer = new ChatStreamFramer(meterRegistry, 30, 4, 256);
+
+        List<ChatStreamChunk> frames = framer.frame(Flux.just("ab", "cd", "ef"), Flux.empty())
+                .collectList()
+                .block();
+
+        assertThat(frames).extracting(ChatStreamChunk::text).containsExactly("abcd", "ef");
+    }
+
+    @Test
+    @DisplayName("글자 수 상한에 닿은 프레임은 시간 창을 기다리지 않고 바로 내보낸다")
+    void emitsFrameOnCharsWithoutWaitingForWindow() {
+        ChatStreamFramer framer = new ChatStreamFramer(meterRegistry, 10_000, 4, 256);
+        Flux<String> content = Flux.just("ab", "cd").concatWith(Flux.never());
+
+        ChatStreamChunk first = framer.frame(content, Flux.empty()).blockFirst(Duration.ofSeconds(1));
+
+        assertThat(first).isNotNull();
+        assertThat(first.text()).isEqualTo("abcd");
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트 때문에 밀린 프레임이 상한을 넘으면 텍스트를 버리지 않고 스트림을 오류로 끝낸다")
+    void failsStreamWhenBufferedFramesOverflow() throws Exception {
+        ChatStreamFramer framer = new ChatStreamFramer(meterRegistry, 30, 1, 2);
+        Flux<String> content = Flux.fromIterable(Collections.nCopies(10, "a"));
+        List<ChatStreamChunk> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+
+        framer.frame(content, Flux.empty()).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(ChatStreamChunk chunk) {
+                received.add(chunk);
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                failure.complete(throwable);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                failure.completeExceptionally(new AssertionError("밀린 프레임이 상한을 넘었는데 스트림이 정상 종료되었습니다."));
+            }
+        });
+
+        Throwable error = failure.get(5, TimeUnit.SECONDS);
+        assertThat(Exceptions.isOverflow(error)).isTrue();
+        assertThat(received).extracting(ChatStreamChunk::text).containsExactly("a");
+        assertThat(meterRegistry.counter("abms.chat.stream.overflow.total").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("abms.chat.stream.frames").tag("outcome", "error").summary()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("도구 호출 이벤트는 도착 순서를 유지하고, 스트림 단위 지표를 남긴다")
+    void keepsToolCallOrderAndRecordsMetrics() {
+        ChatStreamFramer framer = new ChatStreamFramer(meterRegistry, 30, 256, 256);
+        Flux<String> content = Flux.just("직원", "을 찾았습니다.").delaySubscription(Duration.ofMillis(100));
+
+        List<ChatStreamChunk> frames = framer.frame(content, Flux.just("searchEmployees"))
+                .collectList()
+                .block();
+
+        assertThat(frames).extracting(ChatStreamChunk::type).containsExactly("tool_call", "text");
+        assertThat(frames).extracting(ChatStreamChunk::text).containsExactly(null, "직원을 찾았습니다.");
+
+        DistributionSummary framesSummary = meterRegistry.find("abms.chat.stream.frames")
+                .tag("outcome", "complete")
+                .summary();
+        assertThat(framesSummary).isNotNull();
+        assertThat(framesSummary.totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("abms.chat.stream.bytes").summary()).isNotNull()
+                .satisfies(summary -> assertThat(summary.totalAmount()).isEqualTo("직원을 찾았습니다.".getBytes(StandardCharsets.UTF_8).length));
+    }
+
+}
@@ -8,12 +8,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDate;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import kr.co.abacus.abms.adapter.infrastructure.summary.CompanyMonthlyCostSummaryRepository;
 import kr.co.abacus.abms.adapter.infrastructure.summary.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.application.dashboard.inbound.DashboardFinder;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
 import kr.co.abacus.abms.application.party.outbound.PartyRepository;
@@ -56,6 +58,14 @@ class DashboardApiTest extends ApiIntegrationTestBase {
     @Autowired
     private CompanyMonthlyCostSummaryRepository companyMonthlyCostSummaryRepository;
 
+    @Autowired
+    private DashboardFinder dashboardFinder;
+
+    @BeforeEach
+    void setUp() {
+        dashboardFinder.clearYearlyAggregateCache();
+    }
+
     @Test
     @DisplayName("연도 기준 대시보드 요약 정보를 조회한다")
     void getDashboardSummary() throws Exception {
@@ -28,6 +28,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MvcResult;
 
+import kr.co.abacus.abms.adapter.api.common.CursorPageResponse;
 import kr.co.abacus.abms.adapter.api.common.EnumResponse;
 import kr.co.abacus.abms.adapter.api.common.PageResponse;
 import kr.co.abacus.abms.adapter.api.employee.dto.EmployeeCreateRequest;
@@ -64,6 +65,7 @@ import kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope;
 import kr.co.abacus.abms.domain.permission.Permission;
 import kr.co.abacus.abms.domain.permissiongroup.PermissionGroup;
 import kr.co.abacus.abms.domain.permissiongroup.PermissionGroupType;
+import kr.co.abacus.abms.domain.shared.Email;
 import kr.co.abacus.abms.support.ApiIntegrationTestBase;
 
 @DisplayName("직원 API (EmployeeApi)")
@@ -400,6 +402,93 @@ class EmployeeApiTest extends ApiIntegrationTestBase {
                 EmployeePosition.VICE_PRESIDENT.getDescription(), EmployeePosition.VICE_PRESIDENT.getLevel()));
     }
 
+    @Test
+    @DisplayName("직원 검색 - 커서로 등급 순서를 유지하며 다음 페이지를 이어서 조회한다")
+    void searchByCursor_sortByGradeLevel() throws Exception {
+        employeeRepository.save(createEmployee(teamId, "cursor-1@abms.co", "커서 직원 1", EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME, EmployeeGrade.JUNIOR));
+        employeeRepository.save(createEmployee(teamId, "cursor-2@abms.co", "커서 직원 2", EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME, EmployeeGrade.EXPERT));
+        employeeRepository.save(createEmployee(teamId, "cursor-3@abms.co", "커서 직원 3", EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME, EmployeeGrade.JUNIOR));
+        employeeRepository.save(createEmployee(teamId, "cursor-4@abms.co", "커서 직원 4", EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME, EmployeeGrade.SENIOR));
+        employeeRepository.save(createEmployee(teamId, "cursor-5@abms.co", "커서 직원 5", EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME, EmployeeGrade.MID_LEVEL));
+        flushAndClear();
+
+        MockHttpSession session = login();
+        List<EmployeeSearchResponse> collected = new java.util.ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            var request = get("/api/employees/cursor")
+                    .param("name", "커서 직원")
+                    .param("sort", "grade,desc")
+                    .param("size", "2")
+                    .param("includeTotal", String.valueOf(cursor == null))
+                    .session(session);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            CursorPageResponse<EmployeeSearchResponse> page = objectMapper.readValue(
+                    result.getResponse().getContentAsString(),
+                    objectMapper.getTypeFactory().constructParametricType(CursorPageResponse.class, EmployeeSearchResponse.class)
+            );
+
+            assertThat(page.totalElements()).isEqualTo(cursor == null ? 5L : null);
+            collected.addAll(page.content());
+            cursor = page.nextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(collected).extracting(EmployeeSearchResponse::email)
+                .containsExactlyInAnyOrder("cursor-1@abms.co", "cursor-2@abms.co", "cursor-3@abms.co", "cursor-4@abms.co", "cursor-5@abms.co");
+        assertThat(collected).extracting(response -> response.grade().level())
+                .containsExactly(
+                        EmployeeGrade.EXPERT.getLevel(),
+                        EmployeeGrade.SENIOR.getLevel(),
+                        EmployeeGrade.MID_LEVEL.getLevel(),
+                        EmployeeGrade.JUNIOR.getLevel(),
+                        EmployeeGrade.JUNIOR.getLevel());
+    }
+
+    @Test
+    @DisplayName("직원 검색 - 형식이 깨졌거나 다른 정렬로 만든 커서는 400으로 거절한다")
+    void searchByCursor_rejectsMismatchedCursor() throws Exception {
+        employeeRepository.save(createEmployee(teamId, "cursor-1@abms.co", "커서 직원 1"));
+        employeeRepository.save(createEmployee(teamId, "cursor-2@abms.co", "커서 직원 2"));
+        flushAndClear();
+
+        MockHttpSession session = login();
+        MvcResult result = mockMvc.perform(get("/api/employees/cursor")
+                        .param("name", "커서 직원")
+                        .param("sort", "name,asc")
+                        .param("size", "1")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andReturn();
+        String nextCursor = objectMapper.readTree(result.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/employees/cursor")
+                        .param("sort", "joinDate,asc")
+                        .param("cursor", nextCursor)
+                        .session(session))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees/cursor")
+                        .param("cursor", "not-a-cursor")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees/cursor")
+                        .param("sort", "birthDate,asc")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("직원 등급(Grade) 목록을 조회한다")
     void getEmployeeGrades() throws Exception {
@@ -615,6 +704,53 @@ class EmployeeApiTest extends ApiIntegrationTestBase {
                 .anyMatch(candidate -> candidate.getEmail().address().equals("excel-upload@abms.co"));
     }
 
+    @Test
+    @DisplayName("엑셀 업로드 검증에 실패하면 원본 행 번호와 함께 모든 오류를 알려주고 등록하지 않는다")
+    void uploadExcel_reportsFailuresWithSourceRowNumbers() throws Exception {
+        employeeRepository.save(createEmployee(teamId, "existing-upload@abms.co", "기존직원"));
+        flushAndClear();
+        String teamCode = departmentRepository.findByIdAndDeletedFalse(teamId)
+                .map(Department::getCode)
+                .orElseThrow();
+
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Employees");
+        writeUploadRow(sheet, 0, "부서 코드", "이메일", "이름", "입사일", "생년월일", "직책", "근무 유형", "등급", "메모");
+        writeUploadRow(sheet, 1, teamCode, "bulk-new@abms.co", "신규", "2025-01-02", "1995-06-10",
+                EmployeePosition.ASSOCIATE.getDescription(), EmployeeType.FULL_TIME.getDescription(),
+                EmployeeGrade.JUNIOR.getDescription(), "");
+        writeUploadRow(sheet, 3, teamCode, "existing-upload@abms.co", "중복", "2025-01-02", "1995-06-10",
+                EmployeePosition.ASSOCIATE.getDescription(), EmployeeType.FULL_TIME.getDescription(),
+                EmployeeGrade.JUNIOR.getDescription(), "");
+        writeUploadRow(sheet, 4, "UNKNOWN-CODE", "bulk-unknown@abms.co", "부서없음", "2025-01-02", "1995-06-10",
+                EmployeePosition.ASSOCIATE.getDescription(), EmployeeType.FULL_TIME.getDescription(),
+                EmployeeGrade.JUNIOR.getDescription(), "");
+        writeUploadRow(sheet, 5, teamCode, "bulk-new@abms.co", "파일중복", "2025-01-02", "1995-06-10",
+                EmployeePosition.ASSOCIATE.getDescription(), EmployeeType.FULL_TIME.getDescription(),
+                EmployeeGrade.JUNIOR.getDescription(), "");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        workbook.write(bos);
+        workbook.close();
+
+        var mvcResult = mockMvc.perform(multipart("/api/employees/excel/upload")
+                        .file(new MockMultipartFile(
+                                "file",
+                                "employees.xlsx",
+                                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                                bos.toByteArray()))
+                        .session(login()))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        Map<?, ?> problem = objectMapper.readValue(mvcResult.getResponse().getContentAsByteArray(), Map.class);
+        assertThat((String) problem.get("detail"))
+                .contains("총 3건의 오류")
+                .contains("4행: 이미 존재하는 이메일입니다: existing-upload@abms.co")
+                .contains("5행: 존재하지 않는 부서 코드입니다: UNKNOWN-CODE")
+                .contains("6행: 엑셀 파일 안에서 중복된 이메일입니다: bulk-new@abms.co");
+        assertThat(employeeRepository.findByEmailAndDeletedFalse(new Email("bulk-new@abms.co"))).isEmpty();
+    }
+
     // @Test
     // void uploadExcel() throws Exception {
     // // 1. 엑셀 워크북 생성 로직 (기존과 동일)
@@ -1207,6 +1343,13 @@ class EmployeeApiTest extends ApiIntegrationTestBase {
         };
     }
 
+    private void writeUploadRow(Sheet sheet, int rowIndex, String... values) {
+        Row row = sheet.createRow(rowIndex);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+
     private Employee createEmployee(Long teamId, String email, String name) {
         return Employee.create(
                 teamId,
@@ -111,6 +111,22 @@ class ObservabilityApiTest extends ApiIntegrationTestBase {
                 .andExpect(header().exists("X-Request-Id"));
     }
 
+    @Test
+    @DisplayName("운영 외 환경의 응답에는 요청에서 실행한 SQL 수와 JDBC 시간 헤더가 포함된다")
+    void responses_includeSqlStatementHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", USERNAME,
+                                "password", PASSWORD
+                        ))))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Sql-Duration-Ms"))
+                .andReturn();
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader("X-Sql-Statement-Count"))).isPositive();
+    }
+
     @Test
     @DisplayName("보안 이벤트 발생 후 prometheus에서 커스텀 메트릭을 확인할 수 있다")
     void prometheus_exposesSecurityMetrics() throws Exception {
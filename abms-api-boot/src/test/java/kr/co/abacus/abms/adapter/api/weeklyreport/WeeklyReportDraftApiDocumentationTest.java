@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.adapter.api.weeklyreport;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -8,6 +9,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -254,15 +256,20 @@ class WeeklyReportDraftApiDocumentationTest extends ApiIntegrationTestBase {
     @Test
     @DisplayName("주간 보고서 초안 재생성 API를 문서화한다")
     void regenerateDraft() throws Exception {
-        given(weeklyReportDraftManager.regenerateDraft(anyLong(), anyLong()))
+        given(weeklyReportDraftManager.regenerateDraft(anyLong(), anyLong(), anyBoolean()))
                 .willReturn(sampleDetail(2L));
         MockHttpSession session = login();
 
-        mockMvc.perform(post("/api/reports/weekly/drafts/{draftId}/regenerate", 1L).session(session))
+        mockMvc.perform(post("/api/reports/weekly/drafts/{draftId}/regenerate", 1L)
+                        .param("force", "true")
+                        .session(session))
                 .andDo(document("weekly-report/regenerate",
                         pathParameters(
                                 parameterWithName("draftId").description("재생성 기준이 되는 초안 ID")
                         ),
+                        queryParameters(
+                                parameterWithName("force").description("같은 입력으로 작성된 AI 본문이 있어도 새로 작성할지 여부 (기본값 false)").optional()
+                        ),
                         responseFields(
                                 fieldWithPath("id").description("새로 생성된 초안 식별자"),
                                 fieldWithPath("title").description("초안 제목"),
@@ -0,0 +1,164 @@
+package kr.co.abacus.abms.adapter.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.department.DepartmentClosureIndex;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.dto.EmployeeOverviewSummary;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.party.dto.PartyOverviewSummary;
+import kr.co.abacus.abms.application.party.dto.PartySearchCondition;
+import kr.co.abacus.abms.application.party.outbound.PartyRepository;
+import kr.co.abacus.abms.application.project.dto.ProjectOverviewSummary;
+import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
+import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.domain.employee.Employee;
+import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.domain.grouppermissiongrant.PermissionScope;
+import kr.co.abacus.abms.domain.party.Party;
+import kr.co.abacus.abms.domain.party.PartyCreateRequest;
+import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+/**
+ * 목록 화면 요약(summarize) 한 번에 실행되는 쿼리 수를 측정한다.
+ * 기존 구현은 직원 7회, 프로젝트 7회의 집계 쿼리를 실행하고 부서 트리 권한이면 매번 부서 트리도 다시 조회했으며(각 14회),
+ * 협력사는 4회의 집계 쿼리를 실행했다. 부서 트리는 {@link DepartmentClosureIndex}에서 조회하므로 DB에 가지 않는다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("목록 요약 집계 쿼리 수")
+class OverviewSummaryQueryCountTest extends IntegrationTestBase {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DepartmentClosureIndex departmentClosureIndex;
+
+    private Statistics statistics;
+    private CurrentActor treeScopedActor;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Department division = departmentRepository.save(Department.create("QC-DIV", "쿼리수본부", DepartmentType.DIVISION, null, null));
+        Department team = departmentRepository.save(Department.create("QC-TEAM", "쿼리수팀", DepartmentType.TEAM, null, division));
+        Party party = partyRepository.save(Party.create(new PartyCreateRequest("쿼리수 협력사", null, null, null, null)));
+        for (int i = 0; i < 5; i++) {
+            employeeRepository.save(Employee.create(
+                    team.getIdOrThrow(),
+                    "쿼리수직원" + i,
+                    "query-count-" + i + "@abms.co.kr",
+                    LocalDate.of(2024, 1, 1),
+                    LocalDate.of(1990, 1, 1),
+                    EmployeePosition.ASSOCIATE,
+                    i % 2 == 0 ? EmployeeType.FULL_TIME : EmployeeType.FREELANCER,
+                    EmployeeGrade.JUNIOR,
+                    EmployeeAvatar.SKY_GLOW,
+                    null
+            ));
+            projectRepository.save(Project.create(
+                    party.getIdOrThrow(),
+                    team.getIdOrThrow(),
+                    "QC-PRJ-" + i,
+                    "쿼리수 프로젝트" + i,
+                    null,
+                    i % 2 == 0 ? ProjectStatus.IN_PROGRESS : ProjectStatus.COMPLETED,
+                    10_000_000L,
+                    LocalDate.of(2024, 1, 1),
+                    LocalDate.of(2024, 12, 31)
+            ));
+        }
+        flushAndClear();
+        departmentClosureIndex.invalidate();
+        departmentClosureIndex.descendantsOf(division.getIdOrThrow());
+
+        treeScopedActor = new CurrentActor(
+                1L,
+                "query-count-user",
+                null,
+                division.getIdOrThrow(),
+                Map.of(
+                        "employee.read", Set.of(PermissionScope.OWN_DEPARTMENT_TREE),
+                        "project.read", Set.of(PermissionScope.OWN_DEPARTMENT_TREE)
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("직원 요약은 부서 트리 권한이어도 집계 쿼리 1회로 끝난다")
+    void employeeSummarize() {
+        EmployeeSearchCondition condition = new EmployeeSearchCondition("쿼리수", null, null, null, null, null);
+
+        EmployeeOverviewSummary summary = measure("employee", () -> employeeRepository.summarize(condition, treeScopedActor), 1);
+
+        assertThat(summary.totalCount()).isEqualTo(5);
+        assertThat(summary.fullTimeCount()).isEqualTo(3);
+        assertThat(summary.freelancerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("프로젝트 요약은 부서 트리 권한이어도 집계 쿼리 1회로 끝난다")
+    void projectSummarize() {
+        ProjectSearchCondition condition = new ProjectSearchCondition("QC-PRJ", null, null, null, null);
+
+        ProjectOverviewSummary summary = measure("project", () -> projectRepository.summarize(condition, treeScopedActor), 1);
+
+        assertThat(summary.totalCount()).isEqualTo(5);
+        assertThat(summary.inProgressCount()).isEqualTo(3);
+        assertThat(summary.completedCount()).isEqualTo(2);
+        assertThat(summary.totalContractAmount()).isEqualTo(50_000_000L);
+    }
+
+    @Test
+    @DisplayName("협력사 요약은 집계 쿼리 1회로 끝난다")
+    void partySummarize() {
+        PartyOverviewSummary summary = measure("party", () -> partyRepository.summarize(new PartySearchCondition("쿼리수")), 1);
+
+        assertThat(summary.totalCount()).isEqualTo(1);
+        assertThat(summary.withProjectsCount()).isEqualTo(1);
+        assertThat(summary.withInProgressProjectsCount()).isEqualTo(1);
+        assertThat(summary.totalContractAmount()).isEqualTo(50_000_000L);
+    }
+
+    private <T> T measure(String name, Supplier<T> summarize, long expectedStatementCount) {
+        statistics.clear();
+        T summary = summarize.get();
+        long statementCount = statistics.getPrepareStatementCount();
+        System.out.printf("%s summarize queries per request: %d%n", name, statementCount);
+        assertThat(statementCount).isEqualTo(expectedStatementCount);
+        return summary;
+    }
+
+}
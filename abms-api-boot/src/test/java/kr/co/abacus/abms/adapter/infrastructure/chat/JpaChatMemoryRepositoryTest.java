@@ -0,0 +1,159 @@
+package kr.co.abacus.abms.adapter.infrastructure.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+@DisplayName("채팅 메모리 저장소 (JpaChatMemoryRepository)")
+class JpaChatMemoryRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private ChatMemoryRepository chatMemoryRepository;
+
+    @Autowired
+    private ChatMemoryMessageJpaRepository chatMemoryMessageJpaRepository;
+
+    @Autowired
+    private ChatMemorySummaryRepository chatMemorySummaryRepository;
+
+    @Test
+    @DisplayName("새 메시지만 다음 순번으로 추가하고 기존 행은 다시 쓰지 않는다")
+    void saveAll_appendsOnlyNewMessages() {
+        String conversationId = "memory-append";
+        chatMemoryRepository.saveAll(conversationId, List.of(new UserMessage("질문1")));
+        Map<Long, Long> firstIds = idsBySequence(conversationId);
+
+        chatMemoryRepository.saveAll(conversationId, List.of(
+                new UserMessage("질문1"),
+                new AssistantMessage("답변1"),
+                new UserMessage("질문2")
+        ));
+        flushAndClear();
+
+        List<ChatMemoryMessage> rows = findRows(conversationId);
+        assertThat(rows).extracting(ChatMemoryMessage::getSequenceNo).containsExactly(1L, 2L, 3L);
+        assertThat(rows).extracting(ChatMemoryMessage::getContent).containsExactly("질문1", "답변1", "질문2");
+        assertThat(idsBySequence(conversationId)).containsEntry(1L, firstIds.get(1L));
+    }
+
+    @Test
+    @DisplayName("윈도우에서 밀려난 앞부분도 지우지 않고 새 메시지만 이어서 추가한다")
+    void saveAll_keepsEvictedPrefix() {
+        String conversationId = "memory-trim";
+        chatMemoryRepository.saveAll(conversationId, List.of(
+                new UserMessage("질문1"),
+                new AssistantMessage("답변1"),
+                new UserMessage("질문2")
+        ));
+        Map<Long, Long> idsBefore = idsBySequence(conversationId);
+
+        chatMemoryRepository.saveAll(conversationId, List.of(
+                new AssistantMessage("답변1"),
+                new UserMessage("질문2"),
+                new AssistantMessage("답변2")
+        ));
+        flushAndClear();
+
+        Map<Long, Long> idsAfter = idsBySequence(conversationId);
+        assertThat(idsAfter.keySet()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(idsAfter).containsAllEntriesOf(idsBefore);
+        assertThat(findRows(conversationId)).extracting(ChatMemoryMessage::getContent)
+                .containsExactly("질문1", "답변1", "질문2", "답변2");
+    }
+
+    @Test
+    @DisplayName("겹치는 메시지가 없으면 기존 행을 지우지 않고 새 목록을 이어지는 순번으로 추가한다")
+    void saveAll_appendsWhenNothingOverlaps() {
+        String conversationId = "memory-replace";
+        chatMemoryRepository.saveAll(conversationId, List.of(new UserMessage("질문1"), new AssistantMessage("답변1")));
+
+        chatMemoryRepository.saveAll(conversationId, List.of(new UserMessage("새 질문")));
+        flushAndClear();
+
+        List<ChatMemoryMessage> rows = findRows(conversationId);
+        assertThat(rows).extracting(ChatMemoryMessage::getSequenceNo).containsExactly(1L, 2L, 3L);
+        assertThat(rows).extracting(ChatMemoryMessage::getContent).containsExactly("질문1", "답변1", "새 질문");
+    }
+
+    @Test
+    @DisplayName("요약에 반영된 메시지는 메모리 윈도우에서 빠지지만 이력 조회에는 남는다")
+    void findByConversationId_skipsSummarizedMessages() {
+        String conversationId = "memory-summarized";
+        chatMemoryRepository.saveAll(conversationId, List.of(
+                new UserMessage("질문1"),
+                new AssistantMessage("답변1"),
+                new UserMessage("질문2"),
+                new AssistantMessage("답변2")
+        ));
+        chatMemorySummaryRepository.save(ChatMemorySummary.create(conversationId, "질문1에 답함", 2L));
+        flushAndClear();
+
+        assertThat(chatMemoryRepository.findByConversationId(conversationId))
+                .extracting(Message::getText)
+                .containsExactly("질문2", "답변2");
+        assertThat(chatMemoryMessageJpaRepository.findByConversationIdOrderBySequenceNoAsc(conversationId))
+                .extracting(ChatMemoryMessage::getContent)
+                .containsExactly("질문1", "답변1", "질문2", "답변2");
+
+        chatMemoryRepository.saveAll(conversationId, List.of(
+                new UserMessage("질문2"),
+                new AssistantMessage("답변2"),
+                new UserMessage("질문3")
+        ));
+        flushAndClear();
+
+        assertThat(findRows(conversationId)).extracting(ChatMemoryMessage::getSequenceNo).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("조회는 최근 50개 메시지만 순번 순서로 반환한다")
+    void findByConversationId_readsLatestWindow() {
+        String conversationId = "memory-window";
+        List<Message> messages = new ArrayList<>();
+        for (int i = 1; i <= 55; i++) {
+            messages.add(new UserMessage("질문" + i));
+        }
+        chatMemoryRepository.saveAll(conversationId, messages);
+        flushAndClear();
+
+        List<Message> result = chatMemoryRepository.findByConversationId(conversationId);
+
+        assertThat(result).hasSize(50);
+        assertThat(result.getFirst().getText()).isEqualTo("질문6");
+        assertThat(result.getLast().getText()).isEqualTo("질문55");
+    }
+
+    private List<ChatMemoryMessage> findRows(String conversationId) {
+        return chatMemoryMessageJpaRepository.findByConversationIdOrderBySequenceNoDesc(conversationId, Limit.unlimited())
+                .reversed();
+    }
+
+    private Map<Long, Long> idsBySequence(String conversationId) {
+        return findRows(conversationId).stream()
+                .collect(Collectors.toMap(
+                        ChatMemoryMessage::getSequenceNo,
+                        ChatMemoryMessage::getIdOrThrow,
+                        (left, right) -> left,
+                        LinkedHashMap::new
+                ));
+    }
+
+}
@@ -0,0 +1,231 @@
+package kr.co.abacus.abms.adapter.infrastructure.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CacheInvalidationLog;
+import kr.co.abacus.abms.adapter.integration.cache.coherence.CoherentCacheManager;
+
+@DisplayName("읽기 전용 트랜잭션 replica 라우팅")
+class ReadReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<String> principal = new AtomicReference<>();
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        prepare(primary, "primary");
+        prepare(replica, "replica");
+
+        replicaLagMonitor = new ReplicaLagMonitor(primary, Map.of("replica-1", replica), Duration.ofSeconds(2), Duration.ofSeconds(1), meterRegistry);
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                primary,
+                Map.of("replica-1", replica),
+                replicaLagMonitor,
+                new ReadYourWritesWindow(Duration.ofSeconds(5), () -> Optional.ofNullable(principal.get())),
+                meterRegistry
+        );
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("복제가 따라와 있으면 읽기 전용 트랜잭션은 replica로, 쓰기 트랜잭션은 primary로 간다")
+    void routesByTransactionReadOnlyFlag() {
+        replicatedHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> marker())).isEqualTo("primary");
+        assertThat(routingCount("replica-1", "read_only")).isEqualTo(1);
+        assertThat(routingCount("primary", "read_write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘거나 아직 확인 전이면 읽기 전용 트랜잭션도 primary로 간다")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+
+        LocalDateTime primaryBeat = LocalDateTime.now();
+        heartbeats(primaryBeat, primaryBeat.minusSeconds(60));
+        replicaLagMonitor.check();
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+        assertThat(routingCount("primary", "replica_unavailable")).isEqualTo(2);
+        assertThat(meterRegistry.get("abms.datasource.replica.available").tag("pool", "replica-1").gauge().value()).isZero();
+        assertThat(meterRegistry.get("abms.datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("replica가 primary에 기록된 마지막 heartbeat까지 따라왔으면 확인 주기와 무관하게 지연을 0으로 잰다")
+    void measuresLagAgainstLastWrittenBeat() {
+        replicatedHeartbeat(LocalDateTime.now().minusSeconds(1));
+        replicaLagMonitor.check();
+
+        assertThat(meterRegistry.get("abms.datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isZero();
+        assertThat(meterRegistry.get("abms.datasource.replica.available").tag("pool", "replica-1").gauge().value()).isEqualTo(1);
+        Timestamp nextBeat = new JdbcTemplate(primary).queryForObject("select beat_at from tb_replica_heartbeat where id = 1", Timestamp.class);
+        assertThat(nextBeat.toLocalDateTime()).isAfter(LocalDateTime.now().minusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("primary의 heartbeat를 읽거나 쓰지 못하면 이전에 사용 가능했던 replica도 읽기 대상에서 뺀다")
+    void dropsReplicasWhenHeartbeatFails() {
+        replicatedHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+
+        new JdbcTemplate(primary).execute("drop table tb_replica_heartbeat");
+        replicaLagMonitor.check();
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+        assertThat(routingCount("primary", "replica_unavailable")).isEqualTo(1);
+        assertThat(meterRegistry.get("abms.datasource.replica.available").tag("pool", "replica-1").gauge().value()).isZero();
+        assertThat(meterRegistry.get("abms.datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isNegative();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 read-your-writes 구간 동안 primary로 간다")
+    void pinsWriterToPrimaryWithinWindow() {
+        replicatedHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+
+        principal.set("writer");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update db_marker set name = name"));
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+        assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1);
+
+        principal.set("reader");
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 구간을 만들지 않는다")
+    void rolledBackWriteDoesNotPin() {
+        replicatedHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+
+        principal.set("writer");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("update db_marker set name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("권한을 회수해 캐시를 비운 뒤 다시 채울 때는 replica 연결을 잡은 트랜잭션 안에서도 primary에서 읽는다")
+    void reloadsRevokedPermissionFromPrimary() {
+        replicatedHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+        // primary에서는 회수했지만 replica에는 아직 반영되지 않은 grant
+        new JdbcTemplate(replica).update("insert into account_permission (account_id, code) values (1, 'PROJECT_READ')");
+
+        CoherentCacheManager cacheManager = new CoherentCacheManager(
+                new ConcurrentMapCacheManager("accountPermissions"),
+                mock(CacheInvalidationLog.class),
+                new PrimaryConsistentReader(true, transactionManager),
+                event -> {
+                },
+                meterRegistry,
+                Duration.ofSeconds(1),
+                Duration.ofHours(1)
+        );
+        Cache permissions = cacheManager.getCache("accountPermissions");
+        permissions.put(1L, List.of("PROJECT_READ"));
+        permissions.evict(1L);
+
+        List<String> reloaded = readOnly.execute(status -> {
+            assertThat(marker()).isEqualTo("replica");
+            return permissions.get(1L, () -> permissionCodes(1L));
+        });
+        cacheManager.stop();
+
+        assertThat(reloaded).isEmpty();
+        assertThat(permissions.get(1L, List.class)).isEmpty();
+        assertThat(readOnly.execute(status -> permissionCodes(1L))).containsExactly("PROJECT_READ");
+        assertThat(routingCount("primary", "consistent_read")).isEqualTo(1);
+    }
+
+    private List<String> permissionCodes(long accountId) {
+        return jdbcTemplate.queryForList("select code from account_permission where account_id = ?", String.class, accountId);
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("select name from db_marker", String.class);
+    }
+
+    private double routingCount(String pool, String reason) {
+        Counter counter = meterRegistry.find("abms.datasource.routing.total").tags("pool", pool, "reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    /**
+     * primary가 마지막으로 쓴 heartbeat까지 replica에 반영된 상태를 흉내 낸다.
+     */
+    private void replicatedHeartbeat(LocalDateTime beatAt) {
+        heartbeats(beatAt, beatAt);
+    }
+
+    private void heartbeats(LocalDateTime primaryBeat, LocalDateTime replicaBeat) {
+        new JdbcTemplate(primary).update("insert into tb_replica_heartbeat (id, beat_at) values (1, ?)", Timestamp.valueOf(primaryBeat));
+        new JdbcTemplate(replica).update("insert into tb_replica_heartbeat (id, beat_at) values (1, ?)", Timestamp.valueOf(replicaBeat));
+    }
+
+    private static void prepare(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists db_marker");
+        jdbcTemplate.execute("drop table if exists tb_replica_heartbeat");
+        jdbcTemplate.execute("drop table if exists account_permission");
+        jdbcTemplate.execute("create table db_marker (name varchar(20) not null)");
+        jdbcTemplate.execute("create table account_permission (account_id bigint not null, code varchar(50) not null)");
+        jdbcTemplate.execute("create table tb_replica_heartbeat (id tinyint primary key, beat_at timestamp(6) not null)");
+        jdbcTemplate.update("insert into db_marker (name) values (?)", name);
+    }
+
+}
@@ -0,0 +1,81 @@
+package kr.co.abacus.abms.adapter.infrastructure.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.domain.shared.Email;
+
+/**
+ * 스트리밍 엑셀 내보내기의 결과 행 수와 열 너비를 확인한다.
+ * 행 수는 SXSSF 창(100행)을 넘겨, 창 밖으로 내보낸 행의 값도 열 너비에 반영되는지 본다.
+ */
+@DisplayName("직원 엑셀 스트리밍 내보내기 (PoiEmployeeExcelExporter)")
+class PoiEmployeeExcelExporterTest {
+
+    private static final int ROW_COUNT = 250;
+    private static final String LONG_MEMO = "x".repeat(30);
+
+    private final PoiEmployeeExcelExporter exporter = new PoiEmployeeExcelExporter();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("모든 행을 쓰고, 스트리밍 창 밖으로 내보낸 행까지 포함해 미리 계산한 열 너비를 적용한다")
+    void export_writesAllRowsWithPrecomputedWidths() throws IOException {
+        Path file = tempDir.resolve("employees.xlsx");
+
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            exporter.export(rows(ROW_COUNT), outputStream);
+        }
+
+        try (Workbook workbook = WorkbookFactory.create(file.toFile())) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(ROW_COUNT);
+            assertThat(sheet.getRow(1).getCell(0).getStringCellValue()).isEqualTo("플랫폼개발팀");
+            assertThat(sheet.getRow(1).getCell(8).getStringCellValue()).isEqualTo(LONG_MEMO);
+            assertThat(sheet.getRow(ROW_COUNT).getCell(2).getStringCellValue()).isEqualTo("직원" + ROW_COUNT);
+            assertThat(sheet.getColumnWidth(1)).isGreaterThan(sheet.getColumnWidth(3));
+            // 첫 행의 메모는 창 밖으로 내보낸 뒤에도 메모 열에서 가장 긴 값이다 (여백 4칸 + ASCII 30자)
+            assertThat(sheet.getColumnWidth(8)).isEqualTo((4 + LONG_MEMO.length()) * 256);
+        }
+    }
+
+    private Stream<EmployeeExcelRow> rows(int count) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        return IntStream.rangeClosed(1, count).mapToObj(index -> new EmployeeExcelRow(
+                (long) index,
+                createdAt.minusMinutes(index),
+                1L,
+                "플랫폼개발팀",
+                new Email("employee" + index + "@abms.co.kr"),
+                "직원" + index,
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(1990, 5, 20),
+                EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME,
+                EmployeeGrade.JUNIOR,
+                index == 1 ? LONG_MEMO : index % 2 == 0 ? "메모" + index : null
+        ));
+    }
+
+}
@@ -0,0 +1,175 @@
+package kr.co.abacus.abms.adapter.integration.cache.coherence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.adapter.integration.cache.config.CacheConfig;
+import kr.co.abacus.abms.application.shared.event.RemoteCacheInvalidatedEvent;
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+
+@DisplayName("노드 간 캐시 무효화 전파")
+class CoherentCacheManagerTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:cache-coherence;DB_CLOSE_DELAY=-1";
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(JDBC_URL));
+        jdbcTemplate.execute("drop table if exists tb_cache_invalidation");
+        jdbcTemplate.execute("""
+                create table tb_cache_invalidation (
+                    id         bigint generated by default as identity primary key,
+                    node_id    varchar(64)  not null,
+                    cache_name varchar(100) not null,
+                    cache_key  varchar(255),
+                    created_at timestamp(6) not null,
+                    updated_at timestamp(6) not null,
+                    created_by bigint,
+                    updated_by bigint,
+                    deleted    boolean      not null,
+                    deleted_at timestamp(6),
+                    deleted_by bigint
+                )
+                """);
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 캐시 전체를 비우면 다른 노드도 비우고 원격 무효화 이벤트를 받는다")
+    void clearPropagatesToOtherNode() {
+        Cache chartOnA = cache(nodeA, "organizationChart");
+        Cache chartOnB = cache(nodeB, "organizationChart");
+        chartOnA.put(SimpleKey.EMPTY, "chart-a");
+        chartOnB.put(SimpleKey.EMPTY, "chart-b");
+
+        chartOnA.clear();
+
+        awaitUntil(() -> chartOnB.get(SimpleKey.EMPTY) == null);
+        awaitUntil(() -> !nodeB.getBean(RemoteEvents.class).received.isEmpty());
+        assertThat(nodeB.getBean(RemoteEvents.class).received)
+                .containsExactly(new RemoteCacheInvalidatedEvent("organizationChart", null));
+        assertThat(nodeA.getBean(RemoteEvents.class).received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 단위로 비우면 다른 노드에서도 그 키만 비운다")
+    void evictPropagatesOnlyThatKey() {
+        Cache permissionsOnA = cache(nodeA, "accountPermissions");
+        Cache permissionsOnB = cache(nodeB, "accountPermissions");
+        permissionsOnB.put(1L, "permissions-1");
+        permissionsOnB.put(2L, "permissions-2");
+
+        permissionsOnA.evict(1L);
+
+        awaitUntil(() -> permissionsOnB.get(1L) == null);
+        assertThat(permissionsOnB.get(2L)).isNotNull();
+        assertThat(nodeB.getBean(RemoteEvents.class).received)
+                .containsExactly(new RemoteCacheInvalidatedEvent("accountPermissions", 1L));
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource(
+                "test", Map.of("app.cache.invalidation.poll-interval", "100ms")));
+        context.register(NodeConfig.class, CacheConfig.class, CacheInvalidationLog.class, RemoteEvents.class);
+        context.refresh();
+        return context;
+    }
+
+    private Cache cache(AnnotationConfigApplicationContext context, String name) {
+        return Objects.requireNonNull(context.getBean(CacheManager.class).getCache(name));
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Configuration
+    static class NodeConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(JDBC_URL);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ConsistentReader consistentReader() {
+            return new ConsistentReader() {
+                @Override
+                public <T extends @Nullable Object> T read(Supplier<T> reader) {
+                    return reader.get();
+                }
+            };
+        }
+    }
+
+    static class RemoteEvents {
+
+        private final List<RemoteCacheInvalidatedEvent> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(RemoteCacheInvalidatedEvent event) {
+            received.add(event);
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+@DisplayName("채팅 입장 제어")
+class ChatAdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch modelStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseModel = new CountDownLatch(1);
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * releaseModel이 열릴 때까지 응답을 붙잡고 있는 로컬 스텁 모델
+     */
+    private final ChatModel stubModel = prompt -> {
+        modelStarted.countDown();
+        try {
+            releaseModel.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return new ChatResponse(List.of(new Generation(new AssistantMessage("답변"))));
+    };
+    private final ChatClient chatClient = ChatClient.create(stubModel);
+
+    @AfterEach
+    void tearDown() {
+        releaseModel.countDown();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 계정의 요청이 한도를 넘으면 기다리지 않고 거절한다")
+    void rejectsAccountOverLimit() throws Exception {
+        ChatAdmissionController controller = controller(4, 1, 4, 1_000);
+        Future<String> first = executorService.submit(() -> ask(controller, 1L));
+        assertThat(modelStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> ask(controller, 1L))
+                .isInstanceOf(ChatAdmissionRejectedException.class)
+                .extracting("reason").isEqualTo("account_limit");
+
+        releaseModel.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("답변");
+        assertThat(ask(controller, 1L)).isEqualTo("답변");
+        assertThat(rejections("account_limit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 한도를 넘으면 대기열에서 차례를 기다리고, 대기열이 가득 차면 바로 거절한다")
+    void queuesUntilPermitIsReleased() throws Exception {
+        ChatAdmissionController controller = controller(1, 2, 1, 5_000);
+        Future<String> running = executorService.submit(() -> ask(controller, 1L));
+        assertThat(modelStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = executorService.submit(() -> ask(controller, 2L));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> ask(controller, 3L))
+                .isInstanceOf(ChatAdmissionRejectedException.class)
+                .extracting("reason").isEqualTo("queue_full");
+
+        releaseModel.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("답변");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("답변");
+        Timer wait = meterRegistry.find("abms.chat.admission.wait").timer();
+        assertThat(wait).isNotNull();
+        assertThat(wait.count()).isEqualTo(1);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 차례가 오지 않으면 거절하고 계정 한도도 돌려준다")
+    void rejectsAfterQueueTimeout() throws Exception {
+        ChatAdmissionController controller = controller(1, 1, 4, 50);
+        Future<String> running = executorService.submit(() -> ask(controller, 1L));
+        assertThat(modelStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> ask(controller, 2L))
+                .isInstanceOf(ChatAdmissionRejectedException.class)
+                .extracting("reason").isEqualTo("queue_timeout");
+
+        releaseModel.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(ask(controller, 2L)).isEqualTo("답변");
+        assertThat(rejections("queue_timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허가를 여러 번 닫아도 한 번만 반납한다")
+    void permitCloseIsIdempotent() {
+        ChatAdmissionController controller = controller(1, 1, 0, 50);
+        ChatAdmissionController.Permit permit = controller.acquire(1L);
+        permit.close();
+        permit.close();
+
+        try (ChatAdmissionController.Permit ignored = controller.acquire(2L)) {
+            assertThatThrownBy(() -> controller.acquire(3L))
+                    .isInstanceOf(ChatAdmissionRejectedException.class)
+                    .extracting("reason").isEqualTo("queue_full");
+        }
+    }
+
+    private ChatAdmissionController controller(int maxInFlight, int perAccountMaxInFlight, int maxQueueSize, long queueTimeoutMs) {
+        return new ChatAdmissionController(
+                new ApplicationMetricsRecorder(meterRegistry),
+                maxInFlight,
+                perAccountMaxInFlight,
+                maxQueueSize,
+                queueTimeoutMs
+        );
+    }
+
+    private String ask(ChatAdmissionController controller, Long accountId) {
+        try (ChatAdmissionController.Permit ignored = controller.acquire(accountId)) {
+            return chatClient.prompt().user("질문").call().content();
+        }
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("abms.chat.admission.queue.depth").gauge().value();
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueDepth() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queueDepth()).isEqualTo(expected);
+    }
+
+    private double rejections(String reason) {
+        Counter counter = meterRegistry.find("abms.chat.admission.rejections.total").tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+}
@@ -0,0 +1,139 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+import kr.co.abacus.abms.application.chat.dto.command.ChatSendCommand;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.application.observability.BusinessEventLogger;
+
+@DisplayName("채팅 스트림 입장 허가 반납")
+class ChatCommandServiceStreamTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final ChatSendCommand COMMAND = new ChatSendCommand(null, "질문");
+
+    private final ApplicationMetricsRecorder applicationMetricsRecorder = new ApplicationMetricsRecorder(new SimpleMeterRegistry());
+    private final ChatAdmissionController chatAdmissionController =
+            new ChatAdmissionController(applicationMetricsRecorder, 4, 1, 0, 50);
+    private final ChatTitleService chatTitleService = mock(ChatTitleService.class);
+    private final ChatToolExecutor chatToolExecutor = mock(ChatToolExecutor.class);
+
+    /**
+     * 스트림 요청에 토큰 두 개로 답하는 로컬 스텁 모델
+     */
+    private final ChatModel stubModel = new ChatModel() {
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            return response("답변");
+        }
+
+        @Override
+        public Flux<ChatResponse> stream(Prompt prompt) {
+            return Flux.just(response("답"), response("변"));
+        }
+    };
+
+    private ChatCommandService chatCommandService;
+
+    @BeforeEach
+    void setUp() {
+        given(chatTitleService.recordUserMessage(anyLong(), anyString(), anyString())).willReturn(1);
+        given(chatToolExecutor.callbacksForTurn(any(), any(), any())).willReturn(new ToolCallback[0]);
+        chatCommandService = new ChatCommandService(
+                ChatClient.builder(stubModel),
+                mock(ChatMemory.class),
+                provider(mock(EmployeeInfoTools.class)),
+                provider(mock(OrganizationTools.class)),
+                provider(mock(BusinessQueryTools.class)),
+                mock(ChatSessionRepository.class),
+                mock(ChatMemoryRepository.class),
+                chatTitleService,
+                mock(BusinessEventLogger.class),
+                applicationMetricsRecorder,
+                chatToolExecutor,
+                mock(ChatMemoryCompactor.class),
+                mock(ChatMemorySummaryRepository.class),
+                chatAdmissionController
+        );
+    }
+
+    @Test
+    @DisplayName("세션 정보를 보낸 뒤 본문을 구독하기 전에 취소해도 허가를 반납한다")
+    void releasesPermitWhenCancelledBeforeContentSubscription() {
+        List<String> received = chatCommandService.streamMessage(ACCOUNT_ID, COMMAND, result ->
+                        Flux.just("session:" + result.sessionId()).concatWith(result.contentStream()))
+                .take(1)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(received).singleElement().asString().startsWith("session:");
+        assertPermitAvailable();
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 스트림은 허가를 얻지 않는다")
+    void doesNotAcquireUntilSubscribed() {
+        chatCommandService.streamMessage(ACCOUNT_ID, COMMAND, result -> result.contentStream());
+
+        assertPermitAvailable();
+    }
+
+    @Test
+    @DisplayName("본문까지 끝까지 받으면 허가를 반납한다")
+    void releasesPermitAfterContentCompletes() {
+        List<String> tokens = chatCommandService.streamMessage(ACCOUNT_ID, COMMAND, result -> result.contentStream())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(tokens).containsExactly("답", "변");
+        assertPermitAvailable();
+    }
+
+    /**
+     * 계정 한도가 1이므로 이전 허가가 남아 있으면 account_limit으로 거절된다.
+     */
+    private void assertPermitAvailable() {
+        try (ChatAdmissionController.Permit permit = chatAdmissionController.acquire(ACCOUNT_ID)) {
+            assertThat(permit).isNotNull();
+        }
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T object) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        given(provider.getObject()).willReturn(object);
+        return provider;
+    }
+
+}
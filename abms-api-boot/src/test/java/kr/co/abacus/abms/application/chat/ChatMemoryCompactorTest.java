@@ -0,0 +1,114 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+
+@DisplayName("채팅 메모리 압축")
+class ChatMemoryCompactorTest {
+
+    private static final String CONVERSATION_ID = "session-compact";
+
+    private final ChatClient chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+    private final ChatMemoryMessageRepository chatMemoryMessageRepository = mock(ChatMemoryMessageRepository.class);
+    private final ChatMemorySummaryRepository chatMemorySummaryRepository = mock(ChatMemorySummaryRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        given(chatClient.prompt().user(anyString()).call().content()).willReturn("홍길동(/employees/1) 정보를 조회함");
+        given(chatMemorySummaryRepository.findByConversationId(CONVERSATION_ID)).willReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("토큰 예산 안이면 요약하지 않는다")
+    void underBudget_skipsCompaction() {
+        givenMessages(turns(4, "짧은 질문"));
+
+        compactor(10_000, 2).compactIfNeeded(CONVERSATION_ID);
+
+        verify(chatMemorySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 최근 턴 앞의 메시지를 요약하고, 메모리 행은 지우지 않고 요약 순번만 기록한다")
+    void overBudget_summarizesOlderTurns() {
+        givenMessages(turns(4, "긴 질문 ".repeat(20)));
+
+        compactor(100, 2).compactIfNeeded(CONVERSATION_ID);
+
+        ArgumentCaptor<ChatMemorySummary> summary = ArgumentCaptor.forClass(ChatMemorySummary.class);
+        verify(chatMemorySummaryRepository).save(summary.capture());
+        assertThat(summary.getValue().getContent()).isEqualTo("홍길동(/employees/1) 정보를 조회함");
+        assertThat(summary.getValue().getSummarizedUntilSequenceNo()).isEqualTo(4L);
+        verify(chatMemoryMessageRepository).findUnsummarizedByConversationIdOrderBySequenceNoDesc(eq(CONVERSATION_ID), any(Limit.class));
+        verifyNoMoreInteractions(chatMemoryMessageRepository);
+    }
+
+    private ChatMemoryCompactor compactor(int tokenBudget, int keepRecentTurns) {
+        ChatClient.Builder chatClientBuilder = mock(ChatClient.Builder.class);
+        given(chatClientBuilder.build()).willReturn(chatClient);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        return new ChatMemoryCompactor(
+                chatClientBuilder,
+                chatMemoryMessageRepository,
+                chatMemorySummaryRepository,
+                transactionManager,
+                new ApplicationMetricsRecorder(new SimpleMeterRegistry()),
+                50,
+                tokenBudget,
+                keepRecentTurns
+        );
+    }
+
+    /**
+     * 사용자/어시스턴트 메시지가 번갈아 오는 턴을 순번 1부터 만든다.
+     */
+    private List<ChatMemoryMessage> turns(int count, String question) {
+        List<ChatMemoryMessage> messages = new ArrayList<>();
+        long sequenceNo = 1;
+        for (int turn = 1; turn <= count; turn++) {
+            messages.add(new ChatMemoryMessage(CONVERSATION_ID, sequenceNo++, MessageType.USER, question + turn));
+            messages.add(new ChatMemoryMessage(CONVERSATION_ID, sequenceNo++, MessageType.ASSISTANT, "답변" + turn));
+        }
+        return messages;
+    }
+
+    private void givenMessages(List<ChatMemoryMessage> ascending) {
+        List<ChatMemoryMessage> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+        given(chatMemoryMessageRepository.findUnsummarizedByConversationIdOrderBySequenceNoDesc(eq(CONVERSATION_ID), any(Limit.class)))
+                .willReturn(descending);
+    }
+
+}
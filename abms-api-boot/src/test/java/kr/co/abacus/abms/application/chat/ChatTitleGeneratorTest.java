@@ -0,0 +1,138 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
+import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+import kr.co.abacus.abms.domain.chat.ChatSession;
+
+@DisplayName("백그라운드 채팅 제목 생성")
+class ChatTitleGeneratorTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    private final List<String> prompts = new ArrayList<>();
+    private String modelResponse = "";
+
+    /**
+     * 받은 프롬프트를 기록하고 modelResponse를 돌려주는 로컬 스텁 모델
+     */
+    private final ChatModel stubModel = prompt -> {
+        prompts.add(prompt.getContents());
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(modelResponse))));
+    };
+    private final ChatSessionRepository chatSessionRepository = mock(ChatSessionRepository.class);
+    private final ChatMemoryMessageRepository chatMemoryMessageRepository = mock(ChatMemoryMessageRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatTitleGenerator chatTitleGenerator;
+
+    @BeforeEach
+    void setUp() {
+        ChatClient.Builder chatClientBuilder = mock(ChatClient.Builder.class);
+        given(chatClientBuilder.build()).willReturn(ChatClient.create(stubModel));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        chatTitleGenerator = new ChatTitleGenerator(
+                chatClientBuilder,
+                chatSessionRepository,
+                chatMemoryMessageRepository,
+                transactionManager,
+                new ApplicationMetricsRecorder(meterRegistry),
+                8,
+                0,
+                100
+        );
+    }
+
+    @Test
+    @DisplayName("여러 세션의 제목을 한 번의 모델 호출로 만든다")
+    void generatesTitlesForSeveralSessionsInOneCall() {
+        ChatSession first = session("session-1", ChatTitleGenerator.fallbackTitle("홍길동 직원의 부서를 알려줘"));
+        ChatSession second = session("session-2", ChatTitleGenerator.fallbackTitle("이번 달 매출 집계 보여줘"));
+        modelResponse = """
+                1: 홍길동 소속 부서 조회
+                2: 이번 달 매출 현황
+                """;
+
+        chatTitleGenerator.generate(List.of(
+                ChatTitleRequest.initial(ACCOUNT_ID, "session-1", "홍길동 직원의 부서를 알려줘"),
+                ChatTitleRequest.initial(ACCOUNT_ID, "session-2", "이번 달 매출 집계 보여줘")
+        ));
+
+        assertThat(prompts).hasSize(1);
+        assertThat(prompts.getFirst()).contains("[1]", "[2]");
+        assertThat(first.getTitle()).isEqualTo("홍길동 소속 부서 조회");
+        assertThat(second.getTitle()).isEqualTo("이번 달 매출 현황");
+        assertThat(meterRegistry.get("abms.chat.title.generations.total").tag("outcome", "applied").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자가 바꾼 제목은 덮어쓰지 않는다")
+    void keepsTitleRenamedByUser() {
+        ChatSession renamed = session("session-1", "내가 정한 제목");
+        modelResponse = "1: 홍길동 소속 부서 조회";
+
+        chatTitleGenerator.generate(List.of(ChatTitleRequest.initial(ACCOUNT_ID, "session-1", "홍길동 직원의 부서를 알려줘")));
+
+        assertThat(renamed.getTitle()).isEqualTo("내가 정한 제목");
+        verify(chatSessionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다시 만드는 제목은 메모리의 최근 사용자 메시지를 한 번만 읽어 만든다")
+    void refinesWithRecentUserMessages() {
+        ChatSession session = session("session-1", ChatTitleGenerator.fallbackTitle("안녕"));
+        given(chatMemoryMessageRepository.findByConversationIdOrderBySequenceNoDesc(eq("session-1"), any(Limit.class)))
+                .willReturn(List.of(
+                        new ChatMemoryMessage("session-1", 6, MessageType.ASSISTANT, "답변3"),
+                        new ChatMemoryMessage("session-1", 5, MessageType.USER, "프로젝트 투입 인력도 보여줘"),
+                        new ChatMemoryMessage("session-1", 4, MessageType.ASSISTANT, "답변2"),
+                        new ChatMemoryMessage("session-1", 3, MessageType.USER, "알파 프로젝트 상세 알려줘"),
+                        new ChatMemoryMessage("session-1", 2, MessageType.ASSISTANT, "답변1"),
+                        new ChatMemoryMessage("session-1", 1, MessageType.USER, "안녕")
+                ));
+        modelResponse = "1: 알파 프로젝트 투입 인력";
+
+        chatTitleGenerator.generate(List.of(ChatTitleRequest.refine(ACCOUNT_ID, "session-1")));
+
+        assertThat(prompts).hasSize(1);
+        assertThat(prompts.getFirst()).contains("알파 프로젝트 상세 알려줘", "프로젝트 투입 인력도 보여줘");
+        assertThat(session.getTitle()).isEqualTo("알파 프로젝트 투입 인력");
+    }
+
+    private ChatSession session(String sessionId, String title) {
+        ChatSession session = ChatSession.create(title, sessionId, ACCOUNT_ID);
+        given(chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, ACCOUNT_ID))
+                .willReturn(Optional.of(session));
+        return session;
+    }
+
+}
@@ -0,0 +1,136 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
+import kr.co.abacus.abms.domain.chat.ChatSession;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+@DisplayName("채팅 세션 제목 관리 (ChatTitleService)")
+class ChatTitleServiceTest extends IntegrationTestBase {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    @Autowired
+    private ChatTitleService chatTitleService;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @MockitoBean
+    private ChatTitleGenerator chatTitleGenerator;
+
+    @Test
+    @DisplayName("첫 메시지는 입력으로 만든 임시 제목을 붙이고, 커밋 전에는 제목 생성 대기열에 넣지 않는다")
+    void recordUserMessage_firstMessageSetsFallbackTitle() {
+        String sessionId = createSession();
+        String userMessage = "이번 달 매출 현황 알려줘";
+
+        int userMessageCount = chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, userMessage);
+        flushAndClear();
+
+        assertThat(userMessageCount).isEqualTo(1);
+        assertThat(findSession(sessionId).getTitle()).isEqualTo(ChatTitleGenerator.fallbackTitle(userMessage));
+        verify(chatTitleGenerator, never()).enqueue(any());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @DisplayName("첫 메시지의 제목 생성 요청은 트랜잭션이 커밋된 뒤에 대기열에 넣는다")
+    void recordUserMessage_enqueuesInitialTitleAfterCommit() {
+        String sessionId = createSession();
+
+        chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "프로젝트 일정 정리");
+        verify(chatTitleGenerator, never()).enqueue(any());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        verify(chatTitleGenerator).enqueue(ChatTitleRequest.initial(ACCOUNT_ID, sessionId, "프로젝트 일정 정리"));
+    }
+
+    @Test
+    @DisplayName("롤백된 첫 메시지는 제목 생성 대기열에 넣지 않는다")
+    void recordUserMessage_doesNotEnqueueOnRollback() {
+        String sessionId = createSession();
+
+        chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "프로젝트 일정 정리");
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        verify(chatTitleGenerator, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("사용자 메시지가 세 번째가 된 턴에만 제목을 다시 만든다")
+    void refineTitleIfNeeded_refinesAtThirdMessage() {
+        String sessionId = createSession();
+
+        int first = chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "첫 질문");
+        int second = chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "두 번째 질문");
+        chatTitleService.refineTitleIfNeeded(ACCOUNT_ID, sessionId, second);
+        verify(chatTitleGenerator, never()).enqueue(ChatTitleRequest.refine(ACCOUNT_ID, sessionId));
+
+        int third = chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "세 번째 질문");
+        chatTitleService.refineTitleIfNeeded(ACCOUNT_ID, sessionId, third);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(third).isEqualTo(3);
+        verify(chatTitleGenerator).enqueue(ChatTitleRequest.refine(ACCOUNT_ID, sessionId));
+    }
+
+    @Test
+    @DisplayName("먼저 읽어 둔 세션 엔티티를 저장해도 DB에서 늘린 메시지 수를 덮어쓰지 않는다")
+    void recordUserMessage_keepsCountWhenStaleEntityIsSaved() {
+        String sessionId = createSession();
+        ChatSession staleSession = findSession(sessionId);
+
+        chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "첫 질문");
+        chatTitleService.recordUserMessage(ACCOUNT_ID, sessionId, "두 번째 질문");
+        staleSession.updateTitle("직접 바꾼 제목");
+        chatSessionRepository.save(staleSession);
+        flushAndClear();
+
+        ChatSession session = findSession(sessionId);
+        assertThat(session.getTitle()).isEqualTo("직접 바꾼 제목");
+        assertThat(session.getUserMessageCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 계정의 세션이나 없는 세션은 기록하지 않는다")
+    void recordUserMessage_returnsZeroForUnknownSession() {
+        String sessionId = createSession();
+
+        int userMessageCount = chatTitleService.recordUserMessage(2L, sessionId, "질문");
+        flushAndClear();
+
+        assertThat(userMessageCount).isZero();
+        assertThat(findSession(sessionId).getUserMessageCount()).isZero();
+        verify(chatTitleGenerator, never()).enqueue(any());
+    }
+
+    private String createSession() {
+        String sessionId = UUID.randomUUID().toString();
+        chatSessionRepository.save(ChatSession.create(ChatTitleGenerator.DEFAULT_TITLE, sessionId, ACCOUNT_ID));
+        flushAndClear();
+        return sessionId;
+    }
+
+    private ChatSession findSession(String sessionId) {
+        return chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, ACCOUNT_ID).orElseThrow();
+    }
+
+}
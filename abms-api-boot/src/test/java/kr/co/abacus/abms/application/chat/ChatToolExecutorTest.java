@@ -0,0 +1,73 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+@DisplayName("채팅 도구 실행 계층")
+class ChatToolExecutorTest {
+
+    private static final String HONG = "{\"name\":\"홍길동\"}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatToolExecutor chatToolExecutor = new ChatToolExecutor(new ApplicationMetricsRecorder(meterRegistry));
+
+    @Test
+    @DisplayName("같은 턴에서 같은 인자로 다시 호출하면 도구를 다시 실행하지 않는다")
+    void memoizesSameInputWithinTurn() {
+        CountingTools tools = new CountingTools();
+        ToolCallback callback = chatToolExecutor.callbacksForTurn(tools)[0];
+
+        String first = callback.call(HONG);
+        String second = callback.call(HONG);
+        callback.call("{\"name\":\"김철수\"}");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(tools.calls).hasValue(2);
+        Counter memoHits = meterRegistry.find("abms.chat.tool.memo.hits.total").tag("tool", "findEmployee").counter();
+        assertThat(memoHits).isNotNull();
+        assertThat(memoHits.count()).isEqualTo(1);
+        Timer duration = meterRegistry.find("abms.chat.tool.duration").tag("tool", "findEmployee").timer();
+        assertThat(duration).isNotNull();
+        assertThat(duration.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("턴이 바뀌면 결과를 다시 조회하고, 미리 실행한 결과는 재사용으로 세지 않는다")
+    void separatesTurnsAndPrefetch() {
+        CountingTools tools = new CountingTools();
+        ChatToolExecutor.TurnToolCallback firstTurn =
+                (ChatToolExecutor.TurnToolCallback) chatToolExecutor.callbacksForTurn(tools)[0];
+        ToolCallback secondTurn = chatToolExecutor.callbacksForTurn(tools)[0];
+
+        firstTurn.prefetch(HONG);
+        firstTurn.call(HONG);
+        secondTurn.call(HONG);
+
+        assertThat(tools.calls).hasValue(2);
+        assertThat(meterRegistry.find("abms.chat.tool.memo.hits.total").counter()).isNull();
+    }
+
+    public static class CountingTools {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Tool(description = "이름으로 직원을 찾는다")
+        public String findEmployee(String name) {
+            calls.incrementAndGet();
+            return "직원:" + name;
+        }
+    }
+
+}
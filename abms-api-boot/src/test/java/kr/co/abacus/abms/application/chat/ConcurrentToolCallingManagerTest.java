@@ -0,0 +1,108 @@
+package kr.co.abacus.abms.application.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+@DisplayName("도구 호출 동시 실행 관리자 (ConcurrentToolCallingManager)")
+class ConcurrentToolCallingManagerTest {
+
+    private final ChatToolExecutor chatToolExecutor =
+            new ChatToolExecutor(new ApplicationMetricsRecorder(new SimpleMeterRegistry()));
+    private final ConcurrentToolCallingManager manager = new ConcurrentToolCallingManager(
+            new DefaultListableBeanFactory().getBeanProvider(ObservationRegistry.class));
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 응답의 도구 두 개를 동시에 한 번씩 실행하고, 대화 이력은 요청 순서대로 돌려준다")
+    void executesBlockingToolsConcurrentlyOnce() {
+        BlockingTools tools = new BlockingTools();
+        ToolCallback[] callbacks = chatToolExecutor.callbacksForTurn(tools);
+        Prompt prompt = new Prompt(
+                List.of(new UserMessage("홍길동의 부서와 프로젝트를 알려줘")),
+                ToolCallingChatOptions.builder().toolCallbacks(List.of(callbacks)).build());
+        AssistantMessage toolRequest = AssistantMessage.builder()
+                .content("")
+                .toolCalls(List.of(
+                        new AssistantMessage.ToolCall("call-1", "function", "findDepartment", "{\"name\":\"홍길동\"}"),
+                        new AssistantMessage.ToolCall("call-2", "function", "findProjects", "{\"name\":\"홍길동\"}")))
+                .build();
+
+        ToolExecutionResult result = manager.executeToolCalls(prompt, new ChatResponse(List.of(new Generation(toolRequest))));
+
+        assertThat(tools.departmentCalls).hasValue(1);
+        assertThat(tools.projectCalls).hasValue(1);
+
+        List<Message> history = result.conversationHistory();
+        assertThat(history).hasSize(3);
+        assertThat(history.get(0)).isInstanceOf(UserMessage.class);
+        assertThat(history.get(1)).isSameAs(toolRequest);
+        assertThat(history.get(2)).isInstanceOfSatisfying(ToolResponseMessage.class, message ->
+                assertThat(message.getResponses())
+                        .extracting(ToolResponseMessage.ToolResponse::id, ToolResponseMessage.ToolResponse::name)
+                        .containsExactly(
+                                tuple("call-1", "findDepartment"),
+                                tuple("call-2", "findProjects")));
+        // 두 도구가 서로의 시작을 기다리므로, 순서대로 실행했다면 "alone"이 남는다
+        assertThat(((ToolResponseMessage) history.get(2)).getResponses())
+                .extracting(ToolResponseMessage.ToolResponse::responseData)
+                .allSatisfy(data -> assertThat(data).contains("overlapped"));
+    }
+
+    /**
+     * 두 도구가 모두 시작될 때까지 기다렸다가 끝나는 도구. 동시에 실행되지 않으면 대기 시간이 지나 "alone"을 돌려준다.
+     */
+    public static class BlockingTools {
+
+        private final CountDownLatch bothStarted = new CountDownLatch(2);
+        private final AtomicInteger departmentCalls = new AtomicInteger();
+        private final AtomicInteger projectCalls = new AtomicInteger();
+
+        @Tool(description = "이름으로 직원의 부서를 찾는다")
+        public String findDepartment(String name) throws InterruptedException {
+            departmentCalls.incrementAndGet();
+            return "부서:" + name + ":" + awaitOther();
+        }
+
+        @Tool(description = "이름으로 직원의 프로젝트를 찾는다")
+        public String findProjects(String name) throws InterruptedException {
+            projectCalls.incrementAndGet();
+            return "프로젝트:" + name + ":" + awaitOther();
+        }
+
+        private String awaitOther() throws InterruptedException {
+            bothStarted.countDown();
+            return bothStarted.await(2, TimeUnit.SECONDS) ? "overlapped" : "alone";
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package kr.co.abacus.abms.application.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import kr.co.abacus.abms.application.dashboard.dto.DashboardDepartmentFinancialItem;
+import kr.co.abacus.abms.application.dashboard.dto.DashboardMonthlyFinancialItem;
+import kr.co.abacus.abms.application.dashboard.inbound.DashboardFinder;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
+import kr.co.abacus.abms.application.summary.outbound.CompanyMonthlyCostSummaryRepository;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.summary.CompanyMonthlyCostSummary;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+/**
+ * 대시보드 화면 한 번의 재무 조회(월별 추이, 부서별 손익)가 연도 집계 캐시를 함께 쓰는지 실행된 SQL 수로 확인한다.
+ * 지연 시간은 실행 환경마다 달라 비교하지 않는다.
+ */
+@DisplayName("대시보드 연도 집계 캐시")
+class DashboardYearlyAggregateCacheTest extends IntegrationTestBase {
+
+    private static final int YEAR = 2024;
+    private static final int DEPARTMENT_COUNT = 2;
+    private static final int PROJECTS_PER_DEPARTMENT = 2;
+
+    @Autowired
+    private DashboardFinder dashboardFinder;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
+
+    @Autowired
+    private CompanyMonthlyCostSummaryRepository companyMonthlyCostSummaryRepository;
+
+    @AfterEach
+    void tearDown() {
+        dashboardFinder.clearYearlyAggregateCache();
+    }
+
+    @Test
+    @DisplayName("첫 조회는 연도 집계를 두 쿼리로 계산하고, 이후 조회는 SQL 없이 같은 결과를 돌려준다")
+    void secondPageLoadRunsNoSql() {
+        seedYear();
+        flushAndClear();
+        dashboardFinder.clearYearlyAggregateCache();
+
+        List<DashboardMonthlyFinancialItem> coldMonthly;
+        List<DashboardDepartmentFinancialItem> coldDepartments;
+        try (SqlStatementRecorder.Scope cold = sqlStatementRecorder.open("test", "dashboard-aggregate-cold")) {
+            coldMonthly = dashboardFinder.getMonthlyFinancials(YEAR);
+            coldDepartments = dashboardFinder.getDepartmentFinancials(YEAR, 5);
+
+            assertThat(cold.statementCount()).isEqualTo(2);
+        }
+
+        try (SqlStatementRecorder.Scope warm = sqlStatementRecorder.open("test", "dashboard-aggregate-warm")) {
+            assertThat(dashboardFinder.getMonthlyFinancials(YEAR)).isEqualTo(coldMonthly);
+            assertThat(dashboardFinder.getDepartmentFinancials(YEAR, 5)).isEqualTo(coldDepartments);
+
+            assertThat(warm.statementCount()).isZero();
+        }
+
+        assertThat(coldMonthly).hasSize(12);
+        assertThat(coldDepartments).hasSize(DEPARTMENT_COUNT);
+    }
+
+    private void seedYear() {
+        List<MonthlyRevenueSummary> summaries = new ArrayList<>();
+        List<CompanyMonthlyCostSummary> companyCosts = new ArrayList<>();
+        long projectId = 90_000L;
+        for (int departmentIndex = 0; departmentIndex < DEPARTMENT_COUNT; departmentIndex++) {
+            Department department = departmentRepository.save(Department.create(
+                    "CACHE-DASH-" + departmentIndex,
+                    "캐시검증팀" + departmentIndex,
+                    DepartmentType.TEAM,
+                    null,
+                    null
+            ));
+            for (int projectIndex = 0; projectIndex < PROJECTS_PER_DEPARTMENT; projectIndex++) {
+                projectId++;
+                for (int month = 1; month <= 12; month++) {
+                    summaries.add(MonthlyRevenueSummary.create(new MonthlyRevenueSummaryCreateRequest(
+                            projectId,
+                            "CACHE-" + projectId,
+                            "캐시 검증 프로젝트",
+                            department.getIdOrThrow(),
+                            department.getCode(),
+                            department.getName(),
+                            LocalDate.of(YEAR, month, 1),
+                            Money.wons(10_000_000L),
+                            Money.wons(7_000_000L),
+                            Money.wons(3_000_000L)
+                    )));
+                }
+            }
+        }
+        for (int month = 1; month <= 12; month++) {
+            companyCosts.add(CompanyMonthlyCostSummary.create(
+                    LocalDate.of(YEAR, month, 1),
+                    Money.wons(100_000_000L),
+                    Money.wons(80_000_000L),
+                    Money.wons(20_000_000L)
+            ));
+        }
+        monthlyRevenueSummaryRepository.saveAll(summaries);
+        companyMonthlyCostSummaryRepository.saveAll(companyCosts);
+    }
+
+}
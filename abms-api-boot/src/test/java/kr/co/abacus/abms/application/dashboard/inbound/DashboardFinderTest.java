@@ -3,16 +3,25 @@ package kr.co.abacus.abms.application.dashboard.inbound;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
+import kr.co.abacus.abms.application.dashboard.dto.DashboardMonthlyFinancialItem;
 import kr.co.abacus.abms.application.dashboard.dto.DashboardSummaryResponse;
+import kr.co.abacus.abms.application.dashboard.dto.DashboardUpcomingDeadlineItem;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
 import kr.co.abacus.abms.application.party.outbound.PartyRepository;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
 import kr.co.abacus.abms.domain.department.Department;
 import kr.co.abacus.abms.domain.department.DepartmentType;
 import kr.co.abacus.abms.domain.employee.Employee;
@@ -24,6 +33,9 @@ import kr.co.abacus.abms.domain.party.Party;
 import kr.co.abacus.abms.domain.party.PartyCreateRequest;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
+import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
 import kr.co.abacus.abms.support.IntegrationTestBase;
 
 @DisplayName("대시보드 조회 (DashboardFinder)")
@@ -44,6 +56,20 @@ class DashboardFinderTest extends IntegrationTestBase {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @BeforeEach
+    void setUp() {
+        dashboardFinder.clearYearlyAggregateCache();
+    }
+
     @Test
     @DisplayName("대시보드 집계는 삭제되지 않은 직원과 프로젝트만 반영한다")
     void getDashboardSummary() {
@@ -88,6 +114,76 @@ class DashboardFinderTest extends IntegrationTestBase {
         assertThat(summary.yearProfit()).isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("연도 재무 집계는 캐시를 재사용하고 초기화 후 다시 계산한다")
+    void getMonthlyFinancials_reusesYearlyAggregateCache() {
+        Department department = departmentRepository.save(Department.create("TEAM-DASHBOARD-CACHE", "대시보드캐시팀", DepartmentType.TEAM, null, null));
+        monthlyRevenueSummaryRepository.saveAll(List.of(createSummary(department, 201L, LocalDate.of(2025, 3, 1), 10_000_000L)));
+        flushAndClear();
+
+        Cache cache = Objects.requireNonNull(cacheManager.getCache("dashboardYearlyAggregate"));
+        assertThat(cache.get(2025)).isNull();
+
+        List<DashboardMonthlyFinancialItem> first = dashboardFinder.getMonthlyFinancials(2025);
+        assertThat(cache.get(2025)).isNotNull();
+
+        monthlyRevenueSummaryRepository.saveAll(List.of(createSummary(department, 202L, LocalDate.of(2025, 3, 1), 5_000_000L)));
+        flushAndClear();
+
+        assertThat(dashboardFinder.getMonthlyFinancials(2025).get(2).revenue()).isEqualTo(first.get(2).revenue());
+        assertThat(dashboardFinder.getDashboardSummary(2025).yearRevenue()).isEqualTo(10_000_000L);
+
+        dashboardFinder.clearYearlyAggregateCache();
+
+        assertThat(dashboardFinder.getMonthlyFinancials(2025).get(2).revenue()).isEqualTo(15_000_000L);
+        assertThat(dashboardFinder.getDepartmentFinancials(2025, 5))
+                .singleElement()
+                .satisfies(item -> assertThat(item.revenue()).isEqualTo(15_000_000L));
+    }
+
+    @Test
+    @DisplayName("마감 임박 프로젝트는 협력사명까지 한 번의 쿼리로 상위 N건만 조회한다")
+    void getUpcomingDeadlines_singleQuery() {
+        Department department = departmentRepository.save(Department.create("TEAM-DASH-TOPN", "마감상위팀", DepartmentType.TEAM, null, null));
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 10; i++) {
+            Party party = partyRepository.save(Party.create(new PartyCreateRequest("마감상위 협력사" + i, null, null, null, null)));
+            projectRepository.save(createProject("PRJ-DASH-TOPN-" + i, party.getIdOrThrow(), department.getIdOrThrow(),
+                    i % 2 == 0 ? ProjectStatus.IN_PROGRESS : ProjectStatus.ON_HOLD, today.plusDays(i)));
+            if (i == 0) {
+                party.softDelete(null);
+            }
+        }
+        projectRepository.save(createProject("PRJ-DASH-TOPN-DONE", partyRepository.save(Party.create(
+                        new PartyCreateRequest("마감상위 완료 협력사", null, null, null, null))).getIdOrThrow(),
+                department.getIdOrThrow(), ProjectStatus.COMPLETED, today.minusDays(1)));
+        flushAndClear();
+
+        try (SqlStatementRecorder.Scope scope = sqlStatementRecorder.open("test", "dashboard-upcoming-deadlines")) {
+            List<DashboardUpcomingDeadlineItem> deadlines = dashboardFinder.getUpcomingDeadlines(5);
+
+            assertThat(deadlines).extracting(DashboardUpcomingDeadlineItem::daysLeft).containsExactly(0L, 1L, 2L, 3L, 4L);
+            assertThat(deadlines).extracting(DashboardUpcomingDeadlineItem::partyName)
+                    .containsExactly("협력사 미확인", "마감상위 협력사1", "마감상위 협력사2", "마감상위 협력사3", "마감상위 협력사4");
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+    }
+
+    private MonthlyRevenueSummary createSummary(Department department, Long projectId, LocalDate targetMonth, long revenue) {
+        return MonthlyRevenueSummary.create(new MonthlyRevenueSummaryCreateRequest(
+                projectId,
+                "CACHE-" + projectId,
+                "캐시 프로젝트",
+                department.getIdOrThrow(),
+                department.getCode(),
+                department.getName(),
+                targetMonth,
+                Money.wons(revenue),
+                Money.zero(),
+                Money.wons(revenue)
+        ));
+    }
+
     private Employee createEmployee(Long departmentId, String email, LocalDate joinDate) {
         return Employee.create(
                 departmentId,
@@ -104,6 +200,10 @@ class DashboardFinderTest extends IntegrationTestBase {
     }
 
     private Project createProject(String code, Long partyId, Long leadDepartmentId, ProjectStatus status) {
+        return createProject(code, partyId, leadDepartmentId, status, LocalDate.of(2024, 12, 31));
+    }
+
+    private Project createProject(String code, Long partyId, Long leadDepartmentId, ProjectStatus status, LocalDate endDate) {
         return Project.create(
                 partyId,
                 leadDepartmentId,
@@ -113,7 +213,7 @@ class DashboardFinderTest extends IntegrationTestBase {
                 status,
                 100_000_000L,
                 LocalDate.of(2024, 1, 1),
-                LocalDate.of(2024, 12, 31)
+                endDate
         );
     }
 
@@ -0,0 +1,70 @@
+package kr.co.abacus.abms.application.department;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("부서 트리 closure 인덱스 (DepartmentClosureIndex)")
+class DepartmentClosureIndexTest extends IntegrationTestBase {
+
+    @Autowired
+    private DepartmentClosureIndex departmentClosureIndex;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Test
+    @DisplayName("하위 부서를 전위 순서로 반환하고 두 번째 조회부터는 DB에 가지 않는다")
+    void descendantsOf() {
+        Department division = departmentRepository.save(Department.create("CLOSURE-DIV", "클로저본부", DepartmentType.DIVISION, null, null));
+        Department teamA = departmentRepository.save(Department.create("CLOSURE-TEAM-A", "클로저A팀", DepartmentType.TEAM, null, division));
+        Department teamB = departmentRepository.save(Department.create("CLOSURE-TEAM-B", "클로저B팀", DepartmentType.TEAM, null, division));
+        Department partA = departmentRepository.save(Department.create("CLOSURE-PART-A", "클로저A파트", DepartmentType.TEAM, null, teamA));
+        flushAndClear();
+
+        assertThat(departmentClosureIndex.descendantsOf(division.getIdOrThrow()))
+                .containsExactly(division.getIdOrThrow(), teamA.getIdOrThrow(), partA.getIdOrThrow(), teamB.getIdOrThrow());
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(departmentClosureIndex.descendantsOf(teamA.getIdOrThrow()))
+                .containsExactly(teamA.getIdOrThrow(), partA.getIdOrThrow());
+        assertThat(departmentClosureIndex.descendantsOf(teamB.getIdOrThrow()))
+                .containsExactly(teamB.getIdOrThrow());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 새로 추가된 하위 부서를 반영한다")
+    void invalidate() {
+        Department division = departmentRepository.save(Department.create("CLOSURE-DIV", "클로저본부", DepartmentType.DIVISION, null, null));
+        flushAndClear();
+        assertThat(departmentClosureIndex.descendantsOf(division.getIdOrThrow())).containsExactly(division.getIdOrThrow());
+
+        Department team = departmentRepository.save(Department.create("CLOSURE-TEAM", "클로저팀", DepartmentType.TEAM, null, division));
+        flushAndClear();
+        departmentClosureIndex.invalidate();
+
+        assertThat(departmentClosureIndex.descendantsOf(division.getIdOrThrow()))
+                .containsExactly(division.getIdOrThrow(), team.getIdOrThrow());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 부서는 자기 자신만 반환한다")
+    void descendantsOf_unknownDepartment() {
+        assertThat(departmentClosureIndex.descendantsOf(-1L)).containsExactly(-1L);
+    }
+
+}
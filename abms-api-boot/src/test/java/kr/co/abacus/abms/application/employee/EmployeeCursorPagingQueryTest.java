@@ -0,0 +1,147 @@
+package kr.co.abacus.abms.application.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
+import kr.co.abacus.abms.application.employee.inbound.EmployeeFinder;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeBulkWriter;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
+import kr.co.abacus.abms.application.shared.dto.SearchCursor;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+/**
+ * 직원 목록 깊은 페이지를 offset 방식과 키셋(커서) 방식으로 조회해 실행된 SQL을 비교한다.
+ * 지연 시간은 실행 환경마다 달라 비교하지 않고, 커서 조회가 앞 페이지를 건너뛰는 OFFSET과 count 쿼리 없이
+ * (join_date, id) 범위 조건 한 번으로 같은 행을 돌려주는지만 확인한다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "kr.co.abacus.abms.application.employee.EmployeeCursorPagingQueryTest$RecordingStatementInspector")
+@DisplayName("직원 목록 커서 페이지네이션 쿼리")
+class EmployeeCursorPagingQueryTest extends IntegrationTestBase {
+
+    private static final int EMPLOYEE_COUNT = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 5;
+    private static final LocalDate FIRST_JOIN_DATE = LocalDate.of(1970, 1, 1);
+
+    @Autowired
+    private EmployeeFinder employeeFinder;
+
+    @Autowired
+    private EmployeeBulkWriter employeeBulkWriter;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Test
+    @DisplayName("깊은 페이지에서 커서 조회는 OFFSET과 count 없이 키셋 조건 한 번으로 offset 조회와 같은 행을 돌려준다")
+    void deepPage_offsetVsCursor() {
+        EmployeeSearchCondition condition = seedEmployees();
+        PageRequest deepPage = PageRequest.of(DEEP_PAGE, PAGE_SIZE, Sort.by(Sort.Order.asc("joinDate")));
+
+        List<EmployeeSummary> previousPage = employeeFinder.search(condition, deepPage.previous()).getContent();
+        EmployeeSummary lastOfPrevious = previousPage.getLast();
+        String cursor = new SearchCursor("joinDate", Sort.Direction.ASC, lastOfPrevious.employeeId(),
+                lastOfPrevious.joinDate().toString()).encode();
+        CursorPageRequest cursorRequest = CursorPageRequest.of(cursor, deepPage, false);
+
+        RecordingStatementInspector.clear();
+        Page<EmployeeSummary> offsetResult = employeeFinder.search(condition, deepPage);
+        List<String> offsetStatements = RecordingStatementInspector.statements();
+
+        RecordingStatementInspector.clear();
+        CursorPage<EmployeeSummary> cursorResult = employeeFinder.searchByCursor(condition, cursorRequest);
+        List<String> cursorStatements = RecordingStatementInspector.statements();
+
+        assertThat(cursorResult.content()).extracting(EmployeeSummary::employeeId)
+                .containsExactlyElementsOf(offsetResult.getContent().stream().map(EmployeeSummary::employeeId).toList());
+        assertThat(cursorResult.totalElements()).isNull();
+
+        assertThat(offsetStatements).hasSize(2);
+        assertThat(offsetStatements).anySatisfy(sql -> assertThat(sql).contains("offset"));
+        assertThat(offsetStatements).anySatisfy(sql -> assertThat(sql).contains("count("));
+
+        assertThat(cursorStatements).singleElement().satisfies(sql -> {
+            assertThat(sql).doesNotContain("offset").doesNotContain("count(");
+            assertThat(sql).containsPattern("join_date\\s*>\\s*\\?");
+            assertThat(sql).containsPattern("id\\s*>\\s*\\?");
+        });
+    }
+
+    private EmployeeSearchCondition seedEmployees() {
+        Department department = departmentRepository.save(Department.create(
+                "CURSOR-QUERY",
+                "커서쿼리팀",
+                DepartmentType.TEAM,
+                null,
+                null
+        ));
+        List<EmployeeCreateCommand> commands = new ArrayList<>(EMPLOYEE_COUNT);
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            commands.add(EmployeeCreateCommand.builder()
+                    .departmentId(department.getIdOrThrow())
+                    .email("cursor-query-" + i + "@abms.co")
+                    .name("커서" + i)
+                    .joinDate(FIRST_JOIN_DATE.plusDays(i))
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .position(EmployeePosition.ASSOCIATE)
+                    .type(EmployeeType.FULL_TIME)
+                    .grade(EmployeeGrade.JUNIOR)
+                    .avatar(EmployeeAvatar.SKY_GLOW)
+                    .build());
+        }
+        employeeBulkWriter.insertAll(commands, null);
+        flushAndClear();
+
+        return new EmployeeSearchCondition(null, null, null, null, null, List.of(department.getIdOrThrow()));
+    }
+
+    /**
+     * Hibernate가 준비하는 SQL을 그대로 기록한다. 설정 속성으로 클래스 이름을 넘기므로 public 기본 생성자가 필요하다.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+    }
+
+}
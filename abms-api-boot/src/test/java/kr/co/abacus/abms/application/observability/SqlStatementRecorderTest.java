@@ -0,0 +1,60 @@
+package kr.co.abacus.abms.application.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+import kr.co.abacus.abms.support.QueryBudget;
+
+@DisplayName("SQL 실행 집계 (SqlStatementRecorder)")
+class SqlStatementRecorderTest extends IntegrationTestBase {
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("범위 안의 SQL 실행 수와 같은 SQL 반복 횟수를 세고, 바깥 범위에도 함께 집계한다")
+    void countsStatementsPerScope() {
+        try (SqlStatementRecorder.Scope outer = sqlStatementRecorder.open("test", "outer")) {
+            jdbcTemplate.queryForObject("select count(*) from tb_department", Long.class);
+
+            try (SqlStatementRecorder.Scope inner = sqlStatementRecorder.open("test", "inner")) {
+                for (long id = 1; id <= 3; id++) {
+                    jdbcTemplate.queryForList("select id from tb_department where id = ?", Long.class, id);
+                }
+
+                assertThat(inner.statementCount()).isEqualTo(3);
+                assertThat(inner.maxRepeatedCount()).isEqualTo(3);
+                assertThat(inner.mostRepeatedSql()).isEqualTo("select id from tb_department where id = ?");
+            }
+
+            assertThat(outer.statementCount()).isEqualTo(4);
+            assertThat(sqlStatementRecorder.current()).isSameAs(outer);
+        }
+
+        assertThat(sqlStatementRecorder.current()).isNull();
+        assertThat(meterRegistry.find("abms.sql.statements").tag("scope", "test").tag("name", "inner").summary())
+                .isNotNull()
+                .satisfies(summary -> assertThat(summary.totalAmount()).isGreaterThanOrEqualTo(3));
+    }
+
+    @Test
+    @QueryBudget(maxStatements = 2, maxRepeatedStatements = 1)
+    @DisplayName("쿼리 예산 안에서 실행된 테스트는 통과한다")
+    void queryBudget() {
+        jdbcTemplate.queryForObject("select count(*) from tb_department", Long.class);
+        jdbcTemplate.queryForObject("select count(*) from tb_employee", Long.class);
+    }
+
+}
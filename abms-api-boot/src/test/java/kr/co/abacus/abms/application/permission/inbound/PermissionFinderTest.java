@@ -3,6 +3,7 @@ package kr.co.abacus.abms.application.permission.inbound;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +14,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import kr.co.abacus.abms.application.auth.outbound.AccountRepository;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.permission.PermissionEpoch;
 import kr.co.abacus.abms.application.permission.dto.GrantedPermissionDetail;
 import kr.co.abacus.abms.application.permission.dto.PermissionDetail;
+import kr.co.abacus.abms.application.permission.event.AccountPermissionsCacheInvalidationEventHandler;
+import kr.co.abacus.abms.application.permission.event.AccountPermissionsChangedEvent;
 import kr.co.abacus.abms.application.permission.outbound.AccountGroupAssignmentRepository;
 import kr.co.abacus.abms.application.permission.outbound.GroupPermissionGrantRepository;
 import kr.co.abacus.abms.application.permission.outbound.PermissionGroupRepository;
@@ -65,6 +69,15 @@ class PermissionFinderTest extends IntegrationTestBase {
     @Autowired
     private GroupPermissionGrantRepository groupPermissionGrantRepository;
 
+    @Autowired
+    private PermissionGroupAdminManager permissionGroupAdminManager;
+
+    @Autowired
+    private AccountPermissionsCacheInvalidationEventHandler accountPermissionsCacheInvalidationEventHandler;
+
+    @Autowired
+    private PermissionEpoch permissionEpoch;
+
     @Test
     @DisplayName("계정에 연결된 권한과 범위를 조회한다")
     void findPermissions() {
@@ -432,6 +445,62 @@ class PermissionFinderTest extends IntegrationTestBase {
         assertThat(result.permissions()).isEmpty();
     }
 
+    @Test
+    @DisplayName("해석한 권한은 캐시하고 권한 그룹 연결이 바뀌면 캐시를 비운다")
+    void cachePermissionsUntilAssignmentChanges() {
+        Long accountId = createAccount("permission-user-12@abacus.co.kr");
+        Permission permission = permissionRepository.save(Permission.create(
+                "party.read",
+                "협력사 조회",
+                "협력사 조회"
+        ));
+        PermissionGroup permissionGroup = permissionGroupRepository.save(PermissionGroup.create(
+                "협력사 조회 그룹",
+                "협력사 조회 그룹",
+                PermissionGroupType.CUSTOM
+        ));
+        AccountGroupAssignment assignment = accountGroupAssignmentRepository.save(
+                AccountGroupAssignment.create(accountId, permissionGroup.getIdOrThrow())
+        );
+        groupPermissionGrantRepository.save(GroupPermissionGrant.create(
+                permissionGroup.getIdOrThrow(),
+                permission.getIdOrThrow(),
+                PermissionScope.ALL
+        ));
+        flushAndClear();
+
+        PermissionDetail first = permissionFinder.findPermissions(accountId);
+        assignment.softDelete(1L);
+        accountGroupAssignmentRepository.save(assignment);
+        flushAndClear();
+        PermissionDetail cached = permissionFinder.findPermissions(accountId);
+
+        assertThat(cached).isSameAs(first);
+
+        permissionGroupAdminManager.assignAccount(permissionGroup.getIdOrThrow(), accountId);
+        flushAndClear();
+
+        assertThat(permissionFinder.findPermissions(accountId).permissions()).containsExactly(
+                new GrantedPermissionDetail("party.read", Set.of(PermissionScope.ALL))
+        );
+        assertThat(permissionFinder.findPermissions(accountId)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("권한 변경이 커밋되면 이전 epoch로 해석한 세션 권한은 오래된 것으로 판단한다")
+    void markResolvedPermissionsStaleAfterChange() {
+        Long accountId = createAccount("permission-user-13@abacus.co.kr");
+        long resolvedEpoch = permissionEpoch.current();
+
+        assertThat(permissionEpoch.isStale(accountId, resolvedEpoch)).isFalse();
+
+        accountPermissionsCacheInvalidationEventHandler.handle(new AccountPermissionsChangedEvent(List.of(accountId)));
+
+        assertThat(permissionEpoch.isStale(accountId, resolvedEpoch)).isTrue();
+        assertThat(permissionEpoch.isStale(accountId, permissionEpoch.current())).isFalse();
+        assertThat(permissionEpoch.isStale(9999L, resolvedEpoch)).isFalse();
+    }
+
     private Long createAccount(String email) {
         Department department = departmentRepository.save(Department.create(
                 "TEAM-" + Math.abs(email.hashCode()),
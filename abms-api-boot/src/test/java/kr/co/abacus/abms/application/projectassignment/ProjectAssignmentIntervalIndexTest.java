@@ -0,0 +1,108 @@
+package kr.co.abacus.abms.application.projectassignment;
+
+import static kr.co.abacus.abms.domain.project.ProjectFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
+import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.projectassignment.AssignmentRole;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignmentCreateRequest;
+import kr.co.abacus.abms.domain.shared.Period;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("프로젝트 투입 기간 인덱스 (ProjectAssignmentIntervalIndex)")
+class ProjectAssignmentIntervalIndexTest extends IntegrationTestBase {
+
+    private static final long PROJECT_ID = 9_001L;
+    private static final long EMPLOYEE_ID = 9_101L;
+
+    @Autowired
+    private ProjectAssignmentIntervalIndex intervalIndex;
+
+    @Autowired
+    private ProjectAssignmentRepository projectAssignmentRepository;
+
+    @Test
+    @DisplayName("한 번 만든 인덱스로 특정일 투입 여부와 직원별 겹침을 판단하고 두 번째 조회부터는 DB에 가지 않는다")
+    void answersFromIndexWithoutDatabase() {
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        flushAndClear();
+
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 3, 31))).isTrue();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 4, 1))).isFalse();
+        assertThat(intervalIndex.findOverlappingByEmployeeId(EMPLOYEE_ID, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1)))
+                .extracting(ProjectAssignmentInterval::projectId)
+                .containsExactly(PROJECT_ID);
+        assertThat(intervalIndex.findOverlappingByEmployeeId(EMPLOYEE_ID + 1, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 20))).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("특정일에 투입 중인 인원이 있는지 종료일 없는 투입까지 포함해 판단한다")
+    void hasActiveAssignment() {
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31));
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID + 1, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 10));
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID + 2, LocalDate.of(2026, 5, 1), null);
+        flushAndClear();
+
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 2, 20))).isTrue();
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 4, 15))).isFalse();
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2027, 1, 1))).isTrue();
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2025, 12, 31))).isFalse();
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID + 1, LocalDate.of(2026, 2, 20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("직원의 투입 중 조회 기간과 겹치는 투입만 시작일 순으로 반환한다")
+    void findOverlappingByEmployeeId() {
+        saveAssignment(PROJECT_ID + 1, EMPLOYEE_ID, LocalDate.of(2026, 3, 1), null);
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        saveAssignment(PROJECT_ID + 2, EMPLOYEE_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID + 1, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        flushAndClear();
+
+        assertThat(intervalIndex.findOverlappingByEmployeeId(EMPLOYEE_ID, LocalDate.of(2026, 1, 15), LocalDate.of(2026, 6, 30)))
+                .extracting(ProjectAssignmentInterval::projectId)
+                .containsExactly(PROJECT_ID, PROJECT_ID + 1);
+    }
+
+    @Test
+    @DisplayName("투입을 저장하면 무효화를 직접 호출하지 않아도 다음 조회에 반영한다")
+    void reflectsSavedAssignment() {
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 3, 15))).isFalse();
+
+        saveAssignment(PROJECT_ID, EMPLOYEE_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        flushAndClear();
+
+        assertThat(intervalIndex.hasActiveAssignment(PROJECT_ID, LocalDate.of(2026, 3, 15))).isTrue();
+    }
+
+    private ProjectAssignment saveAssignment(long projectId, long employeeId, LocalDate startDate, @Nullable LocalDate endDate) {
+        Project project = createProject();
+        ReflectionTestUtils.setField(project, "period", new Period(startDate, endDate));
+
+        return projectAssignmentRepository.save(ProjectAssignment.assign(
+                project,
+                new ProjectAssignmentCreateRequest(projectId, employeeId, AssignmentRole.DEV, startDate, endDate)
+        ));
+    }
+
+}
@@ -65,7 +65,22 @@ class ProjectAssignmentRepositoryTest extends IntegrationTestBase {
         assertThat(results).hasSize(5);
     }
 
-    private void saveAssignment(LocalDate start, LocalDate end) {
+    @Test
+    @DisplayName("중복 기간 검사: 같은 프로젝트, 같은 직원의 다른 투입과 하루라도 겹치면 존재한다고 답한다")
+    void existsOverlappingAssignment() {
+        saveAssignment(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        Long openEndedId = saveAssignment(LocalDate.of(2026, 6, 1), null);
+
+        assertTrue(projectAssignmentRepository.existsOverlappingAssignment(1L, 1L, null, LocalDate.of(2026, 3, 31), null));
+        assertTrue(projectAssignmentRepository.existsOverlappingAssignment(1L, 1L, null, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1)));
+        assertTrue(projectAssignmentRepository.existsOverlappingAssignment(1L, 1L, null, LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 31)));
+        assertFalse(projectAssignmentRepository.existsOverlappingAssignment(1L, 1L, null, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 5, 31)));
+        assertFalse(projectAssignmentRepository.existsOverlappingAssignment(1L, 1L, openEndedId, LocalDate.of(2026, 7, 1), null));
+        assertFalse(projectAssignmentRepository.existsOverlappingAssignment(1L, 2L, null, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 20)));
+        assertFalse(projectAssignmentRepository.existsOverlappingAssignment(2L, 1L, null, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 20)));
+    }
+
+    private Long saveAssignment(LocalDate start, LocalDate end) {
         // 프로젝트 구성
         Project project = createProject();
         ReflectionTestUtils.setField(project, "period", new Period(start, end));
@@ -75,7 +90,8 @@ class ProjectAssignmentRepositoryTest extends IntegrationTestBase {
             1L, 1L, AssignmentRole.DEV, start, end);
         ProjectAssignment assignment = ProjectAssignment.assign(project, projectAssignmentCreateRequest);
 
-        projectAssignmentRepository.save(assignment);
+        Long assignmentId = projectAssignmentRepository.save(assignment).getIdOrThrow();
         flushAndClear();
+        return assignmentId;
     }
 }
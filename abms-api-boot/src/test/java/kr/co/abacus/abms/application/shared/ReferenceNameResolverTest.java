@@ -0,0 +1,92 @@
+package kr.co.abacus.abms.application.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
+import kr.co.abacus.abms.application.party.outbound.PartyRepository;
+import kr.co.abacus.abms.domain.party.Party;
+import kr.co.abacus.abms.domain.party.PartyCreateRequest;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+/**
+ * 협력사 20건의 이름을 풀 때 기존 구현은 건마다 조회해 20회의 쿼리를 실행했다.
+ */
+@DisplayName("참조 이름 일괄 조회 (ReferenceNameResolver)")
+class ReferenceNameResolverTest extends IntegrationTestBase {
+
+    private static final int PARTY_COUNT = 20;
+
+    @Autowired
+    private ReferenceNameResolver referenceNameResolver;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @AfterEach
+    void tearDown() {
+        for (ReferenceNameType type : ReferenceNameType.values()) {
+            referenceNameResolver.clear(type);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 id를 한 번의 쿼리로 풀고, 다시 풀 때는 쿼리를 실행하지 않는다")
+    void resolvesMissesInSingleQuery() {
+        List<Long> partyIds = seedParties();
+
+        try (SqlStatementRecorder.Scope cold = sqlStatementRecorder.open("test", "reference-name-cold")) {
+            Map<Long, String> names = referenceNameResolver.partyNames(partyIds);
+
+            assertThat(names).hasSize(PARTY_COUNT);
+            assertThat(names.get(partyIds.getFirst())).isEqualTo("이름조회협력사0");
+            assertThat(cold.statementCount()).isEqualTo(1);
+        }
+
+        try (SqlStatementRecorder.Scope warm = sqlStatementRecorder.open("test", "reference-name-warm")) {
+            assertThat(referenceNameResolver.partyNames(partyIds)).hasSize(PARTY_COUNT);
+            assertThat(warm.statementCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("비운 id만 다시 읽고, 삭제된 대상은 결과에서 뺀다")
+    void evictReloadsOnlyChangedId() {
+        List<Long> partyIds = seedParties();
+        referenceNameResolver.partyNames(partyIds);
+
+        Party deletedParty = partyRepository.findByIdAndDeletedFalse(partyIds.getFirst()).orElseThrow();
+        deletedParty.softDelete(null);
+        flushAndClear();
+        referenceNameResolver.evict(ReferenceNameType.PARTY, partyIds.getFirst());
+
+        try (SqlStatementRecorder.Scope scope = sqlStatementRecorder.open("test", "reference-name-evict")) {
+            Map<Long, String> names = referenceNameResolver.partyNames(partyIds);
+
+            assertThat(names).hasSize(PARTY_COUNT - 1).doesNotContainKey(partyIds.getFirst());
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+    }
+
+    private List<Long> seedParties() {
+        List<Long> partyIds = new ArrayList<>();
+        for (int i = 0; i < PARTY_COUNT; i++) {
+            Party party = partyRepository.save(Party.create(new PartyCreateRequest("이름조회협력사" + i, null, null, null, null)));
+            partyIds.add(party.getIdOrThrow());
+        }
+        flushAndClear();
+        return partyIds;
+    }
+
+}
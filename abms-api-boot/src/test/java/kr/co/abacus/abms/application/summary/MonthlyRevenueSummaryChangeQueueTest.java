@@ -0,0 +1,232 @@
+package kr.co.abacus.abms.application.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import kr.co.abacus.abms.adapter.infrastructure.summary.RevenueMonthClosingRepository;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeCostPolicyRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.party.outbound.PartyRepository;
+import kr.co.abacus.abms.application.payroll.outbound.PayrollRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRevenuePlanRepository;
+import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.domain.employee.Employee;
+import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
+import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.domain.party.Party;
+import kr.co.abacus.abms.domain.party.PartyCreateRequest;
+import kr.co.abacus.abms.domain.payroll.Payroll;
+import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.project.ProjectRevenuePlan;
+import kr.co.abacus.abms.domain.project.ProjectRevenuePlanCreateRequest;
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+import kr.co.abacus.abms.domain.project.RevenueType;
+import kr.co.abacus.abms.domain.projectassignment.AssignmentRole;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignmentCreateRequest;
+import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
+import kr.co.abacus.abms.domain.summary.RevenueMonthClosing;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+@DisplayName("월별 손익 집계 변경 반영 (MonthlyRevenueSummaryChangeQueue)")
+class MonthlyRevenueSummaryChangeQueueTest extends IntegrationTestBase {
+
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2025, 3);
+
+    @Autowired
+    private MonthlyRevenueSummaryChangeQueue changeQueue;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectRevenuePlanRepository projectRevenuePlanRepository;
+
+    @Autowired
+    private ProjectAssignmentRepository projectAssignmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeMonthlyCostRepository employeeMonthlyCostRepository;
+
+    @Autowired
+    private EmployeeCostPolicyRepository employeeCostPolicyRepository;
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
+
+    @Autowired
+    private RevenueMonthClosingRepository revenueMonthClosingRepository;
+
+    @Test
+    @DisplayName("같은 프로젝트와 월의 변경은 한 번의 재계산으로 합쳐 반영한다")
+    void flush_coalescesProjectMonthKeys() {
+        Fixture fixture = createFixture();
+        flushAndClear();
+
+        changeQueue.enqueueProject(fixture.project().getIdOrThrow(), TARGET_MONTH, TARGET_MONTH);
+        changeQueue.enqueueProject(fixture.project().getIdOrThrow(), TARGET_MONTH, TARGET_MONTH);
+        int recalculatedCount = changeQueue.flush();
+        flushAndClear();
+
+        assertThat(recalculatedCount).isEqualTo(1);
+        MonthlyRevenueSummary summary = findSummary(fixture.project());
+        assertThat(summary.getRevenueAmount().amount().longValue()).isEqualTo(50_000_000L);
+        assertThat(summary.getCostAmount().amount().longValue()).isEqualTo(10_000_000L);
+        assertThat(changeQueue.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감된 월의 변경은 반영하지 않는다")
+    void flush_skipsClosedMonth() {
+        Fixture fixture = createFixture();
+        revenueMonthClosingRepository.save(RevenueMonthClosing.close(TARGET_MONTH.atDay(1), null));
+        flushAndClear();
+
+        changeQueue.enqueueProject(fixture.project().getIdOrThrow(), TARGET_MONTH, TARGET_MONTH);
+
+        assertThat(changeQueue.flush()).isZero();
+        assertThat(monthlyRevenueSummaryRepository.findByProjectIdAndTargetMonthAndDeletedFalse(
+                fixture.project().getIdOrThrow(),
+                TARGET_MONTH.atDay(1)
+        )).isEmpty();
+    }
+
+    @Test
+    @DisplayName("급여 변경은 직원 월 비용을 갱신하고 투입 프로젝트의 손익을 다시 계산한다")
+    void flush_refreshesEmployeeCostAndProjectSummary() {
+        Fixture fixture = createFixture();
+        employeeCostPolicyRepository.save(EmployeeCostPolicy.create(TARGET_MONTH.getYear(), EmployeeType.FULL_TIME, 0.1, 0.2));
+        payrollRepository.save(Payroll.create(fixture.employee().getIdOrThrow(), Money.wons(240_000_000L), LocalDate.of(2025, 1, 1)));
+        flushAndClear();
+
+        changeQueue.enqueueEmployee(fixture.employee().getIdOrThrow(), TARGET_MONTH);
+        changeQueue.flush();
+        flushAndClear();
+
+        EmployeeMonthlyCost monthlyCost = employeeMonthlyCostRepository
+                .findByEmployeeIdAndCostMonth(fixture.employee().getIdOrThrow(), "202503")
+                .orElseThrow();
+        assertThat(monthlyCost.getTotalCost().amount().longValue()).isEqualTo(26_000_000L);
+        assertThat(findSummary(fixture.project()).getCostAmount().amount().longValue()).isEqualTo(26_000_000L);
+    }
+
+    @Test
+    @DisplayName("급여가 바뀌어도 마감된 월의 직원 월 비용은 갱신하지 않는다")
+    void flush_keepsEmployeeCostOfClosedMonth() {
+        Fixture fixture = createFixture();
+        employeeCostPolicyRepository.save(EmployeeCostPolicy.create(TARGET_MONTH.getYear(), EmployeeType.FULL_TIME, 0.1, 0.2));
+        payrollRepository.save(Payroll.create(fixture.employee().getIdOrThrow(), Money.wons(240_000_000L), LocalDate.of(2025, 1, 1)));
+        revenueMonthClosingRepository.save(RevenueMonthClosing.close(TARGET_MONTH.atDay(1), null));
+        flushAndClear();
+
+        changeQueue.enqueueEmployee(fixture.employee().getIdOrThrow(), TARGET_MONTH);
+
+        assertThat(changeQueue.flush()).isZero();
+        flushAndClear();
+        EmployeeMonthlyCost monthlyCost = employeeMonthlyCostRepository
+                .findByEmployeeIdAndCostMonth(fixture.employee().getIdOrThrow(), "202503")
+                .orElseThrow();
+        assertThat(monthlyCost.getTotalCost().amount().longValue()).isEqualTo(10_000_000L);
+    }
+
+    private MonthlyRevenueSummary findSummary(Project project) {
+        return monthlyRevenueSummaryRepository
+                .findByProjectIdAndTargetMonthAndDeletedFalse(project.getIdOrThrow(), TARGET_MONTH.atDay(1))
+                .orElseThrow();
+    }
+
+    private Fixture createFixture() {
+        Department department = departmentRepository.save(Department.create(
+                "DEPT-CHANGE-" + System.nanoTime(),
+                "변경반영팀",
+                DepartmentType.TEAM,
+                null,
+                null
+        ));
+        Party party = partyRepository.save(Party.create(new PartyCreateRequest("변경반영협력사", null, null, null, null)));
+        Project project = projectRepository.save(Project.create(
+                party.getIdOrThrow(),
+                department.getIdOrThrow(),
+                "CHANGE-" + System.nanoTime(),
+                "변경 반영 프로젝트",
+                null,
+                ProjectStatus.IN_PROGRESS,
+                100_000_000L,
+                TARGET_MONTH.atDay(1),
+                TARGET_MONTH.atEndOfMonth()
+        ));
+        ProjectRevenuePlan issuedPlan = ProjectRevenuePlan.create(new ProjectRevenuePlanCreateRequest(
+                project.getIdOrThrow(),
+                1,
+                TARGET_MONTH.atDay(20),
+                RevenueType.DOWN_PAYMENT,
+                50_000_000L,
+                "변경 반영 매출"
+        ));
+        issuedPlan.issue();
+        projectRevenuePlanRepository.save(issuedPlan);
+
+        Employee employee = employeeRepository.save(Employee.create(
+                department.getIdOrThrow(),
+                "변경직원",
+                "change-" + System.nanoTime() + "@abms.co.kr",
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(1990, 5, 20),
+                EmployeePosition.ASSOCIATE,
+                EmployeeType.FULL_TIME,
+                EmployeeGrade.JUNIOR,
+                EmployeeAvatar.SKY_GLOW,
+                null
+        ));
+        projectAssignmentRepository.save(ProjectAssignment.assign(project, new ProjectAssignmentCreateRequest(
+                project.getIdOrThrow(),
+                employee.getIdOrThrow(),
+                AssignmentRole.DEV,
+                TARGET_MONTH.atDay(1),
+                TARGET_MONTH.atEndOfMonth()
+        )));
+        employeeMonthlyCostRepository.saveAll(List.of(EmployeeMonthlyCost.create(
+                employee.getIdOrThrow(),
+                "202503",
+                Money.wons(10_000_000L),
+                Money.zero(),
+                Money.zero(),
+                Money.wons(10_000_000L)
+        )));
+        return new Fixture(project, employee);
+    }
+
+    private record Fixture(Project project, Employee employee) {
+    }
+
+}
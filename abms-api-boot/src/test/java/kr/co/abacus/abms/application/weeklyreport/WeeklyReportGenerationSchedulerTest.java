@@ -0,0 +1,193 @@
+package kr.co.abacus.abms.application.weeklyreport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("주간 보고서 생성 스케줄러")
+class WeeklyReportGenerationSchedulerTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 3, 23);
+    private static final LocalDate WEEK_END = LocalDate.of(2026, 3, 29);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WeeklyReportGenerationScheduler scheduler = new WeeklyReportGenerationScheduler(meterRegistry, 2);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 주를 동시에 생성하면 계산은 한 번만 수행하고 결과를 함께 쓴다")
+    void submit_sharesComputationForSameWeek() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+        List<String> results = java.util.Collections.synchronizedList(new ArrayList<>());
+
+        CountDownLatch followerStarted = new CountDownLatch(1);
+        AtomicReference<Thread> follower = new AtomicReference<>();
+        Supplier<String> computation = () -> {
+            computations.incrementAndGet();
+            computationStarted.countDown();
+            await(releaseComputation);
+            return "snapshot";
+        };
+
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(scheduler.submit(WEEK_START, WEEK_END, share -> results.add(share.get(computation))));
+        assertThat(computationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        futures.add(scheduler.submit(WEEK_START, WEEK_END, share -> {
+            follower.set(Thread.currentThread());
+            followerStarted.countDown();
+            results.add(share.get(computation));
+        }));
+        assertThat(followerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitParked(follower.get());
+        releaseComputation.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(computations).hasValue(1);
+        assertThat(results).containsExactly("snapshot", "snapshot");
+    }
+
+    @Test
+    @DisplayName("같은 주 작업이 동시 실행 수보다 많아도 허가를 기다리던 작업까지 한 번 계산한 결과를 쓰고, 모두 끝나면 다시 계산한다")
+    void submit_sharesComputationWithQueuedTasks() throws Exception {
+        int taskCount = 5;
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+        List<String> results = java.util.Collections.synchronizedList(new ArrayList<>());
+        Supplier<String> computation = () -> {
+            computationStarted.countDown();
+            await(releaseComputation);
+            return "snapshot-" + computations.incrementAndGet();
+        };
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(scheduler.submit(WEEK_START, WEEK_END, share -> results.add(share.get(computation))));
+        }
+        assertThat(computationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        releaseComputation.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(computations).hasValue(1);
+        assertThat(results).hasSize(taskCount).containsOnly("snapshot-1");
+
+        scheduler.submit(WEEK_START, WEEK_END, share -> results.add(share.get(computation))).get(5, TimeUnit.SECONDS);
+
+        assertThat(computations).hasValue(2);
+        assertThat(results).last().isEqualTo("snapshot-2");
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘는 작업은 대기열에서 기다리고, 대기 작업을 취소할 수 있다")
+    void submit_boundsConcurrencyAndCancelsQueuedTask() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        Runnable blockingTask = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            await(release);
+            running.decrementAndGet();
+        };
+
+        Future<?> first = scheduler.submit(blockingTask);
+        Future<?> second = scheduler.submit(blockingTask);
+        AtomicInteger cancelledTaskRuns = new AtomicInteger();
+        Future<?> queued = scheduler.submit(cancelledTaskRuns::incrementAndGet);
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queueDepth()).isEqualTo(1.0);
+        queued.cancel(true);
+        assertThat(queueDepth()).isZero();
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(maxRunning).hasValue(2);
+        assertThat(cancelledTaskRuns).hasValue(0);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 후 거절된 제출은 대기열 깊이를 남기지 않는다")
+    void submit_rejectedAfterShutdownKeepsQueueDepth() {
+        scheduler.shutdown();
+
+        assertThatThrownBy(() -> scheduler.submit(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료로 인터럽트된 대기 작업은 대기열 깊이에서 빠진다")
+    void shutdown_releasesQueuedTasksFromQueueDepth() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockingTask = () -> {
+            started.countDown();
+            await(release);
+        };
+        scheduler.submit(blockingTask);
+        scheduler.submit(blockingTask);
+        Future<?> queued = scheduler.submit(() -> {
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queueDepth()).isEqualTo(1.0);
+
+        scheduler.shutdown();
+        queued.get(5, TimeUnit.SECONDS);
+
+        assertThat(queueDepth()).isZero();
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("abms.weekly.report.generation.queue.depth").gauge().value();
+    }
+
+    /**
+     * 스레드가 다른 작업의 결과를 기다리며 멈출 때까지 기다린다.
+     */
+    private static void awaitParked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).as("thread parked").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -6,20 +6,25 @@ import static org.mockito.Mockito.mock;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSnapshotRow;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.application.project.dto.ProjectSnapshotRow;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
-import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.projectassignment.ProjectAssignmentIntervalIndex;
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
+import kr.co.abacus.abms.application.shared.ReferenceNameResolver;
 import kr.co.abacus.abms.application.summary.inbound.MonthlyRevenueSummaryFinder;
 import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportSnapshot;
-import kr.co.abacus.abms.domain.department.Department;
-import kr.co.abacus.abms.domain.department.DepartmentType;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
 import kr.co.abacus.abms.domain.employee.EmployeeGrade;
@@ -27,9 +32,6 @@ import kr.co.abacus.abms.domain.employee.EmployeePosition;
 import kr.co.abacus.abms.domain.employee.EmployeeType;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
-import kr.co.abacus.abms.domain.projectassignment.AssignmentRole;
-import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
-import kr.co.abacus.abms.domain.projectassignment.ProjectAssignmentCreateRequest;
 import kr.co.abacus.abms.domain.shared.Money;
 import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryTotal;
 
@@ -42,13 +44,9 @@ class WeeklyReportSnapshotServiceTest {
         EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
         DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
         ProjectRepository projectRepository = mock(ProjectRepository.class);
-        ProjectAssignmentRepository projectAssignmentRepository = mock(ProjectAssignmentRepository.class);
+        ProjectAssignmentIntervalIndex projectAssignmentIntervalIndex = mock(ProjectAssignmentIntervalIndex.class);
         MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder = mock(MonthlyRevenueSummaryFinder.class);
-
-        Department platformTeam = Department.create("TEAM-PLATFORM", "플랫폼팀", DepartmentType.TEAM, null, null);
-        Department serviceTeam = Department.create("TEAM-SERVICE", "서비스팀", DepartmentType.TEAM, null, null);
-        ReflectionTestUtils.setField(platformTeam, "id", 1L);
-        ReflectionTestUtils.setField(serviceTeam, "id", 2L);
+        ReferenceNameResolver referenceNameResolver = mock(ReferenceNameResolver.class);
 
         Employee joinedThisWeek = Employee.create(
                 1L,
@@ -138,15 +136,12 @@ class WeeklyReportSnapshotServiceTest {
         );
         ReflectionTestUtils.setField(completedProject, "id", 4L);
 
-        ProjectAssignment endedAssignment = ProjectAssignment.assign(
-                endedProject,
-                new ProjectAssignmentCreateRequest(
-                        2L,
-                        2L,
-                        AssignmentRole.DEV,
-                        LocalDate.of(2026, 3, 1),
-                        LocalDate.of(2026, 3, 28)
-                )
+        ProjectAssignmentInterval endedAssignment = new ProjectAssignmentInterval(
+                1L,
+                2L,
+                2L,
+                LocalDate.of(2026, 3, 1),
+                LocalDate.of(2026, 3, 28)
         );
 
         MonthlyRevenueSummaryTotal monthlyRevenueSummary = new MonthlyRevenueSummaryTotal(
@@ -156,21 +151,25 @@ class WeeklyReportSnapshotServiceTest {
                 Money.wons(400_000L)
         );
 
-        given(employeeRepository.search(org.mockito.ArgumentMatchers.any())).willReturn(List.of(joinedThisWeek, onLeave, resigned));
-        given(departmentRepository.findAllByDeletedFalse()).willReturn(List.of(platformTeam, serviceTeam));
-        given(projectRepository.findAllByDeletedFalse()).willReturn(List.of(startedProject, endedProject, endingSoonProject, completedProject));
-        given(projectAssignmentRepository.findActiveAssignments(LocalDate.of(2026, 3, 23), LocalDate.of(2026, 3, 29)))
+        given(employeeRepository.findSnapshotRows()).willReturn(toSnapshotRows(joinedThisWeek, onLeave, resigned));
+        given(departmentRepository.countByDeletedFalse()).willReturn(2L);
+        given(referenceNameResolver.departmentNames(org.mockito.ArgumentMatchers.anyCollection()))
+                .willReturn(Map.of(1L, "플랫폼팀"));
+        given(projectRepository.findSnapshotRows()).willReturn(toSnapshotRows(startedProject, endedProject, endingSoonProject, completedProject));
+        given(projectAssignmentIntervalIndex.findOverlapping(LocalDate.of(2026, 3, 23), LocalDate.of(2026, 3, 29)))
                 .willReturn(List.of(endedAssignment));
-        given(projectAssignmentRepository.findOverlappingAssignments(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.eq(LocalDate.of(2026, 3, 29)), org.mockito.ArgumentMatchers.eq(LocalDate.of(2026, 3, 29))))
-                .willReturn(List.of());
+        given(projectAssignmentIntervalIndex.hasActiveAssignment(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.eq(LocalDate.of(2026, 3, 29))))
+                .willReturn(false);
         given(monthlyRevenueSummaryFinder.findOptionalByTargetMonth("202603")).willReturn(Optional.of(monthlyRevenueSummary));
 
         WeeklyReportSnapshotService snapshotService = new WeeklyReportSnapshotService(
                 employeeRepository,
                 departmentRepository,
                 projectRepository,
-                projectAssignmentRepository,
-                monthlyRevenueSummaryFinder
+                projectAssignmentIntervalIndex,
+                monthlyRevenueSummaryFinder,
+                referenceNameResolver,
+                new ApplicationMetricsRecorder(new SimpleMeterRegistry())
         );
 
         WeeklyReportSnapshot snapshot = snapshotService.createSnapshot(
@@ -181,10 +180,18 @@ class WeeklyReportSnapshotServiceTest {
         assertThat(snapshot.employees().totalEmployees()).isEqualTo(3);
         assertThat(snapshot.employees().joinedThisWeek()).isEqualTo(1);
         assertThat(snapshot.employees().resignedThisWeek()).isEqualTo(1);
+        assertThat(snapshot.employees().departmentCount()).isEqualTo(2);
+        assertThat(snapshot.employees().departmentsWithOnLeaveSignals())
+                .containsExactly(new WeeklyReportSnapshot.DepartmentOnLeave(1L, "플랫폼팀", 1L));
         assertThat(snapshot.projects().startedThisWeek()).isEqualTo(1);
         assertThat(snapshot.projects().endedThisWeek()).isEqualTo(1);
         assertThat(snapshot.projects().assignmentChangeProjectCount()).isEqualTo(1);
         assertThat(snapshot.revenue().monthlySummaryAvailable()).isTrue();
+        assertThat(snapshot.projects().startedContractAmount()).isEqualTo(100_000L);
+        assertThat(snapshot.projects().endedContractAmount()).isEqualTo(70_000L);
+        assertThat(snapshot.projects().inProgressProjects()).isEqualTo(3);
+        assertThat(snapshot.projects().completedProjects()).isEqualTo(1);
+        assertThat(snapshot.projects().projectsWithoutAssignments()).hasSize(3);
         assertThat(snapshot.risks().endingSoonProjectNames()).contains("종료 임박 프로젝트");
     }
 
@@ -194,13 +201,14 @@ class WeeklyReportSnapshotServiceTest {
         EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
         DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
         ProjectRepository projectRepository = mock(ProjectRepository.class);
-        ProjectAssignmentRepository projectAssignmentRepository = mock(ProjectAssignmentRepository.class);
+        ProjectAssignmentIntervalIndex projectAssignmentIntervalIndex = mock(ProjectAssignmentIntervalIndex.class);
         MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder = mock(MonthlyRevenueSummaryFinder.class);
+        ReferenceNameResolver referenceNameResolver = mock(ReferenceNameResolver.class);
 
-        given(employeeRepository.search(org.mockito.ArgumentMatchers.any())).willReturn(List.of());
-        given(departmentRepository.findAllByDeletedFalse()).willReturn(List.of());
-        given(projectRepository.findAllByDeletedFalse()).willReturn(List.of());
-        given(projectAssignmentRepository.findActiveAssignments(LocalDate.of(2026, 3, 30), LocalDate.of(2026, 4, 5)))
+        given(employeeRepository.findSnapshotRows()).willReturn(List.of());
+        given(departmentRepository.countByDeletedFalse()).willReturn(0L);
+        given(projectRepository.findSnapshotRows()).willReturn(List.of());
+        given(projectAssignmentIntervalIndex.findOverlapping(LocalDate.of(2026, 3, 30), LocalDate.of(2026, 4, 5)))
                 .willReturn(List.of());
         given(monthlyRevenueSummaryFinder.findOptionalByTargetMonth("202604")).willReturn(Optional.empty());
 
@@ -208,8 +216,10 @@ class WeeklyReportSnapshotServiceTest {
                 employeeRepository,
                 departmentRepository,
                 projectRepository,
-                projectAssignmentRepository,
-                monthlyRevenueSummaryFinder
+                projectAssignmentIntervalIndex,
+                monthlyRevenueSummaryFinder,
+                referenceNameResolver,
+                new ApplicationMetricsRecorder(new SimpleMeterRegistry())
         );
 
         WeeklyReportSnapshot snapshot = snapshotService.createSnapshot(
@@ -221,4 +231,26 @@ class WeeklyReportSnapshotServiceTest {
         assertThat(snapshot.revenue().targetMonth()).isEqualTo("202604");
         assertThat(snapshot.revenue().revenueAmount()).isNull();
     }
+
+    private List<EmployeeSnapshotRow> toSnapshotRows(Employee... employees) {
+        return java.util.Arrays.stream(employees)
+                .map(employee -> new EmployeeSnapshotRow(
+                        employee.getDepartmentId(),
+                        employee.getStatus(),
+                        employee.getJoinDate(),
+                        employee.getResignationDate()))
+                .toList();
+    }
+
+    private List<ProjectSnapshotRow> toSnapshotRows(Project... projects) {
+        return java.util.Arrays.stream(projects)
+                .map(project -> new ProjectSnapshotRow(
+                        project.getIdOrThrow(),
+                        project.getName(),
+                        project.getStatus(),
+                        project.getContractAmount().amount(),
+                        project.getPeriod().startDate(),
+                        project.getPeriod().endDate()))
+                .toList();
+    }
 }
@@ -0,0 +1,167 @@
+package kr.co.abacus.abms.application.weeklyreport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.abacus.abms.application.weeklyreport.dto.command.WeeklyReportGenerateCommand;
+import kr.co.abacus.abms.application.weeklyreport.dto.command.WeeklyReportUpdateCommand;
+import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportSnapshot;
+import kr.co.abacus.abms.application.weeklyreport.inbound.WeeklyReportDraftManager;
+import kr.co.abacus.abms.application.weeklyreport.outbound.WeeklyReportDraftRepository;
+import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportDraft;
+import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportStatus;
+import kr.co.abacus.abms.support.IntegrationTestBase;
+
+/**
+ * 생성은 커밋 이후 스케줄러 스레드에서 별도 트랜잭션으로 돌기 때문에 테스트 트랜잭션을 쓰지 않는다.
+ * 커밋된 초안이 다른 테스트 클래스에 남지 않도록 클래스가 끝나면 컨텍스트를 다시 만든다.
+ */
+@DisplayName("주간 보고서 AI 본문 재사용 캐시")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class WeeklyReportTextCacheTest extends IntegrationTestBase {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final long GENERATION_TIMEOUT_MILLIS = 5_000L;
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Autowired
+    private WeeklyReportDraftManager weeklyReportDraftManager;
+
+    @Autowired
+    private WeeklyReportDraftRepository weeklyReportDraftRepository;
+
+    @MockitoBean
+    private WeeklyReportAiWriter aiWriter;
+
+    @MockitoBean
+    private WeeklyReportSnapshotService snapshotService;
+
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private final AtomicLong totalEmployees = new AtomicLong(10);
+
+    @BeforeEach
+    void setUp() {
+        given(aiWriter.modelName()).willReturn("test-model");
+        given(aiWriter.write(any(), any())).willAnswer(invocation -> "AI 초안 " + writeCount.incrementAndGet());
+        given(snapshotService.createSnapshot(any(), any())).willAnswer(invocation ->
+                snapshot(invocation.getArgument(0), invocation.getArgument(1), totalEmployees.get()));
+    }
+
+    @Test
+    @DisplayName("같은 입력으로 다시 생성하면 모델을 호출하지 않고 저장된 본문을 재사용한다")
+    void generateDraft_reusesStoredTextForSameInput() {
+        LocalDate weekStart = LocalDate.of(2026, 3, 2);
+
+        WeeklyReportDraft first = generate(weekStart);
+        WeeklyReportDraft second = generate(weekStart);
+
+        verify(aiWriter, times(1)).write(any(), any());
+        assertThat(second.getStatus()).isEqualTo(WeeklyReportStatus.DRAFT);
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(second.getReportMarkdown()).isEqualTo(first.getReportMarkdown()).isEqualTo("AI 초안 1");
+        assertThat(second.getGenerationKey()).isEqualTo(first.getGenerationKey());
+    }
+
+    @Test
+    @DisplayName("강제 재생성은 같은 입력이어도 모델을 다시 호출한다")
+    void regenerateDraft_forceCallsModel() {
+        WeeklyReportDraft first = generate(LocalDate.of(2026, 3, 9));
+
+        WeeklyReportDraft forced = awaitCompletion(
+                weeklyReportDraftManager.regenerateDraft(ACCOUNT_ID, first.getIdOrThrow(), true).id());
+
+        verify(aiWriter, times(2)).write(any(), any());
+        assertThat(forced.getReportMarkdown()).isEqualTo("AI 초안 2");
+        assertThat(forced.getGenerationKey()).isEqualTo(first.getGenerationKey());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 바뀌면 캐시를 쓰지 않고 모델을 호출한다")
+    void generateDraft_missesWhenSnapshotChanges() {
+        LocalDate weekStart = LocalDate.of(2026, 3, 16);
+        WeeklyReportDraft first = generate(weekStart);
+
+        totalEmployees.incrementAndGet();
+        WeeklyReportDraft second = generate(weekStart);
+
+        verify(aiWriter, times(2)).write(any(), any());
+        assertThat(second.getReportMarkdown()).isEqualTo("AI 초안 2");
+        assertThat(second.getGenerationKey()).isNotEqualTo(first.getGenerationKey());
+    }
+
+    @Test
+    @DisplayName("본문을 수정한 초안은 키가 비워져 이후 생성에서 재사용되지 않는다")
+    void updateDraft_clearsGenerationKey() {
+        LocalDate weekStart = LocalDate.of(2026, 3, 23);
+        WeeklyReportDraft generated = generate(weekStart);
+        assertThat(generated.getGenerationKey()).isNotNull();
+
+        weeklyReportDraftManager.updateDraft(ACCOUNT_ID, generated.getIdOrThrow(),
+                new WeeklyReportUpdateCommand(generated.getTitle(), "직접 고친 본문"));
+
+        WeeklyReportDraft edited = weeklyReportDraftRepository.findById(generated.getIdOrThrow()).orElseThrow();
+        assertThat(edited.getGenerationKey()).isNull();
+
+        WeeklyReportDraft regenerated = generate(weekStart);
+
+        verify(aiWriter, times(2)).write(any(), any());
+        assertThat(regenerated.getReportMarkdown()).isEqualTo("AI 초안 2");
+    }
+
+    private WeeklyReportDraft generate(LocalDate weekStart) {
+        Long draftId = weeklyReportDraftManager.createDraft(
+                ACCOUNT_ID,
+                new WeeklyReportGenerateCommand(weekStart, weekStart.plusDays(6))
+        ).id();
+        return awaitCompletion(draftId);
+    }
+
+    /**
+     * 생성 결과는 스케줄러 스레드가 커밋하므로 초안이 실행 중 상태를 벗어날 때까지 저장소를 확인한다.
+     */
+    private WeeklyReportDraft awaitCompletion(Long draftId) {
+        long deadline = System.currentTimeMillis() + GENERATION_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            WeeklyReportDraft draft = weeklyReportDraftRepository.findById(draftId).orElseThrow();
+            if (!draft.isRunning()) {
+                assertThat(draft.getStatus()).isEqualTo(WeeklyReportStatus.DRAFT);
+                return draft;
+            }
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+        }
+        return fail("주간 보고서 초안 생성이 끝나지 않았습니다: " + draftId);
+    }
+
+    private static WeeklyReportSnapshot snapshot(LocalDate weekStart, LocalDate weekEnd, long totalEmployees) {
+        return new WeeklyReportSnapshot(
+                weekStart,
+                weekEnd,
+                new WeeklyReportSnapshot.EmployeeSection(totalEmployees, totalEmployees, 0, 0, 2, 0, 0, false, List.of()),
+                new WeeklyReportSnapshot.ProjectSection(3, 1, 0, 0, 0, 0, 0, 0, List.of(), List.of()),
+                new WeeklyReportSnapshot.RevenueSection(false, weekStart.toString().substring(0, 7), null, null, null),
+                new WeeklyReportSnapshot.RiskSection(List.of(), List.of(), List.of())
+        );
+    }
+
+}
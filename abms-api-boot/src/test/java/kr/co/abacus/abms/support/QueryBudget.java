@@ -0,0 +1,25 @@
+package kr.co.abacus.abms.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 본문에서 실행되는 SQL 수 상한
+ * <p>
+ * - @BeforeEach 이후 테스트 메서드 본문에서 실행된 SQL만 센다. 픽스처는 @BeforeEach에서 준비한다.
+ * - 상한을 넘거나 같은 SQL이 maxRepeatedStatements보다 많이 반복되면(N+1) 테스트가 실패한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int maxStatements();
+
+    int maxRepeatedStatements() default Integer.MAX_VALUE;
+
+}
@@ -0,0 +1,64 @@
+package kr.co.abacus.abms.support;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import kr.co.abacus.abms.application.observability.SqlStatementRecorder;
+
+/**
+ * {@link QueryBudget}이 붙은 테스트의 SQL 실행 수를 집계하고 상한을 넘으면 실패시킨다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String SCOPE_KEY = "sqlScope";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (findBudget(context).isEmpty()) {
+            return;
+        }
+        SqlStatementRecorder recorder = SpringExtension.getApplicationContext(context).getBean(SqlStatementRecorder.class);
+        context.getStore(NAMESPACE).put(SCOPE_KEY, recorder.open("test", context.getRequiredTestClass().getSimpleName()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementRecorder.Scope scope = context.getStore(NAMESPACE).remove(SCOPE_KEY, SqlStatementRecorder.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        QueryBudget budget = findBudget(context).orElseThrow();
+        if (scope.statementCount() > budget.maxStatements()) {
+            throw new AssertionError("SQL 실행 수가 예산을 넘었습니다: 실행 %d건, 예산 %d건, 가장 많이 반복된 SQL %d회 [%s]".formatted(
+                    scope.statementCount(),
+                    budget.maxStatements(),
+                    scope.maxRepeatedCount(),
+                    scope.mostRepeatedSql()
+            ));
+        }
+        if (scope.maxRepeatedCount() > budget.maxRepeatedStatements()) {
+            throw new AssertionError("같은 SQL이 반복 실행되었습니다(N+1 의심): %d회, 허용 %d회 [%s]".formatted(
+                    scope.maxRepeatedCount(),
+                    budget.maxRepeatedStatements(),
+                    scope.mostRepeatedSql()
+            ));
+        }
+    }
+
+    private Optional<QueryBudget> findBudget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class));
+    }
+
+}
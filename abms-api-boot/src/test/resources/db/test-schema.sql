@@ -0,0 +1,17 @@
+-- JPA 엔티티 없이 JDBC로만 쓰는 테이블. 테스트는 Flyway 대신 create-drop을 쓰므로 스키마 생성 직후 Hibernate가 이 파일을 실행한다.
+-- 운영 스키마는 db/migration의 같은 테이블 정의(V11)를 따른다.
+CREATE TABLE IF NOT EXISTS tb_cache_invalidation (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id    VARCHAR(64)  NOT NULL,
+    cache_name VARCHAR(100) NOT NULL,
+    cache_key  VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted    BOOLEAN      NOT NULL,
+    deleted_at TIMESTAMP(6),
+    deleted_by BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS IDX_CACHE_INVALIDATION_CREATED_AT ON tb_cache_invalidation (created_at);
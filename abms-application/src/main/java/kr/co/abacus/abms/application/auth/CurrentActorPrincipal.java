@@ -3,4 +3,9 @@ package kr.co.abacus.abms.application.auth;
 public interface CurrentActorPrincipal {
 
     CurrentActor toCurrentActor();
+
+    /**
+     * @return 권한을 해석하기 직전의 권한 epoch
+     */
+    long permissionEpoch();
 }
@@ -3,7 +3,10 @@ package kr.co.abacus.abms.application.chat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.ai.tool.annotation.Tool;
@@ -25,8 +28,8 @@ import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
 import kr.co.abacus.abms.application.employee.inbound.EmployeeFinder;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
 import kr.co.abacus.abms.application.party.inbound.PartyFinder;
-import kr.co.abacus.abms.application.party.PartyQueryService;
 import kr.co.abacus.abms.application.party.dto.PartyListItem;
 import kr.co.abacus.abms.application.party.dto.PartySearchCondition;
 import kr.co.abacus.abms.application.project.ProjectQueryService;
@@ -57,6 +60,7 @@ public class BusinessQueryTools {
     private static final int RESOLVE_CANDIDATE_LIMIT = 20;
 
     private final EmployeeFinder employeeFinder;
+    private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final DepartmentFinder departmentFinder;
     private final ProjectQueryService projectQueryService;
@@ -64,7 +68,6 @@ public class BusinessQueryTools {
     private final PositionHistoryFinder positionHistoryFinder;
     private final DashboardFinder dashboardFinder;
     private final PartyFinder partyFinder;
-    private final PartyQueryService partyQueryService;
     private final MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder;
 
     @Setter
@@ -116,21 +119,18 @@ public class BusinessQueryTools {
         Page<ProjectSummary> page = projectQueryService.search(condition, PageRequest.of(0, pageSize));
 
         List<ProjectSearchItem> projects = page.getContent().stream()
-                .map(summary -> {
-                    String partyName = partyQueryService.getPartyName(summary.partyId());
-                    return new ProjectSearchItem(
-                            summary.projectId(),
-                            summary.code(),
-                            summary.name(),
-                            partyName,
-                            summary.status().name(),
-                            summary.status().getDescription(),
-                            summary.contractAmount().amount().longValue(),
-                            summary.startDate().toString(),
-                            summary.endDate() != null ? summary.endDate().toString() : null,
-                            "/projects/" + summary.projectId(),
-                            summary.partyId() != null ? "/parties/" + summary.partyId() : null);
-                })
+                .map(summary -> new ProjectSearchItem(
+                        summary.projectId(),
+                        summary.code(),
+                        summary.name(),
+                        summary.partyName(),
+                        summary.status().name(),
+                        summary.status().getDescription(),
+                        summary.contractAmount().amount().longValue(),
+                        summary.startDate().toString(),
+                        summary.endDate() != null ? summary.endDate().toString() : null,
+                        "/projects/" + summary.projectId(),
+                        summary.partyId() != null ? "/parties/" + summary.partyId() : null))
                 .toList();
 
         return new ProjectSearchResult(
@@ -297,6 +297,10 @@ public class BusinessQueryTools {
 
         ProjectDetail projectDetail = projectQueryService.findDetail(resolvedProject.projectId());
         List<ProjectAssignment> assignments = projectAssignmentFinder.findByProjectId(resolvedProject.projectId());
+        Map<Long, Employee> employeesById = employeeRepository.findAllByIdInAndDeletedFalse(
+                        assignments.stream().map(ProjectAssignment::getEmployeeId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getIdOrThrow, Function.identity()));
 
         List<ProjectAssignmentItem> items = assignments.stream()
                 .map(assignment -> {
@@ -304,7 +308,7 @@ public class BusinessQueryTools {
                     String position = "정보 없음";
                     String status = "정보 없음";
 
-                    @Nullable Employee assignedEmployee = resolveEmployeeById(assignment.getEmployeeId());
+                    @Nullable Employee assignedEmployee = employeesById.get(assignment.getEmployeeId());
                     if (assignedEmployee != null) {
                         assignedEmployeeName = assignedEmployee.getName();
                         position = assignedEmployee.getPosition().getDescription();
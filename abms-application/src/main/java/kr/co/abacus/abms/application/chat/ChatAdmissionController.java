@@ -0,0 +1,148 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+/**
+ * 모델을 호출하는 채팅 요청의 입장 제어
+ * - 계정별 동시 실행 수(per-account-max-in-flight)를 넘으면 기다리지 않고 바로 거절한다. 한 사용자가 대기열을 채우지 못하게 하기 위함이다.
+ * - 전체 동시 실행 수(max-in-flight)를 넘으면 공정(FIFO) 대기열에서 queue-timeout 동안 기다린다.
+ *   대기 중인 요청이 max-queue-size에 이르렀거나 시간 안에 차례가 오지 않으면 거절한다.
+ * - 대기열 길이, 대기 시간, 사유별 거절 수를 남긴다.
+ */
+@Component
+public class ChatAdmissionController {
+
+    private final Semaphore globalPermits;
+    private final Map<Long, Integer> inFlightByAccount = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final int perAccountMaxInFlight;
+    private final int maxQueueSize;
+    private final Duration queueTimeout;
+
+    public ChatAdmissionController(
+            ApplicationMetricsRecorder applicationMetricsRecorder,
+            @Value("${app.chat.admission.max-in-flight:16}") int maxInFlight,
+            @Value("${app.chat.admission.per-account-max-in-flight:2}") int perAccountMaxInFlight,
+            @Value("${app.chat.admission.max-queue-size:32}") int maxQueueSize,
+            @Value("${app.chat.admission.queue-timeout-ms:5000}") long queueTimeoutMs
+    ) {
+        this.globalPermits = new Semaphore(Math.max(1, maxInFlight), true);
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
+        this.perAccountMaxInFlight = Math.max(1, perAccountMaxInFlight);
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        this.queueTimeout = Duration.ofMillis(queueTimeoutMs);
+        applicationMetricsRecorder.registerChatAdmissionQueueDepth(queueDepth);
+    }
+
+    /**
+     * 실행 허가를 얻는다. 반환한 허가는 모델 호출이 끝나면 반드시 닫는다 (여러 번 닫아도 한 번만 반납한다).
+     *
+     * @throws ChatAdmissionRejectedException 계정 한도 초과, 대기열 초과, 대기 시간 초과
+     */
+    public Permit acquire(Long accountId) {
+        if (!tryEnterAccount(accountId)) {
+            throw reject("account_limit", "이전 질문에 대한 답변이 끝난 뒤 다시 요청해 주세요.");
+        }
+        try {
+            acquireGlobalPermit();
+        } catch (RuntimeException exception) {
+            leaveAccount(accountId);
+            throw exception;
+        }
+        return new Permit(accountId);
+    }
+
+    private void acquireGlobalPermit() {
+        long startedAt = System.nanoTime();
+        boolean queued = false;
+        try {
+            // 인자 없는 tryAcquire()는 공정 모드에서도 대기자를 앞지르므로 시간 제한 버전을 쓴다
+            if (globalPermits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            if (queueDepth.incrementAndGet() > maxQueueSize) {
+                queueDepth.decrementAndGet();
+                throw reject("queue_full", "AI 어시스턴트 요청이 많아 잠시 후 다시 시도해 주세요.");
+            }
+            queued = true;
+            boolean acquired = globalPermits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            applicationMetricsRecorder.recordChatAdmissionWait(System.nanoTime() - startedAt);
+            if (!acquired) {
+                throw reject("queue_timeout", "AI 어시스턴트 응답 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted", "AI 어시스턴트 요청이 중단되었습니다.");
+        } finally {
+            if (queued) {
+                queueDepth.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean tryEnterAccount(Long accountId) {
+        while (true) {
+            Integer current = inFlightByAccount.putIfAbsent(accountId, 1);
+            if (current == null) {
+                return true;
+            }
+            if (current >= perAccountMaxInFlight) {
+                return false;
+            }
+            if (inFlightByAccount.replace(accountId, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void leaveAccount(Long accountId) {
+        while (true) {
+            Integer current = inFlightByAccount.get(accountId);
+            if (current == null) {
+                return;
+            }
+            boolean updated = current <= 1
+                    ? inFlightByAccount.remove(accountId, current)
+                    : inFlightByAccount.replace(accountId, current, current - 1);
+            if (updated) {
+                return;
+            }
+        }
+    }
+
+    private ChatAdmissionRejectedException reject(String reason, String message) {
+        applicationMetricsRecorder.incrementChatAdmissionRejection(reason);
+        return new ChatAdmissionRejectedException(reason, message);
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final Long accountId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Long accountId) {
+            this.accountId = accountId;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                globalPermits.release();
+                leaveAccount(accountId);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package kr.co.abacus.abms.application.chat;
+
+/**
+ * 채팅 요청이 동시 실행 한도나 대기열 때문에 받아들여지지 않았을 때 던진다.
+ */
+public class ChatAdmissionRejectedException extends RuntimeException {
+
+    private final String reason;
+
+    public ChatAdmissionRejectedException(String reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * @return 거절 사유 (account_limit, queue_full, queue_timeout, interrupted)
+     */
+    public String getReason() {
+        return reason;
+    }
+
+}
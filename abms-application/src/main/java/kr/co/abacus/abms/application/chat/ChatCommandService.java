@@ -3,9 +3,13 @@ package kr.co.abacus.abms.application.chat;
 import java.util.UUID;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
@@ -14,6 +18,7 @@ import org.springframework.ai.chat.memory.ChatMemoryRepository;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import reactor.core.publisher.Flux;
@@ -24,6 +29,7 @@ import reactor.core.scheduler.Schedulers;
 
 import kr.co.abacus.abms.application.chat.dto.command.ChatSendCommand;
 import kr.co.abacus.abms.application.chat.dto.query.ChatStreamResult;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
 import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
 import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
 import kr.co.abacus.abms.application.observability.BusinessEventLogger;
@@ -34,6 +40,7 @@ import kr.co.abacus.abms.domain.chat.ChatSession;
 public class ChatCommandService {
 
     private static final int MAX_SESSION_TITLE_LENGTH = 200;
+    private static final int TOOL_CALL_BUFFER_SIZE = 64;
     private static final String SYSTEM_PROMPT = """
             당신은 ABMS(Abacus Business Management System)의 인사/조직 관리 시스템 AI 어시스턴트입니다.
             
@@ -98,6 +105,10 @@ public class ChatCommandService {
     private final ChatTitleService chatTitleService;
     private final BusinessEventLogger businessEventLogger;
     private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final ChatToolExecutor chatToolExecutor;
+    private final ChatMemoryCompactor chatMemoryCompactor;
+    private final ChatMemorySummaryRepository chatMemorySummaryRepository;
+    private final ChatAdmissionController chatAdmissionController;
 
     public ChatCommandService(
             ChatClient.Builder chatClientBuilder,
@@ -109,10 +120,16 @@ public class ChatCommandService {
             ChatMemoryRepository chatMemoryRepository,
             ChatTitleService chatTitleService,
             BusinessEventLogger businessEventLogger,
-            ApplicationMetricsRecorder applicationMetricsRecorder) {
+            ApplicationMetricsRecorder applicationMetricsRecorder,
+            ChatToolExecutor chatToolExecutor,
+            ChatMemoryCompactor chatMemoryCompactor,
+            ChatMemorySummaryRepository chatMemorySummaryRepository,
+            ChatAdmissionController chatAdmissionController) {
         this.chatClient = chatClientBuilder
                 .defaultSystem(SYSTEM_PROMPT)
-                .defaultAdvisors(MessageChatMemoryAdvisor.builder(chatMemory).build())
+                .defaultAdvisors(
+                        MessageChatMemoryAdvisor.builder(chatMemory).build(),
+                        new ChatPromptMetricsAdvisor(applicationMetricsRecorder))
                 .build();
         this.employeeInfoToolsProvider = employeeInfoToolsProvider;
         this.organizationToolsProvider = organizationToolsProvider;
@@ -122,93 +139,117 @@ public class ChatCommandService {
         this.chatTitleService = chatTitleService;
         this.businessEventLogger = businessEventLogger;
         this.applicationMetricsRecorder = applicationMetricsRecorder;
+        this.chatToolExecutor = chatToolExecutor;
+        this.chatMemoryCompactor = chatMemoryCompactor;
+        this.chatMemorySummaryRepository = chatMemorySummaryRepository;
+        this.chatAdmissionController = chatAdmissionController;
     }
 
-    public Mono<ChatStreamResult> streamMessage(Long accountId, ChatSendCommand command) {
-        return Mono.fromCallable(() -> {
-                    return getOrCreateConversation(accountId, command.sessionId());
-                })
-                .subscribeOn(Schedulers.boundedElastic())
-                .map(sessionInfo -> {
-                    boolean isNewSession = sessionInfo.isNewSession();
-                    String conversationId = sessionInfo.conversationId();
-                    long startedAt = System.nanoTime();
-                    AtomicReference<String> outcome = new AtomicReference<>("success");
-                    EmployeeInfoTools employeeInfoTools = employeeInfoToolsProvider.getObject();
-                    OrganizationTools organizationTools = organizationToolsProvider.getObject();
-                    BusinessQueryTools businessQueryTools = businessQueryToolsProvider.getObject();
+    /**
+     * 입장 허가를 받은 뒤 응답 스트림을 만든다.
+     * - 허가는 구독하는 스레드에서 얻고, responseFactory가 만든 응답 전체가 끝나거나 오류로 끝나거나 취소되면 반납한다.
+     *   세션 정보만 보낸 뒤 본문을 구독하기 전에 연결이 끊겨도 허가가 남지 않게 하기 위함이다.
+     * - 구독하지 않으면 허가를 얻지 않는다. 대기 중에 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> Flux<T> streamMessage(
+            Long accountId,
+            ChatSendCommand command,
+            Function<ChatStreamResult, ? extends Publisher<T>> responseFactory
+    ) {
+        return Flux.using(
+                () -> chatAdmissionController.acquire(accountId),
+                permit -> Mono.fromCallable(() -> getOrCreateConversation(accountId, command))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .map(sessionInfo -> startStream(accountId, command, sessionInfo))
+                        .flatMapMany(responseFactory),
+                ChatAdmissionController.Permit::close);
+    }
 
-                    // Create a sink for tool call events
-                    Sinks.Many<String> toolCallSink = Sinks.many().multicast().onBackpressureBuffer();
+    private ChatStreamResult startStream(Long accountId, ChatSendCommand command, SessionInfo sessionInfo) {
+        String conversationId = sessionInfo.conversationId();
+        long startedAt = System.nanoTime();
+        AtomicReference<String> outcome = new AtomicReference<>("success");
+        EmployeeInfoTools employeeInfoTools = employeeInfoToolsProvider.getObject();
+        OrganizationTools organizationTools = organizationToolsProvider.getObject();
+        BusinessQueryTools businessQueryTools = businessQueryToolsProvider.getObject();
 
-                    // Set tool call notifier on tools
-                    employeeInfoTools.setToolCallNotifier(toolName -> {
-                        applicationMetricsRecorder.incrementChatToolCall(toolName);
-                        toolCallSink.tryEmitNext(toolName);
-                    });
-                    organizationTools.setToolCallNotifier(toolName -> {
-                        applicationMetricsRecorder.incrementChatToolCall(toolName);
-                        toolCallSink.tryEmitNext(toolName);
-                    });
-                    businessQueryTools.setToolCallNotifier(toolName -> {
-                        applicationMetricsRecorder.incrementChatToolCall(toolName);
-                        toolCallSink.tryEmitNext(toolName);
-                    });
-                    StringBuilder partialAssistantResponse = new StringBuilder();
-                    businessEventLogger.chatEvent("stream_start", accountId, conversationId, "started", null);
+        // Create a sink for tool call events
+        Sinks.Many<String> toolCallSink = Sinks.many().multicast().onBackpressureBuffer(TOOL_CALL_BUFFER_SIZE);
 
-                    Flux<String> contentStream = chatClient.prompt()
-                            .user(command.content())
-                            .tools(employeeInfoTools, organizationTools, businessQueryTools)
-                            .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, conversationId))
-                            .stream()
-                            .content()
-                            .doOnNext(partialAssistantResponse::append)
-                            .doOnError(e -> {
-                                outcome.set("failure");
-                                businessEventLogger.chatEvent(
-                                        "stream_finish",
-                                        accountId,
-                                        conversationId,
-                                        "failure",
-                                        e.getClass().getSimpleName()
-                                );
-                                toolCallSink.tryEmitError(e);
-                            })
-                            .doOnComplete(() -> {
-                                chatTitleService.refineTitleAsync(accountId, conversationId);
-                            })
-                            .doFinally(signalType -> {
-                                if (signalType == SignalType.CANCEL) {
-                                    outcome.set("cancelled");
-                                }
-                                employeeInfoTools.setToolCallNotifier(null);
-                                organizationTools.setToolCallNotifier(null);
-                                businessQueryTools.setToolCallNotifier(null);
-                                if (signalType == SignalType.CANCEL) {
-                                    saveCanceledAssistantMessage(conversationId, partialAssistantResponse.toString());
-                                }
-                                if (signalType != SignalType.ON_ERROR) {
-                                    toolCallSink.tryEmitComplete();
-                                }
-                                long durationMs = (System.nanoTime() - startedAt) / 1_000_000L;
-                                applicationMetricsRecorder.recordChatRequest("stream", outcome.get(), durationMs);
-                                if (signalType != SignalType.ON_ERROR) {
-                                    businessEventLogger.chatEvent("stream_finish", accountId, conversationId, outcome.get(), null);
-                                }
-                            });
+        // Set tool call notifier on tools (tools may run concurrently, so emissions are serialized)
+        Consumer<String> toolCallNotifier = toolName -> {
+            applicationMetricsRecorder.incrementChatToolCall(toolName);
+            synchronized (toolCallSink) {
+                toolCallSink.tryEmitNext(toolName);
+            }
+        };
+        employeeInfoTools.setToolCallNotifier(toolCallNotifier);
+        organizationTools.setToolCallNotifier(toolCallNotifier);
+        businessQueryTools.setToolCallNotifier(toolCallNotifier);
+        StringBuilder partialAssistantResponse = new StringBuilder();
+        AtomicBoolean firstTokenReceived = new AtomicBoolean();
+        businessEventLogger.chatEvent("stream_start", accountId, conversationId, "started", null);
 
-                    if (isNewSession) {
-                        chatTitleService.applyInitialTitle(accountId, conversationId, command.content());
+        Flux<String> contentStream = chatClient.prompt()
+                .user(command.content())
+                .toolCallbacks(chatToolExecutor.callbacksForTurn(employeeInfoTools, organizationTools, businessQueryTools))
+                .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, conversationId))
+                .stream()
+                .content()
+                .doOnNext(token -> {
+                    if (firstTokenReceived.compareAndSet(false, true)) {
+                        applicationMetricsRecorder.recordChatTimeToFirstToken(System.nanoTime() - startedAt);
+                    }
+                })
+                .doOnNext(partialAssistantResponse::append)
+                .doOnError(e -> {
+                    outcome.set("failure");
+                    businessEventLogger.chatEvent(
+                            "stream_finish",
+                            accountId,
+                            conversationId,
+                            "failure",
+                            e.getClass().getSimpleName()
+                    );
+                    toolCallSink.tryEmitError(e);
+                })
+                .doOnComplete(() -> {
+                    chatTitleService.refineTitleIfNeeded(accountId, conversationId, sessionInfo.userMessageCount());
+                    chatMemoryCompactor.compactIfNeeded(conversationId);
+                })
+                .doFinally(signalType -> {
+                    if (signalType == SignalType.CANCEL) {
+                        outcome.set("cancelled");
+                    }
+                    employeeInfoTools.setToolCallNotifier(null);
+                    organizationTools.setToolCallNotifier(null);
+                    businessQueryTools.setToolCallNotifier(null);
+                    if (signalType == SignalType.CANCEL) {
+                        saveCanceledAssistantMessage(conversationId, partialAssistantResponse.toString());
+                    }
+                    if (signalType != SignalType.ON_ERROR) {
+                        toolCallSink.tryEmitComplete();
+                    }
+                    long durationMs = (System.nanoTime() - startedAt) / 1_000_000L;
+                    applicationMetricsRecorder.recordChatRequest("stream", outcome.get(), durationMs);
+                    if (signalType != SignalType.ON_ERROR) {
+                        businessEventLogger.chatEvent("stream_finish", accountId, conversationId, outcome.get(), null);
                     }
-
-                    return new ChatStreamResult(conversationId, contentStream, toolCallSink.asFlux());
                 });
+
+        return new ChatStreamResult(conversationId, contentStream, toolCallSink.asFlux());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String sendMessage(Long accountId, ChatSendCommand command) {
-        SessionInfo sessionInfo = getOrCreateConversation(accountId, command.sessionId());
-        boolean isNewSession = sessionInfo.isNewSession();
+        try (ChatAdmissionController.Permit permit = chatAdmissionController.acquire(accountId)) {
+            return sendAdmittedMessage(accountId, command);
+        }
+    }
+
+    private String sendAdmittedMessage(Long accountId, ChatSendCommand command) {
+        SessionInfo sessionInfo = getOrCreateConversation(accountId, command);
         String conversationId = sessionInfo.conversationId();
         long startedAt = System.nanoTime();
         EmployeeInfoTools employeeInfoTools = employeeInfoToolsProvider.getObject();
@@ -219,15 +260,13 @@ public class ChatCommandService {
         try {
             String response = chatClient.prompt()
                     .user(command.content())
-                    .tools(employeeInfoTools, organizationTools, businessQueryTools)
+                    .toolCallbacks(chatToolExecutor.callbacksForTurn(employeeInfoTools, organizationTools, businessQueryTools))
                     .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, conversationId))
                     .call()
                     .content();
 
-            if (isNewSession) {
-                chatTitleService.applyInitialTitle(accountId, conversationId, command.content());
-            }
-            chatTitleService.refineTitleAsync(accountId, conversationId);
+            chatTitleService.refineTitleIfNeeded(accountId, conversationId, sessionInfo.userMessageCount());
+            chatMemoryCompactor.compactIfNeeded(conversationId);
             applicationMetricsRecorder.recordChatRequest("call", "success", (System.nanoTime() - startedAt) / 1_000_000L);
             businessEventLogger.chatEvent("call_finish", accountId, conversationId, "success", null);
 
@@ -239,19 +278,27 @@ public class ChatCommandService {
         }
     }
 
-    private SessionInfo getOrCreateConversation(Long accountId, @Nullable String sessionId) {
+    /**
+     * 세션을 찾거나 만들고 이번 사용자 메시지를 세션에 기록한다. 제목 생성은 요청 경로에서 모델을 호출하지 않는다.
+     */
+    private SessionInfo getOrCreateConversation(Long accountId, ChatSendCommand command) {
+        String conversationId = resolveConversationId(accountId, command.sessionId());
+        int userMessageCount = chatTitleService.recordUserMessage(accountId, conversationId, command.content());
+        return new SessionInfo(conversationId, userMessageCount);
+    }
+
+    private String resolveConversationId(Long accountId, @Nullable String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             String newSessionId = UUID.randomUUID().toString();
             ChatSession newSession = ChatSession.create("새로운 대화", newSessionId, accountId);
             chatSessionRepository.save(newSession);
-            return new SessionInfo(true, newSessionId);
+            return newSessionId;
         }
 
-        ChatSession session = findOwnedSession(accountId, sessionId);
-        return new SessionInfo(false, session.getSessionId());
+        return findOwnedSession(accountId, sessionId).getSessionId();
     }
 
-    private record SessionInfo(boolean isNewSession, String conversationId) {
+    private record SessionInfo(String conversationId, int userMessageCount) {
 
     }
 
@@ -279,6 +326,7 @@ public class ChatCommandService {
         session.softDelete(accountId);
         chatSessionRepository.save(session);
         chatMemoryRepository.deleteByConversationId(sessionId);
+        chatMemorySummaryRepository.deleteByConversationId(sessionId);
     }
 
     private ChatSession findOwnedSession(Long accountId, String sessionId) {
@@ -0,0 +1,166 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+
+/**
+ * 채팅 메모리 압축
+ * - 턴이 끝난 뒤 요약과 메모리 메시지의 어림 토큰 수가 예산(app.chat.memory.compaction.token-budget)을 넘으면,
+ *   최근 keepRecentTurns개 턴(사용자 메시지부터 다음 사용자 메시지 전까지)만 원문으로 남기고 그 앞은 누적 요약으로 바꾼다.
+ * - 요약과 요약에 반영한 마지막 순번(summarizedUntilSequenceNo)을 tb_chat_memory_summary에 저장한다.
+ *   메모리 행은 대화 이력으로 남기고, 메모리 윈도우가 그 순번 뒤의 메시지만 읽는다.
+ *   행을 지우지 않으므로 압축 중에 메모리 저장이 끼어들어도 저장 순번이 어긋나지 않는다.
+ * - 모델 호출이 실패하면 압축을 건너뛰고 다음 턴에 다시 시도한다.
+ */
+@Slf4j
+@Service
+public class ChatMemoryCompactor {
+
+    private static final String SUMMARY_PROMPT = """
+            다음은 사내 업무 시스템 AI 어시스턴트와 사용자의 이전 대화입니다.
+            이후 대화의 맥락으로 쓸 수 있도록 한국어로 요약하세요.
+
+            요구사항:
+            - 사용자가 찾던 대상(직원, 부서, 프로젝트, 협력사)과 조회된 핵심 사실, ID, 링크를 빠짐없이 남긴다
+            - 아직 해결되지 않은 요청이 있으면 따로 적는다
+            - 인사말과 중복 설명은 뺀다
+            - 20줄 이내
+
+            기존 요약:
+            %s
+
+            새로 요약할 대화:
+            %s
+            """;
+
+    private final ChatClient chatClient;
+    private final ChatMemoryMessageRepository chatMemoryMessageRepository;
+    private final ChatMemorySummaryRepository chatMemorySummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final int maxMessages;
+    private final int tokenBudget;
+    private final int keepRecentTurns;
+
+    public ChatMemoryCompactor(
+            ChatClient.Builder chatClientBuilder,
+            ChatMemoryMessageRepository chatMemoryMessageRepository,
+            ChatMemorySummaryRepository chatMemorySummaryRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationMetricsRecorder applicationMetricsRecorder,
+            @Value("${app.chat.memory.max-messages:50}") int maxMessages,
+            @Value("${app.chat.memory.compaction.token-budget:6000}") int tokenBudget,
+            @Value("${app.chat.memory.compaction.keep-recent-turns:3}") int keepRecentTurns
+    ) {
+        this.chatClient = chatClientBuilder.build();
+        this.chatMemoryMessageRepository = chatMemoryMessageRepository;
+        this.chatMemorySummaryRepository = chatMemorySummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
+        this.maxMessages = maxMessages;
+        this.tokenBudget = tokenBudget;
+        this.keepRecentTurns = Math.max(1, keepRecentTurns);
+    }
+
+    @Async
+    public void compactIfNeeded(String conversationId) {
+        try {
+            List<ChatMemoryMessage> messages = findMessages(conversationId);
+            Optional<ChatMemorySummary> summary = chatMemorySummaryRepository.findByConversationId(conversationId);
+            String previousSummary = summary.map(ChatMemorySummary::getContent).orElse("");
+            if (estimateTokens(previousSummary, messages) <= tokenBudget) {
+                return;
+            }
+
+            int firstKeptIndex = findFirstKeptIndex(messages);
+            if (firstKeptIndex <= 0) {
+                return;
+            }
+            String updatedSummary = summarize(previousSummary, messages.subList(0, firstKeptIndex));
+            if (updatedSummary.isBlank()) {
+                applicationMetricsRecorder.incrementChatMemoryCompaction("skipped");
+                return;
+            }
+
+            long firstKeptSequenceNo = messages.get(firstKeptIndex).getSequenceNo();
+            transactionTemplate.executeWithoutResult(status -> {
+                ChatMemorySummary target = chatMemorySummaryRepository.findByConversationId(conversationId)
+                        .map(existing -> {
+                            existing.update(updatedSummary, firstKeptSequenceNo - 1);
+                            return existing;
+                        })
+                        .orElseGet(() -> ChatMemorySummary.create(conversationId, updatedSummary, firstKeptSequenceNo - 1));
+                chatMemorySummaryRepository.save(target);
+            });
+            applicationMetricsRecorder.incrementChatMemoryCompaction("success");
+        } catch (RuntimeException exception) {
+            applicationMetricsRecorder.incrementChatMemoryCompaction("failure");
+            log.warn("Failed to compact chat memory for session {}: {}", conversationId, exception.getMessage());
+        }
+    }
+
+    /**
+     * @return 순번 오름차순의 요약되지 않은 메모리 메시지 (프롬프트에 실리는 윈도우와 같은 범위)
+     */
+    private List<ChatMemoryMessage> findMessages(String conversationId) {
+        List<ChatMemoryMessage> latest = new ArrayList<>(chatMemoryMessageRepository
+                .findUnsummarizedByConversationIdOrderBySequenceNoDesc(conversationId, Limit.of(maxMessages)));
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    private int estimateTokens(String summary, List<ChatMemoryMessage> messages) {
+        int tokens = ChatTokenEstimator.estimate(summary);
+        for (ChatMemoryMessage message : messages) {
+            tokens += ChatTokenEstimator.estimate(message.getContent());
+        }
+        return tokens;
+    }
+
+    /**
+     * 뒤에서 keepRecentTurns번째 사용자 메시지의 위치를 찾는다. 사용자 메시지가 그보다 적으면 0을 반환한다.
+     */
+    private int findFirstKeptIndex(List<ChatMemoryMessage> messages) {
+        int userMessages = 0;
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i).getMessageType() == MessageType.USER && ++userMessages == keepRecentTurns) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private String summarize(String previousSummary, List<ChatMemoryMessage> olderMessages) {
+        StringBuilder transcript = new StringBuilder();
+        for (ChatMemoryMessage message : olderMessages) {
+            transcript.append(message.getMessageType() == MessageType.USER ? "사용자: " : "어시스턴트: ")
+                    .append(message.getContent().trim())
+                    .append('\n');
+        }
+        String response = chatClient.prompt()
+                .user(String.format(SUMMARY_PROMPT, previousSummary.isBlank() ? "(없음)" : previousSummary, transcript))
+                .call()
+                .content();
+        return response != null ? response.trim() : "";
+    }
+
+}
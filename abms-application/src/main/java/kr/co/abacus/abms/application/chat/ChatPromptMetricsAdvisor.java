@@ -0,0 +1,70 @@
+package kr.co.abacus.abms.application.chat;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.core.Ordered;
+
+import reactor.core.publisher.Flux;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+/**
+ * 모델에 보내는 프롬프트 크기를 요청마다 기록하는 Advisor
+ * - 메모리 Advisor 뒤에서 실행되므로 시스템 프롬프트, 요약, 메모리 메시지, 사용자 메시지와 도구 스키마가 모두 포함된다.
+ * - 토큰 수는 {@link ChatTokenEstimator}로 어림한 값이다.
+ */
+class ChatPromptMetricsAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+
+    ChatPromptMetricsAdvisor(ApplicationMetricsRecorder applicationMetricsRecorder) {
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
+    }
+
+    @Override
+    public String getName() {
+        return "ChatPromptMetricsAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain chain) {
+        record("call", chatClientRequest.prompt());
+        return chain.nextCall(chatClientRequest);
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest, StreamAdvisorChain chain) {
+        record("stream", chatClientRequest.prompt());
+        return chain.nextStream(chatClientRequest);
+    }
+
+    private void record(String mode, Prompt prompt) {
+        int estimatedTokens = 0;
+        for (Message message : prompt.getInstructions()) {
+            estimatedTokens += ChatTokenEstimator.estimate(message.getText());
+        }
+        if (prompt.getOptions() instanceof ToolCallingChatOptions options) {
+            for (ToolCallback toolCallback : options.getToolCallbacks()) {
+                ToolDefinition definition = toolCallback.getToolDefinition();
+                estimatedTokens += ChatTokenEstimator.estimate(definition.description())
+                        + ChatTokenEstimator.estimate(definition.inputSchema());
+            }
+        }
+        applicationMetricsRecorder.recordChatPrompt(mode, estimatedTokens, prompt.getInstructions().size());
+    }
+
+}
@@ -1,11 +1,8 @@
 package kr.co.abacus.abms.application.chat;
 
 import java.util.List;
-import java.util.Objects;
 
-import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.MessageType;
-import org.springframework.ai.chat.memory.ChatMemoryRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +11,9 @@ import lombok.RequiredArgsConstructor;
 import kr.co.abacus.abms.application.chat.dto.query.ChatMessageDetail;
 import kr.co.abacus.abms.application.chat.dto.query.ChatSessionDetail;
 import kr.co.abacus.abms.application.chat.dto.query.ChatSessionSummary;
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
 import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
 import kr.co.abacus.abms.domain.chat.ChatSession;
 
 @Service
@@ -23,7 +22,7 @@ import kr.co.abacus.abms.domain.chat.ChatSession;
 public class ChatQueryService {
 
     private final ChatSessionRepository chatSessionRepository;
-    private final ChatMemoryRepository chatMemoryRepository;
+    private final ChatMemoryMessageRepository chatMemoryMessageRepository;
 
     public List<ChatSessionSummary> getRecentSessions(Long accountId, int limit) {
         return chatSessionRepository.findRecentSessions(accountId, limit);
@@ -45,9 +44,8 @@ public class ChatQueryService {
         ChatSession session = chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, accountId)
                 .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
 
-        // Read messages from ChatMemory (Spring AI)
-        List<Message> memoryMessages = chatMemoryRepository.findByConversationId(sessionId);
-        List<ChatMessageDetail> messages = memoryMessages.stream()
+        // Read the full history, including turns already folded into the memory summary
+        List<ChatMessageDetail> messages = chatMemoryMessageRepository.findByConversationIdOrderBySequenceNoAsc(sessionId).stream()
                 .map(this::toMessageDetail)
                 .toList();
 
@@ -61,9 +59,9 @@ public class ChatQueryService {
                 session.getUpdatedAt());
     }
 
-    private ChatMessageDetail toMessageDetail(Message message) {
+    private ChatMessageDetail toMessageDetail(ChatMemoryMessage message) {
         String role = message.getMessageType() == MessageType.USER ? "USER" : "ASSISTANT";
-        return new ChatMessageDetail(null, role, Objects.requireNonNull(message.getText()), null);
+        return new ChatMessageDetail(null, role, message.getContent(), null);
     }
 
 }
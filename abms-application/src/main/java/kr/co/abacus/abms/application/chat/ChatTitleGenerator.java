@@ -0,0 +1,306 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemoryMessageRepository;
+import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+
+/**
+ * 백그라운드 채팅 제목 생성기
+ * - 요청 경로에서는 대기열에 넣기만 하고, 가상 스레드 하나가 batch-window 동안 모인 요청을 최대 batch-size개씩 꺼낸다.
+ * - 한 번의 모델 호출로 여러 세션의 제목을 "번호: 제목" 형식으로 받아 세션마다 반영한다.
+ * - 제목은 아직 자동 제목(기본 제목 또는 첫 메시지로 만든 제목)일 때만 바꾼다. 사용자가 바꾼 제목은 덮어쓰지 않는다.
+ * - 대기열이 가득 차면 요청을 버린다. 세션에는 이미 첫 메시지로 만든 제목이 있으므로 제목이 비지 않는다.
+ */
+@Slf4j
+@Component
+class ChatTitleGenerator {
+
+    static final String DEFAULT_TITLE = "새로운 대화";
+
+    private static final int TITLE_MAX_LENGTH = 50;
+    private static final int CONTEXT_USER_MESSAGES = 3;
+    private static final int REFINE_MEMORY_LOOKUP = 10;
+    private static final Pattern NUMBERED_TITLE = Pattern.compile("^\\s*\\[?(\\d+)\\]?\\s*[:.)\\]]\\s*(.+)$");
+    private static final List<String> GREETING_KEYWORDS = List.of(
+            "안녕", "hi", "hello", "반가", "좋은 아침", "좋은 저녁", "수고", "고마워", "감사");
+    private static final String BATCH_TITLE_PROMPT = """
+            다음은 여러 대화의 사용자 요청들입니다.
+            대화마다 맥락을 가장 잘 나타내는 한국어 대화 제목을 생성하세요.
+
+            요구사항:
+            - 5단어 이내
+            - 30자 이내
+            - 대화마다 한 줄씩 "번호: 제목" 형식으로만 출력 (따옴표, 설명 금지)
+
+            대화 목록:
+            %s
+            """;
+
+    private final ChatClient chatClient;
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatMemoryMessageRepository chatMemoryMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final BlockingQueue<ChatTitleRequest> pending;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("chat-title-generator").factory());
+
+    ChatTitleGenerator(
+            ChatClient.Builder chatClientBuilder,
+            ChatSessionRepository chatSessionRepository,
+            ChatMemoryMessageRepository chatMemoryMessageRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationMetricsRecorder applicationMetricsRecorder,
+            @Value("${app.chat.title.batch-size:8}") int batchSize,
+            @Value("${app.chat.title.batch-window-ms:500}") long batchWindowMs,
+            @Value("${app.chat.title.max-pending:1000}") int maxPending
+    ) {
+        this.chatClient = chatClientBuilder.build();
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatMemoryMessageRepository = chatMemoryMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
+        this.pending = new LinkedBlockingQueue<>(Math.max(1, maxPending));
+        this.batchSize = Math.max(1, batchSize);
+        this.batchWindow = Duration.ofMillis(batchWindowMs);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.execute(this::run);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    void enqueue(ChatTitleRequest request) {
+        if (!pending.offer(request)) {
+            applicationMetricsRecorder.incrementChatTitle("dropped");
+        }
+    }
+
+    /**
+     * 입력 메시지로 만든 임시 제목. 모델 호출 없이 세션 생성 직후 바로 쓴다.
+     */
+    static String fallbackTitle(String userMessage) {
+        String normalized = normalizeTitle(userMessage);
+        return normalized.isBlank() ? DEFAULT_TITLE : normalized;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                generate(nextBatch());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException exception) {
+                log.warn("Failed to generate chat titles: {}", exception.getMessage());
+            }
+        }
+    }
+
+    private List<ChatTitleRequest> nextBatch() throws InterruptedException {
+        List<ChatTitleRequest> batch = new ArrayList<>(batchSize);
+        batch.add(pending.take());
+        long deadline = System.nanoTime() + batchWindow.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            ChatTitleRequest next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 모인 요청의 제목을 한 번의 모델 호출로 만들어 반영한다. 같은 세션의 요청은 마지막 것만 처리한다.
+     */
+    void generate(List<ChatTitleRequest> batch) {
+        Map<String, ChatTitleRequest> latestBySession = new LinkedHashMap<>();
+        for (ChatTitleRequest request : batch) {
+            latestBySession.remove(request.sessionId());
+            latestBySession.put(request.sessionId(), request);
+        }
+
+        List<TitleTarget> targets = new ArrayList<>(latestBySession.size());
+        for (ChatTitleRequest request : latestBySession.values()) {
+            List<String> userMessages = resolveUserMessages(request);
+            if (!userMessages.isEmpty()) {
+                targets.add(new TitleTarget(request, userMessages));
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        applicationMetricsRecorder.recordChatTitleBatch(targets.size());
+
+        Map<Integer, String> titles;
+        try {
+            titles = parseTitles(chatClient.prompt()
+                    .user(String.format(BATCH_TITLE_PROMPT, toBatchContext(targets)))
+                    .call()
+                    .content());
+        } catch (RuntimeException exception) {
+            targets.forEach(target -> applicationMetricsRecorder.incrementChatTitle("failure"));
+            log.warn("Failed to generate titles for {} chat sessions: {}", targets.size(), exception.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            String title = titles.get(i + 1);
+            applicationMetricsRecorder.incrementChatTitle(
+                    title != null && apply(targets.get(i), title) ? "applied" : "skipped");
+        }
+    }
+
+    private List<String> resolveUserMessages(ChatTitleRequest request) {
+        String firstUserMessage = request.firstUserMessage();
+        if (request.kind() == ChatTitleRequest.Kind.INITIAL) {
+            return firstUserMessage != null && !firstUserMessage.isBlank() ? List.of(firstUserMessage) : List.of();
+        }
+
+        List<ChatMemoryMessage> latest = new ArrayList<>(chatMemoryMessageRepository
+                .findByConversationIdOrderBySequenceNoDesc(request.sessionId(), Limit.of(REFINE_MEMORY_LOOKUP)));
+        Collections.reverse(latest);
+        return latest.stream()
+                .filter(message -> message.getMessageType() == MessageType.USER)
+                .map(ChatMemoryMessage::getContent)
+                .filter(text -> !text.isBlank())
+                .toList();
+    }
+
+    private boolean apply(TitleTarget target, String generatedTitle) {
+        String title = normalizeTitle(generatedTitle);
+        if (title.isBlank()) {
+            return false;
+        }
+        ChatTitleRequest request = target.request();
+        Set<String> replaceableTitles = Set.of(DEFAULT_TITLE, fallbackTitle(target.userMessages().getFirst()));
+        Boolean applied = transactionTemplate.execute(status -> chatSessionRepository
+                .findBySessionIdAndAccountIdAndDeletedFalse(request.sessionId(), request.accountId())
+                .filter(session -> session.getTitle() == null
+                        || session.getTitle().isBlank()
+                        || replaceableTitles.contains(session.getTitle()))
+                .filter(session -> !title.equals(session.getTitle()))
+                .map(session -> {
+                    session.updateTitle(title);
+                    chatSessionRepository.save(session);
+                    return true;
+                })
+                .orElse(false));
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private String toBatchContext(List<TitleTarget> targets) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < targets.size(); i++) {
+            builder.append('[').append(i + 1).append("]\n")
+                    .append(toMessageContext(contextMessages(targets.get(i).userMessages())))
+                    .append("\n\n");
+        }
+        return builder.toString().trim();
+    }
+
+    private List<String> contextMessages(List<String> userMessages) {
+        List<String> candidateMessages = userMessages.stream()
+                .map(String::trim)
+                .filter(message -> !isGreetingMessage(message))
+                .toList();
+        return candidateMessages.isEmpty() ? userMessages : candidateMessages;
+    }
+
+    private String toMessageContext(List<String> userMessages) {
+        int size = userMessages.size();
+        List<String> recentMessages = userMessages.subList(Math.max(0, size - CONTEXT_USER_MESSAGES), size);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < recentMessages.size(); i++) {
+            builder.append(i + 1)
+                    .append(". ")
+                    .append(recentMessages.get(i).trim())
+                    .append('\n');
+        }
+        return builder.toString().trim();
+    }
+
+    private Map<Integer, String> parseTitles(@Nullable String response) {
+        Map<Integer, String> titles = new HashMap<>();
+        if (response == null) {
+            return titles;
+        }
+        for (String line : response.split("\\R")) {
+            Matcher matcher = NUMBERED_TITLE.matcher(line);
+            if (matcher.matches()) {
+                titles.putIfAbsent(Integer.parseInt(matcher.group(1)), matcher.group(2));
+            }
+        }
+        return titles;
+    }
+
+    private boolean isGreetingMessage(String message) {
+        String normalized = message.toLowerCase(Locale.ROOT).trim();
+        if (normalized.length() <= 6) {
+            return true;
+        }
+        return GREETING_KEYWORDS.stream().anyMatch(normalized::contains);
+    }
+
+    private static String normalizeTitle(String value) {
+        String normalized = value
+                .replace('\n', ' ')
+                .replace('\r', ' ')
+                .replaceAll("^['\"`\\[\\(\\s]+", "")
+                .replaceAll("['\"`\\]\\)\\s]+$", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+
+        if (normalized.length() > TITLE_MAX_LENGTH) {
+            normalized = normalized.substring(0, TITLE_MAX_LENGTH).trim();
+        }
+        return normalized;
+    }
+
+    private record TitleTarget(ChatTitleRequest request, List<String> userMessages) {
+    }
+
+}
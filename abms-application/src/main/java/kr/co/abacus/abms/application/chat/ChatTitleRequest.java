@@ -0,0 +1,25 @@
+package kr.co.abacus.abms.application.chat;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 백그라운드 제목 생성 요청
+ * - INITIAL: 첫 사용자 메시지로 제목을 만든다.
+ * - REFINE: 최근 사용자 메시지들로 제목을 다시 만든다. 메시지는 생성 시점에 메모리에서 읽는다.
+ */
+record ChatTitleRequest(Kind kind, Long accountId, String sessionId, @Nullable String firstUserMessage) {
+
+    enum Kind {
+        INITIAL,
+        REFINE
+    }
+
+    static ChatTitleRequest initial(Long accountId, String sessionId, String firstUserMessage) {
+        return new ChatTitleRequest(Kind.INITIAL, accountId, sessionId, firstUserMessage);
+    }
+
+    static ChatTitleRequest refine(Long accountId, String sessionId) {
+        return new ChatTitleRequest(Kind.REFINE, accountId, sessionId, null);
+    }
+
+}
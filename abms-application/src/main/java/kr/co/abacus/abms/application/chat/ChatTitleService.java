@@ -1,189 +1,76 @@
 package kr.co.abacus.abms.application.chat;
 
-import java.util.List;
-import java.util.Locale;
-
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.memory.ChatMemoryRepository;
-import org.springframework.ai.chat.messages.Message;
-import org.springframework.ai.chat.messages.MessageType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import kr.co.abacus.abms.application.chat.outbound.ChatSessionRepository;
 
-@Slf4j
+/**
+ * 채팅 세션 제목 관리
+ * - 세션마다 사용자 메시지 수를 기록하고, 첫 메시지에서는 입력으로 만든 임시 제목을 바로 붙인다.
+ * - AI 제목은 {@link ChatTitleGenerator}가 요청 경로 밖에서 여러 세션을 묶어 생성한다.
+ *   첫 메시지 직후 한 번, 사용자 메시지가 REFINE_AT_USER_MESSAGE개가 된 턴이 끝난 뒤 한 번 만든다.
+ */
 @Service
 public class ChatTitleService {
 
-    private static final String DEFAULT_TITLE = "새로운 대화";
-    private static final int TITLE_MAX_LENGTH = 50;
-    private static final List<String> GREETING_KEYWORDS = List.of(
-            "안녕", "hi", "hello", "반가", "좋은 아침", "좋은 저녁", "수고", "고마워", "감사");
-    private static final String TITLE_PROMPT = """
-            다음은 사용자의 대화 요청들입니다.
-            이 맥락을 가장 잘 나타내는 한국어 대화 제목을 생성하세요.
-
-            요구사항:
-            - 5단어 이내
-            - 30자 이내
-            - 제목만 출력 (따옴표, 설명, 번호 금지)
-
-            사용자 요청:
-            %s
-            """;
+    private static final int REFINE_AT_USER_MESSAGE = 3;
 
-    private final ChatClient chatClient;
     private final ChatSessionRepository chatSessionRepository;
-    private final ChatMemoryRepository chatMemoryRepository;
+    private final ChatTitleGenerator chatTitleGenerator;
 
-    public ChatTitleService(
-            ChatClient.Builder chatClientBuilder,
-            ChatSessionRepository chatSessionRepository,
-            ChatMemoryRepository chatMemoryRepository) {
-        this.chatClient = chatClientBuilder.build();
+    public ChatTitleService(ChatSessionRepository chatSessionRepository, ChatTitleGenerator chatTitleGenerator) {
         this.chatSessionRepository = chatSessionRepository;
-        this.chatMemoryRepository = chatMemoryRepository;
+        this.chatTitleGenerator = chatTitleGenerator;
     }
 
+    /**
+     * 사용자 메시지 수는 DB에서 원자적으로 늘린 뒤 다시 읽으므로, 같은 세션에 동시에 들어온 메시지도 서로 다른 번호를 받는다.
+     *
+     * @return 이번 메시지를 포함한 세션의 사용자 메시지 수 (세션이 없으면 0)
+     */
     @Transactional
-    public void applyInitialTitle(Long accountId, String sessionId, String userMessage) {
-        String initialTitle = createInitialTitleWithAi(userMessage);
-        chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, accountId)
-                .ifPresent(session -> {
-                    if (session.getTitle() == null
+    public int recordUserMessage(Long accountId, String sessionId, String userMessage) {
+        if (chatSessionRepository.incrementUserMessageCount(sessionId, accountId) == 0) {
+            return 0;
+        }
+        int userMessageCount = chatSessionRepository.findUserMessageCount(sessionId, accountId);
+        if (userMessageCount == 1) {
+            chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, accountId)
+                    .filter(session -> session.getTitle() == null
                             || session.getTitle().isBlank()
-                            || DEFAULT_TITLE.equals(session.getTitle())) {
-                        session.updateTitle(initialTitle);
+                            || ChatTitleGenerator.DEFAULT_TITLE.equals(session.getTitle()))
+                    .ifPresent(session -> {
+                        session.updateTitle(ChatTitleGenerator.fallbackTitle(userMessage));
                         chatSessionRepository.save(session);
-                    }
-                });
-    }
-
-    @Async
-    @Transactional
-    public void refineTitleAsync(Long accountId, String sessionId) {
-        try {
-            List<Message> memoryMessages = chatMemoryRepository.findByConversationId(sessionId);
-            List<String> allUserMessages = memoryMessages.stream()
-                    .filter(message -> message.getMessageType() == MessageType.USER)
-                    .map(Message::getText)
-                    .filter(text -> text != null && !text.isBlank())
-                    .toList();
-
-            if (allUserMessages.size() != 3) {
-                return;
-            }
-
-            String firstMessageTitle = createInitialTitle(allUserMessages.get(0));
-            String currentTitle = chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, accountId)
-                    .map(session -> session.getTitle())
-                    .orElse("");
-            if (!isAutoGeneratedTitle(currentTitle, firstMessageTitle)) {
-                return;
-            }
-
-            List<String> candidateMessages = allUserMessages.stream()
-                    .map(String::trim)
-                    .filter(message -> !isGreetingMessage(message))
-                    .toList();
-            List<String> contextMessages = candidateMessages.isEmpty() ? allUserMessages : candidateMessages;
-            String messageContext = toMessageContext(contextMessages);
-
-            String response = chatClient.prompt()
-                    .user(String.format(TITLE_PROMPT, messageContext))
-                    .call()
-                    .content();
-
-            if (response == null || response.isBlank()) {
-                return;
-            }
-
-            String refinedTitle = normalizeTitle(response);
-            chatSessionRepository.findBySessionIdAndAccountIdAndDeletedFalse(sessionId, accountId).ifPresent(session -> {
-                if (!refinedTitle.equals(session.getTitle())) {
-                    session.updateTitle(refinedTitle);
-                    chatSessionRepository.save(session);
-                    log.info("Refined title for session {}: {}", sessionId, refinedTitle);
-                }
-            });
-        } catch (Exception e) {
-            log.warn("Failed to refine title for session {}: {}", sessionId, e.getMessage());
-        }
-    }
-
-    private String toMessageContext(List<String> userMessages) {
-        int size = userMessages.size();
-        int fromIndex = Math.max(0, size - 3);
-        List<String> recentMessages = userMessages.subList(fromIndex, size);
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < recentMessages.size(); i++) {
-            builder.append(i + 1)
-                    .append(". ")
-                    .append(recentMessages.get(i).trim())
-                    .append('\n');
+                    });
+            enqueueAfterCommit(ChatTitleRequest.initial(accountId, sessionId, userMessage));
         }
-        return builder.toString().trim();
+        return userMessageCount;
     }
 
-    private boolean isAutoGeneratedTitle(String currentTitle, String firstMessageTitle) {
-        if (currentTitle == null || currentTitle.isBlank()) {
-            return true;
+    /**
+     * 턴이 끝난 뒤 호출한다. 제목을 다시 만들 시점이면 생성 대기열에 넣는다.
+     */
+    public void refineTitleIfNeeded(Long accountId, String sessionId, int userMessageCount) {
+        if (userMessageCount == REFINE_AT_USER_MESSAGE) {
+            chatTitleGenerator.enqueue(ChatTitleRequest.refine(accountId, sessionId));
         }
-        return DEFAULT_TITLE.equals(currentTitle) || firstMessageTitle.equals(currentTitle);
     }
 
-    private String createInitialTitle(String userMessage) {
-        String normalized = normalizeTitle(userMessage);
-        if (normalized.isBlank()) {
-            return DEFAULT_TITLE;
+    private void enqueueAfterCommit(ChatTitleRequest request) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            chatTitleGenerator.enqueue(request);
+            return;
         }
-        return normalized;
-    }
-
-    private String createInitialTitleWithAi(String userMessage) {
-        String fallbackTitle = createInitialTitle(userMessage);
-        try {
-            String messageContext = toMessageContext(List.of(userMessage));
-            String response = chatClient.prompt()
-                    .user(String.format(TITLE_PROMPT, messageContext))
-                    .call()
-                    .content();
-            if (response == null || response.isBlank()) {
-                return fallbackTitle;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chatTitleGenerator.enqueue(request);
             }
-            String refinedTitle = normalizeTitle(response);
-            return refinedTitle.isBlank() ? fallbackTitle : refinedTitle;
-        } catch (Exception e) {
-            log.warn("Failed to create initial AI title: {}", e.getMessage());
-            return fallbackTitle;
-        }
-    }
-
-    private boolean isGreetingMessage(String message) {
-        String normalized = message.toLowerCase(Locale.ROOT).trim();
-        if (normalized.length() <= 6) {
-            return true;
-        }
-        return GREETING_KEYWORDS.stream().anyMatch(normalized::contains);
-    }
-
-    private String normalizeTitle(String value) {
-        String normalized = value
-                .replace('\n', ' ')
-                .replace('\r', ' ')
-                .replaceAll("^['\"`\\[\\(\\s]+", "")
-                .replaceAll("['\"`\\]\\)\\s]+$", "")
-                .replaceAll("\\s+", " ")
-                .trim();
-
-        if (normalized.length() > TITLE_MAX_LENGTH) {
-            normalized = normalized.substring(0, TITLE_MAX_LENGTH).trim();
-        }
-        return normalized;
+        });
     }
 
 }
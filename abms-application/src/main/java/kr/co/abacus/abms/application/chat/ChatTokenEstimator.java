@@ -0,0 +1,23 @@
+package kr.co.abacus.abms.application.chat;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 모델 토크나이저 없이 글자 수로 토큰 수를 어림한다.
+ * - 한국어 위주 대화 기준으로 약 2자당 1토큰으로 계산한다. 압축 시점 판단과 지표용이므로 정확한 과금 토큰과 다를 수 있다.
+ */
+final class ChatTokenEstimator {
+
+    private static final int CHARS_PER_TOKEN = 2;
+
+    private ChatTokenEstimator() {
+    }
+
+    static int estimate(@Nullable String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+}
@@ -0,0 +1,147 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+
+/**
+ * 채팅 도구 실행 계층
+ * - 대화 턴(요청 1건)마다 도구 콜백을 새로 감싸, 같은 턴 안에서 같은 도구를 같은 인자로 다시 부르면 앞선 결과를 그대로 쓴다.
+ * - 모델이 한 응답에서 여러 도구를 요청하면 {@link ConcurrentToolCallingManager}가 {@link TurnToolCallback#prefetch}로 미리 동시에 실행해 둔다.
+ * - 도구별 실행 시간(abms.chat.tool.duration)과 재사용 횟수(abms.chat.tool.memo.hits.total)를 남긴다.
+ */
+@Component
+class ChatToolExecutor {
+
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+
+    ChatToolExecutor(ApplicationMetricsRecorder applicationMetricsRecorder) {
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
+    }
+
+    /**
+     * 한 턴 동안 쓸 도구 콜백을 만든다. 결과 재사용 범위는 반환한 콜백 배열이다.
+     */
+    ToolCallback[] callbacksForTurn(Object... toolObjects) {
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(toolObjects)
+                .build()
+                .getToolCallbacks();
+        return Arrays.stream(callbacks)
+                .map(callback -> new TurnToolCallback(callback, applicationMetricsRecorder))
+                .toArray(ToolCallback[]::new);
+    }
+
+    static final class TurnToolCallback implements ToolCallback {
+
+        private final ToolCallback delegate;
+        private final ApplicationMetricsRecorder applicationMetricsRecorder;
+        private final Map<String, TurnResult> resultsByInput = new ConcurrentHashMap<>();
+
+        TurnToolCallback(ToolCallback delegate, ApplicationMetricsRecorder applicationMetricsRecorder) {
+            this.delegate = delegate;
+            this.applicationMetricsRecorder = applicationMetricsRecorder;
+        }
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return delegate.getToolDefinition();
+        }
+
+        @Override
+        public ToolMetadata getToolMetadata() {
+            return delegate.getToolMetadata();
+        }
+
+        @Override
+        public String call(String toolInput) {
+            return call(toolInput, null);
+        }
+
+        @Override
+        public String call(String toolInput, @Nullable ToolContext toolContext) {
+            TurnResult created = new TurnResult(false);
+            TurnResult existing = resultsByInput.putIfAbsent(toolInput, created);
+            if (existing == null) {
+                return execute(toolInput, toolContext, created);
+            }
+            if (!existing.claimPrefetched()) {
+                applicationMetricsRecorder.incrementChatToolMemoHit(getToolDefinition().name());
+            }
+            return existing.await();
+        }
+
+        /**
+         * 같은 입력의 결과가 아직 없으면 실행해 둔다. 실패는 호출자에게 던지지 않고, 이후 {@link #call}에서 다시 실행한다.
+         */
+        void prefetch(String toolInput) {
+            TurnResult created = new TurnResult(true);
+            if (resultsByInput.putIfAbsent(toolInput, created) != null) {
+                return;
+            }
+            try {
+                execute(toolInput, null, created);
+            } catch (RuntimeException ignored) {
+                // call()에서 다시 실행해 도구 호출 관리자의 예외 처리를 그대로 따른다
+            }
+        }
+
+        private String execute(String toolInput, @Nullable ToolContext toolContext, TurnResult result) {
+            String toolName = getToolDefinition().name();
+            long startedAt = System.nanoTime();
+            try {
+                String output = delegate.call(toolInput, toolContext);
+                applicationMetricsRecorder.recordChatToolExecution(toolName, "success", System.nanoTime() - startedAt);
+                result.future.complete(output);
+                return output;
+            } catch (RuntimeException exception) {
+                applicationMetricsRecorder.recordChatToolExecution(toolName, "failure", System.nanoTime() - startedAt);
+                resultsByInput.remove(toolInput, result);
+                result.future.completeExceptionally(exception);
+                throw exception;
+            }
+        }
+    }
+
+    private static final class TurnResult {
+
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private final AtomicBoolean prefetched;
+
+        private TurnResult(boolean prefetched) {
+            this.prefetched = new AtomicBoolean(prefetched);
+        }
+
+        /**
+         * @return 미리 실행해 둔 결과를 처음 가져가는 호출이면 true (재사용으로 세지 않는다)
+         */
+        private boolean claimPrefetched() {
+            return prefetched.compareAndSet(true, false);
+        }
+
+        private String await() {
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw exception;
+            }
+        }
+    }
+
+}
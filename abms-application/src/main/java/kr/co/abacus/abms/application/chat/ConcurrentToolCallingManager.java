@@ -0,0 +1,104 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 여러 도구 호출을 동시에 실행하는 도구 호출 관리자
+ * - Spring AI 기본 관리자는 한 응답의 도구 호출을 호출 스레드에서 순서대로 실행한다.
+ * - 호출이 두 건 이상이면 턴 단위 콜백({@link ChatToolExecutor.TurnToolCallback})을 가상 스레드에서 먼저 동시에 실행하고,
+ *   기본 관리자가 순서대로 호출할 때는 이미 끝난 결과를 받아 대화 이력을 구성한다.
+ * - 빈으로 등록하면 자동 구성의 기본 관리자 대신 채팅 모델에 주입된다.
+ */
+@Component
+class ConcurrentToolCallingManager implements ToolCallingManager {
+
+    private final ToolCallingManager delegate;
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    ConcurrentToolCallingManager(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.delegate = ToolCallingManager.builder()
+                .observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+                .build();
+    }
+
+    @Override
+    public List<ToolDefinition> resolveToolDefinitions(ToolCallingChatOptions chatOptions) {
+        return delegate.resolveToolDefinitions(chatOptions);
+    }
+
+    @Override
+    public ToolExecutionResult executeToolCalls(Prompt prompt, ChatResponse chatResponse) {
+        prefetchConcurrently(prompt, chatResponse);
+        return delegate.executeToolCalls(prompt, chatResponse);
+    }
+
+    private void prefetchConcurrently(Prompt prompt, ChatResponse chatResponse) {
+        if (!(prompt.getOptions() instanceof ToolCallingChatOptions options)) {
+            return;
+        }
+        List<AssistantMessage.ToolCall> toolCalls = chatResponse.getResults().stream()
+                .map(Generation::getOutput)
+                .filter(AssistantMessage::hasToolCalls)
+                .findFirst()
+                .map(AssistantMessage::getToolCalls)
+                .orElse(List.of());
+        if (toolCalls.size() < 2) {
+            return;
+        }
+
+        Map<String, ChatToolExecutor.TurnToolCallback> callbacksByName = new HashMap<>();
+        for (ToolCallback callback : options.getToolCallbacks()) {
+            if (callback instanceof ChatToolExecutor.TurnToolCallback turnCallback) {
+                callbacksByName.put(turnCallback.getToolDefinition().name(), turnCallback);
+            }
+        }
+
+        List<Future<?>> prefetches = new ArrayList<>(toolCalls.size());
+        for (AssistantMessage.ToolCall toolCall : toolCalls) {
+            ChatToolExecutor.TurnToolCallback callback = callbacksByName.get(toolCall.name());
+            if (callback != null) {
+                prefetches.add(executorService.submit(() -> callback.prefetch(toolCall.arguments())));
+            }
+        }
+        for (Future<?> prefetch : prefetches) {
+            try {
+                prefetch.get();
+            } catch (ExecutionException ignored) {
+                // 실패한 호출은 기본 관리자가 다시 실행하면서 예외를 처리한다
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                prefetches.forEach(future -> future.cancel(true));
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+
+}
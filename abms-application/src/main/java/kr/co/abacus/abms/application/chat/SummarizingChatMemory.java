@@ -0,0 +1,55 @@
+package kr.co.abacus.abms.application.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+
+import kr.co.abacus.abms.application.chat.outbound.ChatMemorySummaryRepository;
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+
+/**
+ * 압축된 이전 대화 요약을 메모리 앞에 붙여 주는 ChatMemory
+ * - 저장(add)은 그대로 위임하므로 요약 메시지는 메모리 행으로 저장되지 않는다.
+ * - 요약과 원문 턴의 분리는 {@link ChatMemoryCompactor}가 맡는다.
+ */
+public class SummarizingChatMemory implements ChatMemory {
+
+    static final String SUMMARY_PREFIX = "지금까지의 이전 대화 요약입니다. 이후 질문에 답할 때 맥락으로만 사용하세요.\n\n";
+
+    private final ChatMemory delegate;
+    private final ChatMemorySummaryRepository chatMemorySummaryRepository;
+
+    public SummarizingChatMemory(ChatMemory delegate, ChatMemorySummaryRepository chatMemorySummaryRepository) {
+        this.delegate = delegate;
+        this.chatMemorySummaryRepository = chatMemorySummaryRepository;
+    }
+
+    @Override
+    public void add(String conversationId, List<Message> messages) {
+        delegate.add(conversationId, messages);
+    }
+
+    @Override
+    public List<Message> get(String conversationId) {
+        List<Message> messages = delegate.get(conversationId);
+        Optional<ChatMemorySummary> summary = chatMemorySummaryRepository.findByConversationId(conversationId);
+        if (summary.isEmpty()) {
+            return messages;
+        }
+        List<Message> withSummary = new ArrayList<>(messages.size() + 1);
+        withSummary.add(new SystemMessage(SUMMARY_PREFIX + summary.get().getContent()));
+        withSummary.addAll(messages);
+        return withSummary;
+    }
+
+    @Override
+    public void clear(String conversationId) {
+        delegate.clear(conversationId);
+        chatMemorySummaryRepository.deleteByConversationId(conversationId);
+    }
+
+}
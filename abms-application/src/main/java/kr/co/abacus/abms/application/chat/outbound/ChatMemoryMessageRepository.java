@@ -0,0 +1,26 @@
+package kr.co.abacus.abms.application.chat.outbound;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import kr.co.abacus.abms.domain.chat.ChatMemoryMessage;
+
+/**
+ * 채팅 메모리 행을 순번(sequence_no) 단위로 다루는 포트 (메모리 압축, 대화 이력 조회용)
+ */
+public interface ChatMemoryMessageRepository {
+
+    List<ChatMemoryMessage> findByConversationIdOrderBySequenceNoDesc(String conversationId, Limit limit);
+
+    /**
+     * 요약에 반영되지 않은 메시지를 최근 순으로 조회한다. 프롬프트에 실리는 메모리 윈도우와 같은 범위다.
+     */
+    List<ChatMemoryMessage> findUnsummarizedByConversationIdOrderBySequenceNoDesc(String conversationId, Limit limit);
+
+    /**
+     * 요약 여부와 관계없이 대화의 모든 메시지를 조회한다 (화면 이력용).
+     */
+    List<ChatMemoryMessage> findByConversationIdOrderBySequenceNoAsc(String conversationId);
+
+}
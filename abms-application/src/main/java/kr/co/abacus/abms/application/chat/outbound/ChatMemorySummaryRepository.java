@@ -0,0 +1,15 @@
+package kr.co.abacus.abms.application.chat.outbound;
+
+import java.util.Optional;
+
+import kr.co.abacus.abms.domain.chat.ChatMemorySummary;
+
+public interface ChatMemorySummaryRepository {
+
+    ChatMemorySummary save(ChatMemorySummary summary);
+
+    Optional<ChatMemorySummary> findByConversationId(String conversationId);
+
+    void deleteByConversationId(String conversationId);
+
+}
@@ -17,4 +17,16 @@ public interface ChatSessionRepository extends CustomChatSessionRepository {
 
     List<ChatSession> findAllByDeletedFalseOrderByUpdatedAtDesc();
 
+    /**
+     * 사용자 메시지 수를 DB에서 한 번의 UPDATE로 하나 늘린다. 같은 세션의 동시 요청도 증가분을 잃지 않는다.
+     *
+     * @return 갱신된 세션 수 (세션이 없으면 0)
+     */
+    int incrementUserMessageCount(String sessionId, Long accountId);
+
+    /**
+     * 현재 트랜잭션에서 증가시킨 값을 포함한 사용자 메시지 수를 DB에서 다시 읽는다.
+     */
+    int findUserMessageCount(String sessionId, Long accountId);
+
 }
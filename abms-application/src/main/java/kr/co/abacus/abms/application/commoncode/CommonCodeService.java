@@ -20,14 +20,14 @@ public class CommonCodeService {
 
     private final CommonCodeGroupRepository commonCodeGroupRepository;
 
-    @Cacheable(cacheNames = "commonCode", key = "#groupCode")
+    @Cacheable(cacheNames = "commonCode", key = "#groupCode", sync = true)
     public List<CommonCodeInfo> findByGroupCode(String groupCode) {
         log.info("[공통코드 조회] groupCode: {}", groupCode);
 
         return commonCodeGroupRepository.findDetailsByGroupCode(groupCode);
     }
 
-    @Cacheable(cacheNames = "commonCode", key = "#groupCode + '_' + #code")
+    @Cacheable(cacheNames = "commonCode", key = "#groupCode + '_' + #code", sync = true)
     public @Nullable CommonCodeInfo findByCode(String groupCode, String code) {
         return commonCodeGroupRepository.findDetailByCode(groupCode, code);
     }
@@ -1,17 +1,9 @@
 package kr.co.abacus.abms.application.dashboard;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Month;
-import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 
 import kr.co.abacus.abms.application.dashboard.dto.DashboardDepartmentFinancialItem;
 import kr.co.abacus.abms.application.dashboard.dto.DashboardEmployeeOverviewResponse;
@@ -19,18 +11,13 @@ import kr.co.abacus.abms.application.dashboard.dto.DashboardMonthlyFinancialItem
 import kr.co.abacus.abms.application.dashboard.dto.DashboardProjectOverviewResponse;
 import kr.co.abacus.abms.application.dashboard.dto.DashboardSummaryResponse;
 import kr.co.abacus.abms.application.dashboard.dto.DashboardUpcomingDeadlineItem;
+import kr.co.abacus.abms.application.dashboard.dto.DashboardYearlyAggregate;
 import kr.co.abacus.abms.application.dashboard.inbound.DashboardFinder;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
-import kr.co.abacus.abms.application.party.PartyQueryService;
+import kr.co.abacus.abms.application.project.dto.ProjectDeadlineItem;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
-import kr.co.abacus.abms.application.summary.outbound.CompanyMonthlyCostSummaryRepository;
-import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
 import kr.co.abacus.abms.domain.employee.EmployeeType;
-import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
-import kr.co.abacus.abms.domain.shared.Money;
-import kr.co.abacus.abms.domain.summary.CompanyMonthlyCostSummary;
-import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
 
 import lombok.RequiredArgsConstructor;
 
@@ -42,11 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class DashboardQueryService implements DashboardFinder {
 
+    private static final String UNKNOWN_PARTY_NAME = "협력사 미확인";
+
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
-    private final PartyQueryService partyQueryService;
-    private final MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
-    private final CompanyMonthlyCostSummaryRepository companyMonthlyCostSummaryRepository;
+    private final DashboardYearlyAggregateLoader yearlyAggregateLoader;
 
     @Override
     public DashboardSummaryResponse getDashboardSummary(int year) {
@@ -60,21 +47,15 @@ public class DashboardQueryService implements DashboardFinder {
                 endDate
         );
         int newEmployeesCount = employeeRepository.countByJoinDateBetweenAndDeletedFalse(startDate, endDate);
-        List<DashboardMonthlyFinancialItem> monthlyFinancials = getMonthlyFinancials(year);
-        long yearRevenue = monthlyFinancials.stream()
-                .mapToLong(DashboardMonthlyFinancialItem::revenue)
-                .sum();
-        long yearProfit = monthlyFinancials.stream()
-                .mapToLong(DashboardMonthlyFinancialItem::profit)
-                .sum();
+        DashboardYearlyAggregate yearlyAggregate = yearlyAggregateLoader.load(year);
 
         return new DashboardSummaryResponse(
                 totalEmployeesCount,
                 activeProjectsCount,
                 completedProjectsCount,
                 newEmployeesCount,
-                yearRevenue,
-                yearProfit
+                yearlyAggregate.yearRevenue(),
+                yearlyAggregate.yearProfit()
         );
     }
 
@@ -85,63 +66,18 @@ public class DashboardQueryService implements DashboardFinder {
         }
 
         LocalDate today = LocalDate.now();
-        LocalDate deadlineBoundary = today.plusDays(30);
-        List<Project> candidates = new ArrayList<>();
-        candidates.addAll(projectRepository.findAllByStatusAndDeletedFalse(ProjectStatus.IN_PROGRESS));
-        candidates.addAll(projectRepository.findAllByStatusAndDeletedFalse(ProjectStatus.ON_HOLD));
-
-        return candidates.stream()
-                .filter(project -> hasUpcomingDeadline(project, deadlineBoundary))
-                .sorted(Comparator
-                        .comparing((Project project) -> !getProjectEndDate(project).isBefore(today))
-                        .thenComparing(this::getProjectEndDate))
-                .limit(limit)
-                .map(project -> toUpcomingDeadlineItem(project, today))
+        return projectRepository.findUpcomingDeadlines(
+                        List.of(ProjectStatus.IN_PROGRESS, ProjectStatus.ON_HOLD),
+                        today.plusDays(30),
+                        limit)
+                .stream()
+                .map(deadline -> toUpcomingDeadlineItem(deadline, today))
                 .toList();
     }
 
     @Override
     public List<DashboardMonthlyFinancialItem> getMonthlyFinancials(int year) {
-        List<MonthlyRevenueSummary> snapshots = getLatestProjectSnapshotsByMonth(year);
-        Map<YearMonth, List<MonthlyRevenueSummary>> summariesByMonth = snapshots.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        summary -> YearMonth.from(summary.getTargetMonth()),
-                        LinkedHashMap::new,
-                        java.util.stream.Collectors.toList()
-                ));
-        Map<YearMonth, CompanyMonthlyCostSummary> companyCostByMonth = getCompanyCostSummariesByMonth(year);
-
-        List<DashboardMonthlyFinancialItem> result = new ArrayList<>();
-        for (int month = 1; month <= 12; month++) {
-            YearMonth targetMonth = YearMonth.of(year, month);
-            List<MonthlyRevenueSummary> monthlySummaries = summariesByMonth.getOrDefault(targetMonth, List.of());
-
-            long revenue = monthlySummaries.stream()
-                    .map(MonthlyRevenueSummary::getRevenueAmount)
-                    .reduce(Money.zero(), Money::add)
-                    .amount()
-                    .longValue();
-            Money projectAllocatedCost = monthlySummaries.stream()
-                    .map(MonthlyRevenueSummary::getCostAmount)
-                    .reduce(Money.zero(), Money::add);
-            CompanyMonthlyCostSummary companyCost = companyCostByMonth.get(targetMonth);
-            Money unallocatedCost = companyCost != null
-                    ? companyCost.getUnallocatedFullTimeEmployeeCost()
-                    : Money.zero();
-            long cost = projectAllocatedCost.add(unallocatedCost)
-                    .amount()
-                    .longValue();
-            long profit = revenue - cost;
-
-            result.add(new DashboardMonthlyFinancialItem(
-                    targetMonth.atDay(1),
-                    revenue,
-                    cost,
-                    profit
-            ));
-        }
-
-        return result;
+        return yearlyAggregateLoader.load(year).monthlyFinancials();
     }
 
     @Override
@@ -150,27 +86,16 @@ public class DashboardQueryService implements DashboardFinder {
             return List.of();
         }
 
-        Map<Long, DepartmentFinancialAccumulator> totalsByDepartment = new LinkedHashMap<>();
-        for (MonthlyRevenueSummary summary : getLatestProjectSnapshotsByMonth(year)) {
-            totalsByDepartment
-                    .computeIfAbsent(
-                            summary.getLeadDepartmentId(),
-                            ignored -> new DepartmentFinancialAccumulator(
-                                    summary.getLeadDepartmentId(),
-                                    summary.getLeadDepartmentName()
-                            )
-                    )
-                    .add(summary);
-        }
-
-        return totalsByDepartment.values().stream()
-                .filter(this::hasVisibleAmounts)
-                .sorted(Comparator.comparingLong(DepartmentFinancialAccumulator::profit).reversed())
+        return yearlyAggregateLoader.load(year).departmentFinancials().stream()
                 .limit(limit)
-                .map(this::toDepartmentFinancialItem)
                 .toList();
     }
 
+    @Override
+    public void clearYearlyAggregateCache() {
+        yearlyAggregateLoader.clear();
+    }
+
     @Override
     public DashboardProjectOverviewResponse getProjectOverview(int year) {
         LocalDate startDate = LocalDate.of(year, Month.JANUARY, 1);
@@ -208,111 +133,17 @@ public class DashboardQueryService implements DashboardFinder {
         );
     }
 
-    private DashboardUpcomingDeadlineItem toUpcomingDeadlineItem(Project project, LocalDate today) {
-        LocalDate endDate = getProjectEndDate(project);
-        long daysLeft = ChronoUnit.DAYS.between(today, endDate);
-
+    private DashboardUpcomingDeadlineItem toUpcomingDeadlineItem(ProjectDeadlineItem deadline, LocalDate today) {
+        String partyName = deadline.partyName();
         return new DashboardUpcomingDeadlineItem(
-                project.getIdOrThrow(),
-                project.getName(),
-                partyQueryService.getPartyName(project.getPartyId()),
-                project.getStatus().name(),
-                project.getStatus().getDescription(),
-                endDate,
-                daysLeft
-        );
-    }
-
-    private boolean hasUpcomingDeadline(Project project, LocalDate deadlineBoundary) {
-        LocalDate endDate = project.getPeriod().endDate();
-        return endDate != null && !endDate.isAfter(deadlineBoundary);
-    }
-
-    private LocalDate getProjectEndDate(Project project) {
-        return Objects.requireNonNull(project.getPeriod().endDate());
-    }
-
-    private List<MonthlyRevenueSummary> getLatestProjectSnapshotsByMonth(int year) {
-        LocalDate startDate = LocalDate.of(year, Month.JANUARY, 1);
-        LocalDate endDate = LocalDate.of(year, Month.DECEMBER, 31);
-        return monthlyRevenueSummaryRepository
-                .findAllByTargetMonthBetweenAndDeletedFalseOrderByTargetMonthAscProjectIdAsc(startDate, endDate);
-    }
-
-    private Map<YearMonth, CompanyMonthlyCostSummary> getCompanyCostSummariesByMonth(int year) {
-        LocalDate startDate = LocalDate.of(year, Month.JANUARY, 1);
-        LocalDate endDate = LocalDate.of(year, Month.DECEMBER, 1);
-        return companyMonthlyCostSummaryRepository
-                .findAllByTargetMonthBetweenAndDeletedFalseOrderByTargetMonthAsc(startDate, endDate)
-                .stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        summary -> YearMonth.from(summary.getTargetMonth()),
-                        java.util.function.Function.identity(),
-                        (left, right) -> left,
-                        LinkedHashMap::new
-                ));
-    }
-
-    private boolean hasVisibleAmounts(DepartmentFinancialAccumulator accumulator) {
-        return accumulator.revenue() != 0L || accumulator.profit() != 0L;
-    }
-
-    private DashboardDepartmentFinancialItem toDepartmentFinancialItem(DepartmentFinancialAccumulator accumulator) {
-        long revenue = accumulator.revenue();
-        long profit = accumulator.profit();
-
-        return new DashboardDepartmentFinancialItem(
-                accumulator.departmentId(),
-                accumulator.departmentName(),
-                revenue,
-                profit,
-                calculateProfitMargin(profit, revenue)
+                deadline.projectId(),
+                deadline.name(),
+                partyName != null ? partyName : UNKNOWN_PARTY_NAME,
+                deadline.status().name(),
+                deadline.status().getDescription(),
+                deadline.endDate(),
+                ChronoUnit.DAYS.between(today, deadline.endDate())
         );
     }
 
-    private double calculateProfitMargin(long profit, long revenue) {
-        if (revenue == 0L) {
-            return 0.0D;
-        }
-
-        return BigDecimal.valueOf(profit)
-                .multiply(BigDecimal.valueOf(100))
-                .divide(BigDecimal.valueOf(revenue), 1, RoundingMode.HALF_UP)
-                .doubleValue();
-    }
-
-    private static final class DepartmentFinancialAccumulator {
-
-        private final Long departmentId;
-        private final String departmentName;
-        private Money revenue = Money.zero();
-        private Money profit = Money.zero();
-
-        private DepartmentFinancialAccumulator(Long departmentId, String departmentName) {
-            this.departmentId = departmentId;
-            this.departmentName = departmentName;
-        }
-
-        private void add(MonthlyRevenueSummary summary) {
-            revenue = revenue.add(summary.getRevenueAmount());
-            profit = profit.add(summary.getProfitAmount());
-        }
-
-        private Long departmentId() {
-            return departmentId;
-        }
-
-        private String departmentName() {
-            return departmentName;
-        }
-
-        private long revenue() {
-            return revenue.amount().longValue();
-        }
-
-        private long profit() {
-            return profit.amount().longValue();
-        }
-    }
-
 }
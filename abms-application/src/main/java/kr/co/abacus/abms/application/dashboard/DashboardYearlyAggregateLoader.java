@@ -0,0 +1,169 @@
+package kr.co.abacus.abms.application.dashboard;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.abacus.abms.application.dashboard.dto.DashboardDepartmentFinancialItem;
+import kr.co.abacus.abms.application.dashboard.dto.DashboardMonthlyFinancialItem;
+import kr.co.abacus.abms.application.dashboard.dto.DashboardYearlyAggregate;
+import kr.co.abacus.abms.application.summary.outbound.CompanyMonthlyCostSummaryRepository;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.domain.summary.CompanyMonthlyCostSummary;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연도별 대시보드 재무 집계 계산/캐시
+ * - 연도의 월별 손익 집계와 회사 월 비용 집계를 한 번씩 읽어 월별/부서별 합계를 함께 계산한다.
+ * - 결과는 dashboardYearlyAggregate 캐시에 연도 키로 보관하고, 집계 변경 커밋 후 이벤트로 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardYearlyAggregateLoader {
+
+    private final MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
+    private final CompanyMonthlyCostSummaryRepository companyMonthlyCostSummaryRepository;
+
+    @Cacheable(cacheNames = "dashboardYearlyAggregate", key = "#year", sync = true)
+    @Transactional(readOnly = true)
+    public DashboardYearlyAggregate load(int year) {
+        BigDecimal[] monthlyRevenues = zeros();
+        BigDecimal[] monthlyAllocatedCosts = zeros();
+        Map<Long, DepartmentAccumulator> departments = new LinkedHashMap<>();
+
+        for (MonthlyRevenueSummary summary : monthlyRevenueSummaryRepository
+                .findAllByTargetMonthBetweenAndDeletedFalseOrderByTargetMonthAscProjectIdAsc(
+                        LocalDate.of(year, Month.JANUARY, 1),
+                        LocalDate.of(year, Month.DECEMBER, 31)
+                )) {
+            int monthIndex = summary.getTargetMonth().getMonthValue() - 1;
+            monthlyRevenues[monthIndex] = monthlyRevenues[monthIndex].add(summary.getRevenueAmount().amount());
+            monthlyAllocatedCosts[monthIndex] = monthlyAllocatedCosts[monthIndex].add(summary.getCostAmount().amount());
+            departments
+                    .computeIfAbsent(
+                            summary.getLeadDepartmentId(),
+                            ignored -> new DepartmentAccumulator(summary.getLeadDepartmentId(), summary.getLeadDepartmentName())
+                    )
+                    .add(summary);
+        }
+
+        BigDecimal[] monthlyUnallocatedCosts = zeros();
+        boolean[] companyCostLoaded = new boolean[12];
+        for (CompanyMonthlyCostSummary companyCost : companyMonthlyCostSummaryRepository
+                .findAllByTargetMonthBetweenAndDeletedFalseOrderByTargetMonthAsc(
+                        LocalDate.of(year, Month.JANUARY, 1),
+                        LocalDate.of(year, Month.DECEMBER, 1)
+                )) {
+            int monthIndex = companyCost.getTargetMonth().getMonthValue() - 1;
+            if (companyCostLoaded[monthIndex]) {
+                continue;
+            }
+            companyCostLoaded[monthIndex] = true;
+            monthlyUnallocatedCosts[monthIndex] = companyCost.getUnallocatedFullTimeEmployeeCost().amount();
+        }
+
+        List<DashboardMonthlyFinancialItem> monthlyFinancials = new ArrayList<>(12);
+        long yearRevenue = 0L;
+        long yearProfit = 0L;
+        for (int monthIndex = 0; monthIndex < 12; monthIndex++) {
+            long revenue = monthlyRevenues[monthIndex].longValue();
+            long cost = monthlyAllocatedCosts[monthIndex].add(monthlyUnallocatedCosts[monthIndex]).longValue();
+            long profit = revenue - cost;
+            monthlyFinancials.add(new DashboardMonthlyFinancialItem(
+                    LocalDate.of(year, monthIndex + 1, 1),
+                    revenue,
+                    cost,
+                    profit
+            ));
+            yearRevenue += revenue;
+            yearProfit += profit;
+        }
+
+        List<DashboardDepartmentFinancialItem> departmentFinancials = departments.values().stream()
+                .filter(DepartmentAccumulator::hasVisibleAmounts)
+                .sorted(Comparator.comparingLong(DepartmentAccumulator::profit).reversed())
+                .map(DepartmentAccumulator::toItem)
+                .toList();
+
+        log.debug("대시보드 연도 집계 계산: year={}, departments={}", year, departmentFinancials.size());
+        return new DashboardYearlyAggregate(year, monthlyFinancials, departmentFinancials, yearRevenue, yearProfit);
+    }
+
+    @CacheEvict(cacheNames = "dashboardYearlyAggregate", allEntries = true)
+    public void clear() {
+        log.info("[대시보드 연도 집계 캐시 초기화]");
+    }
+
+    private static BigDecimal[] zeros() {
+        BigDecimal[] values = new BigDecimal[12];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
+    }
+
+    private static final class DepartmentAccumulator {
+
+        private final Long departmentId;
+        private final String departmentName;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal profit = BigDecimal.ZERO;
+
+        private DepartmentAccumulator(Long departmentId, String departmentName) {
+            this.departmentId = departmentId;
+            this.departmentName = departmentName;
+        }
+
+        private void add(MonthlyRevenueSummary summary) {
+            revenue = revenue.add(summary.getRevenueAmount().amount());
+            profit = profit.add(summary.getProfitAmount().amount());
+        }
+
+        private long revenue() {
+            return revenue.longValue();
+        }
+
+        private long profit() {
+            return profit.longValue();
+        }
+
+        private boolean hasVisibleAmounts() {
+            return revenue() != 0L || profit() != 0L;
+        }
+
+        private DashboardDepartmentFinancialItem toItem() {
+            return new DashboardDepartmentFinancialItem(
+                    departmentId,
+                    departmentName,
+                    revenue(),
+                    profit(),
+                    calculateProfitMargin(profit(), revenue())
+            );
+        }
+
+        private static double calculateProfitMargin(long profit, long revenue) {
+            if (revenue == 0L) {
+                return 0.0D;
+            }
+
+            return BigDecimal.valueOf(profit)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(BigDecimal.valueOf(revenue), 1, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+    }
+
+}
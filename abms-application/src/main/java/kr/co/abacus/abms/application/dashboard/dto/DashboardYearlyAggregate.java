@@ -0,0 +1,22 @@
+package kr.co.abacus.abms.application.dashboard.dto;
+
+import java.util.List;
+
+/**
+ * 연도별 대시보드 재무 집계
+ * - 월별 합계 12개와 부서별 합계(이익 내림차순, 매출/이익이 모두 0인 부서 제외)를 한 번에 계산해 둔다.
+ */
+public record DashboardYearlyAggregate(
+        int year,
+        List<DashboardMonthlyFinancialItem> monthlyFinancials,
+        List<DashboardDepartmentFinancialItem> departmentFinancials,
+        long yearRevenue,
+        long yearProfit
+) {
+
+    public DashboardYearlyAggregate {
+        monthlyFinancials = List.copyOf(monthlyFinancials);
+        departmentFinancials = List.copyOf(departmentFinancials);
+    }
+
+}
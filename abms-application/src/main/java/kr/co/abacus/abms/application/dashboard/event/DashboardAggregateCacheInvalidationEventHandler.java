@@ -0,0 +1,22 @@
+package kr.co.abacus.abms.application.dashboard.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.co.abacus.abms.application.dashboard.inbound.DashboardFinder;
+
+@Component
+@RequiredArgsConstructor
+public class DashboardAggregateCacheInvalidationEventHandler {
+
+    private final DashboardFinder dashboardFinder;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(DashboardAggregateInvalidationRequestedEvent event) {
+        dashboardFinder.clearYearlyAggregateCache();
+    }
+
+}
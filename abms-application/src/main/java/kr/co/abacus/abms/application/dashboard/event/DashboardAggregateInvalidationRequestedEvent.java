@@ -0,0 +1,4 @@
+package kr.co.abacus.abms.application.dashboard.event;
+
+public record DashboardAggregateInvalidationRequestedEvent() {
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package kr.co.abacus.abms.application.dashboard.event;
+
+import org.jspecify.annotations.NullMarked;
@@ -31,4 +31,6 @@ public interface DashboardFinder {
 
     DashboardEmployeeOverviewResponse getEmployeeOverview(int year);
 
+    void clearYearlyAggregateCache();
+
 }
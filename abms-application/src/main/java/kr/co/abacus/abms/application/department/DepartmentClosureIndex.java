@@ -0,0 +1,261 @@
+package kr.co.abacus.abms.application.department;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.department.dto.DepartmentTreeLink;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부서 트리 closure 인덱스
+ * - 삭제되지 않은 부서의 (id, 상위 id)를 한 번 읽어 전위 순회 순서로 펼친 primitive 배열로 보관한다.
+ * - 부서 X의 하위 부서(자기 자신 포함)는 전위 순서 배열의 연속 구간이므로 DB 조회 없이 결과 크기만큼의 비용으로 응답한다.
+ * - 조직도 캐시 무효화 이벤트(다른 노드에서 전파된 무효화 포함)에서 {@link #invalidate()}로 버전을 올리면 다음 조회 때 다시 만든다.
+ * - 애플리케이션 밖(스크립트)의 부서 변경은 알 수 없으므로 maxAge가 지나거나 모르는 부서 id를 만나도 다시 만든다.
+ * - 무효화 직후 뒤처진 replica로 다시 만들지 않도록 재생성 조회는 {@link ConsistentReader}로 실행한다.
+ */
+@Slf4j
+@Component
+public class DepartmentClosureIndex {
+
+    private final DepartmentRepository departmentRepository;
+    private final ConsistentReader consistentReader;
+    private final Duration maxAge;
+    private final AtomicLong version = new AtomicLong();
+    private final Object rebuildMonitor = new Object();
+
+    private volatile @Nullable Snapshot snapshot;
+
+    DepartmentClosureIndex(
+            DepartmentRepository departmentRepository,
+            ConsistentReader consistentReader,
+            @Value("${app.department.closure.max-age:10m}") Duration maxAge
+    ) {
+        this.departmentRepository = departmentRepository;
+        this.consistentReader = consistentReader;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * @return 루트 부서와 모든 하위 부서 id (전위 순회 순서)
+     */
+    public Set<Long> descendantsOf(Long rootDepartmentId) {
+        long[] departmentIds = descendantIdsOf(rootDepartmentId);
+        Set<Long> result = new LinkedHashSet<>(Math.max(departmentIds.length * 2, 2));
+        for (long departmentId : departmentIds) {
+            result.add(departmentId);
+        }
+        return result;
+    }
+
+    /**
+     * @return 루트 부서와 모든 하위 부서 id (전위 순회 순서)
+     */
+    public long[] descendantIdsOf(long rootDepartmentId) {
+        Snapshot current = current(rootDepartmentId);
+        long[] departmentIds = current.descendantIdsOf(rootDepartmentId);
+        return departmentIds != null ? departmentIds : new long[] {rootDepartmentId};
+    }
+
+    /**
+     * 다음 조회 때 인덱스를 다시 만들도록 버전을 올린다.
+     */
+    public void invalidate() {
+        long invalidatedVersion = version.incrementAndGet();
+        log.info("[부서 트리 인덱스 무효화] version={}", invalidatedVersion);
+    }
+
+    private Snapshot current(long rootDepartmentId) {
+        Snapshot current = snapshot;
+        if (current != null && isFresh(current)) {
+            if (current.contains(rootDepartmentId) || current.isKnownMissing(rootDepartmentId)) {
+                return current;
+            }
+        }
+
+        Snapshot rebuilt = rebuild(current);
+        if (!rebuilt.contains(rootDepartmentId)) {
+            rebuilt.markMissing(rootDepartmentId);
+        }
+        return rebuilt;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current.version() == version.get()
+                && System.nanoTime() - current.builtAtNanos() < maxAge.toNanos();
+    }
+
+    private Snapshot rebuild(@Nullable Snapshot stale) {
+        synchronized (rebuildMonitor) {
+            Snapshot current = snapshot;
+            if (current != null && current != stale && isFresh(current)) {
+                return current;
+            }
+
+            long builtVersion = version.get();
+            Snapshot rebuilt = Snapshot.build(builtVersion, consistentReader.read(departmentRepository::findAllTreeLinks));
+            snapshot = rebuilt;
+            log.debug("부서 트리 인덱스 생성: version={}, departments={}", builtVersion, rebuilt.size());
+            return rebuilt;
+        }
+    }
+
+    /**
+     * 불변 인덱스
+     * - sortedIds: 노드 id 오름차순 (이진 탐색용), 상위 부서로만 참조된 id도 노드로 포함한다.
+     * - preorderIds: 전위 순회 순서의 노드 id
+     * - preorderStarts/preorderEnds: sortedIds 위치별 하위 트리 구간 [start, end)
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final long builtAtNanos;
+        private final long[] sortedIds;
+        private final long[] preorderIds;
+        private final int[] preorderStarts;
+        private final int[] preorderEnds;
+        private final Set<Long> knownMissingIds = ConcurrentHashMap.newKeySet();
+
+        private Snapshot(long version, long[] sortedIds, long[] preorderIds, int[] preorderStarts, int[] preorderEnds) {
+            this.version = version;
+            this.builtAtNanos = System.nanoTime();
+            this.sortedIds = sortedIds;
+            this.preorderIds = preorderIds;
+            this.preorderStarts = preorderStarts;
+            this.preorderEnds = preorderEnds;
+        }
+
+        private static Snapshot build(long version, List<DepartmentTreeLink> links) {
+            long[] ids = new long[links.size() * 2];
+            int idCount = 0;
+            for (DepartmentTreeLink link : links) {
+                Long parentId = link.parentId();
+                ids[idCount++] = link.departmentId();
+                if (parentId != null) {
+                    ids[idCount++] = parentId;
+                }
+            }
+            long[] sortedIds = distinctSorted(ids, idCount);
+            int nodeCount = sortedIds.length;
+
+            // 상위 노드별 하위 노드 목록 (CSR)
+            int[] parentIndexes = new int[nodeCount];
+            Arrays.fill(parentIndexes, -1);
+            int[] childCounts = new int[nodeCount + 1];
+            for (DepartmentTreeLink link : links) {
+                Long parentId = link.parentId();
+                if (parentId == null) {
+                    continue;
+                }
+                int index = Arrays.binarySearch(sortedIds, link.departmentId());
+                int parentIndex = Arrays.binarySearch(sortedIds, parentId);
+                parentIndexes[index] = parentIndex;
+                childCounts[parentIndex + 1]++;
+            }
+            int[] childOffsets = new int[nodeCount + 1];
+            for (int i = 0; i < nodeCount; i++) {
+                childOffsets[i + 1] = childOffsets[i] + childCounts[i + 1];
+            }
+            int[] children = new int[childOffsets[nodeCount]];
+            int[] cursor = Arrays.copyOf(childOffsets, nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                if (parentIndexes[i] >= 0) {
+                    children[cursor[parentIndexes[i]]++] = i;
+                }
+            }
+
+            long[] preorderIds = new long[nodeCount];
+            int[] preorderStarts = new int[nodeCount];
+            int[] preorderEnds = new int[nodeCount];
+            boolean[] visited = new boolean[nodeCount];
+            int[] stack = new int[nodeCount * 2 + 1];
+            int position = 0;
+            // 최상위 노드부터 순회하고, 순환 참조로 남은 노드는 이어서 순회한다.
+            for (int pass = 0; pass < 2; pass++) {
+                for (int start = 0; start < nodeCount; start++) {
+                    if (visited[start] || (pass == 0 && parentIndexes[start] >= 0)) {
+                        continue;
+                    }
+                    int top = 0;
+                    stack[top++] = start;
+                    while (top > 0) {
+                        int entry = stack[--top];
+                        if (entry < 0) {
+                            preorderEnds[~entry] = position;
+                            continue;
+                        }
+                        if (visited[entry]) {
+                            continue;
+                        }
+                        visited[entry] = true;
+                        preorderStarts[entry] = position;
+                        preorderIds[position++] = sortedIds[entry];
+                        stack[top++] = ~entry;
+                        for (int c = childOffsets[entry + 1] - 1; c >= childOffsets[entry]; c--) {
+                            if (!visited[children[c]]) {
+                                stack[top++] = children[c];
+                            }
+                        }
+                    }
+                }
+            }
+            return new Snapshot(version, sortedIds, preorderIds, preorderStarts, preorderEnds);
+        }
+
+        private static long[] distinctSorted(long[] ids, int count) {
+            long[] sorted = Arrays.copyOf(ids, count);
+            Arrays.sort(sorted);
+            int distinctCount = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinctCount++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinctCount);
+        }
+
+        private long @Nullable [] descendantIdsOf(long departmentId) {
+            int index = Arrays.binarySearch(sortedIds, departmentId);
+            if (index < 0) {
+                return null;
+            }
+            return Arrays.copyOfRange(preorderIds, preorderStarts[index], preorderEnds[index]);
+        }
+
+        private boolean contains(long departmentId) {
+            return Arrays.binarySearch(sortedIds, departmentId) >= 0;
+        }
+
+        private boolean isKnownMissing(long departmentId) {
+            return knownMissingIds.contains(departmentId);
+        }
+
+        private void markMissing(long departmentId) {
+            knownMissingIds.add(departmentId);
+        }
+
+        private long version() {
+            return version;
+        }
+
+        private long builtAtNanos() {
+            return builtAtNanos;
+        }
+
+        private int size() {
+            return sortedIds.length;
+        }
+    }
+
+}
@@ -130,7 +130,7 @@ public class DepartmentQueryService implements DepartmentFinder {
         return result;
     }
 
-    @Cacheable("organizationChart")
+    @Cacheable(cacheNames = "organizationChart", sync = true)
     @Override
     public List<OrganizationChartDetail> getOrganizationChart() {
         List<DepartmentProjection> projections = departmentRepository.findAllDepartmentProjections();
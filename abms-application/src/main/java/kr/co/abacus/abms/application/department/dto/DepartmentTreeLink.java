@@ -0,0 +1,9 @@
+package kr.co.abacus.abms.application.department.dto;
+
+import org.jspecify.annotations.Nullable;
+
+public record DepartmentTreeLink(
+        Long departmentId,
+        @Nullable Long parentId) {
+
+}
@@ -1,22 +1,43 @@
 package kr.co.abacus.abms.application.department.event;
 
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 
+import kr.co.abacus.abms.application.department.DepartmentClosureIndex;
 import kr.co.abacus.abms.application.department.inbound.DepartmentFinder;
+import kr.co.abacus.abms.application.shared.ReferenceNameResolver;
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+import kr.co.abacus.abms.application.shared.event.RemoteCacheInvalidatedEvent;
 
 @Component
 @RequiredArgsConstructor
 public class OrganizationChartCacheInvalidationEventHandler {
 
+    private static final String ORGANIZATION_CHART_CACHE = "organizationChart";
+
     private final DepartmentFinder departmentFinder;
+    private final DepartmentClosureIndex departmentClosureIndex;
+    private final ReferenceNameResolver referenceNameResolver;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(OrganizationChartInvalidationRequestedEvent event) {
         departmentFinder.clearOrganizationChartCache();
+        departmentClosureIndex.invalidate();
+        referenceNameResolver.clear(ReferenceNameType.DEPARTMENT);
+    }
+
+    /**
+     * 다른 노드에서 조직도 캐시를 비웠으면 캐시 밖에 있는 부서 트리 인덱스도 다시 만들게 한다.
+     */
+    @EventListener
+    public void handle(RemoteCacheInvalidatedEvent event) {
+        if (ORGANIZATION_CHART_CACHE.equals(event.cacheName())) {
+            departmentClosureIndex.invalidate();
+        }
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import kr.co.abacus.abms.application.department.dto.DepartmentDetail;
 import kr.co.abacus.abms.application.department.dto.DepartmentProjection;
+import kr.co.abacus.abms.application.department.dto.DepartmentTreeLink;
 import kr.co.abacus.abms.domain.department.Department;
 
 public interface CustomDepartmentRepository {
@@ -15,4 +16,6 @@ public interface CustomDepartmentRepository {
 
     Optional<DepartmentDetail> findDetail(Long departmentId);
 
+    List<DepartmentTreeLink> findAllTreeLinks();
+
 }
@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.department.outbound;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,10 @@ public interface DepartmentRepository extends CustomDepartmentRepository {
 
     List<Department> findAllByDeletedFalse();
 
+    long countByDeletedFalse();
+
+    List<Department> findAllByIdInAndDeletedFalse(Collection<Long> ids);
+
     boolean existsByIdAndDeletedFalse(Long newDepartmentId);
 
     void saveAll(Iterable<Department> departments);
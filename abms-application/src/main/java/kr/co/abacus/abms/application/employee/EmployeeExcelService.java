@@ -1,27 +1,37 @@
 package kr.co.abacus.abms.application.employee;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
 import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.department.event.OrganizationChartInvalidationRequestedEvent;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelImportResult;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
 import kr.co.abacus.abms.application.employee.dto.EmployeeExcelUploadResult;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
-import kr.co.abacus.abms.application.employee.inbound.EmployeeManager;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeBulkWriter;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeExcelExporter;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeExcelImporter;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.application.observability.BusinessEventLogger;
 import kr.co.abacus.abms.domain.department.Department;
-import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeExcelException;
 
 @RequiredArgsConstructor
@@ -29,49 +39,50 @@ import kr.co.abacus.abms.domain.employee.EmployeeExcelException;
 @Service
 public class EmployeeExcelService {
 
+    private static final int EXCEL_FETCH_SIZE = 500;
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final EmployeeManager employeeManager;
+    private final EmployeeBulkWriter employeeBulkWriter;
     private final EmployeeExcelExporter employeeExcelExporter;
     private final EmployeeExcelImporter employeeExcelImporter;
     private final EmployeeAuthorizationValidator employeeAuthorizationValidator;
-
-    public byte[] download(EmployeeSearchCondition condition, CurrentActor actor) {
-        List<Employee> employees = employeeRepository.search(condition, actor);
-
-        Map<Long, String> departmentNames = loadDepartmentNameMap();
-
-        return employeeExcelExporter.export(employees, departmentNames);
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusinessEventLogger businessEventLogger;
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
+
+    /**
+     * 검색 조건의 직원을 엑셀로 outputStream에 바로 쓴다.
+     * - 엔티티 대신 다운로드 행을 keyset으로 EXCEL_FETCH_SIZE씩 이어 읽어 한 번에 한 묶음만 메모리에 둔다.
+     */
+    public void download(EmployeeSearchCondition condition, CurrentActor actor, OutputStream outputStream) {
+        employeeExcelExporter.export(streamExcelRows(condition, actor), outputStream);
     }
 
     public byte[] downloadSample() {
         return employeeExcelExporter.exportSample();
     }
 
+    /**
+     * 엑셀의 직원을 일괄 등록한다.
+     * - 모든 행을 먼저 검증(부서 코드 맵, 이메일 IN 조회, 파일 내 중복)하고, 하나라도 실패하면 원본 행 번호와 함께 전체를 거부한다.
+     * - 직원과 직급 이력은 JDBC 배치로 넣고, 조직도 캐시 무효화는 한 번만 요청한다.
+     */
     @Transactional
     public EmployeeExcelUploadResult upload(InputStream inputStream, CurrentActor actor) {
         Map<String, Long> departmentCodeMap = loadDepartmentCodeMap();
-        List<EmployeeCreateCommand> commands = employeeExcelImporter.importEmployees(inputStream, departmentCodeMap);
-        CurrentActor writeActor = employeeAuthorizationValidator.authorizeExcelUpload(actor, commands);
-
-        List<EmployeeExcelUploadResult.ExcelFailure> excelFailures = new ArrayList<>();
-        int successCount = 0;
+        EmployeeExcelImportResult imported = employeeExcelImporter.importEmployees(inputStream, departmentCodeMap);
+        List<EmployeeCreateCommand> commands = imported.rows().stream()
+                .map(EmployeeExcelImportResult.ImportedRow::command)
+                .toList();
+        employeeAuthorizationValidator.authorizeExcelUpload(actor, commands);
 
-        for (int i = 0; i < commands.size(); i++) {
-            try {
-                employeeManager.create(writeActor, commands.get(i));
-                successCount++;
-            } catch (Exception ex) {
-                // commands에는 이미 필터링된 데이터만 들어있지만, 
-                // 행 번호를 정확히 알기 어렵다는 단점이 있음. 
-                // Importer가 행 번호를 포함한 결과를 반환하도록 개선하는 것이 좋음.
-                // 일단 기존 로직과 최대한 유사하게 유지하기 위해 successCount와 excelFailures 관리
-                excelFailures.add(new EmployeeExcelUploadResult.ExcelFailure(i + 2, resolveMessage(ex)));
-            }
-        }
+        List<EmployeeExcelUploadResult.ExcelFailure> excelFailures = new ArrayList<>(imported.failures());
+        excelFailures.addAll(validateRows(imported.rows()));
 
         if (!excelFailures.isEmpty()) {
             String detailLines = excelFailures.stream()
+                    .sorted(Comparator.comparingInt(EmployeeExcelUploadResult.ExcelFailure::rowNumber))
                     .map(excelFailure -> {
                         String prefix = excelFailure.rowNumber() > 0 ? excelFailure.rowNumber() + "행: " : "";
                         return prefix + excelFailure.message();
@@ -87,13 +98,48 @@ public class EmployeeExcelService {
             throw new EmployeeExcelException(message);
         }
 
-        return new EmployeeExcelUploadResult(successCount, excelFailures);
+        List<Long> employeeIds = employeeBulkWriter.insertAll(commands, actor.accountId());
+
+        eventPublisher.publishEvent(new OrganizationChartInvalidationRequestedEvent());
+        for (int i = 0; i < employeeIds.size(); i++) {
+            businessEventLogger.employeeEvent("create", actor, employeeIds.get(i), commands.get(i).departmentId());
+        }
+        applicationMetricsRecorder.incrementEmployeeAction("create", employeeIds.size());
+
+        return new EmployeeExcelUploadResult(employeeIds.size(), List.of());
     }
 
-    private Map<Long, String> loadDepartmentNameMap() {
-        return departmentRepository.findAllByDeletedFalse()
-                .stream()
-                .collect(Collectors.toMap(Department::getId, Department::getName));
+    private List<EmployeeExcelUploadResult.ExcelFailure> validateRows(List<EmployeeExcelImportResult.ImportedRow> rows) {
+        Set<String> existingEmails = employeeRepository.findExistingEmailAddresses(
+                rows.stream().map(row -> row.command().email()).collect(Collectors.toSet()));
+
+        List<EmployeeExcelUploadResult.ExcelFailure> failures = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (EmployeeExcelImportResult.ImportedRow row : rows) {
+            EmployeeCreateCommand command = row.command();
+            try {
+                command.toEntity();
+            } catch (RuntimeException ex) {
+                failures.add(new EmployeeExcelUploadResult.ExcelFailure(row.rowNumber(), resolveMessage(ex)));
+                continue;
+            }
+            if (existingEmails.contains(command.email())) {
+                failures.add(new EmployeeExcelUploadResult.ExcelFailure(row.rowNumber(), "이미 존재하는 이메일입니다: " + command.email()));
+            } else if (!seenEmails.add(command.email())) {
+                failures.add(new EmployeeExcelUploadResult.ExcelFailure(row.rowNumber(), "엑셀 파일 안에서 중복된 이메일입니다: " + command.email()));
+            }
+        }
+        return failures;
+    }
+
+    private Stream<EmployeeExcelRow> streamExcelRows(EmployeeSearchCondition condition, CurrentActor actor) {
+        return Stream.iterate(
+                        employeeRepository.findExcelRows(condition, actor, null, EXCEL_FETCH_SIZE),
+                        rows -> !rows.isEmpty(),
+                        rows -> rows.size() < EXCEL_FETCH_SIZE
+                                ? List.of()
+                                : employeeRepository.findExcelRows(condition, actor, rows.getLast(), EXCEL_FETCH_SIZE))
+                .flatMap(List::stream);
     }
 
     private Map<String, Long> loadDepartmentCodeMap() {
@@ -102,7 +148,7 @@ public class EmployeeExcelService {
                 .collect(Collectors.toMap(Department::getCode, Department::getId));
     }
 
-    private String resolveMessage(Exception ex) {
+    private String resolveMessage(RuntimeException ex) {
         String message = ex.getMessage();
         if (message == null || message.isBlank()) {
             return ex.getClass().getSimpleName();
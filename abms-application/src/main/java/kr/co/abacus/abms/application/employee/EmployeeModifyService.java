@@ -21,6 +21,8 @@ import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
 import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
 import kr.co.abacus.abms.application.observability.BusinessEventLogger;
 import kr.co.abacus.abms.application.positionhistory.outbound.PositionHistoryRepository;
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+import kr.co.abacus.abms.application.shared.event.ReferenceNameChangedEvent;
 import kr.co.abacus.abms.domain.department.DepartmentNotFoundException;
 import kr.co.abacus.abms.domain.employee.DuplicateEmailException;
 import kr.co.abacus.abms.domain.employee.Employee;
@@ -100,6 +102,7 @@ public class EmployeeModifyService implements EmployeeManager {
         Long updatedEmployeeId = employeeRepository.save(employee).getIdOrThrow();
 
         requestOrganizationChartCacheInvalidation();
+        requestEmployeeNameInvalidation(updatedEmployeeId);
         if (departmentChanged) {
             invalidateEmployeeSession(updatedEmployeeId);
         }
@@ -262,6 +265,7 @@ public class EmployeeModifyService implements EmployeeManager {
         employeeRepository.save(employee);
 
         requestOrganizationChartCacheInvalidation();
+        requestEmployeeNameInvalidation(employee.getIdOrThrow());
         invalidateEmployeeSession(employee.getIdOrThrow());
         businessEventLogger.employeeEvent("delete", actor, employee);
         applicationMetricsRecorder.incrementEmployeeAction("delete");
@@ -286,6 +290,10 @@ public class EmployeeModifyService implements EmployeeManager {
         eventPublisher.publishEvent(new OrganizationChartInvalidationRequestedEvent());
     }
 
+    private void requestEmployeeNameInvalidation(Long employeeId) {
+        eventPublisher.publishEvent(new ReferenceNameChangedEvent(ReferenceNameType.EMPLOYEE, employeeId));
+    }
+
     private void invalidateEmployeeSession(Long employeeId) {
         accountRepository.findByEmployeeIdAndDeletedFalse(employeeId)
                 .ifPresent(account -> sessionInvalidator.invalidateSessions(java.util.List.of(account.getIdOrThrow())));
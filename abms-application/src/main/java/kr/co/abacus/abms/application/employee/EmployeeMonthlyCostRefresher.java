@@ -0,0 +1,131 @@
+package kr.co.abacus.abms.application.employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.abacus.abms.application.employee.outbound.EmployeeCostPolicyRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.payroll.outbound.PayrollRepository;
+import kr.co.abacus.abms.application.summary.outbound.RevenueMonthClosingRepository;
+import kr.co.abacus.abms.domain.employee.Employee;
+import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
+import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
+import kr.co.abacus.abms.domain.payroll.Payroll;
+import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.summary.RevenueMonthClosing;
+import kr.co.abacus.abms.domain.summary.RevenueMonthClosingStatus;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여 변경 후 이미 계산된 직원 월 비용 갱신
+ * - 배치가 만든 월 비용 행만 다시 계산하고, 새 월 비용 행은 만들지 않는다.
+ * - 매출 집계가 마감(CLOSED)된 월의 월 비용은 마감된 집계와 어긋나지 않도록 바꾸지 않는다.
+ * - 월 말일(오늘 이후면 오늘) 기준 급여와 해당 년도 비용 정책으로 배치와 같은 공식을 적용한다.
+ *   급여 이력, 비용 정책, 마감 월은 기간 전체를 한 번씩 읽어 월마다 조회하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeMonthlyCostRefresher {
+
+    private static final DateTimeFormatter COST_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final EmployeeRepository employeeRepository;
+    private final PayrollRepository payrollRepository;
+    private final EmployeeCostPolicyRepository policyRepository;
+    private final EmployeeMonthlyCostRepository monthlyCostRepository;
+    private final RevenueMonthClosingRepository revenueMonthClosingRepository;
+
+    /**
+     * @return 월 비용이 갱신된 월 목록
+     */
+    @Transactional
+    public List<YearMonth> refresh(Long employeeId, YearMonth fromMonth, YearMonth toMonth) {
+        Employee employee = employeeRepository.findById(employeeId).orElse(null);
+        if (employee == null || fromMonth.isAfter(toMonth)) {
+            return List.of();
+        }
+
+        List<EmployeeMonthlyCost> monthlyCosts = monthlyCostRepository.findAllByEmployeeIdAndCostMonthBetweenAndDeletedFalse(
+                employeeId,
+                fromMonth.format(COST_MONTH_FORMATTER),
+                toMonth.format(COST_MONTH_FORMATTER)
+        );
+        if (monthlyCosts.isEmpty()) {
+            return List.of();
+        }
+        Set<YearMonth> closedMonths = findClosedMonths(fromMonth, toMonth);
+        List<Payroll> payrolls = payrollRepository.findAllByEmployeeId(employeeId);
+        Map<Integer, EmployeeCostPolicy> policiesByYear = new HashMap<>();
+        for (EmployeeCostPolicy policy : policyRepository.findAllByApplyYearBetweenAndType(
+                fromMonth.getYear(),
+                toMonth.getYear(),
+                employee.getType()
+        )) {
+            policiesByYear.putIfAbsent(policy.getApplyYear(), policy);
+        }
+
+        LocalDate today = LocalDate.now();
+        List<EmployeeMonthlyCost> refreshedCosts = new ArrayList<>();
+        List<YearMonth> refreshedMonths = new ArrayList<>();
+        for (EmployeeMonthlyCost monthlyCost : monthlyCosts) {
+            YearMonth costMonth = YearMonth.parse(monthlyCost.getCostMonth(), COST_MONTH_FORMATTER);
+            if (closedMonths.contains(costMonth)) {
+                continue;
+            }
+            LocalDate targetDate = costMonth.atEndOfMonth().isAfter(today) ? today : costMonth.atEndOfMonth();
+            Payroll payroll = findPayrollOn(payrolls, targetDate);
+            EmployeeCostPolicy policy = policiesByYear.get(costMonth.getYear());
+            if (payroll == null || policy == null) {
+                continue;
+            }
+
+            Money monthlySalaryCost = payroll.getAnnualSalary().divide(BigDecimal.valueOf(12));
+            Money overheadCost = policy.calculateOverheadCost(payroll.getAnnualSalary());
+            Money sgaCost = policy.calculateSgaCost(payroll.getAnnualSalary());
+            monthlyCost.update(monthlySalaryCost, overheadCost, sgaCost, monthlySalaryCost.add(overheadCost).add(sgaCost));
+            refreshedCosts.add(monthlyCost);
+            refreshedMonths.add(costMonth);
+        }
+        monthlyCostRepository.saveAll(refreshedCosts);
+        return refreshedMonths;
+    }
+
+    private Set<YearMonth> findClosedMonths(YearMonth fromMonth, YearMonth toMonth) {
+        Set<YearMonth> closedMonths = new HashSet<>();
+        for (RevenueMonthClosing closing : revenueMonthClosingRepository.findAllByTargetMonthBetweenAndStatusAndDeletedFalse(
+                fromMonth.atDay(1),
+                toMonth.atDay(1),
+                RevenueMonthClosingStatus.CLOSED
+        )) {
+            closedMonths.add(YearMonth.from(closing.getTargetMonth()));
+        }
+        return closedMonths;
+    }
+
+    /**
+     * {@link PayrollRepository#findByEmployeeIdAndTargetDate}와 같은 조건으로 기준일에 유효한 급여를 찾는다.
+     */
+    private @Nullable Payroll findPayrollOn(List<Payroll> payrolls, LocalDate targetDate) {
+        for (Payroll payroll : payrolls) {
+            LocalDate endDate = payroll.getPeriod().endDate();
+            if (!payroll.getPeriod().startDate().isAfter(targetDate) && (endDate == null || !targetDate.isAfter(endDate))) {
+                return payroll;
+            }
+        }
+        return null;
+    }
+
+}
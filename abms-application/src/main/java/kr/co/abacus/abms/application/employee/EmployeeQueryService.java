@@ -15,6 +15,8 @@ import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
 import kr.co.abacus.abms.application.employee.inbound.EmployeeFinder;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeNotFoundException;
 
@@ -46,6 +48,11 @@ public class EmployeeQueryService implements EmployeeFinder {
         return employeeRepository.search(request, pageable);
     }
 
+    @Override
+    public CursorPage<EmployeeSummary> searchByCursor(EmployeeSearchCondition condition, CursorPageRequest pageRequest) {
+        return employeeRepository.searchByCursor(condition, pageRequest);
+    }
+
     @Override
     public EmployeeOverviewSummary getOverviewSummary(EmployeeSearchCondition condition) {
         return employeeRepository.summarize(condition);
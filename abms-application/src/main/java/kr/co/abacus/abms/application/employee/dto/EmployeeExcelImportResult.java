@@ -0,0 +1,18 @@
+package kr.co.abacus.abms.application.employee.dto;
+
+import java.util.List;
+
+/**
+ * 직원 엑셀 파일 해석 결과
+ * - rowNumber는 엑셀 화면의 행 번호(헤더가 1행)다.
+ * - 해석에 실패한 행은 rows에 넣지 않고 failures에 사유와 함께 모은다.
+ */
+public record EmployeeExcelImportResult(
+        List<ImportedRow> rows,
+        List<EmployeeExcelUploadResult.ExcelFailure> failures) {
+
+    public record ImportedRow(int rowNumber, EmployeeCreateCommand command) {
+
+    }
+
+}
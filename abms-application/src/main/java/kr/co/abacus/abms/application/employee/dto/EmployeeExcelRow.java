@@ -0,0 +1,32 @@
+package kr.co.abacus.abms.application.employee.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.domain.shared.Email;
+
+/**
+ * 직원 엑셀 다운로드 한 행
+ * - employeeId, createdAt은 다음 묶음을 이어 읽는 keyset 커서로 쓴다.
+ * - departmentName은 삭제된 부서면 null이다.
+ */
+public record EmployeeExcelRow(
+        Long employeeId,
+        LocalDateTime createdAt,
+        Long departmentId,
+        @Nullable String departmentName,
+        Email email,
+        String name,
+        LocalDate joinDate,
+        LocalDate birthDate,
+        EmployeePosition position,
+        EmployeeType type,
+        EmployeeGrade grade,
+        @Nullable String memo) {
+
+}
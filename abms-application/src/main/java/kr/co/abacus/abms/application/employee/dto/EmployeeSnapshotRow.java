@@ -0,0 +1,18 @@
+package kr.co.abacus.abms.application.employee.dto;
+
+import java.time.LocalDate;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.domain.employee.EmployeeStatus;
+
+/**
+ * 주간 보고서 스냅샷 집계에 필요한 직원 컬럼만 담은 행
+ */
+public record EmployeeSnapshotRow(
+        Long departmentId,
+        EmployeeStatus status,
+        LocalDate joinDate,
+        @Nullable LocalDate resignationDate) {
+
+}
@@ -9,6 +9,8 @@ import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
 import kr.co.abacus.abms.application.employee.dto.EmployeeDetail;
 import kr.co.abacus.abms.application.employee.dto.EmployeeOverviewSummary;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.employee.Employee;
 
 /**
@@ -24,6 +26,8 @@ public interface EmployeeFinder {
 
     Page<EmployeeSummary> search(EmployeeSearchCondition condition, Pageable pageable);
 
+    CursorPage<EmployeeSummary> searchByCursor(EmployeeSearchCondition condition, CursorPageRequest pageRequest);
+
     EmployeeOverviewSummary getOverviewSummary(EmployeeSearchCondition condition);
 
 }
@@ -1,6 +1,8 @@
 package kr.co.abacus.abms.application.employee.outbound;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
@@ -8,22 +10,49 @@ import org.springframework.data.domain.Pageable;
 
 import kr.co.abacus.abms.application.auth.CurrentActor;
 import kr.co.abacus.abms.application.employee.dto.EmployeeDetail;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
 import kr.co.abacus.abms.application.employee.dto.EmployeeOverviewSummary;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
+import kr.co.abacus.abms.application.employee.dto.EmployeeSnapshotRow;
 import kr.co.abacus.abms.application.employee.dto.EmployeeSummary;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.employee.Employee;
 
 public interface CustomEmployeeRepository {
 
     Page<EmployeeSummary> search(EmployeeSearchCondition condition, Pageable pageable);
 
+    /**
+     * 키셋(seek) 방식으로 커서 다음 페이지를 조회한다. 전체 건수는 요청했을 때만 센다.
+     */
+    CursorPage<EmployeeSummary> searchByCursor(EmployeeSearchCondition condition, CursorPageRequest pageRequest);
+
     EmployeeOverviewSummary summarize(EmployeeSearchCondition condition);
 
     EmployeeOverviewSummary summarize(EmployeeSearchCondition condition, @Nullable CurrentActor actor);
 
     List<Employee> search(EmployeeSearchCondition condition);
 
-    List<Employee> search(EmployeeSearchCondition condition, CurrentActor actor);
+    /**
+     * 삭제되지 않은 모든 직원의 스냅샷 집계용 컬럼을 엔티티로 올리지 않고 조회한다.
+     */
+    List<EmployeeSnapshotRow> findSnapshotRows();
+
+    /**
+     * 엑셀 다운로드 행을 생성일 역순으로 after 다음부터 limit개 조회한다.
+     */
+    List<EmployeeExcelRow> findExcelRows(
+            EmployeeSearchCondition condition,
+            CurrentActor actor,
+            @Nullable EmployeeExcelRow after,
+            int limit
+    );
+
+    /**
+     * @return 주어진 주소 중 이미 등록된(삭제된 직원 포함) 이메일 주소
+     */
+    Set<String> findExistingEmailAddresses(Collection<String> emailAddresses);
 
     @Nullable
     EmployeeDetail findEmployeeDetail(Long id);
@@ -0,0 +1,19 @@
+package kr.co.abacus.abms.application.employee.outbound;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+
+/**
+ * 직원과 최초 직급 이력을 JDBC 배치로 일괄 등록하는 포트
+ */
+public interface EmployeeBulkWriter {
+
+    /**
+     * @return 등록한 직원 id (commands 순서)
+     */
+    List<Long> insertAll(List<EmployeeCreateCommand> commands, @Nullable Long createdBy);
+
+}
@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.employee.outbound;
 
+import java.util.List;
 import java.util.Optional;
 
 import kr.co.abacus.abms.domain.employee.EmployeeCostPolicy;
@@ -11,4 +12,8 @@ public interface EmployeeCostPolicyRepository {
 
     Optional<EmployeeCostPolicy> findByApplyYearAndType(Integer applyYear, EmployeeType type);
 
+    List<EmployeeCostPolicy> findAllByApplyYear(Integer applyYear);
+
+    List<EmployeeCostPolicy> findAllByApplyYearBetweenAndType(Integer fromYear, Integer toYear, EmployeeType type);
+
 }
@@ -1,13 +1,13 @@
 package kr.co.abacus.abms.application.employee.outbound;
 
-import java.util.List;
-import java.util.Map;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
-import kr.co.abacus.abms.domain.employee.Employee;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelRow;
 
 public interface EmployeeExcelExporter {
 
-    byte[] export(List<Employee> employees, Map<Long, String> departmentNames);
+    void export(Stream<EmployeeExcelRow> rows, OutputStream outputStream);
 
     byte[] exportSample();
 
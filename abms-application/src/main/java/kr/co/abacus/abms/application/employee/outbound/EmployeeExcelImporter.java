@@ -1,13 +1,12 @@
 package kr.co.abacus.abms.application.employee.outbound;
 
 import java.io.InputStream;
-import java.util.List;
 import java.util.Map;
 
-import kr.co.abacus.abms.application.employee.dto.EmployeeCreateCommand;
+import kr.co.abacus.abms.application.employee.dto.EmployeeExcelImportResult;
 
 public interface EmployeeExcelImporter {
 
-    List<EmployeeCreateCommand> importEmployees(InputStream inputStream, Map<String, Long> departmentCodeMap);
+    EmployeeExcelImportResult importEmployees(InputStream inputStream, Map<String, Long> departmentCodeMap);
 
 }
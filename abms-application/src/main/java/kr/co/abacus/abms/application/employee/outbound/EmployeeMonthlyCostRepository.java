@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.employee.outbound;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,10 @@ public interface EmployeeMonthlyCostRepository {
 
     List<EmployeeMonthlyCost> findAllByCostMonthAndDeletedFalse(String costMonth);
 
+    List<EmployeeMonthlyCost> findAllByEmployeeIdInAndCostMonth(Collection<Long> employeeIds, String costMonth);
+
+    List<EmployeeMonthlyCost> findAllByEmployeeIdAndCostMonthBetweenAndDeletedFalse(Long employeeId, String startCostMonth, String endCostMonth);
+
     <S extends EmployeeMonthlyCost> List<S> saveAll(Iterable<S> employeeMonthlyCosts);
 
 }
@@ -1,9 +1,12 @@
 package kr.co.abacus.abms.application.observability;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -47,8 +50,74 @@ public class ApplicationMetricsRecorder {
         meterRegistry.counter("abms.chat.tool.calls.total", "tool", toolName).increment();
     }
 
+    public void recordChatPrompt(String mode, int estimatedTokens, int messageCount) {
+        DistributionSummary.builder("abms.chat.prompt.tokens")
+                .baseUnit("tokens")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(estimatedTokens);
+        DistributionSummary.builder("abms.chat.prompt.messages")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(messageCount);
+    }
+
+    public void recordChatTimeToFirstToken(long durationNanos) {
+        Timer.builder("abms.chat.time.to.first.token")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(durationNanos));
+    }
+
+    public void incrementChatMemoryCompaction(String outcome) {
+        meterRegistry.counter("abms.chat.memory.compactions.total", "outcome", outcome).increment();
+    }
+
+    public void recordChatTitleBatch(int batchSize) {
+        DistributionSummary.builder("abms.chat.title.batch.size")
+                .register(meterRegistry)
+                .record(batchSize);
+    }
+
+    public void incrementChatTitle(String outcome) {
+        meterRegistry.counter("abms.chat.title.generations.total", "outcome", outcome).increment();
+    }
+
+    public void registerChatAdmissionQueueDepth(AtomicInteger queueDepth) {
+        Gauge.builder("abms.chat.admission.queue.depth", queueDepth, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public void recordChatAdmissionWait(long durationNanos) {
+        Timer.builder("abms.chat.admission.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(durationNanos));
+    }
+
+    public void incrementChatAdmissionRejection(String reason) {
+        meterRegistry.counter("abms.chat.admission.rejections.total", "reason", reason).increment();
+    }
+
+    public void recordChatToolExecution(String toolName, String outcome, long durationNanos) {
+        Timer.builder("abms.chat.tool.duration")
+                .tags("tool", toolName, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(durationNanos));
+    }
+
+    public void incrementChatToolMemoHit(String toolName) {
+        meterRegistry.counter("abms.chat.tool.memo.hits.total", "tool", toolName).increment();
+    }
+
     public void incrementEmployeeAction(String action) {
-        meterRegistry.counter("abms.employee.actions.total", "action", action).increment();
+        incrementEmployeeAction(action, 1);
+    }
+
+    public void incrementEmployeeAction(String action, int count) {
+        meterRegistry.counter("abms.employee.actions.total", "action", action).increment(count);
     }
 
     public void incrementProjectAction(String action) {
@@ -58,4 +127,22 @@ public class ApplicationMetricsRecorder {
     public void incrementProjectAssignmentAction(String action) {
         meterRegistry.counter("abms.project.assignment.actions.total", "action", action).increment();
     }
+
+    public void incrementWeeklyReportTextCache(String outcome) {
+        meterRegistry.counter("abms.weekly.report.text.cache.total", "outcome", outcome).increment();
+    }
+
+    public void recordWeeklyReportSnapshotBuild(long durationNanos, int employeeRows, int projectRows) {
+        Timer.builder("abms.weekly.report.snapshot.build.duration")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(durationNanos));
+        DistributionSummary.builder("abms.weekly.report.snapshot.rows")
+                .tag("kind", "employee")
+                .register(meterRegistry)
+                .record(employeeRows);
+        DistributionSummary.builder("abms.weekly.report.snapshot.rows")
+                .tag("kind", "project")
+                .register(meterRegistry)
+                .record(projectRows);
+    }
 }
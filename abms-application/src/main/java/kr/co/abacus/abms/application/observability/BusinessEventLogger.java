@@ -28,12 +28,16 @@ public class BusinessEventLogger {
     }
 
     public void employeeEvent(String action, CurrentActor actor, Employee employee) {
+        employeeEvent(action, actor, employee.getIdOrThrow(), employee.getDepartmentId());
+    }
+
+    public void employeeEvent(String action, CurrentActor actor, Long employeeId, Long departmentId) {
         log.atInfo()
                 .addKeyValue("event.category", "employee")
                 .addKeyValue("event.action", action)
                 .addKeyValue("accountId", actor.accountId())
-                .addKeyValue("employeeId", employee.getIdOrThrow())
-                .addKeyValue("departmentId", employee.getDepartmentId())
+                .addKeyValue("employeeId", employeeId)
+                .addKeyValue("departmentId", departmentId)
                 .log("employee_event");
     }
 
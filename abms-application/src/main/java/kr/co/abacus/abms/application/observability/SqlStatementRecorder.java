@@ -0,0 +1,177 @@
+package kr.co.abacus.abms.application.observability;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 작업 단위(HTTP 요청, 배치 스텝, 테스트)별 SQL 실행 집계
+ * - {@link #open(String, String)}로 현재 스레드에 집계 범위를 열고, JDBC 리스너가 {@link #record(String, long)}로 실행마다 보고한다.
+ * - 범위가 중첩되면 바깥 범위에도 함께 집계한다.
+ * - 범위를 닫으면 실행 수, JDBC 시간, 같은 SQL 반복 최대 횟수를 히스토그램으로 남기고,
+ *   반복 횟수가 임계치 이상이면 N+1 의심으로 경고 로그와 카운터를 남긴다.
+ */
+@Component
+public class SqlStatementRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger("sql-statement");
+    private static final int MAX_TRACKED_SHAPES = 256;
+
+    private final ThreadLocal<@Nullable Scope> currentScope = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${app.observability.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * 현재 스레드에 집계 범위를 연다. 반드시 try-with-resources로 닫는다.
+     *
+     * @param scope 범위 종류 (http, batch, test)
+     * @param name  범위 이름 (정규화된 경로, 잡.스텝 이름 등 카디널리티가 낮은 값)
+     */
+    public Scope open(String scope, String name) {
+        Scope opened = new Scope(scope, name, currentScope.get());
+        currentScope.set(opened);
+        return opened;
+    }
+
+    /**
+     * JDBC 실행 한 건을 현재 스레드에 열린 모든 범위에 집계한다. 열린 범위가 없으면 무시한다.
+     */
+    public void record(@Nullable String sql, long elapsedNanos) {
+        for (Scope scope = currentScope.get(); scope != null; scope = scope.parent) {
+            scope.add(sql, elapsedNanos);
+        }
+    }
+
+    /**
+     * @return 현재 스레드에 열린 가장 안쪽 범위
+     */
+    public @Nullable Scope current() {
+        return currentScope.get();
+    }
+
+    private void close(Scope scope) {
+        if (currentScope.get() == scope) {
+            if (scope.parent != null) {
+                currentScope.set(scope.parent);
+            } else {
+                currentScope.remove();
+            }
+        }
+
+        Tags tags = Tags.of("scope", scope.scope, "name", scope.name);
+        DistributionSummary.builder("abms.sql.statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.statementCount());
+        Timer.builder("abms.sql.duration")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(scope.elapsedNanos()));
+        DistributionSummary.builder("abms.sql.repeated.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(scope.maxRepeatedCount());
+
+        if (scope.maxRepeatedCount() >= repeatedStatementThreshold) {
+            meterRegistry.counter("abms.sql.repeated.statements.suspected.total", tags).increment();
+            log.atWarn()
+                    .addKeyValue("event.category", "sql")
+                    .addKeyValue("event.action", "repeated_statements")
+                    .addKeyValue("sql.scope", scope.scope)
+                    .addKeyValue("sql.scope_name", scope.name)
+                    .addKeyValue("sql.statement_count", scope.statementCount())
+                    .addKeyValue("sql.repeated_count", scope.maxRepeatedCount())
+                    .addKeyValue("sql.repeated_statement", scope.mostRepeatedSql())
+                    .log("sql_repeated_statements");
+        }
+    }
+
+    /**
+     * 한 스레드 안에서만 갱신되는 집계 범위
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final String scope;
+        private final String name;
+        private final @Nullable Scope parent;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int statementCount;
+        private long elapsedNanos;
+        private int maxRepeatedCount;
+        private @Nullable String mostRepeatedSql;
+        private boolean closed;
+
+        private Scope(String scope, String name, @Nullable Scope parent) {
+            this.scope = scope;
+            this.name = name;
+            this.parent = parent;
+        }
+
+        private void add(@Nullable String sql, long statementNanos) {
+            statementCount++;
+            elapsedNanos += statementNanos;
+            if (sql == null || (countsBySql.size() >= MAX_TRACKED_SHAPES && !countsBySql.containsKey(sql))) {
+                return;
+            }
+            int count = countsBySql.merge(sql, 1, Integer::sum);
+            if (count > maxRepeatedCount) {
+                maxRepeatedCount = count;
+                mostRepeatedSql = sql;
+            }
+        }
+
+        public int statementCount() {
+            return statementCount;
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public long elapsedMillis() {
+            return elapsedNanos / 1_000_000L;
+        }
+
+        /**
+         * @return 같은 SQL(바인딩 전 형태)이 가장 많이 실행된 횟수
+         */
+        public int maxRepeatedCount() {
+            return maxRepeatedCount;
+        }
+
+        public @Nullable String mostRepeatedSql() {
+            return mostRepeatedSql;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            SqlStatementRecorder.this.close(this);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.party;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +10,8 @@ import kr.co.abacus.abms.application.auth.CurrentActor;
 import kr.co.abacus.abms.application.party.inbound.PartyManager;
 import kr.co.abacus.abms.application.party.outbound.PartyRepository;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+import kr.co.abacus.abms.application.shared.event.ReferenceNameChangedEvent;
 import kr.co.abacus.abms.domain.party.DuplicatePartyNameException;
 import kr.co.abacus.abms.domain.party.Party;
 import kr.co.abacus.abms.domain.party.PartyCreateRequest;
@@ -24,6 +27,7 @@ public class PartyCommandService implements PartyManager {
     private final PartyRepository partyRepository;
     private final ProjectRepository projectRepository;
     private final PartyAuthorizationValidator partyAuthorizationValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,6 +51,7 @@ public class PartyCommandService implements PartyManager {
         String normalizedName = normalizeName(request.name());
         validateDuplicateNameForUpdate(party.getName(), normalizedName);
         party.update(request);
+        eventPublisher.publishEvent(new ReferenceNameChangedEvent(ReferenceNameType.PARTY, partyId));
         return party;
     }
 
@@ -56,6 +61,7 @@ public class PartyCommandService implements PartyManager {
         Party party = findById(partyId);
         validateNoProjects(partyId);
         party.softDelete(actor.accountId());
+        eventPublisher.publishEvent(new ReferenceNameChangedEvent(ReferenceNameType.PARTY, partyId));
     }
 
     private void validateDuplicateName(String name) {
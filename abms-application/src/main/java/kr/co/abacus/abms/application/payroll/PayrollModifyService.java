@@ -2,6 +2,7 @@ package kr.co.abacus.abms.application.payroll;
 
 import java.time.LocalDate;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import kr.co.abacus.abms.application.employee.EmployeeAuthorizationValidator;
 import kr.co.abacus.abms.application.employee.inbound.EmployeeFinder;
 import kr.co.abacus.abms.application.payroll.inbound.PayrollManager;
 import kr.co.abacus.abms.application.payroll.outbound.PayrollRepository;
+import kr.co.abacus.abms.application.summary.event.EmployeeMonthlyCostChangedEvent;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.payroll.Payroll;
 import kr.co.abacus.abms.domain.shared.Money;
@@ -24,6 +26,7 @@ public class PayrollModifyService implements PayrollManager {
     private final PayrollRepository payrollRepository;
     private final EmployeeFinder employeeFinder;
     private final EmployeeAuthorizationValidator employeeAuthorizationValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void changeSalary(Long employeeId, Money annualSalary, LocalDate startDate) {
@@ -55,6 +58,7 @@ public class PayrollModifyService implements PayrollManager {
         Payroll payroll = Payroll.create(employeeId, annualSalary, startDate);
 
         payrollRepository.save(payroll);
+        eventPublisher.publishEvent(EmployeeMonthlyCostChangedEvent.from(employeeId, startDate));
     }
 
     private void checkEmployeeExists(Long employeeId) {
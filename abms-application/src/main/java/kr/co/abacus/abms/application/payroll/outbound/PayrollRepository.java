@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.application.payroll.outbound;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,6 @@ public interface PayrollRepository {
 
     List<Payroll> findAllByEmployeeId(Long employeeId);
 
+    List<Payroll> findAllByEmployeeIdInAndTargetDate(Collection<Long> employeeIds, LocalDate targetDate);
+
 }
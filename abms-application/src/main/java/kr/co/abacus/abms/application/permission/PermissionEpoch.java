@@ -0,0 +1,45 @@
+package kr.co.abacus.abms.application.permission;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 권한 epoch
+ * - 계정의 권한 그룹 연결이나 grant가 바뀔 때마다 단조 증가하는 epoch를 올리고, 계정별로 마지막 변경 epoch를 기억한다.
+ * - 세션은 권한을 해석할 때의 epoch를 들고 있다가 DB 조회 없이 {@link #isStale(Long, long)}로 권한이 바뀌었는지 확인한다.
+ * - 노드 로컬 값이다. 다른 노드의 변경은 accountPermissions 캐시 무효화 전파({@code RemoteCacheInvalidatedEvent})로 반영한다.
+ */
+@Component
+public class PermissionEpoch {
+
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<Long, Long> changedEpochByAccountId = new ConcurrentHashMap<>();
+
+    public long current() {
+        return epoch.get();
+    }
+
+    /**
+     * @return 변경이 기록된 epoch
+     */
+    public long advance(Collection<Long> accountIds) {
+        long advancedEpoch = epoch.incrementAndGet();
+        for (Long accountId : accountIds) {
+            changedEpochByAccountId.merge(accountId, advancedEpoch, Math::max);
+        }
+        return advancedEpoch;
+    }
+
+    /**
+     * @param resolvedEpoch 권한을 해석하기 직전에 읽은 {@link #current()} 값
+     */
+    public boolean isStale(Long accountId, long resolvedEpoch) {
+        Long changedEpoch = changedEpochByAccountId.get(accountId);
+        return changedEpoch != null && changedEpoch > resolvedEpoch;
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,8 @@ import kr.co.abacus.abms.application.auth.outbound.SessionInvalidator;
 import kr.co.abacus.abms.application.auth.outbound.AccountRepository;
 import kr.co.abacus.abms.application.permission.dto.PermissionGroupGrantCommand;
 import kr.co.abacus.abms.application.permission.dto.PermissionGroupUpsertCommand;
+import kr.co.abacus.abms.application.permission.event.AccountPermissionsChangedEvent;
+import kr.co.abacus.abms.application.permission.inbound.PermissionFinder;
 import kr.co.abacus.abms.application.permission.inbound.PermissionGroupAdminManager;
 import kr.co.abacus.abms.application.permission.outbound.AccountGroupAssignmentRepository;
 import kr.co.abacus.abms.application.permission.outbound.GroupPermissionGrantRepository;
@@ -43,6 +46,8 @@ public class PermissionGroupAdminModifyService implements PermissionGroupAdminMa
     private final AccountGroupAssignmentRepository accountGroupAssignmentRepository;
     private final AccountRepository accountRepository;
     private final SessionInvalidator sessionInvalidator;
+    private final PermissionFinder permissionFinder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long createGroup(PermissionGroupUpsertCommand command) {
@@ -66,7 +71,7 @@ public class PermissionGroupAdminModifyService implements PermissionGroupAdminMa
         group.updateInfo(command.name().trim(), command.description().trim());
         permissionGroupRepository.save(group);
         syncGrants(group.getIdOrThrow(), command.grants());
-        sessionInvalidator.invalidateSessions(affectedAccountIds);
+        notifyPermissionsChanged(affectedAccountIds);
     }
 
     @Override
@@ -82,7 +87,7 @@ public class PermissionGroupAdminModifyService implements PermissionGroupAdminMa
         group.softDelete(actorAccountId);
 
         permissionGroupRepository.save(group);
-        sessionInvalidator.invalidateSessions(affectedAccountIds);
+        notifyPermissionsChanged(affectedAccountIds);
     }
 
     @Override
@@ -101,7 +106,7 @@ public class PermissionGroupAdminModifyService implements PermissionGroupAdminMa
                 }, () -> accountGroupAssignmentRepository.save(AccountGroupAssignment.create(
                         account.getIdOrThrow(),
                         group.getIdOrThrow())));
-        sessionInvalidator.invalidateSessions(List.of(account.getIdOrThrow()));
+        notifyPermissionsChanged(List.of(account.getIdOrThrow()));
     }
 
     @Override
@@ -114,7 +119,21 @@ public class PermissionGroupAdminModifyService implements PermissionGroupAdminMa
 
         assignment.softDelete(actorAccountId);
         accountGroupAssignmentRepository.save(assignment);
-        sessionInvalidator.invalidateSessions(List.of(accountId));
+        notifyPermissionsChanged(List.of(accountId));
+    }
+
+    /**
+     * 권한이 바뀐 계정의 해석 캐시와 세션을 정리한다.
+     * - 같은 트랜잭션의 이후 조회가 바뀐 권한을 보도록 캐시를 바로 비우고, 커밋 전에 다른 요청이 다시 채운 값은 커밋 후 이벤트에서 한 번 더 비운다.
+     * - 커밋 후 권한 epoch를 올려 이미 발급된 세션이 DB 조회 없이 오래된 권한을 감지하게 한다.
+     */
+    private void notifyPermissionsChanged(List<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        accountIds.forEach(permissionFinder::evictPermissions);
+        eventPublisher.publishEvent(new AccountPermissionsChangedEvent(accountIds));
+        sessionInvalidator.invalidateSessions(accountIds);
     }
 
     private PermissionGroup findActiveGroup(Long id) {
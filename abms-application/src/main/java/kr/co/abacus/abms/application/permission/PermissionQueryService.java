@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.permission;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -7,6 +8,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,12 @@ public class PermissionQueryService implements PermissionFinder {
     private final GroupPermissionGrantRepository groupPermissionGrantRepository;
     private final PermissionRepository permissionRepository;
 
+    /**
+     * 계정의 권한을 해석한다.
+     * - 결과는 계정 단위로 캐시하고, 권한 그룹 연결이나 grant가 바뀌면 {@link #evictPermissions(Long)}로 비운다.
+     * - 캐시된 결과를 여러 세션이 공유하므로 범위 집합은 수정할 수 없게 반환한다.
+     */
+    @Cacheable(cacheNames = "accountPermissions", key = "#accountId", sync = true)
     @Override
     public PermissionDetail findPermissions(Long accountId) {
         List<AccountGroupAssignment> assignments = accountGroupAssignmentRepository
@@ -95,10 +104,15 @@ public class PermissionQueryService implements PermissionFinder {
         return new PermissionDetail(accountId, permissions);
     }
 
+    @CacheEvict(cacheNames = "accountPermissions", key = "#accountId")
+    @Override
+    public void evictPermissions(Long accountId) {
+    }
+
     private Set<PermissionScope> sortScopes(Set<PermissionScope> scopes) {
-        return scopes.stream()
+        return Collections.unmodifiableSet(scopes.stream()
                 .sorted(SCOPE_ORDER)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
 }
@@ -0,0 +1,41 @@
+package kr.co.abacus.abms.application.permission.event;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.co.abacus.abms.application.permission.PermissionEpoch;
+import kr.co.abacus.abms.application.permission.inbound.PermissionFinder;
+import kr.co.abacus.abms.application.shared.event.RemoteCacheInvalidatedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class AccountPermissionsCacheInvalidationEventHandler {
+
+    private static final String ACCOUNT_PERMISSIONS_CACHE = "accountPermissions";
+
+    private final PermissionFinder permissionFinder;
+    private final PermissionEpoch permissionEpoch;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(AccountPermissionsChangedEvent event) {
+        event.accountIds().forEach(permissionFinder::evictPermissions);
+        permissionEpoch.advance(event.accountIds());
+    }
+
+    /**
+     * 다른 노드에서 바뀐 계정 권한도 이 노드의 epoch에 반영해 해당 계정의 세션이 권한을 다시 해석하게 한다.
+     */
+    @EventListener
+    public void handle(RemoteCacheInvalidatedEvent event) {
+        if (ACCOUNT_PERMISSIONS_CACHE.equals(event.cacheName()) && event.key() instanceof Long accountId) {
+            permissionEpoch.advance(List.of(accountId));
+        }
+    }
+
+}
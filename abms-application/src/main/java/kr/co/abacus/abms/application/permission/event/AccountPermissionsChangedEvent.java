@@ -0,0 +1,6 @@
+package kr.co.abacus.abms.application.permission.event;
+
+import java.util.List;
+
+public record AccountPermissionsChangedEvent(List<Long> accountIds) {
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package kr.co.abacus.abms.application.permission.event;
+
+import org.jspecify.annotations.NullMarked;
@@ -6,4 +6,6 @@ public interface PermissionFinder {
 
     PermissionDetail findPermissions(Long accountId);
 
+    void evictPermissions(Long accountId);
+
 }
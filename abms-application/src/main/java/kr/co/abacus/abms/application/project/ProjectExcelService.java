@@ -4,6 +4,7 @@ import kr.co.abacus.abms.application.auth.CurrentActor;
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.party.outbound.PartyRepository;
 import kr.co.abacus.abms.application.project.dto.ProjectCreateCommand;
+import kr.co.abacus.abms.application.project.dto.ProjectExcelRow;
 import kr.co.abacus.abms.application.project.dto.ProjectExcelUploadResult;
 import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
 import kr.co.abacus.abms.application.project.inbound.ProjectManager;
@@ -11,7 +12,6 @@ import kr.co.abacus.abms.application.project.outbound.ProjectExcelExporter;
 import kr.co.abacus.abms.application.project.outbound.ProjectExcelImporter;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
 import kr.co.abacus.abms.domain.party.Party;
-import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectExcelException;
 
 import lombok.RequiredArgsConstructor;
@@ -20,16 +20,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class ProjectExcelService {
 
+    private static final int EXCEL_FETCH_SIZE = 500;
+
     private final ProjectRepository projectRepository;
     private final DepartmentRepository departmentRepository;
     private final PartyRepository partyRepository;
@@ -38,10 +41,12 @@ public class ProjectExcelService {
     private final ProjectExcelImporter projectExcelImporter;
     private final ProjectAuthorizationValidator projectAuthorizationValidator;
 
-    public byte[] download(ProjectSearchCondition condition, CurrentActor actor) {
-        List<Project> projects = projectRepository.search(condition, actor);
-        Map<Long, String> partyNames = loadPartyNameMap();
-        return projectExcelExporter.export(projects, partyNames);
+    /**
+     * 검색 조건의 프로젝트를 엑셀로 outputStream에 바로 쓴다.
+     * - 엔티티 대신 다운로드 행을 keyset으로 EXCEL_FETCH_SIZE씩 이어 읽어 한 번에 한 묶음만 메모리에 둔다.
+     */
+    public void download(ProjectSearchCondition condition, CurrentActor actor, OutputStream outputStream) {
+        projectExcelExporter.export(streamExcelRows(condition, actor), outputStream);
     }
 
     public byte[] downloadSample() {
@@ -91,10 +96,14 @@ public class ProjectExcelService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 협력사입니다: " + name));
     }
 
-    private Map<Long, String> loadPartyNameMap() {
-        return partyRepository.findAllByDeletedFalse()
-                .stream()
-                .collect(Collectors.toMap(Party::getId, Party::getName));
+    private Stream<ProjectExcelRow> streamExcelRows(ProjectSearchCondition condition, CurrentActor actor) {
+        return Stream.iterate(
+                        projectRepository.findExcelRows(condition, actor, null, EXCEL_FETCH_SIZE),
+                        rows -> !rows.isEmpty(),
+                        rows -> rows.size() < EXCEL_FETCH_SIZE
+                                ? List.of()
+                                : projectRepository.findExcelRows(condition, actor, rows.getLast(), EXCEL_FETCH_SIZE))
+                .flatMap(List::stream);
     }
 
     private String resolveMessage(Exception ex) {
@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.project;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import kr.co.abacus.abms.application.project.dto.ProjectUpdateCommand;
 import kr.co.abacus.abms.application.project.inbound.ProjectFinder;
 import kr.co.abacus.abms.application.project.inbound.ProjectManager;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.summary.event.MonthlyRevenueSummaryChangedEvent;
 import kr.co.abacus.abms.domain.party.PartyNotFoundException;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectCodeDuplicateException;
@@ -31,6 +33,7 @@ public class ProjectModifyService implements ProjectManager {
     private final ProjectAuthorizationValidator projectAuthorizationValidator;
     private final BusinessEventLogger businessEventLogger;
     private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long create(CurrentActor actor, ProjectCreateCommand command) {
@@ -69,6 +72,7 @@ public class ProjectModifyService implements ProjectManager {
         projectAuthorizationValidator.validateUpdate(actor, project, command);
         validateActivePartyExists(command.partyId());
         validateLeadDepartmentExists(command.leadDepartmentId());
+        publishProjectChanged(project);
         project.update(
                 command.partyId(),
                 command.leadDepartmentId(),
@@ -80,6 +84,7 @@ public class ProjectModifyService implements ProjectManager {
                 command.endDate());
 
         Long projectId = projectRepository.save(project).getIdOrThrow();
+        publishProjectChanged(project);
         businessEventLogger.projectEvent("update", actor, project);
         applicationMetricsRecorder.incrementProjectAction("update");
         return projectId;
@@ -92,6 +97,7 @@ public class ProjectModifyService implements ProjectManager {
         project.complete();
 
         projectRepository.save(project);
+        publishProjectChanged(project);
         businessEventLogger.projectEvent("complete", actor, project);
         applicationMetricsRecorder.incrementProjectAction("complete");
     }
@@ -103,6 +109,7 @@ public class ProjectModifyService implements ProjectManager {
         project.cancel();
 
         projectRepository.save(project);
+        publishProjectChanged(project);
         businessEventLogger.projectEvent("cancel", actor, project);
         applicationMetricsRecorder.incrementProjectAction("cancel");
     }
@@ -114,10 +121,19 @@ public class ProjectModifyService implements ProjectManager {
         project.softDelete(null);
 
         projectRepository.save(project);
+        publishProjectChanged(project);
         businessEventLogger.projectEvent("delete", actor, project);
         applicationMetricsRecorder.incrementProjectAction("delete");
     }
 
+    private void publishProjectChanged(Project project) {
+        eventPublisher.publishEvent(MonthlyRevenueSummaryChangedEvent.ofPeriod(
+                project.getIdOrThrow(),
+                project.getPeriod().startDate(),
+                project.getPeriod().endDate()
+        ));
+    }
+
     private void validateActivePartyExists(Long partyId) {
         if (partyRepository.findByIdAndDeletedFalse(partyId).isEmpty()) {
             throw new PartyNotFoundException("존재하지 않거나 비활성화된 협력사입니다: " + partyId);
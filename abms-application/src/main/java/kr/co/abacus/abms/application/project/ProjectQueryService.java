@@ -19,6 +19,8 @@ import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
 import kr.co.abacus.abms.application.project.dto.ProjectSummary;
 import kr.co.abacus.abms.application.project.inbound.ProjectFinder;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectNotFoundException;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
@@ -83,6 +85,15 @@ public class ProjectQueryService implements ProjectFinder {
         return projectRepository.search(condition, actor, pageable);
     }
 
+    @Override
+    public CursorPage<ProjectSummary> searchByCursor(
+            ProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    ) {
+        return projectRepository.searchByCursor(condition, actor, pageRequest);
+    }
+
     @Override
     public ProjectOverviewSummary getOverviewSummary(ProjectSearchCondition condition) {
         return projectRepository.summarize(condition);
@@ -1,5 +1,8 @@
 package kr.co.abacus.abms.application.project;
 
+import java.time.LocalDate;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,6 +11,7 @@ import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
 import kr.co.abacus.abms.application.project.inbound.ProjectRevenuePlanManager;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
 import kr.co.abacus.abms.application.project.outbound.ProjectRevenuePlanRepository;
+import kr.co.abacus.abms.application.summary.event.MonthlyRevenueSummaryChangedEvent;
 import kr.co.abacus.abms.domain.project.ProjectRevenuePlan;
 import kr.co.abacus.abms.domain.project.ProjectRevenuePlanDuplicateException;
 import kr.co.abacus.abms.domain.project.ProjectRevenuePlanCreateRequest;
@@ -27,6 +31,7 @@ public class ProjectRevenuePlanModifyService implements ProjectRevenuePlanManage
     private final ProjectRepository projectRepository;
     private final ProjectRevenuePlanRepository projectRevenuePlanRepository;
     private final ProjectAuthorizationValidator projectAuthorizationValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProjectRevenuePlan create(ProjectRevenuePlanCreateRequest createRequest) {
@@ -46,7 +51,9 @@ public class ProjectRevenuePlanModifyService implements ProjectRevenuePlanManage
 
         ProjectRevenuePlan projectRevenuePlan = ProjectRevenuePlan.create(createRequest);
 
-        return projectRevenuePlanRepository.save(projectRevenuePlan);
+        ProjectRevenuePlan saved = projectRevenuePlanRepository.save(projectRevenuePlan);
+        publishRevenueChanged(saved);
+        return saved;
     }
 
     @Override
@@ -74,8 +81,12 @@ public class ProjectRevenuePlanModifyService implements ProjectRevenuePlanManage
             throw new ProjectRevenuePlanDuplicateException("이미 존재하는 프로젝트 매출 계획입니다.");
         }
 
+        LocalDate previousRevenueDate = projectRevenuePlan.getRevenueDate();
         projectRevenuePlan.update(updateRequest);
-        return projectRevenuePlanRepository.save(projectRevenuePlan);
+        ProjectRevenuePlan saved = projectRevenuePlanRepository.save(projectRevenuePlan);
+        eventPublisher.publishEvent(MonthlyRevenueSummaryChangedEvent.ofDate(projectId, previousRevenueDate));
+        publishRevenueChanged(saved);
+        return saved;
     }
 
     @Override
@@ -92,7 +103,9 @@ public class ProjectRevenuePlanModifyService implements ProjectRevenuePlanManage
     private ProjectRevenuePlan doIssue(Long projectId, Integer sequence) {
         ProjectRevenuePlan projectRevenuePlan = load(projectId, sequence);
         projectRevenuePlan.issue();
-        return projectRevenuePlanRepository.save(projectRevenuePlan);
+        ProjectRevenuePlan saved = projectRevenuePlanRepository.save(projectRevenuePlan);
+        publishRevenueChanged(saved);
+        return saved;
     }
 
     @Override
@@ -109,7 +122,16 @@ public class ProjectRevenuePlanModifyService implements ProjectRevenuePlanManage
     private ProjectRevenuePlan doCancel(Long projectId, Integer sequence) {
         ProjectRevenuePlan projectRevenuePlan = load(projectId, sequence);
         projectRevenuePlan.cancel();
-        return projectRevenuePlanRepository.save(projectRevenuePlan);
+        ProjectRevenuePlan saved = projectRevenuePlanRepository.save(projectRevenuePlan);
+        publishRevenueChanged(saved);
+        return saved;
+    }
+
+    private void publishRevenueChanged(ProjectRevenuePlan projectRevenuePlan) {
+        eventPublisher.publishEvent(MonthlyRevenueSummaryChangedEvent.ofDate(
+                projectRevenuePlan.getProjectId(),
+                projectRevenuePlan.getRevenueDate()
+        ));
     }
 
     private ProjectRevenuePlan load(Long projectId, Integer sequence) {
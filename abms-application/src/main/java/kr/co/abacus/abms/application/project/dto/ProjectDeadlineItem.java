@@ -0,0 +1,20 @@
+package kr.co.abacus.abms.application.project.dto;
+
+import java.time.LocalDate;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+
+/**
+ * 종료일이 다가온 프로젝트 한 건
+ * - partyName은 협력사가 삭제된 경우 null이다.
+ */
+public record ProjectDeadlineItem(
+        Long projectId,
+        String name,
+        @Nullable String partyName,
+        ProjectStatus status,
+        LocalDate endDate) {
+
+}
@@ -0,0 +1,27 @@
+package kr.co.abacus.abms.application.project.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+import kr.co.abacus.abms.domain.shared.Money;
+
+/**
+ * 프로젝트 엑셀 다운로드 한 행
+ * - projectId, createdAt은 다음 묶음을 이어 읽는 keyset 커서로 쓴다.
+ */
+public record ProjectExcelRow(
+        Long projectId,
+        LocalDateTime createdAt,
+        String partyName,
+        String code,
+        String name,
+        ProjectStatus status,
+        Money contractAmount,
+        LocalDate startDate,
+        @Nullable LocalDate endDate,
+        @Nullable String description) {
+
+}
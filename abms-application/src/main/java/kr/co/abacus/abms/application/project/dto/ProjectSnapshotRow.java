@@ -0,0 +1,21 @@
+package kr.co.abacus.abms.application.project.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+
+/**
+ * 주간 보고서 스냅샷 집계에 필요한 프로젝트 컬럼만 담은 행
+ */
+public record ProjectSnapshotRow(
+        Long projectId,
+        String name,
+        ProjectStatus status,
+        BigDecimal contractAmount,
+        LocalDate startDate,
+        @Nullable LocalDate endDate) {
+
+}
@@ -9,6 +9,8 @@ import kr.co.abacus.abms.application.auth.CurrentActor;
 import kr.co.abacus.abms.application.project.dto.ProjectOverviewSummary;
 import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
 import kr.co.abacus.abms.application.project.dto.ProjectSummary;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
 
@@ -30,6 +32,8 @@ public interface ProjectFinder {
 
     Page<ProjectSummary> search(ProjectSearchCondition condition, CurrentActor actor, Pageable pageable);
 
+    CursorPage<ProjectSummary> searchByCursor(ProjectSearchCondition condition, CurrentActor actor, CursorPageRequest pageRequest);
+
     ProjectOverviewSummary getOverviewSummary(ProjectSearchCondition condition);
 
     ProjectOverviewSummary getOverviewSummary(ProjectSearchCondition condition, CurrentActor actor);
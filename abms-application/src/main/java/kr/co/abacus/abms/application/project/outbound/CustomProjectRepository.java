@@ -1,5 +1,6 @@
 package kr.co.abacus.abms.application.project.outbound;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
@@ -7,10 +8,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import kr.co.abacus.abms.application.auth.CurrentActor;
+import kr.co.abacus.abms.application.project.dto.ProjectDeadlineItem;
+import kr.co.abacus.abms.application.project.dto.ProjectExcelRow;
 import kr.co.abacus.abms.application.project.dto.ProjectOverviewSummary;
 import kr.co.abacus.abms.application.project.dto.ProjectSearchCondition;
+import kr.co.abacus.abms.application.project.dto.ProjectSnapshotRow;
 import kr.co.abacus.abms.application.project.dto.ProjectSummary;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.project.ProjectStatus;
 
 public interface CustomProjectRepository {
 
@@ -18,6 +25,11 @@ public interface CustomProjectRepository {
 
     Page<ProjectSummary> search(ProjectSearchCondition condition, @Nullable CurrentActor actor, Pageable pageable);
 
+    /**
+     * 키셋(seek) 방식으로 커서 다음 페이지를 조회한다. 전체 건수는 요청했을 때만 센다.
+     */
+    CursorPage<ProjectSummary> searchByCursor(ProjectSearchCondition condition, CurrentActor actor, CursorPageRequest pageRequest);
+
     boolean canRead(Long projectId, CurrentActor actor);
 
     ProjectOverviewSummary summarize(ProjectSearchCondition condition);
@@ -26,6 +38,25 @@ public interface CustomProjectRepository {
 
     List<Project> search(ProjectSearchCondition condition);
 
-    List<Project> search(ProjectSearchCondition condition, @Nullable CurrentActor actor);
+    /**
+     * 삭제되지 않은 모든 프로젝트의 스냅샷 집계용 컬럼을 id 순으로, 엔티티로 올리지 않고 조회한다.
+     */
+    List<ProjectSnapshotRow> findSnapshotRows();
+
+    /**
+     * 엑셀 다운로드 행을 생성일 역순으로 after 다음부터 limit개 조회한다.
+     */
+    List<ProjectExcelRow> findExcelRows(
+            ProjectSearchCondition condition,
+            CurrentActor actor,
+            @Nullable ProjectExcelRow after,
+            int limit
+    );
+
+    /**
+     * 상태가 statuses이고 종료일이 deadlineBoundary 이하인 프로젝트를 종료일 순으로 limit개 조회한다.
+     * - 이미 종료일이 지난 프로젝트가 먼저 온다.
+     */
+    List<ProjectDeadlineItem> findUpcomingDeadlines(List<ProjectStatus> statuses, LocalDate deadlineBoundary, int limit);
 
 }
@@ -1,13 +1,13 @@
 package kr.co.abacus.abms.application.project.outbound;
 
-import java.util.List;
-import java.util.Map;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
-import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.application.project.dto.ProjectExcelRow;
 
 public interface ProjectExcelExporter {
 
-    byte[] export(List<Project> projects, Map<Long, String> partyNames);
+    void export(Stream<ProjectExcelRow> rows, OutputStream outputStream);
 
     byte[] exportSample();
 
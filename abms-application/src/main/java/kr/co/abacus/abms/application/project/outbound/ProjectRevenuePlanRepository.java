@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.application.project.outbound;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +27,10 @@ public interface ProjectRevenuePlanRepository {
             LocalDate start,
             LocalDate end
     );
+
+    List<ProjectRevenuePlan> findByProjectIdInAndRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(
+            Collection<Long> projectIds,
+            LocalDate start,
+            LocalDate end
+    );
 }
@@ -0,0 +1,246 @@
+package kr.co.abacus.abms.application.projectassignment;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
+import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 투입 기간 인덱스
+ * - 삭제되지 않은 투입의 (id, 프로젝트, 직원, 기간)을 한 번 읽어 프로젝트별/직원별로 정렬한 primitive 배열로 보관한다.
+ * - 특정일 투입 여부, 직원별 기간 겹침 조회를 DB 조회 없이 이진 탐색으로 응답한다.
+ * - 다른 노드의 변경은 maxAge 동안 늦게 반영되므로 읽기 경로에만 쓴다. 저장 전 중복 기간 검증은 DB로 확인한다.
+ * - 투입 엔티티가 추가/변경/삭제되면 {@link #invalidate()}로 버전을 올리고 다음 조회 때 다시 만든다.
+ * - 애플리케이션 밖(스크립트, 다른 노드)의 변경은 maxAge가 지나면 반영한다.
+ * - 무효화 직후 뒤처진 replica로 다시 만들지 않도록 재생성 조회는 {@link ConsistentReader}로 실행한다.
+ */
+@Slf4j
+@Component
+public class ProjectAssignmentIntervalIndex {
+
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    private final ProjectAssignmentRepository projectAssignmentRepository;
+    private final ConsistentReader consistentReader;
+    private final Duration maxAge;
+    private final AtomicLong version = new AtomicLong();
+    private final Object rebuildMonitor = new Object();
+
+    private volatile @Nullable Snapshot snapshot;
+
+    ProjectAssignmentIntervalIndex(
+            ProjectAssignmentRepository projectAssignmentRepository,
+            ConsistentReader consistentReader,
+            @Value("${app.project-assignment.interval-index.max-age:10m}") Duration maxAge
+    ) {
+        this.projectAssignmentRepository = projectAssignmentRepository;
+        this.consistentReader = consistentReader;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * @return 해당 일자에 프로젝트에 투입 중인 인원이 있는지 여부
+     */
+    public boolean hasActiveAssignment(Long projectId, LocalDate date) {
+        return current().hasActiveAssignment(projectId, date.toEpochDay());
+    }
+
+    /**
+     * @return 직원의 투입 중 [startDate, endDate]와 겹치는 투입 (시작일 순)
+     */
+    public List<ProjectAssignmentInterval> findOverlappingByEmployeeId(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        return current().findOverlappingByEmployeeId(employeeId, startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * @return [startDate, endDate]와 겹치는 모든 투입 (프로젝트, 시작일 순)
+     */
+    public List<ProjectAssignmentInterval> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        return current().findOverlapping(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * 다음 조회 때 인덱스를 다시 만들도록 버전을 올린다.
+     */
+    public void invalidate() {
+        long invalidatedVersion = version.incrementAndGet();
+        log.debug("[투입 기간 인덱스 무효화] version={}", invalidatedVersion);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && isFresh(current)) {
+            return current;
+        }
+        return rebuild(current);
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current.version() == version.get()
+                && System.nanoTime() - current.builtAtNanos() < maxAge.toNanos();
+    }
+
+    private Snapshot rebuild(@Nullable Snapshot stale) {
+        synchronized (rebuildMonitor) {
+            Snapshot current = snapshot;
+            if (current != null && current != stale && isFresh(current)) {
+                return current;
+            }
+
+            long builtVersion = version.get();
+            Snapshot rebuilt = Snapshot.build(builtVersion, consistentReader.read(projectAssignmentRepository::findAllIntervals));
+            snapshot = rebuilt;
+            log.debug("투입 기간 인덱스 생성: version={}, assignments={}", builtVersion, rebuilt.size());
+            return rebuilt;
+        }
+    }
+
+    private static long toEpochDay(@Nullable LocalDate date) {
+        return date != null ? date.toEpochDay() : OPEN_END;
+    }
+
+    /**
+     * 불변 인덱스
+     * - intervals 및 각 primitive 배열: (프로젝트 id, 시작일, 투입 id) 순 정렬
+     * - maxEndDays: 같은 프로젝트 구간 안에서 처음부터 i번째까지의 최대 종료일 (특정일 투입 여부를 이진 탐색 한 번으로 판단)
+     * - employeeOrder/employeeKeys: (직원 id, 시작일) 순으로 정렬한 intervals 위치와 그 직원 id
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final long builtAtNanos;
+        private final ProjectAssignmentInterval[] intervals;
+        private final long[] assignmentIds;
+        private final long[] projectIds;
+        private final long[] employeeIds;
+        private final long[] startDays;
+        private final long[] endDays;
+        private final long[] maxEndDays;
+        private final int[] employeeOrder;
+        private final long[] employeeKeys;
+
+        private Snapshot(long version, ProjectAssignmentInterval[] intervals) {
+            this.version = version;
+            this.builtAtNanos = System.nanoTime();
+            this.intervals = intervals;
+
+            int size = intervals.length;
+            this.assignmentIds = new long[size];
+            this.projectIds = new long[size];
+            this.employeeIds = new long[size];
+            this.startDays = new long[size];
+            this.endDays = new long[size];
+            this.maxEndDays = new long[size];
+            for (int i = 0; i < size; i++) {
+                ProjectAssignmentInterval interval = intervals[i];
+                assignmentIds[i] = interval.assignmentId();
+                projectIds[i] = interval.projectId();
+                employeeIds[i] = interval.employeeId();
+                startDays[i] = interval.startDate().toEpochDay();
+                endDays[i] = toEpochDay(interval.endDate());
+                boolean sameProject = i > 0 && projectIds[i - 1] == projectIds[i];
+                maxEndDays[i] = sameProject ? Math.max(maxEndDays[i - 1], endDays[i]) : endDays[i];
+            }
+
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingLong(i -> employeeIds[i]).thenComparingLong(i -> startDays[i]));
+            this.employeeOrder = new int[size];
+            this.employeeKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                employeeOrder[i] = order[i];
+                employeeKeys[i] = employeeIds[order[i]];
+            }
+        }
+
+        private static Snapshot build(long version, List<ProjectAssignmentInterval> intervals) {
+            ProjectAssignmentInterval[] sorted = intervals.toArray(ProjectAssignmentInterval[]::new);
+            Arrays.sort(sorted, Comparator.comparing(ProjectAssignmentInterval::projectId)
+                    .thenComparing(ProjectAssignmentInterval::startDate)
+                    .thenComparing(ProjectAssignmentInterval::assignmentId));
+            return new Snapshot(version, sorted);
+        }
+
+        private boolean hasActiveAssignment(long projectId, long day) {
+            int from = lowerBound(projectIds, projectId);
+            int projectEnd = lowerBound(projectIds, projectId + 1);
+            // 같은 프로젝트 구간에서 시작일이 day 이하인 마지막 위치
+            int low = from;
+            int high = projectEnd;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (startDays[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low > from && maxEndDays[low - 1] >= day;
+        }
+
+        private List<ProjectAssignmentInterval> findOverlappingByEmployeeId(long employeeId, long startDay, long endDay) {
+            List<ProjectAssignmentInterval> result = new ArrayList<>();
+            for (int i = lowerBound(employeeKeys, employeeId); i < employeeKeys.length && employeeKeys[i] == employeeId; i++) {
+                int index = employeeOrder[i];
+                if (startDays[index] > endDay) {
+                    break;
+                }
+                if (endDays[index] >= startDay) {
+                    result.add(intervals[index]);
+                }
+            }
+            return result;
+        }
+
+        private List<ProjectAssignmentInterval> findOverlapping(long startDay, long endDay) {
+            List<ProjectAssignmentInterval> result = new ArrayList<>();
+            for (int i = 0; i < intervals.length; i++) {
+                if (startDays[i] <= endDay && endDays[i] >= startDay) {
+                    result.add(intervals[i]);
+                }
+            }
+            return result;
+        }
+
+        private static int lowerBound(long[] sortedKeys, long key) {
+            int low = 0;
+            int high = sortedKeys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedKeys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private long version() {
+            return version;
+        }
+
+        private long builtAtNanos() {
+            return builtAtNanos;
+        }
+
+        private int size() {
+            return intervals.length;
+        }
+    }
+
+}
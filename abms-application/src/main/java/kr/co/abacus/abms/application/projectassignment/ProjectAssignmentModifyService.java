@@ -3,6 +3,7 @@ package kr.co.abacus.abms.application.projectassignment;
 import java.time.LocalDate;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,7 @@ import kr.co.abacus.abms.application.project.ProjectAuthorizationValidator;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
 import kr.co.abacus.abms.application.projectassignment.inbound.ProjectAssignmentManager;
 import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.summary.event.MonthlyRevenueSummaryChangedEvent;
 import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
@@ -34,6 +36,7 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
     private final ProjectAuthorizationValidator projectAuthorizationValidator;
     private final BusinessEventLogger businessEventLogger;
     private final ApplicationMetricsRecorder applicationMetricsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProjectAssignment create(ProjectAssignmentCreateRequest createRequest) {
@@ -54,6 +57,7 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
 
         ProjectAssignment projectAssignment = ProjectAssignment.assign(project, createRequest);
         ProjectAssignment saved = projectAssignmentRepository.save(projectAssignment);
+        publishAssignmentChanged(saved);
         businessEventLogger.projectAssignmentEvent("create", null, saved);
         applicationMetricsRecorder.incrementProjectAssignmentAction("create");
         return saved;
@@ -83,8 +87,15 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
                 updateRequest.endDate()
         );
 
+        MonthlyRevenueSummaryChangedEvent previousPeriodChanged = MonthlyRevenueSummaryChangedEvent.ofPeriod(
+                assignment.getProjectId(),
+                assignment.getPeriod().startDate(),
+                assignment.getPeriod().endDate()
+        );
         assignment.update(project, updateRequest);
         ProjectAssignment saved = projectAssignmentRepository.save(assignment);
+        eventPublisher.publishEvent(previousPeriodChanged);
+        publishAssignmentChanged(saved);
         businessEventLogger.projectAssignmentEvent("update", null, saved);
         applicationMetricsRecorder.incrementProjectAssignmentAction("update");
         return saved;
@@ -114,8 +125,14 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
                 endRequest.endDate()
         );
 
+        MonthlyRevenueSummaryChangedEvent previousPeriodChanged = MonthlyRevenueSummaryChangedEvent.ofPeriod(
+                assignment.getProjectId(),
+                assignment.getPeriod().startDate(),
+                assignment.getPeriod().endDate()
+        );
         assignment.end(project, endRequest);
         ProjectAssignment saved = projectAssignmentRepository.save(assignment);
+        eventPublisher.publishEvent(previousPeriodChanged);
         businessEventLogger.projectAssignmentEvent("end", null, saved);
         applicationMetricsRecorder.incrementProjectAssignmentAction("end");
         return saved;
@@ -137,6 +154,14 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
         }
     }
 
+    private void publishAssignmentChanged(ProjectAssignment assignment) {
+        eventPublisher.publishEvent(MonthlyRevenueSummaryChangedEvent.ofPeriod(
+                assignment.getProjectId(),
+                assignment.getPeriod().startDate(),
+                assignment.getPeriod().endDate()
+        ));
+    }
+
     private ProjectAssignment loadAssignment(Long assignmentId) {
         return projectAssignmentRepository.findById(assignmentId)
                 .orElseThrow(() -> new ProjectAssignmentNotFoundException("존재하지 않는 프로젝트 투입 정보입니다."));
@@ -154,28 +179,11 @@ public class ProjectAssignmentModifyService implements ProjectAssignmentManager
             LocalDate startDate,
             @Nullable LocalDate endDate
     ) {
-        boolean overlaps = projectAssignmentRepository.findByProjectIdAndEmployeeIdAndDeletedFalse(projectId, employeeId)
-                .stream()
-                .filter(existing -> !existing.getIdOrThrow().equals(assignmentId))
-                .anyMatch(existing -> overlaps(existing.getPeriod().startDate(), existing.getPeriod().endDate(), startDate, endDate));
-
-        if (overlaps) {
+        if (projectAssignmentRepository.existsOverlappingAssignment(projectId, employeeId, assignmentId, startDate, endDate)) {
             throw new IllegalArgumentException("동일 프로젝트에 중복되는 투입 기간이 존재합니다.");
         }
     }
 
-    private boolean overlaps(
-            LocalDate existingStartDate,
-            @Nullable LocalDate existingEndDate,
-            LocalDate startDate,
-            @Nullable LocalDate endDate
-    ) {
-        LocalDate normalizedExistingEnd = existingEndDate != null ? existingEndDate : LocalDate.MAX;
-        LocalDate normalizedEnd = endDate != null ? endDate : LocalDate.MAX;
-
-        return !existingStartDate.isAfter(normalizedEnd) && !startDate.isAfter(normalizedExistingEnd);
-    }
-
     private void validateCanManage(CurrentActor actor, Long projectId) {
         Project project = loadProject(projectId);
         projectAuthorizationValidator.validateManageProject(actor, project, "프로젝트 변경 권한 범위를 벗어났습니다.");
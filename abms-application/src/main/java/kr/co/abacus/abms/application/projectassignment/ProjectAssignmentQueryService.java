@@ -16,6 +16,8 @@ import kr.co.abacus.abms.application.projectassignment.inbound.ProjectAssignment
 import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
 import kr.co.abacus.abms.domain.projectassignment.ProjectAssignmentNotFoundException;
 import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -59,4 +61,13 @@ public class ProjectAssignmentQueryService implements ProjectAssignmentFinder {
     ) {
         return projectAssignmentRepository.searchEmployeeProjects(condition, actor, pageable);
     }
+
+    @Override
+    public CursorPage<EmployeeProjectItem> findByEmployeeIdByCursor(
+            EmployeeProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    ) {
+        return projectAssignmentRepository.searchEmployeeProjectsByCursor(condition, actor, pageRequest);
+    }
 }
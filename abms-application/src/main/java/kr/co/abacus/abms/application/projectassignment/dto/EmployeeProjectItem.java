@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import org.jspecify.annotations.Nullable;
 
 public record EmployeeProjectItem(
+        Long assignmentId,
         Long projectId,
         String projectCode,
         String projectName,
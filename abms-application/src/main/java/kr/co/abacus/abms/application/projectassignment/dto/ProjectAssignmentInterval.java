@@ -0,0 +1,19 @@
+package kr.co.abacus.abms.application.projectassignment.dto;
+
+import java.time.LocalDate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 삭제되지 않은 프로젝트 투입의 기간 정보
+ * - endDate가 null이면 종료일 없이 계속 투입 중이다.
+ */
+public record ProjectAssignmentInterval(
+        Long assignmentId,
+        Long projectId,
+        Long employeeId,
+        LocalDate startDate,
+        @Nullable LocalDate endDate
+) {
+
+}
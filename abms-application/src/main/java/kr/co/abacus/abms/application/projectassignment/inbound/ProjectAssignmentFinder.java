@@ -10,6 +10,8 @@ import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectItem;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectSearchCondition;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentItem;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentSearchCondition;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
 
 public interface ProjectAssignmentFinder {
@@ -29,4 +31,10 @@ public interface ProjectAssignmentFinder {
             CurrentActor actor,
             Pageable pageable
     );
+
+    CursorPage<EmployeeProjectItem> findByEmployeeIdByCursor(
+            EmployeeProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    );
 }
@@ -1,13 +1,19 @@
 package kr.co.abacus.abms.application.projectassignment.outbound;
 
+import java.time.LocalDate;
+
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import kr.co.abacus.abms.application.auth.CurrentActor;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectItem;
 import kr.co.abacus.abms.application.projectassignment.dto.EmployeeProjectSearchCondition;
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentItem;
 import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentSearchCondition;
+import kr.co.abacus.abms.application.shared.dto.CursorPage;
+import kr.co.abacus.abms.application.shared.dto.CursorPageRequest;
 
 public interface CustomProjectAssignmentRepository {
 
@@ -19,7 +25,33 @@ public interface CustomProjectAssignmentRepository {
             Pageable pageable
     );
 
+    /**
+     * 직원의 투입 프로젝트를 투입 시작일 역순으로 커서 다음부터 조회한다. 전체 건수는 요청했을 때만 센다.
+     */
+    CursorPage<EmployeeProjectItem> searchEmployeeProjectsByCursor(
+            EmployeeProjectSearchCondition condition,
+            CurrentActor actor,
+            CursorPageRequest pageRequest
+    );
+
     java.util.List<ProjectAssignmentItem> findProjectAssignments(Long projectId);
 
     Page<ProjectAssignmentItem> searchProjectAssignments(ProjectAssignmentSearchCondition condition, Pageable pageable);
+
+    /**
+     * @return 삭제되지 않은 모든 투입의 기간 정보 (투입 기간 인덱스 생성용)
+     */
+    java.util.List<ProjectAssignmentInterval> findAllIntervals();
+
+    /**
+     * 같은 프로젝트, 같은 직원의 삭제되지 않은 다른 투입 중 주어진 기간과 겹치는 투입이 있는지 DB에서 확인한다.
+     * 저장 직전 검증용이므로 노드 메모리의 투입 기간 인덱스를 쓰지 않는다 (project_id, start_date, end_date 인덱스 사용).
+     */
+    boolean existsOverlappingAssignment(
+            Long projectId,
+            Long employeeId,
+            @Nullable Long excludedAssignmentId,
+            LocalDate startDate,
+            @Nullable LocalDate endDate
+    );
 }
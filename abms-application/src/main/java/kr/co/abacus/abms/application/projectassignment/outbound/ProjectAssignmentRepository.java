@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.application.projectassignment.outbound;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,8 @@ public interface ProjectAssignmentRepository extends CustomProjectAssignmentRepo
     List<ProjectAssignment> findActiveAssignmentsByProjectId(Long projectId, LocalDate startOfMonth, LocalDate endOfMonth);
 
     List<ProjectAssignment> findOverlappingAssignments(Long projectId, LocalDate startDate, LocalDate endDate);
+
+    List<ProjectAssignment> findOverlappingAssignmentsByProjectIdIn(Collection<Long> projectIds, LocalDate startDate, LocalDate endDate);
+
+    List<ProjectAssignment> findOverlappingAssignmentsByEmployeeId(Long employeeId, LocalDate startDate, LocalDate endDate);
 }
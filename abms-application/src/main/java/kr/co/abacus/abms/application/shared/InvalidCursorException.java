@@ -0,0 +1,17 @@
+package kr.co.abacus.abms.application.shared;
+
+/**
+ * 커서 페이지 요청의 커서나 정렬 조건을 해석할 수 없을 때 던진다.
+ * - 저장소 구현에서 던져도 IllegalArgumentException처럼 데이터 접근 예외로 변환되지 않는다.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,92 @@
+package kr.co.abacus.abms.application.shared;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import kr.co.abacus.abms.application.shared.outbound.ConsistentReader;
+import kr.co.abacus.abms.application.shared.outbound.ReferenceNameReader;
+
+/**
+ * 협력사, 부서, 직원 id 묶음을 이름으로 한 번에 푸는 조회기
+ * - id별로 이름 캐시(크기 제한 Caffeine)를 먼저 보고, 없는 id만 모아 IN 쿼리 한 번으로 읽어 캐시에 채운다.
+ *   채우는 조회는 {@link ConsistentReader}로 실행해 비운 직후 뒤처진 replica의 이름을 다시 담지 않는다.
+ * - 삭제됐거나 없는 id는 결과에 넣지 않으므로 호출하는 쪽에서 대체 문구를 정한다.
+ * - 이름이 바뀌거나 삭제되면 ReferenceNameChangedEvent로 해당 id만 비운다 (부서는 조직도 무효화 시 전체를 비운다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceNameResolver {
+
+    private final CacheManager cacheManager;
+    private final ReferenceNameReader referenceNameReader;
+    private final ConsistentReader consistentReader;
+
+    public Map<Long, String> partyNames(Collection<Long> partyIds) {
+        return resolve(ReferenceNameType.PARTY, partyIds);
+    }
+
+    public Map<Long, String> departmentNames(Collection<Long> departmentIds) {
+        return resolve(ReferenceNameType.DEPARTMENT, departmentIds);
+    }
+
+    public Map<Long, String> employeeNames(Collection<Long> employeeIds) {
+        return resolve(ReferenceNameType.EMPLOYEE, employeeIds);
+    }
+
+    /**
+     * @return id별 이름 (삭제됐거나 없는 id 제외)
+     */
+    public Map<Long, String> resolve(ReferenceNameType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Cache cache = cache(type);
+        Map<Long, String> names = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            String cached = cache.get(id, String.class);
+            if (cached != null) {
+                names.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            consistentReader.read(() -> referenceNameReader.findNames(type, misses)).forEach((id, name) -> {
+                cache.put(id, name);
+                names.put(id, name);
+            });
+        }
+        return names;
+    }
+
+    public void evict(ReferenceNameType type, Long id) {
+        cache(type).evict(id);
+    }
+
+    public void clear(ReferenceNameType type) {
+        cache(type).clear();
+        log.debug("[참조 이름 캐시 초기화] type={}", type);
+    }
+
+    private Cache cache(ReferenceNameType type) {
+        Cache cache = cacheManager.getCache(type.getCacheName());
+        if (cache == null) {
+            throw new IllegalStateException("참조 이름 캐시가 설정되지 않았습니다: " + type.getCacheName());
+        }
+        return cache;
+    }
+
+}
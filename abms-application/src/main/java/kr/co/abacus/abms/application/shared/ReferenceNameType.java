@@ -0,0 +1,22 @@
+package kr.co.abacus.abms.application.shared;
+
+/**
+ * 이름으로 풀어 보여주는 참조 대상 종류와 이름 캐시
+ */
+public enum ReferenceNameType {
+
+    PARTY("partyNames"),
+    DEPARTMENT("departmentNames"),
+    EMPLOYEE("employeeNames");
+
+    private final String cacheName;
+
+    ReferenceNameType(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+}
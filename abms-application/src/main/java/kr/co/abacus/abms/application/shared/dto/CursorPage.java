@@ -0,0 +1,40 @@
+package kr.co.abacus.abms.application.shared.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 키셋(seek) 페이지 결과
+ *
+ * @param nextCursor    다음 페이지 커서, 마지막 페이지면 null
+ * @param totalElements 전체 건수, 요청하지 않았으면 null
+ */
+public record CursorPage<T>(List<T> content, @Nullable String nextCursor, @Nullable Long totalElements) {
+
+    /**
+     * size + 1건까지 조회한 결과로 다음 페이지 여부를 판단해 페이지를 만든다.
+     */
+    public static <T> CursorPage<T> of(
+            List<T> rows,
+            int size,
+            Function<T, SearchCursor> cursorOf,
+            @Nullable Long totalElements
+    ) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null, totalElements);
+        }
+        List<T> content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, cursorOf.apply(content.getLast()).encode(), totalElements);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, totalElements);
+    }
+
+}
@@ -0,0 +1,51 @@
+package kr.co.abacus.abms.application.shared.dto;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
+
+/**
+ * 키셋(seek) 페이지 요청
+ * - 정렬 기준은 하나만 받으며, id를 같은 방향의 보조 정렬로 붙여 순서를 고정한다.
+ * - 전체 건수 조회(count)는 includeTotal일 때만 실행한다.
+ */
+public record CursorPageRequest(@Nullable String cursor, int size, Sort sort, boolean includeTotal) {
+
+    public CursorPageRequest {
+        if (size < 1) {
+            throw new InvalidCursorException("페이지 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    public static CursorPageRequest of(@Nullable String cursor, Pageable pageable, boolean includeTotal) {
+        return new CursorPageRequest(cursor, pageable.getPageSize(), pageable.getSort(), includeTotal);
+    }
+
+    /**
+     * @return 요청한 정렬 기준, 없으면 defaultOrder
+     */
+    public Sort.Order orderOr(Sort.Order defaultOrder) {
+        if (sort.isUnsorted()) {
+            return defaultOrder;
+        }
+        if (sort.stream().count() > 1) {
+            throw new InvalidCursorException("커서 페이지는 정렬 기준을 하나만 지원합니다.");
+        }
+        return sort.iterator().next();
+    }
+
+    /**
+     * @return 요청 커서, 첫 페이지면 null
+     */
+    public @Nullable SearchCursor decodeCursor(Sort.Order order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        SearchCursor decoded = SearchCursor.decode(cursor);
+        decoded.requireSameOrder(order);
+        return decoded;
+    }
+
+}
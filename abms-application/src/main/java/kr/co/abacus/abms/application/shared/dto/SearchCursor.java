@@ -0,0 +1,52 @@
+package kr.co.abacus.abms.application.shared.dto;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import kr.co.abacus.abms.application.shared.InvalidCursorException;
+
+/**
+ * 키셋(seek) 페이지네이션의 이어보기 위치
+ * - 직전 페이지 마지막 행의 정렬 키 값과 id를 담는다.
+ * - 클라이언트에는 Base64 URL 문자열로만 내보내며, 형식이 깨졌거나 다른 정렬로 만든 커서는 받지 않는다.
+ */
+public record SearchCursor(String sortKey, Sort.Direction direction, long id, String sortValue) {
+
+    private static final String SEPARATOR = "\n";
+    private static final int FIELD_COUNT = 4;
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortKey, direction.name(), String.valueOf(id), sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        String[] fields;
+        try {
+            fields = new String(Base64.getUrlDecoder().decode(token), UTF_8).split(SEPARATOR, FIELD_COUNT);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+        if (fields.length != FIELD_COUNT) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        try {
+            return new SearchCursor(fields[0], Sort.Direction.valueOf(fields[1]), Long.parseLong(fields[2]), fields[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 커서가 주어진 정렬 기준으로 만들어졌는지 확인한다.
+     */
+    public void requireSameOrder(Sort.Order order) {
+        if (!sortKey.equals(order.getProperty()) || direction != order.getDirection()) {
+            throw new InvalidCursorException("정렬 조건이 바뀌어 커서를 사용할 수 없습니다.");
+        }
+    }
+
+}
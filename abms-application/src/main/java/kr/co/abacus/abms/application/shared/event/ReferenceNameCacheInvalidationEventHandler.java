@@ -0,0 +1,22 @@
+package kr.co.abacus.abms.application.shared.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.co.abacus.abms.application.shared.ReferenceNameResolver;
+
+@Component
+@RequiredArgsConstructor
+public class ReferenceNameCacheInvalidationEventHandler {
+
+    private final ReferenceNameResolver referenceNameResolver;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReferenceNameChangedEvent event) {
+        referenceNameResolver.evict(event.type(), event.id());
+    }
+
+}
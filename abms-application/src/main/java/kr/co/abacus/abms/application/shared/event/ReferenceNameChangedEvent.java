@@ -0,0 +1,6 @@
+package kr.co.abacus.abms.application.shared.event;
+
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+
+public record ReferenceNameChangedEvent(ReferenceNameType type, Long id) {
+}
@@ -0,0 +1,12 @@
+package kr.co.abacus.abms.application.shared.event;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 다른 노드에서 비운 캐시를 이 노드에서도 비운 뒤 발행된다.
+ * 캐시 밖의 노드 로컬 상태(인덱스, epoch 등)를 함께 맞출 때 사용한다.
+ *
+ * @param key 비운 키. 캐시 전체를 비웠으면 null
+ */
+public record RemoteCacheInvalidatedEvent(String cacheName, @Nullable Object key) {
+}
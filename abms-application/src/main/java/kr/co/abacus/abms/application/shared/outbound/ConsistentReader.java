@@ -0,0 +1,19 @@
+package kr.co.abacus.abms.application.shared.outbound;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 복제 지연 없이 마지막 커밋을 읽어야 하는 조회 포트
+ * - 캐시 적재와 인메모리 인덱스 재생성처럼 읽은 값을 오래 보관하는 조회에 쓴다.
+ *   무효화 직후 뒤처진 replica에서 다시 채우면 이전 값이 TTL(최대 maxAge) 동안 남기 때문이다.
+ */
+public interface ConsistentReader {
+
+    /**
+     * @return primary(replica를 쓰지 않으면 기본 DataSource)에서 reader를 실행한 결과
+     */
+    <T extends @Nullable Object> T read(Supplier<T> reader);
+
+}
@@ -0,0 +1,18 @@
+package kr.co.abacus.abms.application.shared.outbound;
+
+import java.util.Collection;
+import java.util.Map;
+
+import kr.co.abacus.abms.application.shared.ReferenceNameType;
+
+/**
+ * 참조 대상 이름 일괄 조회 포트
+ */
+public interface ReferenceNameReader {
+
+    /**
+     * @return 삭제되지 않은 대상의 id별 이름
+     */
+    Map<Long, String> findNames(ReferenceNameType type, Collection<Long> ids);
+
+}
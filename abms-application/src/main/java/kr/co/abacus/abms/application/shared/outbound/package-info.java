@@ -0,0 +1,4 @@
+@NullMarked
+package kr.co.abacus.abms.application.shared.outbound;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,210 @@
+package kr.co.abacus.abms.application.summary;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.employee.EmployeeMonthlyCostRefresher;
+import kr.co.abacus.abms.application.projectassignment.ProjectAssignmentIntervalIndex;
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
+import kr.co.abacus.abms.application.summary.outbound.RevenueMonthClosingRepository;
+import kr.co.abacus.abms.domain.summary.RevenueMonthClosingStatus;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 변경으로 영향받는 (프로젝트, 월) 손익 집계를 모아서 비동기로 다시 계산한다.
+ * - 같은 월의 프로젝트는 한 번의 재계산으로 합치고(coalescing), 마지막 변경 후 debounce 동안 조용해지면 반영한다.
+ * - 변경이 계속 들어와도 첫 변경 후 maxDelay가 지나면 반영한다.
+ * - 마감(CLOSED)된 월은 다시 계산하지 않는다. 실패한 키는 야간 배치의 월 전체 재계산이 보정한다.
+ * - 미래 월은 다시 계산하지 않는다. 종료일이 없는 기간은 현재 월까지만 반영한다.
+ */
+@Slf4j
+@Component
+public class MonthlyRevenueSummaryChangeQueue {
+
+    private final MonthlyRevenueSummaryReconciler reconciler;
+    private final EmployeeMonthlyCostRefresher employeeMonthlyCostRefresher;
+    private final ProjectAssignmentIntervalIndex assignmentIntervalIndex;
+    private final RevenueMonthClosingRepository revenueMonthClosingRepository;
+    private final Duration debounce;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("revenue-summary-change-", 0).factory()
+    );
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Object monitor = new Object();
+    private Map<YearMonth, Set<Long>> pendingProjectIdsByMonth = new HashMap<>();
+    private Map<Long, YearMonth> pendingEmployeeFromMonths = new HashMap<>();
+    private long firstEnqueuedAtNanos;
+    private long lastEnqueuedAtNanos;
+    private boolean flushScheduled;
+
+    MonthlyRevenueSummaryChangeQueue(
+            MonthlyRevenueSummaryReconciler reconciler,
+            EmployeeMonthlyCostRefresher employeeMonthlyCostRefresher,
+            ProjectAssignmentIntervalIndex assignmentIntervalIndex,
+            RevenueMonthClosingRepository revenueMonthClosingRepository,
+            @Value("${app.revenue-summary.incremental.debounce:2s}") Duration debounce,
+            @Value("${app.revenue-summary.incremental.max-delay:30s}") Duration maxDelay
+    ) {
+        this.reconciler = reconciler;
+        this.employeeMonthlyCostRefresher = employeeMonthlyCostRefresher;
+        this.assignmentIntervalIndex = assignmentIntervalIndex;
+        this.revenueMonthClosingRepository = revenueMonthClosingRepository;
+        this.debounce = debounce;
+        this.maxDelay = maxDelay;
+    }
+
+    public void enqueueProject(Long projectId, YearMonth fromMonth, @Nullable YearMonth toMonth) {
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth lastMonth = toMonth == null || toMonth.isAfter(currentMonth) ? currentMonth : toMonth;
+        if (fromMonth.isAfter(lastMonth)) {
+            return;
+        }
+        synchronized (monitor) {
+            for (YearMonth month = fromMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                pendingProjectIdsByMonth.computeIfAbsent(month, key -> new TreeSet<>()).add(projectId);
+            }
+            markEnqueued();
+        }
+    }
+
+    public void enqueueEmployee(Long employeeId, YearMonth fromMonth) {
+        if (fromMonth.isAfter(YearMonth.now())) {
+            return;
+        }
+        synchronized (monitor) {
+            pendingEmployeeFromMonths.merge(employeeId, fromMonth, (left, right) -> left.isBefore(right) ? left : right);
+            markEnqueued();
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 즉시 반영한다.
+     *
+     * @return 다시 계산한 (프로젝트, 월) 키 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<YearMonth, Set<Long>> projectIdsByMonth;
+            Map<Long, YearMonth> employeeFromMonths;
+            synchronized (monitor) {
+                projectIdsByMonth = pendingProjectIdsByMonth;
+                employeeFromMonths = pendingEmployeeFromMonths;
+                pendingProjectIdsByMonth = new HashMap<>();
+                pendingEmployeeFromMonths = new HashMap<>();
+            }
+
+            Map<YearMonth, Set<Long>> keys = new TreeMap<>();
+            projectIdsByMonth.forEach((month, projectIds) -> keys.computeIfAbsent(month, key -> new TreeSet<>()).addAll(projectIds));
+            employeeFromMonths.forEach((employeeId, fromMonth) -> collectEmployeeCostChange(employeeId, fromMonth, keys));
+
+            int recalculatedCount = 0;
+            for (Map.Entry<YearMonth, Set<Long>> entry : keys.entrySet()) {
+                recalculatedCount += recalculate(entry.getKey(), entry.getValue());
+            }
+            return recalculatedCount;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void markEnqueued() {
+        long now = System.nanoTime();
+        if (!flushScheduled) {
+            firstEnqueuedAtNanos = now;
+            flushScheduled = true;
+            scheduler.schedule(this::flushWhenQuiet, debounce.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        lastEnqueuedAtNanos = now;
+    }
+
+    private void flushWhenQuiet() {
+        synchronized (monitor) {
+            long now = System.nanoTime();
+            long remainingQuiet = debounce.toNanos() - (now - lastEnqueuedAtNanos);
+            long remainingMaxDelay = maxDelay.toNanos() - (now - firstEnqueuedAtNanos);
+            if (remainingQuiet > 0 && remainingMaxDelay > 0) {
+                scheduler.schedule(this::flushWhenQuiet, Math.min(remainingQuiet, remainingMaxDelay), TimeUnit.NANOSECONDS);
+                return;
+            }
+            flushScheduled = false;
+        }
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            log.warn("월별 손익 집계 변경 반영 실패", exception);
+        }
+    }
+
+    private void collectEmployeeCostChange(Long employeeId, YearMonth fromMonth, Map<YearMonth, Set<Long>> keys) {
+        try {
+            List<YearMonth> refreshedMonths = employeeMonthlyCostRefresher.refresh(employeeId, fromMonth, YearMonth.now());
+            if (refreshedMonths.isEmpty()) {
+                return;
+            }
+            YearMonth firstMonth = refreshedMonths.stream().min(YearMonth::compareTo).orElseThrow();
+            YearMonth lastMonth = refreshedMonths.stream().max(YearMonth::compareTo).orElseThrow();
+            List<ProjectAssignmentInterval> assignments = assignmentIntervalIndex.findOverlappingByEmployeeId(
+                    employeeId,
+                    firstMonth.atDay(1),
+                    lastMonth.atEndOfMonth()
+            );
+            for (YearMonth month : refreshedMonths) {
+                for (ProjectAssignmentInterval assignment : assignments) {
+                    if (overlaps(assignment.startDate(), assignment.endDate(), month)) {
+                        keys.computeIfAbsent(month, key -> new TreeSet<>()).add(assignment.projectId());
+                    }
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.warn("직원 월 비용 변경 반영 실패: employeeId={}, fromMonth={}", employeeId, fromMonth, exception);
+        }
+    }
+
+    private int recalculate(YearMonth month, Set<Long> projectIds) {
+        if (revenueMonthClosingRepository.existsByTargetMonthAndStatusAndDeletedFalse(
+                month.atDay(1),
+                RevenueMonthClosingStatus.CLOSED
+        )) {
+            log.info("마감된 매출 집계 월은 변경 반영을 건너뜁니다: month={}, projects={}", month, projectIds.size());
+            return 0;
+        }
+        try {
+            reconciler.reconcileProjects(month, projectIds);
+            return projectIds.size();
+        } catch (RuntimeException exception) {
+            log.warn("월별 손익 집계 변경 반영 실패: month={}, projectIds={}", month, projectIds, exception);
+            return 0;
+        }
+    }
+
+    private boolean overlaps(LocalDate startDate, @Nullable LocalDate endDate, YearMonth month) {
+        LocalDate normalizedEndDate = endDate != null ? endDate : LocalDate.MAX;
+        return !startDate.isAfter(month.atEndOfMonth()) && !normalizedEndDate.isBefore(month.atDay(1));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+}
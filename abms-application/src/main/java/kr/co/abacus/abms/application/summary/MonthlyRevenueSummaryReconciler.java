@@ -0,0 +1,295 @@
+package kr.co.abacus.abms.application.summary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.abacus.abms.application.dashboard.event.DashboardAggregateInvalidationRequestedEvent;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRevenuePlanRepository;
+import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.summary.dto.MonthlyRevenueSummaryReconcileResult;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryBulkWriter;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
+import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.project.ProjectRevenuePlan;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
+import kr.co.abacus.abms.domain.shared.Money;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummary;
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트별 월 손익 집계 일괄 재계산
+ * - 발행 매출, 투입 이력, 직원 월 비용, 주관 부서, 기존 집계를 월 범위 조회로 한 번에 적재한다.
+ * - 프로젝트별 손익은 메모리에서 계산하고, 신규/갱신/삭제는 JDBC 배치로 반영한다.
+ * - 조회 횟수는 프로젝트 수와 무관하게 일정하다.
+ * - 변경 이벤트로 모인 프로젝트만 다시 계산할 때는 {@link #reconcileProjects(YearMonth, Collection)}를 사용한다.
+ * - 집계가 바뀌면 커밋 후 대시보드 연도 집계 캐시를 비우도록 이벤트를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyRevenueSummaryReconciler {
+
+    private static final DateTimeFormatter COST_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProjectRevenuePlanRepository revenuePlanRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final EmployeeMonthlyCostRepository employeeMonthlyCostRepository;
+    private final MonthlyRevenueSummaryRepository summaryRepository;
+    private final MonthlyRevenueSummaryBulkWriter summaryBulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public MonthlyRevenueSummaryReconcileResult reconcile(YearMonth targetMonth) {
+        LocalDate monthStart = targetMonth.atDay(1);
+        LocalDate monthEnd = targetMonth.atEndOfMonth();
+        String costMonth = targetMonth.format(COST_MONTH_FORMATTER);
+
+        Map<Long, List<ProjectRevenuePlan>> issuedPlansByProjectId = revenuePlanRepository
+                .findByRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(monthStart, monthEnd).stream()
+                .collect(Collectors.groupingBy(ProjectRevenuePlan::getProjectId));
+        Map<Long, List<ProjectAssignment>> assignmentsByProjectId = assignmentRepository
+                .findActiveAssignments(monthStart, monthEnd).stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getProjectId));
+        Map<Long, MonthlyRevenueSummary> existingSummariesByProjectId = summaryRepository
+                .findAllByTargetMonthAndDeletedFalseOrderByProjectIdAsc(monthStart).stream()
+                .collect(Collectors.toMap(MonthlyRevenueSummary::getProjectId, Function.identity(), (left, right) -> left));
+
+        List<Project> projects = findAffectedProjects(
+                monthStart,
+                monthEnd,
+                issuedPlansByProjectId.keySet(),
+                assignmentsByProjectId.keySet(),
+                existingSummariesByProjectId.keySet()
+        );
+        Map<Long, EmployeeMonthlyCost> monthlyCostsByEmployeeId = assignmentsByProjectId.isEmpty()
+                ? Map.of()
+                : employeeMonthlyCostRepository.findAllByCostMonthAndDeletedFalse(costMonth).stream()
+                .collect(Collectors.toMap(EmployeeMonthlyCost::getEmployeeId, Function.identity(), (left, right) -> left));
+
+        return apply(targetMonth, projects, issuedPlansByProjectId, assignmentsByProjectId, existingSummariesByProjectId, monthlyCostsByEmployeeId);
+    }
+
+    /**
+     * 지정한 프로젝트의 월 손익 집계만 다시 계산한다.
+     * - 조회는 프로젝트 id IN 조건으로 한정하고, 판정/계산 규칙은 월 전체 재계산과 같다.
+     */
+    @Transactional
+    public MonthlyRevenueSummaryReconcileResult reconcileProjects(YearMonth targetMonth, Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new MonthlyRevenueSummaryReconcileResult(0, 0, 0, 0);
+        }
+        LocalDate monthStart = targetMonth.atDay(1);
+        LocalDate monthEnd = targetMonth.atEndOfMonth();
+        String costMonth = targetMonth.format(COST_MONTH_FORMATTER);
+
+        Map<Long, List<ProjectRevenuePlan>> issuedPlansByProjectId = revenuePlanRepository
+                .findByProjectIdInAndRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(projectIds, monthStart, monthEnd).stream()
+                .collect(Collectors.groupingBy(ProjectRevenuePlan::getProjectId));
+        Map<Long, List<ProjectAssignment>> assignmentsByProjectId = assignmentRepository
+                .findOverlappingAssignmentsByProjectIdIn(projectIds, monthStart, monthEnd).stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getProjectId));
+        Map<Long, MonthlyRevenueSummary> existingSummariesByProjectId = summaryRepository
+                .findAllByProjectIdInAndTargetMonthAndDeletedFalse(projectIds, monthStart).stream()
+                .collect(Collectors.toMap(MonthlyRevenueSummary::getProjectId, Function.identity(), (left, right) -> left));
+
+        List<Project> projects = projectRepository.findAllByIdIn(projectIds);
+        Set<Long> employeeIds = assignmentsByProjectId.values().stream()
+                .flatMap(List::stream)
+                .map(ProjectAssignment::getEmployeeId)
+                .collect(Collectors.toSet());
+        Map<Long, EmployeeMonthlyCost> monthlyCostsByEmployeeId = employeeIds.isEmpty()
+                ? Map.of()
+                : employeeMonthlyCostRepository.findAllByEmployeeIdInAndCostMonth(employeeIds, costMonth).stream()
+                .filter(monthlyCost -> !monthlyCost.isDeleted())
+                .collect(Collectors.toMap(EmployeeMonthlyCost::getEmployeeId, Function.identity(), (left, right) -> left));
+
+        return apply(targetMonth, projects, issuedPlansByProjectId, assignmentsByProjectId, existingSummariesByProjectId, monthlyCostsByEmployeeId);
+    }
+
+    private MonthlyRevenueSummaryReconcileResult apply(
+            YearMonth targetMonth,
+            List<Project> projects,
+            Map<Long, List<ProjectRevenuePlan>> issuedPlansByProjectId,
+            Map<Long, List<ProjectAssignment>> assignmentsByProjectId,
+            Map<Long, MonthlyRevenueSummary> existingSummariesByProjectId,
+            Map<Long, EmployeeMonthlyCost> monthlyCostsByEmployeeId
+    ) {
+        LocalDate monthStart = targetMonth.atDay(1);
+        LocalDate monthEnd = targetMonth.atEndOfMonth();
+        String costMonth = targetMonth.format(COST_MONTH_FORMATTER);
+
+        List<Project> summarizedProjects = new ArrayList<>();
+        List<Long> obsoleteSummaryIds = new ArrayList<>();
+        for (Project project : projects) {
+            Long projectId = project.getIdOrThrow();
+            boolean affected = !project.isDeleted() && (
+                    overlaps(project.getPeriod().startDate(), project.getPeriod().endDate(), monthStart, monthEnd)
+                            || issuedPlansByProjectId.containsKey(projectId)
+                            || assignmentsByProjectId.containsKey(projectId));
+            if (affected) {
+                summarizedProjects.add(project);
+                continue;
+            }
+            MonthlyRevenueSummary existingSummary = existingSummariesByProjectId.get(projectId);
+            if (existingSummary != null) {
+                obsoleteSummaryIds.add(existingSummary.getIdOrThrow());
+            }
+        }
+
+        Map<Long, Department> departmentsById = findLeadDepartments(summarizedProjects);
+
+        List<MonthlyRevenueSummaryCreateRequest> inserts = new ArrayList<>();
+        Map<Long, MonthlyRevenueSummaryCreateRequest> updates = new LinkedHashMap<>();
+        for (Project project : summarizedProjects) {
+            Long projectId = project.getIdOrThrow();
+            MonthlyRevenueSummaryCreateRequest request = summarize(
+                    project,
+                    departmentsById,
+                    issuedPlansByProjectId.getOrDefault(projectId, List.of()),
+                    assignmentsByProjectId.getOrDefault(projectId, List.of()),
+                    monthlyCostsByEmployeeId,
+                    monthStart,
+                    costMonth
+            );
+
+            MonthlyRevenueSummary existingSummary = existingSummariesByProjectId.get(projectId);
+            if (existingSummary != null) {
+                updates.put(existingSummary.getIdOrThrow(), request);
+            } else {
+                inserts.add(request);
+            }
+        }
+
+        MonthlyRevenueSummaryReconcileResult result = new MonthlyRevenueSummaryReconcileResult(
+                projects.size(),
+                summaryBulkWriter.insertAll(inserts),
+                summaryBulkWriter.updateAll(updates),
+                summaryBulkWriter.deleteAllByIdIn(obsoleteSummaryIds)
+        );
+        log.info("월별 손익 집계 재계산 완료: month={}, projects={}, inserted={}, updated={}, deleted={}",
+                targetMonth,
+                result.projectCount(),
+                result.insertedCount(),
+                result.updatedCount(),
+                result.deletedCount());
+        if (result.writeCount() > 0) {
+            eventPublisher.publishEvent(new DashboardAggregateInvalidationRequestedEvent());
+        }
+        return result;
+    }
+
+    private List<Project> findAffectedProjects(
+            LocalDate monthStart,
+            LocalDate monthEnd,
+            Set<Long> issuedPlanProjectIds,
+            Set<Long> assignmentProjectIds,
+            Set<Long> summaryProjectIds
+    ) {
+        Map<Long, Project> projectsById = projectRepository.findActiveProjects(monthStart, monthEnd).stream()
+                .collect(Collectors.toMap(Project::getIdOrThrow, Function.identity(), (left, right) -> left, LinkedHashMap::new));
+
+        Set<Long> missingProjectIds = new LinkedHashSet<>();
+        issuedPlanProjectIds.stream().filter(id -> !projectsById.containsKey(id)).forEach(missingProjectIds::add);
+        assignmentProjectIds.stream().filter(id -> !projectsById.containsKey(id)).forEach(missingProjectIds::add);
+        summaryProjectIds.stream().filter(id -> !projectsById.containsKey(id)).forEach(missingProjectIds::add);
+
+        if (!missingProjectIds.isEmpty()) {
+            projectRepository.findAllByIdIn(missingProjectIds)
+                    .forEach(project -> projectsById.putIfAbsent(project.getIdOrThrow(), project));
+        }
+        return List.copyOf(projectsById.values());
+    }
+
+    private Map<Long, Department> findLeadDepartments(List<Project> projects) {
+        Set<Long> leadDepartmentIds = projects.stream()
+                .map(Project::getLeadDepartmentId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (leadDepartmentIds.isEmpty()) {
+            return Map.of();
+        }
+        return departmentRepository.findAllByIdInAndDeletedFalse(leadDepartmentIds).stream()
+                .collect(Collectors.toMap(Department::getIdOrThrow, Function.identity()));
+    }
+
+    private MonthlyRevenueSummaryCreateRequest summarize(
+            Project project,
+            Map<Long, Department> departmentsById,
+            List<ProjectRevenuePlan> issuedPlans,
+            List<ProjectAssignment> assignments,
+            Map<Long, EmployeeMonthlyCost> monthlyCostsByEmployeeId,
+            LocalDate monthStart,
+            String costMonth
+    ) {
+        Department leadDepartment = departmentsById.get(project.getLeadDepartmentId());
+        if (leadDepartment == null) {
+            throw new IllegalArgumentException("주관 부서 누락: " + project.getLeadDepartmentId());
+        }
+
+        Money totalRevenue = issuedPlans.stream()
+                .map(ProjectRevenuePlan::getAmount)
+                .reduce(Money.zero(), Money::add);
+        Money totalCost = calculateCost(assignments, monthlyCostsByEmployeeId, monthStart, costMonth);
+
+        return new MonthlyRevenueSummaryCreateRequest(
+                project.getIdOrThrow(),
+                project.getCode(),
+                project.getName(),
+                leadDepartment.getIdOrThrow(),
+                leadDepartment.getCode(),
+                leadDepartment.getName(),
+                monthStart,
+                totalRevenue,
+                totalCost,
+                totalRevenue.subtract(totalCost)
+        );
+    }
+
+    private Money calculateCost(
+            List<ProjectAssignment> assignments,
+            Map<Long, EmployeeMonthlyCost> monthlyCostsByEmployeeId,
+            LocalDate targetMonth,
+            String costMonth
+    ) {
+        Money totalCost = Money.zero();
+        for (ProjectAssignment assignment : assignments) {
+            EmployeeMonthlyCost empCost = monthlyCostsByEmployeeId.get(assignment.getEmployeeId());
+            if (empCost == null) {
+                throw new IllegalArgumentException("직원 비용 누락 - 직원(id=" + assignment.getEmployeeId() + "), 월(costMonth=" + costMonth + "): ");
+            }
+            BigDecimal mm = assignment.calculateManMonth(targetMonth);
+            totalCost = totalCost.add(empCost.getTotalCost().multiply(mm));
+        }
+        return totalCost;
+    }
+
+    private boolean overlaps(LocalDate startDate, @Nullable LocalDate endDate, LocalDate monthStart, LocalDate monthEnd) {
+        LocalDate normalizedEndDate = endDate != null ? endDate : LocalDate.MAX;
+        return !startDate.isAfter(monthEnd) && !normalizedEndDate.isBefore(monthStart);
+    }
+
+}
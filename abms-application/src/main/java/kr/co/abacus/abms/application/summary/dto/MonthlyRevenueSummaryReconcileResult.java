@@ -0,0 +1,14 @@
+package kr.co.abacus.abms.application.summary.dto;
+
+public record MonthlyRevenueSummaryReconcileResult(
+        int projectCount,
+        int insertedCount,
+        int updatedCount,
+        int deletedCount
+) {
+
+    public int writeCount() {
+        return insertedCount + updatedCount + deletedCount;
+    }
+
+}
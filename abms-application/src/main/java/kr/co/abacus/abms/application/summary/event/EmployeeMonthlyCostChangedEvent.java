@@ -0,0 +1,15 @@
+package kr.co.abacus.abms.application.summary.event;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 직원 급여 변경으로 fromMonth 이후 월 비용과 투입 프로젝트 손익이 달라지는 변경
+ */
+public record EmployeeMonthlyCostChangedEvent(Long employeeId, YearMonth fromMonth) {
+
+    public static EmployeeMonthlyCostChangedEvent from(Long employeeId, LocalDate startDate) {
+        return new EmployeeMonthlyCostChangedEvent(employeeId, YearMonth.from(startDate));
+    }
+
+}
@@ -0,0 +1,27 @@
+package kr.co.abacus.abms.application.summary.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import kr.co.abacus.abms.application.summary.MonthlyRevenueSummaryChangeQueue;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlyRevenueSummaryChangeEventHandler {
+
+    private final MonthlyRevenueSummaryChangeQueue changeQueue;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(MonthlyRevenueSummaryChangedEvent event) {
+        changeQueue.enqueueProject(event.projectId(), event.fromMonth(), event.toMonth());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(EmployeeMonthlyCostChangedEvent event) {
+        changeQueue.enqueueEmployee(event.employeeId(), event.fromMonth());
+    }
+
+}
@@ -0,0 +1,27 @@
+package kr.co.abacus.abms.application.summary.event;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 프로젝트 월 손익 집계에 영향을 주는 변경
+ * - toMonth가 null이면 종료일이 없는 기간으로 보고, 반영 시점의 현재 월까지 다시 계산한다.
+ */
+public record MonthlyRevenueSummaryChangedEvent(Long projectId, YearMonth fromMonth, @Nullable YearMonth toMonth) {
+
+    public static MonthlyRevenueSummaryChangedEvent ofPeriod(Long projectId, LocalDate startDate, @Nullable LocalDate endDate) {
+        return new MonthlyRevenueSummaryChangedEvent(
+                projectId,
+                YearMonth.from(startDate),
+                endDate != null ? YearMonth.from(endDate) : null
+        );
+    }
+
+    public static MonthlyRevenueSummaryChangedEvent ofDate(Long projectId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return new MonthlyRevenueSummaryChangedEvent(projectId, month, month);
+    }
+
+}
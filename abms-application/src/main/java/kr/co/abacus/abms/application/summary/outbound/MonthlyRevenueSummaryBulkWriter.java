@@ -0,0 +1,20 @@
+package kr.co.abacus.abms.application.summary.outbound;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryCreateRequest;
+
+/**
+ * 월별 손익 집계를 JDBC 배치로 일괄 반영하는 포트
+ */
+public interface MonthlyRevenueSummaryBulkWriter {
+
+    int insertAll(List<MonthlyRevenueSummaryCreateRequest> requests);
+
+    int updateAll(Map<Long, MonthlyRevenueSummaryCreateRequest> requestsBySummaryId);
+
+    int deleteAllByIdIn(Collection<Long> summaryIds);
+
+}
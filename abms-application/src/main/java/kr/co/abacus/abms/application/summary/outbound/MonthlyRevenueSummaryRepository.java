@@ -1,6 +1,7 @@
 package kr.co.abacus.abms.application.summary.outbound;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ public interface MonthlyRevenueSummaryRepository {
 
     List<MonthlyRevenueSummary> findAllByTargetMonthAndDeletedFalseOrderByProjectIdAsc(LocalDate targetMonth);
 
+    List<MonthlyRevenueSummary> findAllByProjectIdInAndTargetMonthAndDeletedFalse(Collection<Long> projectIds, LocalDate targetMonth);
+
     List<MonthlyRevenueSummary> findAllByLeadDepartmentIdAndTargetMonthBetweenAndDeletedFalseOrderByTargetMonthAscProjectIdAsc(
         Long leadDepartmentId,
         LocalDate start,
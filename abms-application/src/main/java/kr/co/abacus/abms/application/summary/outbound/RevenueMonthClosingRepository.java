@@ -1,10 +1,18 @@
 package kr.co.abacus.abms.application.summary.outbound;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import kr.co.abacus.abms.domain.summary.RevenueMonthClosing;
 import kr.co.abacus.abms.domain.summary.RevenueMonthClosingStatus;
 
 public interface RevenueMonthClosingRepository {
 
     boolean existsByTargetMonthAndStatusAndDeletedFalse(LocalDate targetMonth, RevenueMonthClosingStatus status);
+
+    List<RevenueMonthClosing> findAllByTargetMonthBetweenAndStatusAndDeletedFalse(
+            LocalDate fromMonth,
+            LocalDate toMonth,
+            RevenueMonthClosingStatus status
+    );
 }
@@ -1,17 +1,18 @@
 package kr.co.abacus.abms.application.weeklyreport;
 
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
-import jakarta.annotation.PreDestroy;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
+import kr.co.abacus.abms.application.weeklyreport.WeeklyReportGenerationScheduler.WeekShare;
+import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportInsightData;
+import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportSnapshot;
 import kr.co.abacus.abms.application.weeklyreport.outbound.WeeklyReportDraftRepository;
 import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportDraft;
 import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportStatus;
@@ -25,7 +26,9 @@ class WeeklyReportDraftAsyncGenerationService {
     private final WeeklyReportSnapshotJsonMapper snapshotJsonMapper;
     private final WeeklyReportDraftRepository weeklyReportDraftRepository;
     private final TransactionTemplate transactionTemplate;
-    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final WeeklyReportGenerationScheduler generationScheduler;
+    private final WeeklyReportTextCache textCache;
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
     private final Map<Long, Future<?>> runningTasks = new ConcurrentHashMap<>();
 
     WeeklyReportDraftAsyncGenerationService(
@@ -34,7 +37,10 @@ class WeeklyReportDraftAsyncGenerationService {
             WeeklyReportAiWriter aiWriter,
             WeeklyReportSnapshotJsonMapper snapshotJsonMapper,
             WeeklyReportDraftRepository weeklyReportDraftRepository,
-            PlatformTransactionManager transactionManager
+            PlatformTransactionManager transactionManager,
+            WeeklyReportGenerationScheduler generationScheduler,
+            WeeklyReportTextCache textCache,
+            ApplicationMetricsRecorder applicationMetricsRecorder
     ) {
         this.snapshotService = snapshotService;
         this.insightService = insightService;
@@ -42,10 +48,16 @@ class WeeklyReportDraftAsyncGenerationService {
         this.snapshotJsonMapper = snapshotJsonMapper;
         this.weeklyReportDraftRepository = weeklyReportDraftRepository;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.generationScheduler = generationScheduler;
+        this.textCache = textCache;
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
     }
 
-    public void generateDraft(Long draftId) {
-        Future<?> future = executorService.submit(() -> runGeneration(draftId));
+    /**
+     * @param bypassCache true면 같은 입력으로 완료된 초안이 있어도 모델을 다시 호출한다 (강제 재생성)
+     */
+    public void generateDraft(Long draftId, LocalDate weekStart, LocalDate weekEnd, boolean bypassCache) {
+        Future<?> future = generationScheduler.submit(weekStart, weekEnd, share -> runGeneration(draftId, bypassCache, share));
         runningTasks.put(draftId, future);
     }
 
@@ -56,28 +68,34 @@ class WeeklyReportDraftAsyncGenerationService {
         }
     }
 
-    private void runGeneration(Long draftId) {
+    private void runGeneration(Long draftId, boolean bypassCache, WeekShare share) {
         try {
             WeeklyReportDraft draftForSnapshot = updateStatus(draftId, WeeklyReportDraft::markCollecting);
             if (shouldStop(draftForSnapshot)) {
                 return;
             }
-            var snapshot = snapshotService.createSnapshot(draftForSnapshot.getWeekStart(), draftForSnapshot.getWeekEnd());
+            PreparedWeek preparedWeek = share.get(() -> prepareWeek(draftForSnapshot));
+            WeeklyReportSnapshot snapshot = preparedWeek.snapshot();
+            WeeklyReportInsightData insightData = preparedWeek.insightData();
+            String snapshotJson = preparedWeek.snapshotJson();
 
             WeeklyReportDraft draftForGeneration = updateStatus(draftId, WeeklyReportDraft::markGenerating);
             if (shouldStop(draftForGeneration)) {
                 return;
             }
-            var insightData = insightService.createInsights(snapshot);
-            String reportMarkdown = aiWriter.write(snapshot, insightData);
-            String snapshotJson = snapshotJsonMapper.toJson(snapshot);
+            String generationKey = textCache.generationKey(
+                    snapshotJson,
+                    insightData,
+                    draftForGeneration.getPromptVersion(),
+                    draftForGeneration.getModelName());
+            String reportMarkdown = writeReport(snapshot, insightData, generationKey, bypassCache);
 
             transactionTemplate.executeWithoutResult(status -> {
                 WeeklyReportDraft draft = getDraftOrThrow(draftId);
                 if (draft.getStatus() == WeeklyReportStatus.CANCELLED || Thread.currentThread().isInterrupted()) {
                     return;
                 }
-                draft.complete(reportMarkdown, snapshotJson);
+                draft.complete(reportMarkdown, snapshotJson, generationKey);
                 weeklyReportDraftRepository.save(draft);
             });
         } catch (RuntimeException exception) {
@@ -97,6 +115,32 @@ class WeeklyReportDraftAsyncGenerationService {
         }
     }
 
+    private PreparedWeek prepareWeek(WeeklyReportDraft draft) {
+        WeeklyReportSnapshot snapshot = snapshotService.createSnapshot(draft.getWeekStart(), draft.getWeekEnd());
+        return new PreparedWeek(snapshot, insightService.createInsights(snapshot), snapshotJsonMapper.toJson(snapshot));
+    }
+
+    private String writeReport(
+            WeeklyReportSnapshot snapshot,
+            WeeklyReportInsightData insightData,
+            String generationKey,
+            boolean bypassCache
+    ) {
+        if (bypassCache) {
+            applicationMetricsRecorder.incrementWeeklyReportTextCache("bypass");
+            return aiWriter.write(snapshot, insightData);
+        }
+        return textCache.find(generationKey)
+                .map(cached -> {
+                    applicationMetricsRecorder.incrementWeeklyReportTextCache("hit");
+                    return cached;
+                })
+                .orElseGet(() -> {
+                    applicationMetricsRecorder.incrementWeeklyReportTextCache("miss");
+                    return aiWriter.write(snapshot, insightData);
+                });
+    }
+
     private boolean shouldStop(WeeklyReportDraft draft) {
         return draft.getStatus() == WeeklyReportStatus.CANCELLED || Thread.currentThread().isInterrupted();
     }
@@ -123,8 +167,7 @@ class WeeklyReportDraftAsyncGenerationService {
         return failureReason.substring(0, 500);
     }
 
-    @PreDestroy
-    void shutdown() {
-        executorService.shutdownNow();
+    private record PreparedWeek(WeeklyReportSnapshot snapshot, WeeklyReportInsightData insightData, String snapshotJson) {
+
     }
 }
@@ -46,14 +46,14 @@ public class WeeklyReportDraftCommandService implements WeeklyReportDraftManager
                 command.weekEnd(),
                 LocalDate.now(SEOUL_ZONE_ID)
         );
-        return createPendingDraft(accountId, weekRange.weekStart(), weekRange.weekEnd());
+        return createPendingDraft(accountId, weekRange.weekStart(), weekRange.weekEnd(), false);
     }
 
     @Override
-    public WeeklyReportDraftDetail regenerateDraft(Long accountId, Long draftId) {
+    public WeeklyReportDraftDetail regenerateDraft(Long accountId, Long draftId, boolean force) {
         WeeklyReportDraft draft = weeklyReportDraftRepository.findByIdAndCreatedByAccountIdAndDeletedFalse(draftId, accountId)
                 .orElseThrow(() -> new IllegalArgumentException("주간 보고서 초안을 찾을 수 없습니다: " + draftId));
-        return createPendingDraft(accountId, draft.getWeekStart(), draft.getWeekEnd());
+        return createPendingDraft(accountId, draft.getWeekStart(), draft.getWeekEnd(), force);
     }
 
     @Override
@@ -88,7 +88,12 @@ public class WeeklyReportDraftCommandService implements WeeklyReportDraftManager
         weeklyReportDraftRepository.save(draft);
     }
 
-    private WeeklyReportDraftDetail createPendingDraft(Long accountId, LocalDate weekStart, LocalDate weekEnd) {
+    private WeeklyReportDraftDetail createPendingDraft(
+            Long accountId,
+            LocalDate weekStart,
+            LocalDate weekEnd,
+            boolean bypassTextCache
+    ) {
         WeeklyReportDraft draft = WeeklyReportDraft.createPending(
                 createTitle(weekStart, weekEnd),
                 weekStart,
@@ -102,7 +107,7 @@ public class WeeklyReportDraftCommandService implements WeeklyReportDraftManager
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                asyncGenerationService.generateDraft(draftId);
+                asyncGenerationService.generateDraft(draftId, weekStart, weekEnd, bypassTextCache);
             }
         });
         return toDetail(savedDraft, null);
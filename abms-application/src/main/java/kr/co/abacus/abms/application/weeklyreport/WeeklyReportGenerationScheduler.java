@@ -0,0 +1,243 @@
+package kr.co.abacus.abms.application.weeklyreport;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 주간 보고서 초안 생성 작업 스케줄러
+ * - 작업은 가상 스레드에서 실행하되, 동시에 생성 단계를 진행하는 작업 수를 maxConcurrency로 제한한다. 나머지는 허가를 기다린다.
+ * - 같은 주(weekStart, weekEnd)의 작업은 제출 시점(허가 전)에 한 묶음으로 등록한다. 스냅샷/인사이트 계산은 묶음에서 한 번만 수행하고,
+ *   아직 허가를 기다리는 작업까지 모두 결과를 가져갈 때까지 보관한다 ({@link WeekShare#get}).
+ * - 묶음의 마지막 작업이 결과를 가져가거나 끝나면 묶음을 지우므로 이후 제출은 최신 데이터로 다시 계산한다.
+ * - 대기 중인 작업 수(abms.weekly.report.generation.queue.depth)와 허가를 얻기까지의 대기 시간(abms.weekly.report.generation.wait)을 남긴다.
+ */
+@Component
+class WeeklyReportGenerationScheduler {
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Map<WeekKey, WeekGroup> inFlightWeeks = new ConcurrentHashMap<>();
+    private final Timer waitTimer;
+
+    WeeklyReportGenerationScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${app.weekly-report.generation.max-concurrency:2}") int maxConcurrency
+    ) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrency), true);
+        Gauge.builder("abms.weekly.report.generation.queue.depth", queueDepth, AtomicInteger::get)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("abms.weekly.report.generation.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 주의 묶음에 등록한 뒤 동시 실행 허가를 얻어 task를 실행한다.
+     * - task는 받은 {@link WeekShare}로 주 단위 계산 결과를 얻는다. 결과를 가져가지 않고 끝나거나 취소되면 묶음에서 빠진다.
+     */
+    Future<?> submit(LocalDate weekStart, LocalDate weekEnd, Consumer<WeekShare> task) {
+        WeekShare share = join(new WeekKey(weekStart, weekEnd));
+        return submit(() -> task.accept(share), share::leave);
+    }
+
+    /**
+     * 동시 실행 허가를 얻은 뒤 task를 실행한다. 반환한 Future를 취소하면 대기 중이든 실행 중이든 인터럽트한다.
+     * - 대기열 깊이는 허가를 얻거나, 시작 전에 취소되거나, 제출이 거절되거나, 종료로 인터럽트될 때 정확히 한 번 줄인다.
+     */
+    Future<?> submit(Runnable task) {
+        return submit(task, () -> {
+        });
+    }
+
+    private Future<?> submit(Runnable task, Runnable onDone) {
+        long submittedAt = System.nanoTime();
+        AtomicBoolean waiting = new AtomicBoolean(true);
+        Runnable leaveQueue = () -> {
+            if (waiting.compareAndSet(true, false)) {
+                queueDepth.decrementAndGet();
+            }
+        };
+        FutureTask<Void> future = new FutureTask<>(() -> runWithPermit(task, submittedAt, leaveQueue), null) {
+            @Override
+            protected void done() {
+                leaveQueue.run();
+                onDone.run();
+            }
+        };
+        queueDepth.incrementAndGet();
+        try {
+            executorService.execute(future);
+        } catch (RejectedExecutionException exception) {
+            leaveQueue.run();
+            onDone.run();
+            throw exception;
+        }
+        return future;
+    }
+
+    private void runWithPermit(Runnable task, long submittedAt, Runnable leaveQueue) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            leaveQueue.run();
+        }
+        try {
+            waitTimer.record(Duration.ofNanos(System.nanoTime() - submittedAt));
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private WeekShare join(WeekKey key) {
+        WeekGroup group = inFlightWeeks.compute(key, (ignored, existing) -> {
+            WeekGroup joined = existing != null ? existing : new WeekGroup();
+            joined.members++;
+            return joined;
+        });
+        return new WeekShare(key, group);
+    }
+
+    private void leave(WeekKey key, WeekGroup group) {
+        inFlightWeeks.computeIfPresent(key, (ignored, existing) -> {
+            if (existing != group) {
+                return existing;
+            }
+            return --existing.members > 0 ? existing : null;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * 묶음에 등록된 작업 하나가 주 단위 계산 결과를 얻는 손잡이
+     */
+    final class WeekShare {
+
+        private final WeekKey key;
+        private final WeekGroup group;
+        private final AtomicBoolean joined = new AtomicBoolean(true);
+
+        private WeekShare(WeekKey key, WeekGroup group) {
+            this.key = key;
+            this.group = group;
+        }
+
+        /**
+         * 묶음에서 계산한 결과가 있으면 그대로 쓰고, 계산 중이면 기다리며, 없으면 현재 스레드에서 계산한다.
+         * - 계산하던 작업이 취소되면 기다리던 작업 중 하나가 이어서 계산한다. 실패하면 기다리던 작업도 같은 예외로 끝나고 결과는 남기지 않는다.
+         * - 결과를 얻으면 묶음에서 빠진다.
+         */
+        <T> T get(Supplier<T> computation) {
+            try {
+                return group.share(computation);
+            } finally {
+                leave();
+            }
+        }
+
+        private void leave() {
+            if (joined.compareAndSet(true, false)) {
+                WeeklyReportGenerationScheduler.this.leave(key, group);
+            }
+        }
+
+    }
+
+    private static final class WeekGroup {
+
+        private final AtomicReference<@Nullable CompletableFuture<Object>> result = new AtomicReference<>();
+
+        // inFlightWeeks.compute 안에서만 읽고 쓴다
+        private int members;
+
+        @SuppressWarnings("unchecked")
+        private <T> T share(Supplier<T> computation) {
+            while (true) {
+                CompletableFuture<Object> current = result.get();
+                if (current == null) {
+                    CompletableFuture<Object> created = new CompletableFuture<>();
+                    if (result.compareAndSet(null, created)) {
+                        return compute(created, computation);
+                    }
+                    continue;
+                }
+                try {
+                    return (T) current.get();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("주간 보고서 생성이 취소되었습니다.");
+                } catch (CancellationException exception) {
+                    // 계산하던 작업이 취소됨: 다시 시도해 직접 계산한다.
+                    result.compareAndSet(current, null);
+                } catch (ExecutionException exception) {
+                    if (exception.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException(exception.getCause());
+                }
+            }
+        }
+
+        private <T> T compute(CompletableFuture<Object> future, Supplier<T> computation) {
+            try {
+                T value = computation.get();
+                future.complete(value);
+                return value;
+            } catch (RuntimeException exception) {
+                if (Thread.currentThread().isInterrupted()) {
+                    future.cancel(false);
+                } else {
+                    future.completeExceptionally(exception);
+                }
+                throw exception;
+            } finally {
+                if (!future.isDone()) {
+                    future.cancel(false);
+                }
+                if (future.isCompletedExceptionally()) {
+                    result.compareAndSet(future, null);
+                }
+            }
+        }
+
+    }
+
+    private record WeekKey(LocalDate weekStart, LocalDate weekEnd) {
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package kr.co.abacus.abms.application.weeklyreport;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import kr.co.abacus.abms.application.employee.dto.EmployeeSnapshotRow;
+import kr.co.abacus.abms.application.project.dto.ProjectSnapshotRow;
+
+/**
+ * 주간 보고서 스냅샷 집계용 컬럼 배열
+ * - 상태는 enum ordinal, 날짜는 epoch day, 금액은 원 단위 long으로 보관한다.
+ * - 없는 날짜(퇴사일, 종료일)는 {@link #NO_DATE}로 채운다.
+ */
+final class WeeklyReportSnapshotColumns {
+
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    private WeeklyReportSnapshotColumns() {
+    }
+
+    static Employees employees(List<EmployeeSnapshotRow> rows) {
+        int size = rows.size();
+        long[] departmentIds = new long[size];
+        byte[] statuses = new byte[size];
+        long[] joinDays = new long[size];
+        long[] resignationDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            EmployeeSnapshotRow row = rows.get(i);
+            departmentIds[i] = row.departmentId();
+            statuses[i] = (byte) row.status().ordinal();
+            joinDays[i] = row.joinDate().toEpochDay();
+            resignationDays[i] = toEpochDay(row.resignationDate());
+        }
+        return new Employees(size, departmentIds, statuses, joinDays, resignationDays);
+    }
+
+    static Projects projects(List<ProjectSnapshotRow> rows) {
+        int size = rows.size();
+        long[] projectIds = new long[size];
+        String[] names = new String[size];
+        byte[] statuses = new byte[size];
+        long[] contractAmounts = new long[size];
+        long[] startDays = new long[size];
+        long[] endDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            ProjectSnapshotRow row = rows.get(i);
+            projectIds[i] = row.projectId();
+            names[i] = row.name();
+            statuses[i] = (byte) row.status().ordinal();
+            contractAmounts[i] = row.contractAmount().longValue();
+            startDays[i] = row.startDate().toEpochDay();
+            endDays[i] = toEpochDay(row.endDate());
+        }
+        return new Projects(size, projectIds, names, statuses, contractAmounts, startDays, endDays);
+    }
+
+    private static long toEpochDay(@Nullable LocalDate date) {
+        return date != null ? date.toEpochDay() : NO_DATE;
+    }
+
+    record Employees(
+            int size,
+            long[] departmentIds,
+            byte[] statuses,
+            long[] joinDays,
+            long[] resignationDays) {
+
+    }
+
+    record Projects(
+            int size,
+            long[] projectIds,
+            String[] names,
+            byte[] statuses,
+            long[] contractAmounts,
+            long[] startDays,
+            long[] endDays) {
+
+    }
+
+}
@@ -2,205 +2,239 @@ package kr.co.abacus.abms.application.weeklyreport;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
-import kr.co.abacus.abms.application.employee.dto.EmployeeSearchCondition;
 import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.observability.ApplicationMetricsRecorder;
 import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
-import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.projectassignment.ProjectAssignmentIntervalIndex;
+import kr.co.abacus.abms.application.projectassignment.dto.ProjectAssignmentInterval;
+import kr.co.abacus.abms.application.shared.ReferenceNameResolver;
 import kr.co.abacus.abms.application.summary.inbound.MonthlyRevenueSummaryFinder;
 import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportSnapshot;
-import kr.co.abacus.abms.domain.department.Department;
-import kr.co.abacus.abms.domain.employee.Employee;
 import kr.co.abacus.abms.domain.employee.EmployeeStatus;
-import kr.co.abacus.abms.domain.project.Project;
 import kr.co.abacus.abms.domain.project.ProjectStatus;
-import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
-import kr.co.abacus.abms.domain.summary.MonthlyRevenueSummaryTotal;
 
+/**
+ * 주간 보고서 스냅샷 생성
+ * - 직원/프로젝트는 집계에 필요한 컬럼만 조회해 {@link WeeklyReportSnapshotColumns} 배열로 옮기고, 섹션별 값을 한 번의 순회로 계산한다.
+ * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 조직 규모가 커져도 조회 쿼리 수와 메모리 사용이 행 수에만 비례한다.
+ * - 생성 시간은 abms.weekly.report.snapshot.build.duration으로 남긴다.
+ */
 @Service
 @Transactional(readOnly = true)
 class WeeklyReportSnapshotService {
 
     private static final DateTimeFormatter YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String UNKNOWN_DEPARTMENT_NAME = "부서 미확인";
+    private static final byte ACTIVE = (byte) EmployeeStatus.ACTIVE.ordinal();
+    private static final byte ON_LEAVE = (byte) EmployeeStatus.ON_LEAVE.ordinal();
+    private static final byte RESIGNED = (byte) EmployeeStatus.RESIGNED.ordinal();
+    private static final byte IN_PROGRESS = (byte) ProjectStatus.IN_PROGRESS.ordinal();
+    private static final byte COMPLETED = (byte) ProjectStatus.COMPLETED.ordinal();
+    private static final byte CANCELLED = (byte) ProjectStatus.CANCELLED.ordinal();
+    private static final int PROJECT_ITEM_LIMIT = 5;
+    private static final int RISK_ITEM_LIMIT = 3;
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectAssignmentRepository projectAssignmentRepository;
+    private final ProjectAssignmentIntervalIndex projectAssignmentIntervalIndex;
     private final MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder;
+    private final ReferenceNameResolver referenceNameResolver;
+    private final ApplicationMetricsRecorder applicationMetricsRecorder;
 
     WeeklyReportSnapshotService(
             EmployeeRepository employeeRepository,
             DepartmentRepository departmentRepository,
             ProjectRepository projectRepository,
-            ProjectAssignmentRepository projectAssignmentRepository,
-            MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder
+            ProjectAssignmentIntervalIndex projectAssignmentIntervalIndex,
+            MonthlyRevenueSummaryFinder monthlyRevenueSummaryFinder,
+            ReferenceNameResolver referenceNameResolver,
+            ApplicationMetricsRecorder applicationMetricsRecorder
     ) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
         this.projectRepository = projectRepository;
-        this.projectAssignmentRepository = projectAssignmentRepository;
+        this.projectAssignmentIntervalIndex = projectAssignmentIntervalIndex;
         this.monthlyRevenueSummaryFinder = monthlyRevenueSummaryFinder;
+        this.referenceNameResolver = referenceNameResolver;
+        this.applicationMetricsRecorder = applicationMetricsRecorder;
     }
 
     WeeklyReportSnapshot createSnapshot(LocalDate weekStart, LocalDate weekEnd) {
-        List<Employee> employees = employeeRepository.search(new EmployeeSearchCondition(null, null, null, null, null, null));
-        List<Department> departments = departmentRepository.findAllByDeletedFalse();
-        List<Project> projects = projectRepository.findAllByDeletedFalse();
-        List<ProjectAssignment> assignments = projectAssignmentRepository.findActiveAssignments(weekStart, weekEnd);
+        long startedAt = System.nanoTime();
 
-        return new WeeklyReportSnapshot(
+        WeeklyReportSnapshotColumns.Employees employees = WeeklyReportSnapshotColumns.employees(employeeRepository.findSnapshotRows());
+        WeeklyReportSnapshotColumns.Projects projects = WeeklyReportSnapshotColumns.projects(projectRepository.findSnapshotRows());
+        long departmentCount = departmentRepository.countByDeletedFalse();
+        List<ProjectAssignmentInterval> assignments = projectAssignmentIntervalIndex.findOverlapping(weekStart, weekEnd);
+
+        EmployeeTotals employeeTotals = aggregateEmployees(employees, weekStart.toEpochDay(), weekEnd.toEpochDay());
+        ProjectTotals projectTotals = aggregateProjects(projects, weekStart.toEpochDay(), weekEnd);
+        Map<Long, String> departmentNames = referenceNameResolver.departmentNames(employeeTotals.onLeaveCountByDepartment().keySet());
+
+        WeeklyReportSnapshot snapshot = new WeeklyReportSnapshot(
                 weekStart,
                 weekEnd,
-                createEmployeeSection(weekStart, weekEnd, employees, departments),
-                createProjectSection(weekStart, weekEnd, projects, assignments),
+                createEmployeeSection(employeeTotals, departmentCount, departmentNames),
+                createProjectSection(projectTotals, countAssignmentChangeProjects(assignments, weekStart, weekEnd)),
                 createRevenueSection(weekEnd),
-                createRiskSection(employees, departments, weekEnd, projects)
+                createRiskSection(employeeTotals, projectTotals, departmentNames)
         );
-    }
 
-    private WeeklyReportSnapshot.EmployeeSection createEmployeeSection(
-            LocalDate weekStart,
-            LocalDate weekEnd,
-            List<Employee> employees,
-            List<Department> departments
-    ) {
-        Map<Long, Department> departmentById = departments.stream()
-                .collect(Collectors.toMap(Department::getIdOrThrow, Function.identity()));
+        applicationMetricsRecorder.recordWeeklyReportSnapshotBuild(System.nanoTime() - startedAt, employees.size(), projects.size());
+        return snapshot;
+    }
 
-        List<WeeklyReportSnapshot.DepartmentOnLeave> onLeaveSignals = employees.stream()
-                .filter(employee -> employee.getStatus() == EmployeeStatus.ON_LEAVE)
-                .collect(Collectors.groupingBy(Employee::getDepartmentId, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue() > 0)
-                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> {
-                    Department department = departmentById.get(entry.getKey());
-                    String departmentName = department != null ? department.getName() : "부서 미확인";
-                    return new WeeklyReportSnapshot.DepartmentOnLeave(entry.getKey(), departmentName, entry.getValue());
-                })
-                .toList();
+    private EmployeeTotals aggregateEmployees(WeeklyReportSnapshotColumns.Employees employees, long weekStartDay, long weekEndDay) {
+        long active = 0;
+        long onLeave = 0;
+        long resigned = 0;
+        long joinedThisWeek = 0;
+        long resignedThisWeek = 0;
+        Map<Long, Long> onLeaveCountByDepartment = new HashMap<>();
 
-        long resignedThisWeek = employees.stream()
-                .filter(employee -> {
-                    LocalDate resignationDate = employee.getResignationDate();
-                    return resignationDate != null
-                            && !resignationDate.isBefore(weekStart)
-                            && !resignationDate.isAfter(weekEnd);
-                })
-                .count();
+        for (int i = 0; i < employees.size(); i++) {
+            byte status = employees.statuses()[i];
+            if (status == ACTIVE) {
+                active++;
+            } else if (status == ON_LEAVE) {
+                onLeave++;
+                onLeaveCountByDepartment.merge(employees.departmentIds()[i], 1L, Long::sum);
+            } else if (status == RESIGNED) {
+                resigned++;
+            }
+            if (isWithin(employees.joinDays()[i], weekStartDay, weekEndDay)) {
+                joinedThisWeek++;
+            }
+            if (isWithin(employees.resignationDays()[i], weekStartDay, weekEndDay)) {
+                resignedThisWeek++;
+            }
+        }
 
-        return new WeeklyReportSnapshot.EmployeeSection(
-                employees.size(),
-                employees.stream().filter(employee -> employee.getStatus() == EmployeeStatus.ACTIVE).count(),
-                employees.stream().filter(employee -> employee.getStatus() == EmployeeStatus.ON_LEAVE).count(),
-                employees.stream().filter(employee -> employee.getStatus() == EmployeeStatus.RESIGNED).count(),
-                departments.size(),
-                employees.stream()
-                        .filter(employee -> !employee.getJoinDate().isBefore(weekStart) && !employee.getJoinDate().isAfter(weekEnd))
-                        .count(),
-                resignedThisWeek,
-                true,
-                onLeaveSignals
-        );
+        return new EmployeeTotals(employees.size(), active, onLeave, resigned, joinedThisWeek, resignedThisWeek,
+                onLeaveCountByDepartment);
     }
 
-    private WeeklyReportSnapshot.ProjectSection createProjectSection(
-            LocalDate weekStart,
-            LocalDate weekEnd,
-            List<Project> projects,
-            List<ProjectAssignment> assignments
-    ) {
-        long startedContractAmount = projects.stream()
-                .filter(project -> !project.getPeriod().startDate().isBefore(weekStart) && !project.getPeriod().startDate().isAfter(weekEnd))
-                .mapToLong(project -> project.getContractAmount().amount().longValue())
-                .sum();
-        long endedContractAmount = projects.stream()
-                .filter(project -> {
-                    LocalDate endDate = project.getPeriod().endDate();
-                    return endDate != null
-                            && !endDate.isBefore(weekStart)
-                            && !endDate.isAfter(weekEnd);
-                })
-                .mapToLong(project -> project.getContractAmount().amount().longValue())
-                .sum();
+    private ProjectTotals aggregateProjects(WeeklyReportSnapshotColumns.Projects projects, long weekStartDay, LocalDate weekEnd) {
+        long weekEndDay = weekEnd.toEpochDay();
+        long endingSoonBoundaryDay = weekEnd.plusDays(7).toEpochDay();
+        long inProgress = 0;
+        long completed = 0;
+        long cancelled = 0;
+        long startedThisWeek = 0;
+        long endedThisWeek = 0;
+        long startedContractAmount = 0;
+        long endedContractAmount = 0;
+        List<Integer> endingSoon = new ArrayList<>();
+        List<Integer> withoutAssignments = new ArrayList<>();
 
-        List<WeeklyReportSnapshot.ProjectDeadlineItem> endingSoonProjects = projects.stream()
-                .filter(project -> project.getStatus() == ProjectStatus.IN_PROGRESS)
-                .filter(project -> {
-                    LocalDate endDate = project.getPeriod().endDate();
-                    return endDate != null
-                            && endDate.isAfter(weekEnd)
-                            && !endDate.isAfter(weekEnd.plusDays(7));
-                })
-                .sorted(Comparator.comparing(project -> project.getPeriod().endDate()))
-                .limit(5)
-                .map(project -> {
-                    LocalDate endDate = project.getPeriod().endDate();
-                    if (endDate == null) {
-                        throw new IllegalStateException("종료일이 없는 프로젝트는 종료 임박 목록에 포함될 수 없습니다.");
-                    }
-                    return new WeeklyReportSnapshot.ProjectDeadlineItem(
-                            project.getIdOrThrow(),
-                            project.getName(),
-                            endDate);
-                })
-                .toList();
+        for (int i = 0; i < projects.size(); i++) {
+            byte status = projects.statuses()[i];
+            long endDay = projects.endDays()[i];
+            if (status == IN_PROGRESS) {
+                inProgress++;
+                if (endDay != WeeklyReportSnapshotColumns.NO_DATE && endDay > weekEndDay && endDay <= endingSoonBoundaryDay) {
+                    endingSoon.add(i);
+                }
+                if (withoutAssignments.size() < PROJECT_ITEM_LIMIT
+                        && !projectAssignmentIntervalIndex.hasActiveAssignment(projects.projectIds()[i], weekEnd)) {
+                    withoutAssignments.add(i);
+                }
+            } else if (status == COMPLETED) {
+                completed++;
+            } else if (status == CANCELLED) {
+                cancelled++;
+            }
+            if (isWithin(projects.startDays()[i], weekStartDay, weekEndDay)) {
+                startedThisWeek++;
+                startedContractAmount += projects.contractAmounts()[i];
+            }
+            if (isWithin(endDay, weekStartDay, weekEndDay)) {
+                endedThisWeek++;
+                endedContractAmount += projects.contractAmounts()[i];
+            }
+        }
 
-        List<WeeklyReportSnapshot.ProjectCoverageItem> projectsWithoutAssignments = projects.stream()
-                .filter(project -> project.getStatus() == ProjectStatus.IN_PROGRESS)
-                .filter(project -> projectAssignmentRepository.findOverlappingAssignments(
-                        project.getIdOrThrow(),
-                        weekEnd,
-                        weekEnd
-                ).isEmpty())
-                .limit(5)
-                .map(project -> new WeeklyReportSnapshot.ProjectCoverageItem(project.getIdOrThrow(), project.getName()))
+        endingSoon.sort(Comparator.comparingLong((Integer i) -> projects.endDays()[i]));
+        List<WeeklyReportSnapshot.ProjectDeadlineItem> endingSoonProjects = endingSoon.stream()
+                .limit(PROJECT_ITEM_LIMIT)
+                .map(i -> new WeeklyReportSnapshot.ProjectDeadlineItem(
+                        projects.projectIds()[i],
+                        projects.names()[i],
+                        LocalDate.ofEpochDay(projects.endDays()[i])))
+                .toList();
+        List<WeeklyReportSnapshot.ProjectCoverageItem> projectsWithoutAssignments = withoutAssignments.stream()
+                .map(i -> new WeeklyReportSnapshot.ProjectCoverageItem(projects.projectIds()[i], projects.names()[i]))
                 .toList();
 
-        long assignmentChangeProjectCount = assignments.stream()
+        return new ProjectTotals(inProgress, completed, cancelled, startedThisWeek, endedThisWeek,
+                startedContractAmount, endedContractAmount, endingSoonProjects, projectsWithoutAssignments);
+    }
+
+    private long countAssignmentChangeProjects(List<ProjectAssignmentInterval> assignments, LocalDate weekStart, LocalDate weekEnd) {
+        return assignments.stream()
                 .filter(assignment -> {
-                    LocalDate startDate = assignment.getPeriod().startDate();
-                    LocalDate endDate = assignment.getPeriod().endDate();
+                    LocalDate startDate = assignment.startDate();
+                    LocalDate endDate = assignment.endDate();
                     boolean startedThisWeek = !startDate.isBefore(weekStart) && !startDate.isAfter(weekEnd);
                     boolean endedThisWeek = endDate != null && !endDate.isBefore(weekStart) && !endDate.isAfter(weekEnd);
                     return startedThisWeek || endedThisWeek;
                 })
-                .map(ProjectAssignment::getProjectId)
+                .map(ProjectAssignmentInterval::projectId)
                 .distinct()
                 .count();
+    }
 
+    private WeeklyReportSnapshot.EmployeeSection createEmployeeSection(
+            EmployeeTotals totals,
+            long departmentCount,
+            Map<Long, String> departmentNames
+    ) {
+        List<WeeklyReportSnapshot.DepartmentOnLeave> onLeaveSignals = totals.onLeaveCountByDepartment().entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(5)
+                .map(entry -> new WeeklyReportSnapshot.DepartmentOnLeave(
+                        entry.getKey(),
+                        departmentNames.getOrDefault(entry.getKey(), UNKNOWN_DEPARTMENT_NAME),
+                        entry.getValue()))
+                .toList();
+
+        return new WeeklyReportSnapshot.EmployeeSection(
+                totals.total(),
+                totals.active(),
+                totals.onLeave(),
+                totals.resigned(),
+                departmentCount,
+                totals.joinedThisWeek(),
+                totals.resignedThisWeek(),
+                true,
+                onLeaveSignals
+        );
+    }
+
+    private WeeklyReportSnapshot.ProjectSection createProjectSection(ProjectTotals totals, long assignmentChangeProjectCount) {
         return new WeeklyReportSnapshot.ProjectSection(
-                projects.stream().filter(project -> project.getStatus() == ProjectStatus.IN_PROGRESS).count(),
-                projects.stream().filter(project -> project.getStatus() == ProjectStatus.COMPLETED).count(),
-                projects.stream().filter(project -> project.getStatus() == ProjectStatus.CANCELLED).count(),
-                projects.stream()
-                        .filter(project -> !project.getPeriod().startDate().isBefore(weekStart) && !project.getPeriod().startDate().isAfter(weekEnd))
-                        .count(),
-                projects.stream()
-                        .filter(project -> {
-                            LocalDate endDate = project.getPeriod().endDate();
-                            return endDate != null
-                                    && !endDate.isBefore(weekStart)
-                                    && !endDate.isAfter(weekEnd);
-                        })
-                        .count(),
-                startedContractAmount,
-                endedContractAmount,
+                totals.inProgress(),
+                totals.completed(),
+                totals.cancelled(),
+                totals.startedThisWeek(),
+                totals.endedThisWeek(),
+                totals.startedContractAmount(),
+                totals.endedContractAmount(),
                 assignmentChangeProjectCount,
-                endingSoonProjects,
-                projectsWithoutAssignments
+                totals.endingSoonProjects(),
+                totals.projectsWithoutAssignments()
         );
     }
 
@@ -218,49 +252,56 @@ class WeeklyReportSnapshotService {
     }
 
     private WeeklyReportSnapshot.RiskSection createRiskSection(
-            List<Employee> employees,
-            List<Department> departments,
-            LocalDate weekEnd,
-            List<Project> projects
+            EmployeeTotals employeeTotals,
+            ProjectTotals projectTotals,
+            Map<Long, String> departmentNames
     ) {
-        Map<Long, String> departmentNames = departments.stream()
-                .collect(Collectors.toMap(Department::getIdOrThrow, Department::getName));
-
-        List<String> onLeaveDepartmentNames = employees.stream()
-                .filter(employee -> employee.getStatus() == EmployeeStatus.ON_LEAVE)
-                .collect(Collectors.groupingBy(Employee::getDepartmentId, Collectors.counting()))
-                .entrySet()
+        List<String> onLeaveDepartmentNames = employeeTotals.onLeaveCountByDepartment().entrySet()
                 .stream()
                 .filter(entry -> entry.getValue() >= 2)
                 .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-                .limit(3)
-                .map(entry -> departmentNames.getOrDefault(entry.getKey(), "부서 미확인"))
-                .toList();
-
-        List<String> endingSoonProjectNames = projects.stream()
-                .filter(project -> project.getStatus() == ProjectStatus.IN_PROGRESS)
-                .filter(project -> {
-                    LocalDate endDate = project.getPeriod().endDate();
-                    return endDate != null
-                            && endDate.isAfter(weekEnd)
-                            && !endDate.isAfter(weekEnd.plusDays(7));
-                })
-                .sorted(Comparator.comparing(project -> project.getPeriod().endDate()))
-                .limit(3)
-                .map(Project::getName)
-                .toList();
-
-        List<String> noAssignmentProjectNames = projects.stream()
-                .filter(project -> project.getStatus() == ProjectStatus.IN_PROGRESS)
-                .filter(project -> projectAssignmentRepository.findOverlappingAssignments(project.getIdOrThrow(), weekEnd, weekEnd).isEmpty())
-                .limit(3)
-                .map(Project::getName)
+                .limit(RISK_ITEM_LIMIT)
+                .map(entry -> departmentNames.getOrDefault(entry.getKey(), UNKNOWN_DEPARTMENT_NAME))
                 .toList();
 
         return new WeeklyReportSnapshot.RiskSection(
-                endingSoonProjectNames,
-                noAssignmentProjectNames,
+                projectTotals.endingSoonProjects().stream()
+                        .limit(RISK_ITEM_LIMIT)
+                        .map(WeeklyReportSnapshot.ProjectDeadlineItem::projectName)
+                        .toList(),
+                projectTotals.projectsWithoutAssignments().stream()
+                        .limit(RISK_ITEM_LIMIT)
+                        .map(WeeklyReportSnapshot.ProjectCoverageItem::projectName)
+                        .toList(),
                 onLeaveDepartmentNames
         );
     }
+
+    private static boolean isWithin(long epochDay, long fromDay, long toDay) {
+        return epochDay != WeeklyReportSnapshotColumns.NO_DATE && epochDay >= fromDay && epochDay <= toDay;
+    }
+
+    private record EmployeeTotals(
+            long total,
+            long active,
+            long onLeave,
+            long resigned,
+            long joinedThisWeek,
+            long resignedThisWeek,
+            Map<Long, Long> onLeaveCountByDepartment) {
+
+    }
+
+    private record ProjectTotals(
+            long inProgress,
+            long completed,
+            long cancelled,
+            long startedThisWeek,
+            long endedThisWeek,
+            long startedContractAmount,
+            long endedContractAmount,
+            List<WeeklyReportSnapshot.ProjectDeadlineItem> endingSoonProjects,
+            List<WeeklyReportSnapshot.ProjectCoverageItem> projectsWithoutAssignments) {
+
+    }
 }
@@ -0,0 +1,59 @@
+package kr.co.abacus.abms.application.weeklyreport;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import kr.co.abacus.abms.application.weeklyreport.dto.query.WeeklyReportInsightData;
+import kr.co.abacus.abms.application.weeklyreport.outbound.WeeklyReportDraftRepository;
+import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportDraft;
+import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportStatus;
+
+/**
+ * AI 초안 본문 재사용 캐시
+ * - 직렬화한 스냅샷, 인사이트, 프롬프트 버전, 모델 이름의 SHA-256을 키로 쓰고, 완료된 초안(tb_weekly_report_draft.generation_key)에 함께 저장한다.
+ * - 입력이 같으면 같은 키가 나오므로 이미 완료된 초안의 본문을 모델 호출 없이 다시 쓴다.
+ * - 사용자가 본문을 수정한 초안은 키가 비워져 재사용 대상에서 빠진다.
+ */
+@Component
+class WeeklyReportTextCache {
+
+    private final WeeklyReportDraftRepository weeklyReportDraftRepository;
+    private final WeeklyReportSnapshotJsonMapper snapshotJsonMapper;
+
+    WeeklyReportTextCache(
+            WeeklyReportDraftRepository weeklyReportDraftRepository,
+            WeeklyReportSnapshotJsonMapper snapshotJsonMapper
+    ) {
+        this.weeklyReportDraftRepository = weeklyReportDraftRepository;
+        this.snapshotJsonMapper = snapshotJsonMapper;
+    }
+
+    String generationKey(String snapshotJson, WeeklyReportInsightData insightData, String promptVersion, String modelName) {
+        MessageDigest digest = sha256();
+        for (String part : new String[]{snapshotJson, snapshotJsonMapper.toJson(insightData), promptVersion, modelName}) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    Optional<String> find(String generationKey) {
+        return weeklyReportDraftRepository
+                .findFirstByGenerationKeyAndStatusAndDeletedFalseOrderByIdDesc(generationKey, WeeklyReportStatus.DRAFT)
+                .map(WeeklyReportDraft::getReportMarkdown);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", exception);
+        }
+    }
+
+}
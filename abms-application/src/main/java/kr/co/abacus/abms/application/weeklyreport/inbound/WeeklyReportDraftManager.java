@@ -8,7 +8,10 @@ public interface WeeklyReportDraftManager {
 
     WeeklyReportDraftDetail createDraft(Long accountId, WeeklyReportGenerateCommand command);
 
-    WeeklyReportDraftDetail regenerateDraft(Long accountId, Long draftId);
+    /**
+     * @param force true면 같은 입력으로 완료된 초안이 있어도 AI 본문을 새로 작성한다
+     */
+    WeeklyReportDraftDetail regenerateDraft(Long accountId, Long draftId, boolean force);
 
     WeeklyReportDraftDetail cancelDraft(Long accountId, Long draftId);
 
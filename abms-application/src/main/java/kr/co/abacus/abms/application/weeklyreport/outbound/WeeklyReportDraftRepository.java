@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportDraft;
+import kr.co.abacus.abms.domain.weeklyreport.WeeklyReportStatus;
 
 public interface WeeklyReportDraftRepository {
 
@@ -14,4 +15,6 @@ public interface WeeklyReportDraftRepository {
     Optional<WeeklyReportDraft> findByIdAndCreatedByAccountIdAndDeletedFalse(Long id, Long accountId);
 
     List<WeeklyReportDraft> findAllByCreatedByAccountIdAndDeletedFalseOrderByCreatedAtDesc(Long accountId);
+
+    Optional<WeeklyReportDraft> findFirstByGenerationKeyAndStatusAndDeletedFalseOrderByIdDesc(String generationKey, WeeklyReportStatus status);
 }
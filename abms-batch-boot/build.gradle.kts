@@ -23,4 +23,5 @@ dependencies {
     testImplementation(project(":abms-application"))
     testImplementation(project(":abms-domain"))
     testImplementation(project(":abms-adapter-persistence"))
+    testImplementation("com.github.gavlyukovskiy:p6spy-spring-boot-starter:2.0.0")
 }
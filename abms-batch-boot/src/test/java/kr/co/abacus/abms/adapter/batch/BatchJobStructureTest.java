@@ -3,6 +3,7 @@ package kr.co.abacus.abms.adapter.batch;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.EntityManager;
@@ -70,6 +71,9 @@ import kr.co.abacus.abms.domain.summary.RevenueMonthClosing;
                 "spring.sql.init.mode=never",
                 "spring.flyway.enabled=false",
                 "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.properties.hibernate.hbm2ddl.import_files=db/test-schema.sql",
+                "spring.jpa.properties.hibernate.hbm2ddl.import_files_sql_extractor="
+                        + "org.hibernate.tool.schema.internal.script.MultiLineSqlScriptExtractor",
                 "spring.ai.openai.api-key=test"
         }
 )
@@ -165,6 +169,33 @@ class BatchJobStructureTest {
                 .timer()).isNotNull();
     }
 
+    @Test
+    @DisplayName("employeeCostJob는 id 구간 파티션의 모든 활성 직원 비용을 계산하고 재실행 시 기존 비용을 갱신한다")
+    void employeeCostJob_partitionsActiveEmployeesAndUpdatesExistingCost() throws Exception {
+        LocalDate targetDate = LocalDate.of(2026, 5, 15);
+        Department department = createDepartment("원가팀B");
+        List<Long> employeeIds = new ArrayList<>();
+        for (int index = 0; index < 7; index++) {
+            EmployeeType type = index % 2 == 0 ? EmployeeType.FULL_TIME : EmployeeType.FREELANCER;
+            employeeIds.add(createEmployee(department, "파티션" + index, "batch-partition-" + index + "@abms.co.kr", type).getIdOrThrow());
+        }
+        ensurePoliciesForAllEmployeeTypes(2026, 0.1, 0.2);
+        ensurePayrollForActiveEmployees(targetDate, 120_000_000L);
+        flushAndClear();
+
+        JobExecution firstExecution = jobLauncher.run(employeeCostJob, jobParameters(targetDate, 13L));
+        JobExecution secondExecution = jobLauncher.run(employeeCostJob, jobParameters(targetDate, 14L));
+
+        assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(firstExecution.getStepExecutions())
+                .filteredOn(stepExecution -> stepExecution.getStepName().startsWith("employeeCostWorkerStep"))
+                .hasSizeGreaterThan(1);
+        assertThat(employeeMonthlyCostRepository.findAllByEmployeeIdInAndCostMonth(employeeIds, "202605"))
+                .hasSize(employeeIds.size())
+                .allSatisfy(monthlyCost -> assertThat(monthlyCost.getMonthlySalary().amount().longValue()).isEqualTo(10_000_000L));
+    }
+
     @Test
     @DisplayName("revenueMonthlySummaryJob는 발행 매출과 월 비용으로 손익을 집계한다")
     void revenueMonthlySummaryJob_aggregatesIssuedRevenueAndCost() throws Exception {
@@ -0,0 +1,277 @@
+package kr.co.abacus.abms.adapter.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+import kr.co.abacus.abms.AbmsBatchApplication;
+import kr.co.abacus.abms.application.auth.outbound.PasswordResetLinkSender;
+import kr.co.abacus.abms.application.auth.outbound.RegistrationLinkSender;
+import kr.co.abacus.abms.application.department.outbound.DepartmentRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeMonthlyCostRepository;
+import kr.co.abacus.abms.application.employee.outbound.EmployeeRepository;
+import kr.co.abacus.abms.application.party.outbound.PartyRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRepository;
+import kr.co.abacus.abms.application.project.outbound.ProjectRevenuePlanRepository;
+import kr.co.abacus.abms.application.projectassignment.outbound.ProjectAssignmentRepository;
+import kr.co.abacus.abms.application.summary.MonthlyRevenueSummaryReconciler;
+import kr.co.abacus.abms.application.summary.dto.MonthlyRevenueSummaryReconcileResult;
+import kr.co.abacus.abms.application.summary.outbound.MonthlyRevenueSummaryRepository;
+import kr.co.abacus.abms.domain.department.Department;
+import kr.co.abacus.abms.domain.department.DepartmentType;
+import kr.co.abacus.abms.domain.employee.Employee;
+import kr.co.abacus.abms.domain.employee.EmployeeAvatar;
+import kr.co.abacus.abms.domain.employee.EmployeeGrade;
+import kr.co.abacus.abms.domain.employee.EmployeeMonthlyCost;
+import kr.co.abacus.abms.domain.employee.EmployeePosition;
+import kr.co.abacus.abms.domain.employee.EmployeeType;
+import kr.co.abacus.abms.domain.party.Party;
+import kr.co.abacus.abms.domain.party.PartyCreateRequest;
+import kr.co.abacus.abms.domain.project.Project;
+import kr.co.abacus.abms.domain.project.ProjectRevenuePlan;
+import kr.co.abacus.abms.domain.project.ProjectRevenuePlanCreateRequest;
+import kr.co.abacus.abms.domain.project.ProjectStatus;
+import kr.co.abacus.abms.domain.project.RevenueType;
+import kr.co.abacus.abms.domain.projectassignment.AssignmentRole;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignment;
+import kr.co.abacus.abms.domain.projectassignment.ProjectAssignmentCreateRequest;
+import kr.co.abacus.abms.domain.shared.Money;
+
+/**
+ * 월별 손익 집계 재계산의 쿼리 수와 소요 시간을 기존 프로젝트 단위 루프와 비교한다.
+ * 기존 루프는 프로젝트마다 기존 집계/발행 매출/투입/주관 부서를 조회하고 투입마다 월 비용을 조회하던 패턴을 그대로 재현한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(
+        classes = AbmsBatchApplication.class,
+        properties = {
+                "spring.batch.job.enabled=false",
+                "spring.sql.init.mode=never",
+                "spring.flyway.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.properties.hibernate.hbm2ddl.import_files=db/test-schema.sql",
+                "spring.jpa.properties.hibernate.hbm2ddl.import_files_sql_extractor="
+                        + "org.hibernate.tool.schema.internal.script.MultiLineSqlScriptExtractor",
+                "spring.ai.openai.api-key=test"
+        }
+)
+@Import(RevenueMonthlySummaryReconcileBenchmarkTest.StatementCounterConfig.class)
+@DisplayName("월별 손익 집계 일괄 재계산 벤치마크")
+class RevenueMonthlySummaryReconcileBenchmarkTest {
+
+    private static final int PROJECT_COUNT = 100;
+    private static final int ASSIGNMENTS_PER_PROJECT = 3;
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2026, 10);
+
+    @MockitoBean
+    private RegistrationLinkSender registrationLinkSender;
+
+    @MockitoBean
+    private PasswordResetLinkSender passwordResetLinkSender;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MonthlyRevenueSummaryReconciler reconciler;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectRevenuePlanRepository projectRevenuePlanRepository;
+
+    @Autowired
+    private ProjectAssignmentRepository projectAssignmentRepository;
+
+    @Autowired
+    private EmployeeMonthlyCostRepository employeeMonthlyCostRepository;
+
+    @Autowired
+    private MonthlyRevenueSummaryRepository monthlyRevenueSummaryRepository;
+
+    @Test
+    @DisplayName("일괄 재계산은 프로젝트 수와 무관하게 일정한 쿼리 수로 기존 루프보다 적게 조회한다")
+    void reconcile_issuesConstantStatementsComparedToPerProjectLoop() {
+        seed();
+
+        Measurement legacy = measure(() -> transactionTemplate.executeWithoutResult(status -> replayPerProjectLoop()));
+        Measurement bulk = measure(() -> {
+            MonthlyRevenueSummaryReconcileResult result = reconciler.reconcile(TARGET_MONTH);
+            assertThat(result.insertedCount()).isEqualTo(PROJECT_COUNT);
+        });
+        Measurement bulkRerun = measure(() -> {
+            MonthlyRevenueSummaryReconcileResult result = reconciler.reconcile(TARGET_MONTH);
+            assertThat(result.updatedCount()).isEqualTo(PROJECT_COUNT);
+        });
+
+        System.out.printf(
+                "[benchmark] projects=%d, assignments=%d | per-project loop: %d statements, %d ms | bulk: %d statements, %d ms | bulk rerun: %d statements, %d ms%n",
+                PROJECT_COUNT,
+                PROJECT_COUNT * ASSIGNMENTS_PER_PROJECT,
+                legacy.statementCount(), legacy.elapsedMillis(),
+                bulk.statementCount(), bulk.elapsedMillis(),
+                bulkRerun.statementCount(), bulkRerun.elapsedMillis()
+        );
+
+        assertThat(legacy.statementCount()).isGreaterThanOrEqualTo(PROJECT_COUNT * (4 + ASSIGNMENTS_PER_PROJECT));
+        assertThat(bulk.statementCount()).isLessThanOrEqualTo(12);
+        assertThat(bulkRerun.statementCount()).isLessThanOrEqualTo(12);
+        assertThat(monthlyRevenueSummaryRepository.findAllByTargetMonthAndDeletedFalseOrderByProjectIdAsc(TARGET_MONTH.atDay(1)))
+                .hasSize(PROJECT_COUNT)
+                .allSatisfy(summary -> assertThat(summary.getCostAmount().amount().longValue())
+                        .isEqualTo(ASSIGNMENTS_PER_PROJECT * 10_000_000L));
+    }
+
+    private void replayPerProjectLoop() {
+        LocalDate monthStart = TARGET_MONTH.atDay(1);
+        LocalDate monthEnd = TARGET_MONTH.atEndOfMonth();
+        String costMonth = "202610";
+        for (Project project : projectRepository.findActiveProjects(monthStart, monthEnd)) {
+            Long projectId = project.getIdOrThrow();
+            monthlyRevenueSummaryRepository.findByProjectIdAndTargetMonthAndDeletedFalse(projectId, monthStart);
+            projectRevenuePlanRepository.findByProjectIdAndRevenueDateBetweenAndIsIssuedTrueAndDeletedFalse(projectId, monthStart, monthEnd);
+            List<ProjectAssignment> assignments = projectAssignmentRepository.findOverlappingAssignments(projectId, monthStart, monthEnd);
+            departmentRepository.findByIdAndDeletedFalse(project.getLeadDepartmentId());
+            for (ProjectAssignment assignment : assignments) {
+                employeeMonthlyCostRepository.findByEmployeeIdAndCostMonth(assignment.getEmployeeId(), costMonth);
+            }
+        }
+    }
+
+    private Measurement measure(Runnable runnable) {
+        statementCounter.reset();
+        long startedAt = System.nanoTime();
+        runnable.run();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        return new Measurement(statementCounter.count(), elapsedMillis);
+    }
+
+    private void seed() {
+        Department department = departmentRepository.save(Department.create(
+                "DEPT-BENCH-" + System.nanoTime(),
+                "벤치마크팀",
+                DepartmentType.TEAM,
+                null,
+                null
+        ));
+        Party party = partyRepository.save(Party.create(new PartyCreateRequest("벤치마크협력사", null, null, null, null)));
+
+        for (int projectIndex = 0; projectIndex < PROJECT_COUNT; projectIndex++) {
+            Project project = projectRepository.save(Project.create(
+                    party.getIdOrThrow(),
+                    department.getIdOrThrow(),
+                    "BENCH-" + projectIndex,
+                    "벤치마크 프로젝트 " + projectIndex,
+                    null,
+                    ProjectStatus.IN_PROGRESS,
+                    100_000_000L,
+                    TARGET_MONTH.atDay(1),
+                    TARGET_MONTH.atEndOfMonth()
+            ));
+            ProjectRevenuePlan issuedPlan = ProjectRevenuePlan.create(new ProjectRevenuePlanCreateRequest(
+                    project.getIdOrThrow(),
+                    1,
+                    TARGET_MONTH.atDay(20),
+                    RevenueType.DOWN_PAYMENT,
+                    50_000_000L,
+                    "벤치마크 매출"
+            ));
+            issuedPlan.issue();
+            projectRevenuePlanRepository.save(issuedPlan);
+
+            for (int assignmentIndex = 0; assignmentIndex < ASSIGNMENTS_PER_PROJECT; assignmentIndex++) {
+                Employee employee = employeeRepository.save(Employee.create(
+                        department.getIdOrThrow(),
+                        "벤치" + projectIndex + "-" + assignmentIndex,
+                        "bench-" + projectIndex + "-" + assignmentIndex + "@abms.co.kr",
+                        LocalDate.of(2024, 1, 1),
+                        LocalDate.of(1990, 5, 20),
+                        EmployeePosition.ASSOCIATE,
+                        EmployeeType.FULL_TIME,
+                        EmployeeGrade.JUNIOR,
+                        EmployeeAvatar.SKY_GLOW,
+                        null
+                ));
+                projectAssignmentRepository.save(ProjectAssignment.assign(project, new ProjectAssignmentCreateRequest(
+                        project.getIdOrThrow(),
+                        employee.getIdOrThrow(),
+                        AssignmentRole.DEV,
+                        TARGET_MONTH.atDay(1),
+                        TARGET_MONTH.atEndOfMonth()
+                )));
+                employeeMonthlyCostRepository.saveAll(List.of(EmployeeMonthlyCost.create(
+                        employee.getIdOrThrow(),
+                        "202610",
+                        Money.wons(10_000_000L),
+                        Money.zero(),
+                        Money.zero(),
+                        Money.wons(10_000_000L)
+                )));
+            }
+        }
+    }
+
+    private record Measurement(int statementCount, long elapsedMillis) {
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+    }
+
+    static class StatementCounter extends JdbcEventListener {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+
+        int count() {
+            return count.get();
+        }
+
+    }
+
+}
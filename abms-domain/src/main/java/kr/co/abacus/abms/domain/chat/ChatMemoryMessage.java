@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,12 +20,21 @@ import kr.co.abacus.abms.domain.AbstractEntity;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tb_chat_memory_message")
+@Table(
+        name = "tb_chat_memory_message",
+        uniqueConstraints = @UniqueConstraint(
+                name = "UK_CHAT_MEMORY_MESSAGE_CONVERSATION_SEQUENCE",
+                columnNames = {"conversation_id", "sequence_no"}
+        )
+)
 public class ChatMemoryMessage extends AbstractEntity {
 
     @Column(nullable = false, length = 100)
     private String conversationId;
 
+    @Column(nullable = false)
+    private Long sequenceNo;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private MessageType messageType;
@@ -35,8 +45,9 @@ public class ChatMemoryMessage extends AbstractEntity {
     @Column(nullable = false)
     private LocalDateTime timestamp;
 
-    public ChatMemoryMessage(String conversationId, MessageType messageType, String content) {
+    public ChatMemoryMessage(String conversationId, long sequenceNo, MessageType messageType, String content) {
         this.conversationId = conversationId;
+        this.sequenceNo = sequenceNo;
         this.messageType = messageType;
         this.content = content;
         this.timestamp = LocalDateTime.now();
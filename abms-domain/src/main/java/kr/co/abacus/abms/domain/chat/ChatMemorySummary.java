@@ -0,0 +1,57 @@
+package kr.co.abacus.abms.domain.chat;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import kr.co.abacus.abms.domain.AbstractEntity;
+
+/**
+ * 채팅 메모리에서 압축해 낸 이전 대화의 누적 요약
+ * - 대화(conversation_id)마다 한 행을 두고, 압축할 때마다 이전 요약에 새로 밀려난 턴을 더해 갱신한다.
+ * - summarizedUntilSequenceNo까지의 메모리 메시지는 요약에 반영되어 프롬프트 윈도우에서 빠진다. 행은 대화 이력으로 남는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "tb_chat_memory_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "UK_CHAT_MEMORY_SUMMARY_CONVERSATION",
+                columnNames = {"conversation_id"}
+        )
+)
+public class ChatMemorySummary extends AbstractEntity {
+
+    @Column(nullable = false, length = 100)
+    private String conversationId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private Long summarizedUntilSequenceNo;
+
+    private ChatMemorySummary(String conversationId, String content, long summarizedUntilSequenceNo) {
+        this.conversationId = requireNonNull(conversationId);
+        this.content = requireNonNull(content);
+        this.summarizedUntilSequenceNo = summarizedUntilSequenceNo;
+    }
+
+    public static ChatMemorySummary create(String conversationId, String content, long summarizedUntilSequenceNo) {
+        return new ChatMemorySummary(conversationId, content, summarizedUntilSequenceNo);
+    }
+
+    public void update(String content, long summarizedUntilSequenceNo) {
+        this.content = requireNonNull(content);
+        this.summarizedUntilSequenceNo = Math.max(this.summarizedUntilSequenceNo, summarizedUntilSequenceNo);
+    }
+
+}
@@ -36,6 +36,12 @@ public class ChatSession extends AbstractEntity {
     @Column(nullable = false)
     private Boolean favorite = false;
 
+    /**
+     * 사용자 메시지 수. 저장소의 원자적 UPDATE로만 늘리며, 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 갱신 대상에서 뺀다.
+     */
+    @Column(name = "user_message_count", nullable = false, updatable = false)
+    private int userMessageCount;
+
     @OneToMany(mappedBy = "chatSession")
     private List<ChatMessage> messages = new ArrayList<>();
 
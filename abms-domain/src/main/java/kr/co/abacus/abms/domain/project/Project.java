@@ -10,6 +10,7 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -27,7 +28,8 @@ import kr.co.abacus.abms.domain.shared.Period;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "tb_project", uniqueConstraints = @UniqueConstraint(name = "UK_PROJECT_CODE", columnNames = {
-        "project_code"}))
+        "project_code"}),
+        indexes = @Index(name = "IDX_PROJECT_STATUS_END_DATE", columnList = "project_status,end_date"))
 public class Project extends AbstractEntity {
 
     @Column(name = "party_id", nullable = false)
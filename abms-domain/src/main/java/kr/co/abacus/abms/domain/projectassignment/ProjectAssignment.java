@@ -12,6 +12,7 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import org.jspecify.annotations.Nullable;
@@ -27,7 +28,13 @@ import kr.co.abacus.abms.domain.shared.Period;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "tb_project_assignment")
+@Table(
+        name = "tb_project_assignment",
+        indexes = {
+                @Index(name = "IDX_PROJECT_ASSIGNMENT_PROJECT_PERIOD", columnList = "project_id,start_date,end_date"),
+                @Index(name = "IDX_PROJECT_ASSIGNMENT_EMPLOYEE_PERIOD", columnList = "employee_id,start_date,end_date")
+        }
+)
 public class ProjectAssignment extends AbstractEntity {
 
     @Column(name = "project_id", nullable = false)
@@ -8,6 +8,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import org.jspecify.annotations.Nullable;
@@ -21,7 +22,8 @@ import kr.co.abacus.abms.domain.AbstractEntity;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tb_weekly_report_draft")
+@Table(name = "tb_weekly_report_draft",
+        indexes = @Index(name = "IDX_WEEKLY_REPORT_DRAFT_GENERATION_KEY", columnList = "generation_key"))
 public class WeeklyReportDraft extends AbstractEntity {
 
     @Column(nullable = false, length = 200)
@@ -60,6 +62,14 @@ public class WeeklyReportDraft extends AbstractEntity {
     @Column(length = 500)
     private String failureReason;
 
+    /**
+     * AI 초안 재사용 키 (스냅샷, 인사이트, 프롬프트 버전, 모델의 해시)
+     * - 사용자가 본문을 수정하면 AI 작성본이 아니므로 비운다.
+     */
+    @Nullable
+    @Column(length = 64)
+    private String generationKey;
+
     private WeeklyReportDraft(
             String title,
             LocalDate weekStart,
@@ -125,13 +135,14 @@ public class WeeklyReportDraft extends AbstractEntity {
         this.failureReason = null;
     }
 
-    public void complete(String reportMarkdown, String snapshotJson) {
+    public void complete(String reportMarkdown, String snapshotJson, String generationKey) {
         if (status == WeeklyReportStatus.CANCELLED) {
             return;
         }
         this.status = WeeklyReportStatus.DRAFT;
         this.reportMarkdown = requireNonNull(reportMarkdown);
         this.snapshotJson = requireNonNull(snapshotJson);
+        this.generationKey = requireNonNull(generationKey);
         this.failureReason = null;
     }
 
@@ -161,6 +172,9 @@ public class WeeklyReportDraft extends AbstractEntity {
             throw new IllegalArgumentException("보고서 제목은 200자를 초과할 수 없습니다.");
         }
 
+        if (!this.reportMarkdown.equals(reportMarkdown)) {
+            this.generationKey = null;
+        }
         this.title = normalizedTitle;
         this.reportMarkdown = requireNonNull(reportMarkdown);
         this.failureReason = null;